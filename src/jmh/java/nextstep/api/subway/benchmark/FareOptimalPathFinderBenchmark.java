@@ -0,0 +1,129 @@
+package nextstep.api.subway.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.FareCalculator;
+import nextstep.api.subway.infrastructure.operators.FareOptimalPathFinder;
+import nextstep.api.subway.infrastructure.operators.IndexedHeapDijkstraPathFinder;
+
+/**
+ * 요금 기준 탐색(FareOptimalPathFinder)이 거리 기준 다익스트라에 비해 얼마나 느린지 같은 질의로 비교한다.
+ * 격자 모양의 가상 노선망(rows x columns)의 구간마다 노선을 두고, 노선 추가 요금은 surchargeTiers 가지 금액 중 하나로 정한다.
+ * 요금 탐색의 비용은 추가 요금 단계 수에 비례해 늘어나므로 단계 수를 바꿔 가며 거리 기준 대비 배율을 확인한다.
+ * <p>
+ * 실행: ./gradlew jmh
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FareOptimalPathFinderBenchmark {
+
+	private static final int QUERY_COUNT = 1024;
+	private static final int SURCHARGE_STEP = 100;
+
+	@Param({"10", "40"})
+	private int gridSize;
+
+	@Param({"2", "5"})
+	private int surchargeTiers;
+
+	private final IndexedHeapDijkstraPathFinder distanceFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+	private FareOptimalPathFinder fareFinder;
+
+	private Station[] stations;
+	private NetworkSnapshot snapshot;
+	private int[] sources;
+	private int[] targets;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		int tiers = surchargeTiers;
+		fareFinder = new FareOptimalPathFinder(new SimpleMeterRegistry(), new FareCalculator() {
+			@Override
+			public int calculateAdditionalLineFare(Long lineId) {
+				return (int)(lineId % tiers) * SURCHARGE_STEP;
+			}
+		});
+
+		stations = new Station[gridSize * gridSize];
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+
+		Random random = new Random(20261018L);
+		List<Line> lines = new ArrayList<>();
+		long id = 1L;
+		for (int row = 0; row < gridSize; row++) {
+			for (int column = 0; column < gridSize; column++) {
+				int current = row * gridSize + column;
+				if (column + 1 < gridSize) {
+					lines.add(createLine(id, new Section(id++, stations[current], stations[current + 1], 1L + random.nextInt(10), 1 + random.nextInt(10))));
+				}
+				if (row + 1 < gridSize) {
+					lines.add(createLine(id, new Section(id++, stations[current], stations[current + gridSize], 1L + random.nextInt(10), 1 + random.nextInt(10))));
+				}
+			}
+		}
+		snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+
+		sources = new int[QUERY_COUNT];
+		targets = new int[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			int sourceRow = random.nextInt(gridSize - 1);
+			int sourceColumn = random.nextInt(gridSize - 1);
+			int targetRow = sourceRow + 1 + random.nextInt(gridSize - 1 - sourceRow);
+			int targetColumn = sourceColumn + 1 + random.nextInt(gridSize - 1 - sourceColumn);
+			sources[i] = sourceRow * gridSize + sourceColumn;
+			targets[i] = targetRow * gridSize + targetColumn;
+		}
+	}
+
+	@Benchmark
+	public Path distanceDijkstra() {
+		int query = nextQuery();
+		return distanceFinder.findShortestPathBySnapshot(stations[sources[query]].getId(), stations[targets[query]].getId(), PathRequestType.DISTANCE, snapshot);
+	}
+
+	@Benchmark
+	public Path fareOptimal() {
+		int query = nextQuery();
+		return fareFinder.findShortestPathBySnapshot(stations[sources[query]].getId(), stations[targets[query]].getId(), PathRequestType.FARE, snapshot);
+	}
+
+	private int nextQuery() {
+		cursor = (cursor + 1) & (QUERY_COUNT - 1);
+		return cursor;
+	}
+
+	private Line createLine(Long id, Section section) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		line.addSection(section);
+		return line;
+	}
+}
@@ -0,0 +1,129 @@
+package nextstep.api.subway.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.infrastructure.operators.BidirectionalDijkstraPathFinder;
+import nextstep.api.subway.infrastructure.operators.DijkstraBasedShortestPathFinder;
+import nextstep.api.subway.infrastructure.operators.IndexedHeapDijkstraPathFinder;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * JGraphT 기반 탐색기와 int 인덱스 기반 탐색기의 질의 비용을 비교한다.
+ * 격자 모양의 가상 노선망(rows x columns)에서 무작위 출발/도착 쌍을 순서대로 질의하며,
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 질의당 할당량을 함께 확인한다.
+ * 격자 가운데 역을 닫은 폐쇄 마스크(ClosureMask)를 건 탐색이 마스크 없는 탐색과 비슷한 비용인지도 함께 본다.
+ * <p>
+ * 실행: ./gradlew jmh
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathFinderBenchmark {
+
+	private static final int QUERY_COUNT = 1024;
+
+	@Param({"10", "40"})
+	private int gridSize;
+
+	private final DijkstraBasedShortestPathFinder jgraphtFinder = new DijkstraBasedShortestPathFinder();
+	private final IndexedHeapDijkstraPathFinder indexedHeapFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+	private final BidirectionalDijkstraPathFinder bidirectionalFinder = new BidirectionalDijkstraPathFinder(new SimpleMeterRegistry());
+
+	private Station[] stations;
+	private List<Section> sections;
+	private NetworkSnapshot snapshot;
+	private ClosureMask closures;
+	private int[] sources;
+	private int[] targets;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		stations = new Station[gridSize * gridSize];
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+
+		Random random = new Random(20261018L);
+		sections = new ArrayList<>();
+		long sectionId = 1L;
+		for (int row = 0; row < gridSize; row++) {
+			for (int column = 0; column < gridSize; column++) {
+				int current = row * gridSize + column;
+				if (column + 1 < gridSize) {
+					sections.add(new Section(sectionId++, stations[current], stations[current + 1], 1L + random.nextInt(10), 1 + random.nextInt(10)));
+				}
+				if (row + 1 < gridSize) {
+					sections.add(new Section(sectionId++, stations[current], stations[current + gridSize], 1L + random.nextInt(10), 1 + random.nextInt(10)));
+				}
+			}
+		}
+		snapshot = NetworkSnapshot.fromSections(sections);
+		int closedStation = (gridSize / 2) * gridSize + gridSize / 2;
+		closures = ClosureMask.builder(snapshot).closeStation(stations[closedStation].getId()).build();
+
+		sources = new int[QUERY_COUNT];
+		targets = new int[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			do {
+				int sourceRow = random.nextInt(gridSize - 1);
+				int sourceColumn = random.nextInt(gridSize - 1);
+				int targetRow = sourceRow + 1 + random.nextInt(gridSize - 1 - sourceRow);
+				int targetColumn = sourceColumn + 1 + random.nextInt(gridSize - 1 - sourceColumn);
+				sources[i] = sourceRow * gridSize + sourceColumn;
+				targets[i] = targetRow * gridSize + targetColumn;
+			} while (sources[i] == closedStation || targets[i] == closedStation);
+		}
+	}
+
+	@Benchmark
+	public Path jgraphtDijkstra() {
+		int query = nextQuery();
+		return jgraphtFinder.findShortestPathBySections(stations[sources[query]], stations[targets[query]], sections);
+	}
+
+	@Benchmark
+	public Path indexedHeapDijkstra() {
+		int query = nextQuery();
+		return indexedHeapFinder.findShortestPathBySnapshot(stations[sources[query]].getId(), stations[targets[query]].getId(), PathRequestType.DISTANCE, snapshot);
+	}
+
+	@Benchmark
+	public Path indexedHeapDijkstraAvoiding() {
+		int query = nextQuery();
+		return indexedHeapFinder.findShortestPathAvoiding(stations[sources[query]].getId(), stations[targets[query]].getId(), PathRequestType.DISTANCE, snapshot, closures);
+	}
+
+	@Benchmark
+	public Path bidirectionalDijkstra() {
+		int query = nextQuery();
+		return bidirectionalFinder.findShortestPathBySnapshot(stations[sources[query]].getId(), stations[targets[query]].getId(), PathRequestType.DISTANCE, snapshot);
+	}
+
+	private int nextQuery() {
+		cursor = (cursor + 1) & (QUERY_COUNT - 1);
+		return cursor;
+	}
+}
@@ -0,0 +1,121 @@
+package nextstep.api.subway.benchmark;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.LineTimetable;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.util.RaptorSearch;
+import nextstep.api.subway.util.ServiceClock;
+import nextstep.api.subway.util.TimetableIndex;
+
+/**
+ * 하루치 시각표를 모든 노선에 붙인 뒤 출발 시각 기반 여정 탐색(RaptorSearch) 한 번에 걸리는 시간을 잰다.
+ * 격자 모양의 가상 노선망(gridSize x gridSize)에서 행과 열이 각각 노선 하나이고, 모든 노선이 05:30 부터 00:30 까지 headwayMinutes 간격으로 다닌다.
+ * 배차 간격을 줄여 편 수를 늘려도 편을 고르는 비용은 이분 탐색이므로 탐색 시간이 거의 늘지 않아야 한다.
+ * <p>
+ * 실행: ./gradlew jmh
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RaptorSearchBenchmark {
+
+	private static final int QUERY_COUNT = 1024;
+	private static final int MAX_ROUNDS = 6;
+	private static final int MIN_TRANSFER_MINUTES = 2;
+
+	@Param({"10", "40"})
+	private int gridSize;
+
+	@Param({"2", "10"})
+	private int headwayMinutes;
+
+	private final RaptorSearch search = new RaptorSearch();
+
+	private NetworkSnapshot snapshot;
+	private TimetableIndex index;
+	private int[] sources;
+	private int[] targets;
+	private int[] departureMinutes;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Station[] stations = new Station[gridSize * gridSize];
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+
+		Random random = new Random(20261018L);
+		LineTimetable timetable = LineTimetable.of(LocalTime.of(5, 30), LocalTime.of(0, 30), headwayMinutes);
+		List<Line> lines = new ArrayList<>();
+		long sectionId = 1L;
+		for (int line = 0; line < gridSize * 2; line++) {
+			List<Section> sections = new ArrayList<>();
+			for (int stop = 0; stop + 1 < gridSize; stop++) {
+				sections.add(new Section(sectionId++, stations[gridIndex(line, stop)], stations[gridIndex(line, stop + 1)], 1L + random.nextInt(10), 1 + random.nextInt(5)));
+			}
+			lines.add(createLine((long)line + 1, timetable, sections));
+		}
+		snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		index = TimetableIndex.of(snapshot);
+
+		sources = new int[QUERY_COUNT];
+		targets = new int[QUERY_COUNT];
+		departureMinutes = new int[QUERY_COUNT];
+		int firstMinute = ServiceClock.toServiceMinute(LocalTime.of(5, 30));
+		int lastMinute = ServiceClock.toServiceMinute(LocalTime.of(22, 0));
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			sources[i] = random.nextInt(stations.length / 2);
+			targets[i] = stations.length / 2 + random.nextInt(stations.length / 2);
+			departureMinutes[i] = firstMinute + random.nextInt(lastMinute - firstMinute);
+		}
+	}
+
+	@Benchmark
+	public int raptor() {
+		int query = nextQuery();
+		return search.search(index, snapshot.stationCount(), snapshot.indexOf((long)sources[query] + 1), snapshot.indexOf((long)targets[query] + 1),
+			departureMinutes[query], MAX_ROUNDS, MIN_TRANSFER_MINUTES);
+	}
+
+	/**
+	 * 앞 gridSize 개 노선은 행을 왼쪽에서 오른쪽으로, 나머지는 열을 위에서 아래로 지난다.
+	 */
+	private int gridIndex(int line, int stop) {
+		return line < gridSize ? line * gridSize + stop : stop * gridSize + (line - gridSize);
+	}
+
+	private int nextQuery() {
+		cursor = (cursor + 1) & (QUERY_COUNT - 1);
+		return cursor;
+	}
+
+	private Line createLine(Long id, LineTimetable timetable, List<Section> sections) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		sections.forEach(line::addSection);
+		return line.updateTimetable(timetable);
+	}
+}
@@ -1,15 +1,44 @@
 package nextstep.api.subway.application;
 
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.api.auth.domain.dto.UserPrincipal;
 import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.dto.inport.PathConstraintCommand;
+import nextstep.api.subway.domain.dto.inport.PathMatrixCommand;
+import nextstep.api.subway.domain.dto.inport.PathQueryCommand;
 import nextstep.api.subway.domain.dto.outport.FareInfo;
+import nextstep.api.subway.domain.dto.outport.JourneyInfo;
+import nextstep.api.subway.domain.dto.outport.PathAlternativesInfo;
+import nextstep.api.subway.domain.dto.outport.PathBatchItemInfo;
 import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixCellInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixRowInfo;
+import nextstep.api.subway.domain.dto.outport.PathSummaryInfo;
+import nextstep.api.subway.domain.dto.outport.ReachableStationInfo;
 import nextstep.api.subway.domain.service.FareCalculationService;
 import nextstep.api.subway.domain.service.PathService;
+import nextstep.api.subway.interfaces.dto.request.PathBatchRequest;
+import nextstep.api.subway.interfaces.dto.request.PathMatrixRequest;
+import nextstep.api.subway.interfaces.dto.response.JourneyResponse;
+import nextstep.api.subway.interfaces.dto.response.PathAlternativeResponse;
+import nextstep.api.subway.interfaces.dto.response.PathAlternativesResponse;
+import nextstep.api.subway.interfaces.dto.response.PathBatchItemResponse;
+import nextstep.api.subway.interfaces.dto.response.PathBatchResponse;
+import nextstep.api.subway.interfaces.dto.response.PathMatrixCellResponse;
+import nextstep.api.subway.interfaces.dto.response.PathMatrixRowResponse;
 import nextstep.api.subway.interfaces.dto.response.PathResponse;
+import nextstep.api.subway.interfaces.dto.response.PathSummaryResponse;
+import nextstep.api.subway.interfaces.dto.response.ReachableStationResponse;
+import nextstep.api.subway.interfaces.dto.response.ReachableStationsResponse;
+import nextstep.common.exception.subway.PathNotValidException;
 
 /**
  * @author : Rene Choi
@@ -33,10 +62,115 @@ public class PathFacade {
 		return PathResponse.of(pathInfo, fareInfo);
 	}
 
+	/**
+	 * 제약(폐쇄 시나리오, 피할 노선과 역, 최대 환승 횟수)이 하나라도 있으면 제약을 지키며 찾은 경로로 요금을 계산한다.
+	 * 경유역이 있으면 구간별 경로를 이은 전체 경로로 요금을 한 번만 계산한다. 경유역과 제약은 함께 쓸 수 없다.
+	 */
+	public PathResponse findPath(Long source, Long target, PathRequestType type, PathConstraintCommand constraints, List<Long> via, boolean optimizeVia) {
+		PathInfo pathInfo = via == null || via.isEmpty() ? getPathInfo(source, target, type, constraints) : getPathInfoVia(source, via, target, type, optimizeVia, constraints);
+		FareInfo fareInfo = fareCalculationService.calculate(pathInfo);
+		return PathResponse.of(pathInfo, fareInfo);
+	}
+
+	public PathSummaryResponse findPathSummary(Long source, Long target, PathRequestType type) {
+		PathSummaryInfo pathSummaryInfo = pathService.findPathSummary(source, target, type);
+		return PathSummaryResponse.from(pathSummaryInfo);
+	}
+
+	public PathBatchResponse findPaths(PathBatchRequest batchRequest) {
+		List<PathQueryCommand> commands = batchRequest.getQueries() == null ? null : batchRequest.getQueries().stream()
+			.map(PathQueryCommand::from)
+			.collect(Collectors.toList());
+
+		List<PathBatchItemResponse> results = pathService.findPaths(commands).stream()
+			.map(this::toBatchItemResponse)
+			.collect(Collectors.toList());
+		return PathBatchResponse.of(results);
+	}
+
+	/**
+	 * 행렬의 행은 소비하는 쪽이 읽어 갈 때마다 계산되므로, 반환된 Stream 을 응답에 바로 흘려보내면 행렬 전체를 메모리에 들고 있지 않아도 된다.
+	 */
+	public Stream<PathMatrixRowResponse> findPathMatrix(PathMatrixRequest matrixRequest) {
+		return pathService.findPathMatrix(PathMatrixCommand.from(matrixRequest))
+			.map(this::toMatrixRowResponse);
+	}
+
+	/**
+	 * 대안 경로마다 지나는 노선이 다르므로 요금도 경로별로 노선 추가 요금까지 반영해 계산한다.
+	 */
+	public PathAlternativesResponse findAlternativePaths(Long source, Long target, PathRequestType type, int count) {
+		return toAlternativesResponse(pathService.findAlternativePaths(source, target, type, count));
+	}
+
+	public PathAlternativesResponse findParetoPaths(Long source, Long target) {
+		return toAlternativesResponse(pathService.findParetoPaths(source, target));
+	}
+
+	public ReachableStationsResponse findReachableStations(Long source, ReachabilityBudgetType budgetType, long budget) {
+		List<ReachableStationResponse> stations = pathService.findReachableStations(source, budgetType, budget).stream()
+			.map(ReachableStationResponse::from)
+			.collect(Collectors.toList());
+		return ReachableStationsResponse.of(source, ReachabilityBudgetType.orDefault(budgetType), budget, stations);
+	}
+
+	/**
+	 * 요금은 시각과 무관하므로 여정이 지나는 경로의 거리와 노선으로 /paths 와 같게 계산한다.
+	 */
+	public JourneyResponse findJourney(Long source, Long target, LocalTime departureTime) {
+		JourneyInfo journeyInfo = pathService.findJourney(source, target, departureTime);
+		return JourneyResponse.of(journeyInfo, fareCalculationService.calculate(journeyInfo.getPath()));
+	}
+
+	private PathAlternativesResponse toAlternativesResponse(PathAlternativesInfo alternativesInfo) {
+		List<PathAlternativeResponse> paths = alternativesInfo.getPaths().stream()
+			.map(pathInfo -> PathAlternativeResponse.of(pathInfo, fareCalculationService.calculate(pathInfo)))
+			.collect(Collectors.toList());
+		return PathAlternativesResponse.of(paths, alternativesInfo.isTruncated());
+	}
+
+	private PathMatrixRowResponse toMatrixRowResponse(PathMatrixRowInfo rowInfo) {
+		List<PathMatrixCellResponse> cells = rowInfo.getCells().stream()
+			.map(this::toMatrixCellResponse)
+			.collect(Collectors.toList());
+		return PathMatrixRowResponse.of(rowInfo.getSource(), cells);
+	}
+
+	private PathMatrixCellResponse toMatrixCellResponse(PathMatrixCellInfo cellInfo) {
+		if (!cellInfo.isReachable()) {
+			return PathMatrixCellResponse.of(cellInfo, null);
+		}
+		return PathMatrixCellResponse.of(cellInfo, fareCalculationService.calculateBaseFare(cellInfo.getDistance()));
+	}
+
+	private PathBatchItemResponse toBatchItemResponse(PathBatchItemInfo itemInfo) {
+		if (!itemInfo.isSuccess()) {
+			return PathBatchItemResponse.of(itemInfo, null);
+		}
+		return PathBatchItemResponse.of(itemInfo, PathResponse.of(itemInfo.getPath(), fareCalculationService.calculate(itemInfo.getPath())));
+	}
+
+	private PathInfo getPathInfo(Long source, Long target, PathRequestType type, PathConstraintCommand constraints) {
+		return constraints.isEmpty() ? getPathInfo(source, target, type) : pathService.findConstrainedPath(source, target, type, constraints);
+	}
+
+	private PathInfo getPathInfoVia(Long source, List<Long> via, Long target, PathRequestType type, boolean optimizeVia, PathConstraintCommand constraints) {
+		if (!constraints.isEmpty()) {
+			throw new PathNotValidException("Via stations cannot be combined with path constraints.");
+		}
+		return pathService.findPathVia(source, via, target, type, optimizeVia);
+	}
+
 	private PathInfo getPathInfo(Long source, Long target, PathRequestType type) {
 		if (PathRequestType.isDistance(type)) {
 			return pathService.findShortestPath(source, target);
 		}
+		if (PathRequestType.isFare(type)) {
+			return pathService.findMinimumFarePath(source, target);
+		}
+		if (PathRequestType.isMinTransfer(type)) {
+			return pathService.findMinimumTransferPath(source, target);
+		}
 		return pathService.findMinimumDurationPath(source, target);
 	}
 }
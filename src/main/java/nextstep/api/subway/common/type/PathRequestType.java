@@ -11,11 +11,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum PathRequestType {
 	DISTANCE("거리"),
-	DURATION("소요 시간");
+	DURATION("소요 시간"),
+	FARE("요금"),
+	MIN_TRANSFER("최소 환승");
 
 	private final String description;
 
 	public static boolean isDistance(PathRequestType type) {
 		return type == DISTANCE;
 	}
+
+	public static boolean isFare(PathRequestType type) {
+		return type == FARE;
+	}
+
+	public static boolean isMinTransfer(PathRequestType type) {
+		return type == MIN_TRANSFER;
+	}
 }
@@ -0,0 +1,21 @@
+package nextstep.api.subway.common.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PathSearchStrategy {
+	DIJKSTRA("단방향 다익스트라"),
+	BIDIRECTIONAL_DIJKSTRA("양방향 다익스트라"),
+	ALT("랜드마크 기반 A*"),
+	CONTRACTION_HIERARCHY("축약 계층"),
+	SHORTEST_PATH_TREE("출발역별 최단 경로 트리 캐시"),
+	LINE_SKELETON("환승역 골격망 2단계 탐색");
+
+	private final String description;
+}
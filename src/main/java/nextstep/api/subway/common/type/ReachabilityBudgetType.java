@@ -0,0 +1,24 @@
+package nextstep.api.subway.common.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도달 가능 역 조회에서 예산을 재는 기준.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReachabilityBudgetType {
+	DURATION("소요 시간"),
+	DISTANCE("거리"),
+	FARE("요금");
+
+	private final String description;
+
+	public static ReachabilityBudgetType orDefault(ReachabilityBudgetType type) {
+		return type == null ? DURATION : type;
+	}
+}
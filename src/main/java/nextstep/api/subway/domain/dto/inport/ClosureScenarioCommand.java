@@ -0,0 +1,39 @@
+package nextstep.api.subway.domain.dto.inport;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.ClosedSection;
+import nextstep.api.subway.interfaces.dto.request.ClosureScenarioRequest;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClosureScenarioCommand {
+	private String name;
+	private List<Long> stationIds;
+	private List<ClosedSection> sections;
+
+	/**
+	 * 구간은 생성자만 있는 값 객체로 옮기므로 ModelMapper 대신 직접 옮겨 담는다.
+	 */
+	public static ClosureScenarioCommand from(String name, ClosureScenarioRequest scenarioRequest) {
+		List<Long> stationIds = scenarioRequest.getStationIds() == null ? Collections.emptyList() : scenarioRequest.getStationIds();
+		List<ClosedSection> sections = scenarioRequest.getSections() == null ? Collections.emptyList() : scenarioRequest.getSections().stream()
+			.map(section -> section == null ? null : ClosedSection.of(section.getUpStationId(), section.getDownStationId()))
+			.collect(Collectors.toList());
+		return new ClosureScenarioCommand(name, stationIds, sections);
+	}
+}
@@ -0,0 +1,29 @@
+package nextstep.api.subway.domain.dto.inport;
+
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.interfaces.dto.request.LineTimetableRequest;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LineTimetableCommand {
+	private LocalTime firstDepartureTime;
+	private LocalTime lastDepartureTime;
+	private Integer headwayMinutes;
+
+	public static LineTimetableCommand from(LineTimetableRequest timetableRequest) {
+		return new LineTimetableCommand(timetableRequest.getFirstDepartureTime(), timetableRequest.getLastDepartureTime(), timetableRequest.getHeadwayMinutes());
+	}
+}
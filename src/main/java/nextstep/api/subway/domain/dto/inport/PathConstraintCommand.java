@@ -0,0 +1,40 @@
+package nextstep.api.subway.domain.dto.inport;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * /paths 요청 하나에만 적용하는 제약. 폐쇄 시나리오 이름, 피할 노선과 역, 최대 환승 횟수 중 필요한 것만 채운다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathConstraintCommand {
+
+	private String closure;
+	private List<Long> avoidLineIds;
+	private List<Long> avoidStationIds;
+	private Integer maxTransfers;
+
+	public boolean isEmpty() {
+		return closure == null && isEmpty(avoidLineIds) && isEmpty(avoidStationIds) && maxTransfers == null;
+	}
+
+	public boolean hasMaxTransfers() {
+		return maxTransfers != null;
+	}
+
+	private static boolean isEmpty(List<Long> ids) {
+		return ids == null || ids.isEmpty();
+	}
+}
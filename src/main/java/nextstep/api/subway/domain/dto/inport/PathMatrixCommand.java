@@ -0,0 +1,31 @@
+package nextstep.api.subway.domain.dto.inport;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.interfaces.dto.request.PathMatrixRequest;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathMatrixCommand {
+
+	private List<Long> sources;
+	private List<Long> targets;
+	private PathRequestType type;
+
+	public static PathMatrixCommand from(PathMatrixRequest matrixRequest) {
+		return new PathMatrixCommand(matrixRequest.getSources(), matrixRequest.getTargets(), matrixRequest.getType());
+	}
+}
@@ -0,0 +1,39 @@
+package nextstep.api.subway.domain.dto.inport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.interfaces.dto.request.PathQueryRequest;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathQueryCommand {
+
+	private Long source;
+	private Long target;
+	private PathRequestType type;
+
+	public static PathQueryCommand from(PathQueryRequest queryRequest) {
+		return ModelMapperBasedObjectMapper.convert(queryRequest, PathQueryCommand.class);
+	}
+
+	/**
+	 * /paths 와 마찬가지로 유형이 없으면 소요 시간 기준으로 본다. 같은 질의를 하나로 묶을 때 이 값을 키로 쓴다.
+	 */
+	public PathQueryCommand normalize() {
+		return new PathQueryCommand(source, target, type == null ? PathRequestType.DURATION : type);
+	}
+}
@@ -0,0 +1,29 @@
+package nextstep.api.subway.domain.dto.inport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.interfaces.dto.request.SectionDelayRequest;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectionDelayCommand {
+	private Long upStationId;
+	private Long downStationId;
+	private Integer delayMinutes;
+	private Long ttlSeconds;
+
+	public static SectionDelayCommand from(SectionDelayRequest delayRequest) {
+		return ModelMapperBasedObjectMapper.convert(delayRequest, SectionDelayCommand.class);
+	}
+}
@@ -0,0 +1,27 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.ClosedSection;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ClosedSectionInfo {
+	private Long upStationId;
+	private Long downStationId;
+
+	public static ClosedSectionInfo from(ClosedSection closedSection) {
+		return ModelMapperBasedObjectMapper.convert(closedSection, ClosedSectionInfo.class);
+	}
+}
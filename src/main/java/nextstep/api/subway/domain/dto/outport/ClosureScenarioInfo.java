@@ -0,0 +1,34 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.ClosureScenario;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ClosureScenarioInfo {
+	private String name;
+	private List<Long> stationIds;
+	private List<ClosedSectionInfo> sections;
+
+	public static ClosureScenarioInfo from(ClosureScenario scenario) {
+		List<ClosedSectionInfo> sections = scenario.getClosedSections().stream()
+			.map(ClosedSectionInfo::from)
+			.collect(Collectors.toList());
+		return ClosureScenarioInfo.of(scenario.getName(), new ArrayList<>(scenario.getClosedStationIds()), sections);
+	}
+}
@@ -0,0 +1,32 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.DelayOverlay;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class DelayOverlayInfo {
+	private long revision;
+	private List<SectionDelayInfo> delays;
+
+	public static DelayOverlayInfo from(DelayOverlay delayOverlay) {
+		List<SectionDelayInfo> delays = delayOverlay.getDelays().stream()
+			.map(SectionDelayInfo::from)
+			.collect(Collectors.toList());
+		return DelayOverlayInfo.of(delayOverlay.getRevision(), delays);
+	}
+}
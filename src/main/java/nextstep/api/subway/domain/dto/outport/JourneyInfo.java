@@ -0,0 +1,40 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.Journey;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class JourneyInfo {
+	private PathInfo path;
+	private List<JourneyLegInfo> legs;
+	private LocalTime departureTime;
+	private LocalTime arrivalTime;
+	private Long duration;
+
+	public static JourneyInfo from(Journey journey) {
+		List<JourneyLegInfo> legs = journey.getLegs().stream()
+			.map(JourneyLegInfo::from)
+			.collect(Collectors.toList());
+		return JourneyInfo.of(PathInfo.from(journey.getPath()), legs, journey.getDepartureTime(), journey.getArrivalTime(), journey.getDuration());
+	}
+
+	public int getTransferCount() {
+		return Math.max(0, legs.size() - 1);
+	}
+}
@@ -0,0 +1,38 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.JourneyLeg;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class JourneyLegInfo {
+	private LineInfo line;
+	private List<StationInfo> stations;
+	private Long distance;
+	private LocalTime departureTime;
+	private LocalTime arrivalTime;
+
+	public static JourneyLegInfo from(JourneyLeg journeyLeg) {
+		List<StationInfo> stations = journeyLeg.getStations().stream()
+			.map(StationInfo::from)
+			.collect(Collectors.toList());
+		return JourneyLegInfo.of(ModelMapperBasedObjectMapper.convert(journeyLeg.getLine(), LineInfo.class), stations, journeyLeg.getDistance(),
+			journeyLeg.getDepartureTime(), journeyLeg.getArrivalTime());
+	}
+}
@@ -0,0 +1,33 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.PathAlternatives;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathAlternativesInfo {
+
+	private List<PathInfo> paths;
+	private boolean truncated;
+
+	public static PathAlternativesInfo from(PathAlternatives pathAlternatives) {
+		List<PathInfo> paths = pathAlternatives.getPaths().stream()
+			.map(PathInfo::from)
+			.collect(Collectors.toList());
+		return PathAlternativesInfo.of(paths, pathAlternatives.isTruncated());
+	}
+}
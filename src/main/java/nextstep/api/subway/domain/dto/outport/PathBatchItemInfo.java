@@ -0,0 +1,41 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.dto.inport.PathQueryCommand;
+
+/**
+ * 일괄 조회의 항목 하나에 대한 결과. 성공하면 path 를, 실패하면 errorMessage 를 가진다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathBatchItemInfo {
+
+	private Long source;
+	private Long target;
+	private PathRequestType type;
+	private PathInfo path;
+	private String errorMessage;
+
+	public static PathBatchItemInfo success(PathQueryCommand command, PathInfo path) {
+		return PathBatchItemInfo.of(command.getSource(), command.getTarget(), command.getType(), path, null);
+	}
+
+	public static PathBatchItemInfo failure(PathQueryCommand command, String errorMessage) {
+		return PathBatchItemInfo.of(command.getSource(), command.getTarget(), command.getType(), null, errorMessage);
+	}
+
+	public boolean isSuccess() {
+		return path != null;
+	}
+}
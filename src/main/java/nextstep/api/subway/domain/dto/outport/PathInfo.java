@@ -1,6 +1,10 @@
 package nextstep.api.subway.domain.dto.outport;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
@@ -26,11 +30,65 @@ public class PathInfo {
 	private List<LineInfo> lines;
 	private Long distance;
 	private Long duration;
+	private List<PathLegInfo> legs;
+
+	public static PathInfo of(List<StationInfo> stations, List<LineInfo> lines, Long distance, Long duration) {
+		return new PathInfo(stations, lines, distance, duration, Collections.emptyList());
+	}
 
 	public static PathInfo from(Path path) {
 		return ModelMapperBasedObjectMapper.convert(path, PathInfo.class);
 	}
 
+	/**
+	 * 이어지는 경로들(앞 경로의 도착역이 다음 경로의 출발역)을 하나로 잇는다. 역은 이음 역을 한 번만 담고, 노선은 처음 나온 순서대로 한 번씩 담으며,
+	 * 거리와 소요 시간은 더한다. 이음 역에서 같은 노선을 계속 타면 앞뒤 구간(legs)을 하나로 합치므로 환승 횟수는 실제로 갈아탄 횟수와 같다.
+	 * 캐시된 PathInfo 를 이을 수 있도록 넘겨받은 경로와 구간은 변경하지 않는다.
+	 */
+	public static PathInfo join(List<PathInfo> paths) {
+		List<StationInfo> stations = new ArrayList<>(paths.get(0).getStations());
+		Map<Long, LineInfo> lines = new LinkedHashMap<>();
+		List<PathLegInfo> legs = new ArrayList<>();
+		long distance = 0L;
+		long duration = 0L;
+		for (int index = 0; index < paths.size(); index++) {
+			PathInfo path = paths.get(index);
+			if (index > 0) {
+				stations.addAll(path.getStations().subList(1, path.getStations().size()));
+			}
+			path.getLines().forEach(line -> lines.putIfAbsent(line.getId(), line));
+			distance += path.getDistance();
+			duration += path.getDuration();
+			appendLegs(legs, path.getLegs());
+		}
+		return PathInfo.of(stations, new ArrayList<>(lines.values()), distance, duration, legs);
+	}
+
+	private static void appendLegs(List<PathLegInfo> legs, List<PathLegInfo> nextLegs) {
+		if (nextLegs == null || nextLegs.isEmpty()) {
+			return;
+		}
+		int first = 0;
+		if (!legs.isEmpty()) {
+			PathLegInfo last = legs.get(legs.size() - 1);
+			PathLegInfo next = nextLegs.get(0);
+			if (last.getLine().getId().equals(next.getLine().getId())) {
+				List<StationInfo> stations = new ArrayList<>(last.getStations());
+				stations.addAll(next.getStations().subList(1, next.getStations().size()));
+				legs.set(legs.size() - 1, PathLegInfo.of(last.getLine(), stations, last.getDistance() + next.getDistance(), last.getDuration() + next.getDuration()));
+				first = 1;
+			}
+		}
+		legs.addAll(nextLegs.subList(first, nextLegs.size()));
+	}
+
+	/**
+	 * 구간 정보가 없는 경로(JGraphT 기반 탐색기 등)는 0 을 돌려준다.
+	 */
+	public int getTransferCount() {
+		return legs == null || legs.isEmpty() ? 0 : legs.size() - 1;
+	}
+
 	public List<Long> getLineIds(){
 		return this.lines.stream()
 			.map(LineInfo::getId)
@@ -0,0 +1,25 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathLegInfo {
+	private LineInfo line;
+	private List<StationInfo> stations;
+	private Long distance;
+	private Long duration;
+}
@@ -0,0 +1,37 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+
+/**
+ * 행렬의 칸 하나. 도착역에 도달할 수 없으면 distance 와 duration 이 null 이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathMatrixCellInfo {
+
+	private Long target;
+	private Long distance;
+	private Long duration;
+
+	public static PathMatrixCellInfo from(Long target, PathSummary pathSummary) {
+		if (pathSummary == null) {
+			return PathMatrixCellInfo.of(target, null, null);
+		}
+		return PathMatrixCellInfo.of(target, pathSummary.getDistance(), pathSummary.getDuration());
+	}
+
+	public boolean isReachable() {
+		return distance != null;
+	}
+}
@@ -0,0 +1,27 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 출발역 하나에 대한 행렬의 한 행. cells 는 요청한 도착역 순서를 따른다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathMatrixRowInfo {
+
+	private Long source;
+	private List<PathMatrixCellInfo> cells;
+
+}
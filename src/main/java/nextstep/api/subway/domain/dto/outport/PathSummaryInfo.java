@@ -0,0 +1,27 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathSummaryInfo {
+
+	private Long distance;
+	private Long duration;
+
+	public static PathSummaryInfo from(PathSummary pathSummary) {
+		return PathSummaryInfo.of(pathSummary.getDistance(), pathSummary.getDuration());
+	}
+}
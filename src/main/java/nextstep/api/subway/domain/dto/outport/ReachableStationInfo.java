@@ -0,0 +1,30 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.ReachableStation;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ReachableStationInfo {
+
+	private StationInfo station;
+	private Long distance;
+	private Long duration;
+	private Integer fareAmount;
+
+	public static ReachableStationInfo from(ReachableStation reachableStation) {
+		StationInfo station = new StationInfo(reachableStation.getStation().getId(), reachableStation.getStation().getName());
+		return ReachableStationInfo.of(station, reachableStation.getDistance(), reachableStation.getDuration(), reachableStation.getFare());
+	}
+}
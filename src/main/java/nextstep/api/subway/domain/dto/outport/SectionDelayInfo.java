@@ -0,0 +1,29 @@
+package nextstep.api.subway.domain.dto.outport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class SectionDelayInfo {
+	private Long upStationId;
+	private Long downStationId;
+	private int delayMinutes;
+	private long expiresAtMillis;
+
+	public static SectionDelayInfo from(SectionDelay sectionDelay) {
+		return ModelMapperBasedObjectMapper.convert(sectionDelay, SectionDelayInfo.class);
+	}
+}
@@ -0,0 +1,17 @@
+package nextstep.api.subway.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 역, 노선, 구간이 변경되어 경로 탐색용 네트워크 스냅샷을 다시 만들어야 함을 알리는 이벤트.
+ * 트랜잭션 커밋 이후에 처리되어야 하므로 구독자는 @TransactionalEventListener 로 받는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class NetworkChangedEvent {
+	private final String cause;
+}
@@ -38,6 +38,16 @@ public class Line {
 	@Embedded
 	private Sections sectionCollection = new Sections();
 
+	@Embedded
+	private LineTimetable timetable;
+
+	public Line(Long id, String name, String color, Sections sectionCollection) {
+		this.id = id;
+		this.name = name;
+		this.color = color;
+		this.sectionCollection = sectionCollection;
+	}
+
 	public static Line from(LineCreateCommand createCommand) {
 		return ModelMapperBasedObjectMapper.convert(createCommand, Line.class);
 	}
@@ -52,6 +62,18 @@ public class Line {
 		return this;
 	}
 
+	public Line updateTimetable(LineTimetable timetable) {
+		this.timetable = timetable;
+		return this;
+	}
+
+	/**
+	 * 시각표가 없는 노선을 JPA 로 읽으면 임베디드 값 자체가 null 이므로 함께 확인한다.
+	 */
+	public boolean hasTimetable() {
+		return timetable != null && timetable.isScheduled();
+	}
+
 	public boolean isContainsAnyStation(Long stationId) {
 		return sectionCollection.isContainsAnyStation(stationId);
 	}
@@ -0,0 +1,67 @@
+package nextstep.api.subway.domain.model.entity;
+
+import java.time.LocalTime;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import nextstep.api.subway.util.ServiceClock;
+import nextstep.common.exception.subway.LineTimetableNotValidException;
+
+/**
+ * 노선의 운행 시각표. 상행 종점에서 첫차부터 막차까지 배차 간격(headwayMinutes)마다 한 편씩 출발한다.
+ * <p>
+ * 모든 편은 구간의 소요 시간(duration)대로 달리므로 역마다의 출발 시각은 "상행 종점 출발 시각 + 그 역까지의 누적 소요 시간"이다.
+ * 그래서 편마다 역별 시각을 저장하지 않고 출발 시각 목록만으로 하루치 시각표 전체를 나타낸다.
+ * 시각은 운행일 기준(ServiceClock)으로 해석하므로 자정을 넘기는 막차(예: 00:30)도 첫차보다 늦은 시각으로 다룬다.
+ * 시각표가 없는 노선은 세 값이 모두 비어 있으며, 출발 시각 기반 여정 탐색에서 제외된다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LineTimetable {
+
+	@Column(name = "first_departure_time")
+	private LocalTime firstDepartureTime;
+
+	@Column(name = "last_departure_time")
+	private LocalTime lastDepartureTime;
+
+	@Column(name = "headway_minutes")
+	private Integer headwayMinutes;
+
+	public static LineTimetable of(LocalTime firstDepartureTime, LocalTime lastDepartureTime, Integer headwayMinutes) {
+		if (firstDepartureTime == null || lastDepartureTime == null || headwayMinutes == null || headwayMinutes < 1) {
+			throw new LineTimetableNotValidException("First and last departure times and a positive headway are required.");
+		}
+		if (ServiceClock.toServiceMinute(lastDepartureTime) < ServiceClock.toServiceMinute(firstDepartureTime)) {
+			throw new LineTimetableNotValidException("The last departure must not be earlier than the first departure in the same service day.");
+		}
+		return new LineTimetable(firstDepartureTime, lastDepartureTime, headwayMinutes);
+	}
+
+	public boolean isScheduled() {
+		return firstDepartureTime != null && lastDepartureTime != null && headwayMinutes != null && headwayMinutes > 0;
+	}
+
+	/**
+	 * 상행 종점의 출발 시각 목록(운행일 기준 분, 오름차순).
+	 */
+	public int[] departureMinutes() {
+		int first = ServiceClock.toServiceMinute(firstDepartureTime);
+		int last = ServiceClock.toServiceMinute(lastDepartureTime);
+		int[] departures = new int[(last - first) / headwayMinutes + 1];
+		for (int trip = 0; trip < departures.length; trip++) {
+			departures[trip] = first + trip * headwayMinutes;
+		}
+		return departures;
+	}
+}
@@ -0,0 +1,17 @@
+package nextstep.api.subway.domain.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 폐쇄할 구간. 방향과 관계없이 두 역을 잇는 구간을 모두 닫는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class ClosedSection {
+	Long upStationId;
+	Long downStationId;
+}
@@ -0,0 +1,28 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * 이름 붙은 가상 폐쇄 시나리오. 노선도(DB)는 그대로 두고, 경로 조회가 시나리오를 고르면 닫힌 역과 구간을 피해서 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class ClosureScenario {
+	String name;
+	List<Long> closedStationIds;
+	List<ClosedSection> closedSections;
+
+	public ClosureMask toMask(NetworkSnapshot snapshot) {
+		ClosureMask.Builder builder = ClosureMask.builder(snapshot);
+		closedStationIds.forEach(builder::closeStation);
+		closedSections.forEach(section -> builder.closeSection(section.getUpStationId(), section.getDownStationId()));
+		return builder.build();
+	}
+}
@@ -0,0 +1,101 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 스냅샷 위에 덧씌우는 구간별 지연 시간 묶음.
+ * <p>
+ * 생성 이후 변경되지 않으며, 지연을 바꾸면 revision 이 올라간 새 오버레이를 만든다. 그래서 읽는 쪽은 잠금 없이 참조 하나만 읽으면 된다.
+ * 구간은 (상행역, 하행역) 으로 찾으므로 같은 두 역을 잇는 구간이 여러 노선에 있으면 모두 늦어진다.
+ * 만료된 지연은 {@link #prune} 으로 걷어 내며, 가장 이른 만료 시각을 들고 있어 걷어 낼 때가 되었는지 바로 알 수 있다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public final class DelayOverlay {
+
+	private static final DelayOverlay EMPTY = new DelayOverlay(0L, Collections.emptyMap());
+
+	private final long revision;
+	private final Map<StationPair, SectionDelay> delays;
+	private final long nextExpiryMillis;
+
+	private DelayOverlay(long revision, Map<StationPair, SectionDelay> delays) {
+		this.revision = revision;
+		this.delays = delays;
+		this.nextExpiryMillis = delays.values().stream()
+			.mapToLong(SectionDelay::getExpiresAtMillis)
+			.min()
+			.orElse(Long.MAX_VALUE);
+	}
+
+	public static DelayOverlay empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * 일괄 변경을 한 번에 반영한 새 오버레이. 같은 구간은 나중 값이 앞 값을 대신하고, 지연 0 분은 그 구간의 지연을 지운다.
+	 * 이미 만료된 지연도 함께 걷어 낸다.
+	 */
+	public DelayOverlay merge(long revision, List<SectionDelay> batch, long nowMillis) {
+		Map<StationPair, SectionDelay> merged = new LinkedHashMap<>(delays);
+		for (SectionDelay delay : batch) {
+			StationPair key = StationPair.of(delay.getUpStationId(), delay.getDownStationId());
+			if (delay.getDelayMinutes() == 0) {
+				merged.remove(key);
+			} else {
+				merged.put(key, delay);
+			}
+		}
+		merged.values().removeIf(delay -> delay.isExpired(nowMillis));
+		return new DelayOverlay(revision, Collections.unmodifiableMap(merged));
+	}
+
+	public DelayOverlay prune(long revision, long nowMillis) {
+		return merge(revision, Collections.emptyList(), nowMillis);
+	}
+
+	public long getRevision() {
+		return revision;
+	}
+
+	public boolean isEmpty() {
+		return delays.isEmpty();
+	}
+
+	public boolean hasExpired(long nowMillis) {
+		return nextExpiryMillis <= nowMillis;
+	}
+
+	public List<SectionDelay> getDelays() {
+		return new ArrayList<>(delays.values());
+	}
+
+	/**
+	 * 스냅샷의 간선마다 더할 지연 시간(분). {@link NetworkSnapshot#withEdgeDelays} 에 그대로 넘긴다.
+	 */
+	public int[] edgeDelaysOf(NetworkSnapshot snapshot) {
+		int[] edgeDelays = new int[snapshot.edgeCount()];
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			SectionDelay delay = delays.get(StationPair.of(snapshot.stationAt(snapshot.edgeSource(edge)).getId(), snapshot.stationAt(snapshot.edgeTarget(edge)).getId()));
+			if (delay != null) {
+				edgeDelays[edge] = delay.getDelayMinutes();
+			}
+		}
+		return edgeDelays;
+	}
+
+	@Value
+	@AllArgsConstructor(staticName = "of")
+	private static class StationPair {
+		Long upStationId;
+		Long downStationId;
+	}
+}
@@ -0,0 +1,31 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 출발 시각을 정해 찾은 여정. path 는 지나는 역/노선과 거리, 열차 안에서 보낸 시간을 담고,
+ * duration 은 요청한 출발 시각부터 도착 시각까지 걸린 시간(기다린 시간 포함, 분)이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class Journey {
+	Path path;
+	List<JourneyLeg> legs;
+
+	LocalTime departureTime;
+
+	LocalTime arrivalTime;
+
+	Long duration;
+
+	public int transferCount() {
+		return Math.max(0, legs.size() - 1);
+	}
+}
@@ -0,0 +1,28 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Station;
+
+/**
+ * 여정 중 한 편을 타고 가는 구간. stations 는 탑승역과 하차역을 포함하고, 시각은 그 편이 탑승역을 떠나고 하차역에 닿는 시각이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class JourneyLeg {
+	Line line;
+	List<Station> stations;
+
+	Long distance;
+
+	LocalTime departureTime;
+
+	LocalTime arrivalTime;
+}
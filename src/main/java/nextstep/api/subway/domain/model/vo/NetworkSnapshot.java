@@ -0,0 +1,438 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+
+/**
+ * 경로 탐색 전용의 읽기 전용 지하철 네트워크 스냅샷.
+ * <p>
+ * 역은 0부터 시작하는 조밀한 int 인덱스로, 구간은 CSR(Compressed Sparse Row) 형태의 인접 배열로 보관한다.
+ * 간선 i 의 정보는 edgeTargets[i], edgeDistances[i], edgeDurations[i], edgeLines[i] 에 나란히 저장되며
+ * 정점 v 에서 출발하는 간선은 [edgeOffsets[v], edgeOffsets[v + 1]) 구간에 모여 있다.
+ * 역방향 탐색을 위해 정점 v 로 들어오는 간선 번호도 reverseEdges[reverseOffsets[v] .. reverseOffsets[v + 1]) 에 보관한다.
+ * <p>
+ * 생성 이후 어떤 필드도 변경되지 않으므로 락 없이 여러 스레드가 공유해도 안전하다.
+ * version 은 스냅샷을 만들 당시의 네트워크 버전으로, 변경이 커밋될 때마다 단조 증가한다.
+ * 엔티티 역시 영속성 컨텍스트와 분리된 사본을 보관하므로 요청 처리 중에 JPA 에 접근하지 않는다.
+ * 탐색 엔진이 스냅샷에서 파생한 전처리 결과(랜드마크 거리표 등)는 {@link #fetchIndex} 로 스냅샷에 붙여 두므로
+ * 네트워크 버전이 바뀌어 스냅샷이 교체되면 함께 버려진다.
+ * <p>
+ * 운행 지연은 DB 를 거치지 않고 {@link #withEdgeDelays} 로 소요 시간만 바꾼 파생 스냅샷으로 반영한다.
+ * 파생 스냅샷은 소요 시간 외의 배열을 원본과 공유하고, overlayRevision 으로 원본 및 다른 개정과 구분된다.
+ * 전처리 결과는 파생 스냅샷마다 따로 만들되, 지연이 늘어도 성립하는 하한 같은 결과는 원본의 것을 빌려 쓸 수 있다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public final class NetworkSnapshot {
+
+	public static final int NO_STATION = -1;
+	public static final int NO_LINE = -1;
+
+	/**
+	 * 동일 비용 경로가 여러 개일 때 탐색 엔진마다 다른 경로를 고르지 않도록
+	 * 간선 가중치의 하위 비트에 보조 지표(거리 탐색이면 소요 시간, 소요 시간 탐색이면 거리)를 함께 담는다.
+	 * 경로의 가중치는 간선 가중치의 합이므로, 보조 지표의 합이 하위 비트를 넘으면 기준 지표 쪽으로 올림이 생겨 순서가 어긋난다.
+	 * 그래서 스냅샷마다 전체 간선의 거리 합과 소요 시간 합이 {@link #SECONDARY_WEIGHT_MASK} 이하가 되도록 보조 지표를 오른쪽으로 미는 폭을 생성 시점에 정한다.
+	 * 어떤 경로의 합도(LineSkeleton 처럼 전체 간선을 누적한 값도) 민 값의 합을 넘지 않으므로 올림이 생기지 않는다.
+	 * 보통의 노선망은 합이 하위 비트 안에 들어 밀지 않으며, 구간 하나가 크거나 지연이 많이 쌓인 경우에도 스냅샷 생성은 실패하지 않고 동률 판정만 거칠어진다.
+	 */
+	private static final int SECONDARY_WEIGHT_BITS = 20;
+	private static final long SECONDARY_WEIGHT_MASK = (1L << SECONDARY_WEIGHT_BITS) - 1;
+
+	private final long version;
+	private final long overlayRevision;
+	private final Station[] stations;
+	private final Map<Long, Integer> stationIndexes;
+	private final Line[] lines;
+
+	private final int[] edgeOffsets;
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final long[] edgeDistances;
+	private final int[] edgeDurations;
+	private final int[] edgeLines;
+	private final int[] reverseOffsets;
+	private final int[] reverseEdges;
+	private final Map<Class<?>, CompletableFuture<Object>> indexes = new ConcurrentHashMap<>();
+	private final NetworkSnapshot base;
+	private final Set<Class<?>> inheritedIndexTypes;
+	private final int distanceTieShift;
+	private final int durationTieShift;
+
+	private NetworkSnapshot(long version, long overlayRevision, Station[] stations, Map<Long, Integer> stationIndexes, Line[] lines, int[] edgeOffsets, int[] edgeSources, int[] edgeTargets, long[] edgeDistances, int[] edgeDurations, int[] edgeLines, int[] reverseOffsets, int[] reverseEdges, NetworkSnapshot base, Set<Class<?>> inheritedIndexTypes) {
+		this.version = version;
+		this.overlayRevision = overlayRevision;
+		this.stations = stations;
+		this.stationIndexes = stationIndexes;
+		this.lines = lines;
+		this.edgeOffsets = edgeOffsets;
+		this.edgeSources = edgeSources;
+		this.edgeTargets = edgeTargets;
+		this.edgeDistances = edgeDistances;
+		this.edgeDurations = edgeDurations;
+		this.edgeLines = edgeLines;
+		this.reverseOffsets = reverseOffsets;
+		this.reverseEdges = reverseEdges;
+		this.base = base;
+		this.inheritedIndexTypes = inheritedIndexTypes;
+		long totalDistance = 0L;
+		long totalDuration = 0L;
+		for (int edge = 0; edge < edgeDistances.length; edge++) {
+			totalDistance += edgeDistances[edge];
+			totalDuration += edgeDurations[edge];
+		}
+		this.distanceTieShift = tieShiftOf(totalDistance);
+		this.durationTieShift = tieShiftOf(totalDuration);
+	}
+
+	/**
+	 * 각 값을 k 비트 민 값의 합은 합을 k 비트 민 값을 넘지 않으므로, 합을 하위 비트 안에 넣는 가장 작은 k 면 충분하다.
+	 */
+	private static int tieShiftOf(long total) {
+		int shift = 0;
+		while ((total >>> shift) > SECONDARY_WEIGHT_MASK) {
+			shift++;
+		}
+		return shift;
+	}
+
+	public static NetworkSnapshot of(List<Station> stations, List<Line> lines) {
+		return of(0L, stations, lines);
+	}
+
+	public static NetworkSnapshot of(long version, List<Station> stations, List<Line> lines) {
+		SnapshotAssembler assembler = new SnapshotAssembler();
+		stations.forEach(assembler::addStation);
+		lines.forEach(assembler::addLine);
+		return assembler.assemble(version);
+	}
+
+	public static NetworkSnapshot fromSections(List<Section> sections) {
+		SnapshotAssembler assembler = new SnapshotAssembler();
+		sections.forEach(section -> assembler.addSection(section, NO_LINE));
+		return assembler.assemble(0L);
+	}
+
+	public static NetworkSnapshot empty() {
+		return new SnapshotAssembler().assemble(0L);
+	}
+
+	public long version() {
+		return version;
+	}
+
+	/**
+	 * 적용된 지연 오버레이의 개정 번호. 지연이 반영되지 않은 원본 스냅샷이면 0 이다.
+	 * 같은 네트워크 버전이라도 개정이 다르면 소요 시간이 다르므로, 탐색 결과를 보관하는 캐시는 버전과 함께 키로 쓴다.
+	 */
+	public long overlayRevision() {
+		return overlayRevision;
+	}
+
+	public boolean isOverlaid() {
+		return overlayRevision != 0L;
+	}
+
+	/**
+	 * 간선마다 edgeDelays[edge] 분을 소요 시간에 더한 파생 스냅샷. 소요 시간 배열만 새로 만들고 나머지는 원본과 공유한다.
+	 * 전처리 결과는 소요 시간에 따라 달라질 수 있으므로 기본적으로 원본의 것을 물려받지 않는다.
+	 * 다만 지연은 음수가 아니고 거리는 그대로여서 소요 시간 기준 간선 가중치가 줄지 않으므로, 원본 가중치로 구한 하한(랜드마크 거리표 등)은 파생 스냅샷에서도 하한이다.
+	 * 그런 전처리 타입을 inheritedIndexTypes 로 넘기면 파생 스냅샷의 {@link #fetchIndex} 는 그 타입을 원본 스냅샷에서 가져오므로, 개정마다 다시 만들지 않는다.
+	 * 파생 스냅샷은 소요 시간 기준 탐색에만 쓴다. 거리 기준 가중치는 보조 지표(소요 시간)를 미는 폭이 커지면 원본보다 작아질 수 있기 때문이다.
+	 */
+	public NetworkSnapshot withEdgeDelays(int[] edgeDelays, long overlayRevision, Class<?>... inheritedIndexTypes) {
+		int[] delayedDurations = new int[edgeDurations.length];
+		for (int edge = 0; edge < edgeDurations.length; edge++) {
+			if (edgeDelays[edge] < 0) {
+				throw new IllegalArgumentException("Edge delays must not be negative: " + edgeDelays[edge]);
+			}
+			delayedDurations[edge] = edgeDurations[edge] + edgeDelays[edge];
+		}
+		NetworkSnapshot original = base == null ? this : base;
+		Set<Class<?>> inherited = new HashSet<>(Arrays.asList(inheritedIndexTypes));
+		return new NetworkSnapshot(version, overlayRevision, stations, stationIndexes, lines, edgeOffsets, edgeSources, edgeTargets, edgeDistances,
+			delayedDurations, edgeLines, reverseOffsets, reverseEdges, original, Collections.unmodifiableSet(inherited));
+	}
+
+	public int stationCount() {
+		return stations.length;
+	}
+
+	public int edgeCount() {
+		return edgeTargets.length;
+	}
+
+	public int lineCount() {
+		return lines.length;
+	}
+
+	public boolean isContainsStation(Long stationId) {
+		return stationIndexes.containsKey(stationId);
+	}
+
+	public int indexOf(Long stationId) {
+		return stationIndexes.getOrDefault(stationId, NO_STATION);
+	}
+
+	public Station stationAt(int stationIndex) {
+		return stations[stationIndex];
+	}
+
+	public Line lineAt(int lineIndex) {
+		return lines[lineIndex];
+	}
+
+	public int edgeBegin(int stationIndex) {
+		return edgeOffsets[stationIndex];
+	}
+
+	public int edgeEnd(int stationIndex) {
+		return edgeOffsets[stationIndex + 1];
+	}
+
+	public int reverseEdgeBegin(int stationIndex) {
+		return reverseOffsets[stationIndex];
+	}
+
+	public int reverseEdgeEnd(int stationIndex) {
+		return reverseOffsets[stationIndex + 1];
+	}
+
+	/**
+	 * 역방향 인접 배열의 position 번째 칸에 담긴 간선 번호. 간선의 나머지 정보는 edgeXxx(edge) 로 읽는다.
+	 */
+	public int reverseEdgeAt(int position) {
+		return reverseEdges[position];
+	}
+
+	public int edgeSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	public int edgeTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	public long edgeDistance(int edge) {
+		return edgeDistances[edge];
+	}
+
+	public int edgeDuration(int edge) {
+		return edgeDurations[edge];
+	}
+
+	public int edgeLine(int edge) {
+		return edgeLines[edge];
+	}
+
+	/**
+	 * 이 스냅샷에서 파생한 전처리 결과를 타입별로 한 번만 만들어 보관한다.
+	 * 같은 타입을 동시에 요청하면 먼저 들어온 스레드만 만들고 나머지는 그 결과를 기다리며,
+	 * 만드는 도중 실패하면 보관하지 않으므로 다음 요청에서 다시 시도한다.
+	 * 만드는 작업은 잠금 밖에서 수행되므로 builder 안에서 다른 타입의 fetchIndex 를 호출해도 된다.
+	 */
+	public <T> T fetchIndex(Class<T> indexType, Function<NetworkSnapshot, T> builder) {
+		if (inheritedIndexTypes.contains(indexType)) {
+			return base.fetchIndex(indexType, builder);
+		}
+		CompletableFuture<Object> index = indexes.get(indexType);
+		if (index == null) {
+			CompletableFuture<Object> created = new CompletableFuture<>();
+			index = indexes.putIfAbsent(indexType, created);
+			if (index == null) {
+				index = created;
+				try {
+					created.complete(builder.apply(this));
+				} catch (RuntimeException | Error e) {
+					indexes.remove(indexType, created);
+					created.completeExceptionally(e);
+					throw e;
+				}
+			}
+		}
+
+		try {
+			return indexType.cast(index.join());
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 탐색 기준(type)에 따른 간선 가중치. 상위 비트는 기준 지표, 하위 {@value #SECONDARY_WEIGHT_BITS} 비트는 스냅샷이 정한 폭만큼 민 보조 지표이다.
+	 * type 이 null 인 경우 PathFacade 와 동일하게 소요 시간 기준으로 취급한다.
+	 */
+	public long edgeWeight(int edge, PathRequestType type) {
+		if (PathRequestType.isDistance(type)) {
+			return composeWeight(edgeDistances[edge], edgeDurations[edge] >>> durationTieShift);
+		}
+		return composeWeight(edgeDurations[edge], edgeDistances[edge] >>> distanceTieShift);
+	}
+
+	public static long primaryWeightOf(long weight) {
+		return weight >>> SECONDARY_WEIGHT_BITS;
+	}
+
+	/**
+	 * 기준 지표와 보조 지표를 edgeWeight 와 같은 방식으로 하나의 값으로 접는다. 누적 값끼리 사전식으로 비교할 때 쓴다.
+	 * 스냅샷의 간선 가중치는 생성 시점에 정한 폭만큼 밀어 누적해도 하위 비트 안에 들지만, 그 밖의 값은 올림을 막기 위해 하위 비트에서 자른다.
+	 */
+	public static long composeWeight(long primary, long secondary) {
+		return (primary << SECONDARY_WEIGHT_BITS) + Math.min(secondary, SECONDARY_WEIGHT_MASK);
+	}
+
+	/**
+	 * 출발역 인덱스와 경로를 구성하는 간선 배열의 앞부분(edgeLength 개)으로 Path 를 조립한다.
+	 * 결과 객체 외에는 어떤 상태도 만들지 않으므로 탐색 엔진은 자신의 작업 버퍼를 그대로 넘기면 된다.
+	 * 간선마다 노선을 들고 있으므로 같은 노선으로 이어지는 간선끼리 묶어 탑승 구간(PathLeg)도 함께 만든다.
+	 */
+	public Path toPath(int sourceIndex, int[] edges, int edgeLength) {
+		List<Station> pathStations = new ArrayList<>(edgeLength + 1);
+		Map<Integer, Line> traversedLines = new LinkedHashMap<>();
+		List<PathLeg> legs = new ArrayList<>();
+		long distance = 0;
+		long duration = 0;
+		int legBegin = 0;
+		long legDistance = 0;
+		long legDuration = 0;
+
+		pathStations.add(stations[sourceIndex]);
+		for (int i = 0; i < edgeLength; i++) {
+			int edge = edges[i];
+			if (i > 0 && edgeLines[edge] != edgeLines[edges[i - 1]]) {
+				legs.add(toLeg(edgeLines[edges[i - 1]], pathStations.subList(legBegin, i + 1), legDistance, legDuration));
+				legBegin = i;
+				legDistance = 0;
+				legDuration = 0;
+			}
+			pathStations.add(stations[edgeTargets[edge]]);
+			distance += edgeDistances[edge];
+			duration += edgeDurations[edge];
+			legDistance += edgeDistances[edge];
+			legDuration += edgeDurations[edge];
+			if (edgeLines[edge] != NO_LINE) {
+				traversedLines.putIfAbsent(edgeLines[edge], lines[edgeLines[edge]]);
+			}
+		}
+		if (edgeLength > 0) {
+			legs.add(toLeg(edgeLines[edges[edgeLength - 1]], pathStations.subList(legBegin, edgeLength + 1), legDistance, legDuration));
+		}
+
+		return Path.of(pathStations, new ArrayList<>(traversedLines.values()), distance, duration, legs);
+	}
+
+	private PathLeg toLeg(int lineIndex, List<Station> legStations, long distance, long duration) {
+		return PathLeg.of(lineIndex == NO_LINE ? null : lines[lineIndex], new ArrayList<>(legStations), distance, duration);
+	}
+
+	/**
+	 * 엔티티 목록을 CSR 배열로 옮겨 담는 일회성 조립기.
+	 * 역과 노선은 영속성 컨텍스트와 분리된 사본으로 보관한다.
+	 */
+	private static final class SnapshotAssembler {
+		private final Map<Long, Station> stations = new HashMap<>();
+		private final List<Line> lines = new ArrayList<>();
+		private final List<Section> sections = new ArrayList<>();
+		private final List<Integer> sectionLines = new ArrayList<>();
+
+		private void addStation(Station station) {
+			stations.putIfAbsent(station.getId(), new Station(station.getId(), station.getName()));
+		}
+
+		private void addLine(Line line) {
+			int lineIndex = lines.size();
+			lines.add(new Line(line.getId(), line.getName(), line.getColor(), new Sections(), line.getTimetable()));
+			line.parseSections().forEach(section -> addSection(section, lineIndex));
+		}
+
+		private void addSection(Section section, int lineIndex) {
+			addStation(section.getUpStation());
+			addStation(section.getDownStation());
+			sections.add(section);
+			sectionLines.add(lineIndex);
+		}
+
+		private NetworkSnapshot assemble(long version) {
+			List<Station> orderedStations = new ArrayList<>(stations.values());
+			orderedStations.sort(Comparator.comparing(Station::getId));
+
+			Map<Long, Integer> stationIndexes = new HashMap<>();
+			for (int i = 0; i < orderedStations.size(); i++) {
+				stationIndexes.put(orderedStations.get(i).getId(), i);
+			}
+
+			int stationCount = orderedStations.size();
+			int edgeCount = sections.size();
+			int[] edgeOffsets = new int[stationCount + 1];
+			for (Section section : sections) {
+				edgeOffsets[stationIndexes.get(section.fetchUpStationId()) + 1]++;
+			}
+			for (int i = 0; i < stationCount; i++) {
+				edgeOffsets[i + 1] += edgeOffsets[i];
+			}
+
+			int[] cursor = new int[stationCount];
+			System.arraycopy(edgeOffsets, 0, cursor, 0, stationCount);
+
+			int[] edgeSources = new int[edgeCount];
+			int[] edgeTargets = new int[edgeCount];
+			long[] edgeDistances = new long[edgeCount];
+			int[] edgeDurations = new int[edgeCount];
+			int[] edgeLines = new int[edgeCount];
+			for (int i = 0; i < edgeCount; i++) {
+				Section section = sections.get(i);
+				int source = stationIndexes.get(section.fetchUpStationId());
+				int edge = cursor[source]++;
+				edgeSources[edge] = source;
+				edgeTargets[edge] = stationIndexes.get(section.fetchDownStationId());
+				edgeDistances[edge] = section.getDistance();
+				edgeDurations[edge] = section.getDuration();
+				edgeLines[edge] = sectionLines.get(i);
+			}
+
+			int[] reverseOffsets = new int[stationCount + 1];
+			for (int edge = 0; edge < edgeCount; edge++) {
+				reverseOffsets[edgeTargets[edge] + 1]++;
+			}
+			for (int i = 0; i < stationCount; i++) {
+				reverseOffsets[i + 1] += reverseOffsets[i];
+			}
+			int[] reverseCursor = new int[stationCount];
+			System.arraycopy(reverseOffsets, 0, reverseCursor, 0, stationCount);
+			int[] reverseEdges = new int[edgeCount];
+			for (int edge = 0; edge < edgeCount; edge++) {
+				reverseEdges[reverseCursor[edgeTargets[edge]]++] = edge;
+			}
+
+			return new NetworkSnapshot(
+				version,
+				0L,
+				orderedStations.toArray(new Station[0]),
+				Collections.unmodifiableMap(stationIndexes),
+				lines.toArray(new Line[0]),
+				edgeOffsets, edgeSources, edgeTargets, edgeDistances, edgeDurations, edgeLines, reverseOffsets, reverseEdges, null, Collections.emptySet());
+		}
+	}
+}
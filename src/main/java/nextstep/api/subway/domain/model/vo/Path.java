@@ -1,5 +1,6 @@
 package nextstep.api.subway.domain.model.vo;
 
+import java.util.Collections;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -21,8 +22,21 @@ public class Path {
 
 	Long duration;
 
+	/**
+	 * 같은 노선으로 이어지는 구간끼리 묶은 탑승 구간 목록. 구간 정보를 따로 들고 있지 않은 탐색기(JGraphT 기반 등)는 빈 목록을 돌려준다.
+	 */
+	List<PathLeg> legs;
+
+	public static Path of(List<Station> stations, List<Line> lines, Long distance, Long duration) {
+		return new Path(stations, lines, distance, duration, Collections.emptyList());
+	}
+
 	public int size() {
 		return stations.size();
 	}
 
+	public int transferCount() {
+		return Math.max(0, legs.size() - 1);
+	}
+
 }
@@ -0,0 +1,20 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 비용 순으로 정렬된 대안 경로 목록. truncated 는 지연 시간 예산이 다 되어 요청한 개수보다 적게 찾았을 수 있음을 뜻한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PathAlternatives {
+	List<Path> paths;
+
+	boolean truncated;
+}
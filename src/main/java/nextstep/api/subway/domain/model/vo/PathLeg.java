@@ -0,0 +1,26 @@
+package nextstep.api.subway.domain.model.vo;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Station;
+
+/**
+ * 경로 중 한 노선을 타고 가는 구간. stations 는 탑승역과 하차역을 포함한다.
+ * 노선 정보 없이 구간 목록으로 만든 스냅샷에서는 line 이 null 이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PathLeg {
+	Line line;
+	List<Station> stations;
+
+	Long distance;
+
+	Long duration;
+}
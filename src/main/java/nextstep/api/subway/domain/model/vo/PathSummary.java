@@ -0,0 +1,18 @@
+package nextstep.api.subway.domain.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 역 목록 없이 경로의 합계만 담는 값 객체.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PathSummary {
+	Long distance;
+
+	Long duration;
+}
@@ -0,0 +1,23 @@
+package nextstep.api.subway.domain.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.domain.model.entity.Station;
+
+/**
+ * 예산 안에 닿는 역 하나와 그 역까지의 비용. fare 는 거리 구간 요금에 지나온 노선의 최고 추가 요금을 더한 값이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class ReachableStation {
+	Station station;
+
+	Long distance;
+
+	Long duration;
+
+	Integer fare;
+}
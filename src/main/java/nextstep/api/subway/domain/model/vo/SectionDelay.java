@@ -0,0 +1,25 @@
+package nextstep.api.subway.domain.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 상행역에서 하행역으로 가는 구간에 더해지는 지연 시간(분). expiresAtMillis 가 지나면 저절로 사라진다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class SectionDelay {
+	Long upStationId;
+	Long downStationId;
+
+	int delayMinutes;
+
+	long expiresAtMillis;
+
+	public boolean isExpired(long nowMillis) {
+		return expiresAtMillis <= nowMillis;
+	}
+}
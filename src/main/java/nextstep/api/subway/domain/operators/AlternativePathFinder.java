@@ -0,0 +1,15 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.PathAlternatives;
+
+/**
+ * 출발역에서 도착역까지 역을 두 번 지나지 않는 경로를 비용 순으로 최대 count 개 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface AlternativePathFinder {
+	PathAlternatives findAlternativePaths(Long sourceStationId, Long targetStationId, PathRequestType type, int count, NetworkSnapshot snapshot);
+}
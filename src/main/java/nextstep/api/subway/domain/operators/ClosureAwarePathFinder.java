@@ -0,0 +1,17 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * 닫힌 간선과 역(ClosureMask)을 건너뛰며 최단 경로를 찾는 탐색 엔진.
+ * 전처리 결과(축약 계층, 랜드마크 등)는 닫힌 간선을 모르므로 전처리 없이 스냅샷을 그대로 훑는 엔진만 구현한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface ClosureAwarePathFinder {
+	Path findShortestPathAvoiding(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot, ClosureMask closures);
+}
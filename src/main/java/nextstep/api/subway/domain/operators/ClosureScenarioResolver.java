@@ -0,0 +1,31 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.List;
+import java.util.Optional;
+
+import nextstep.api.subway.domain.model.vo.ClosureScenario;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * 가상 폐쇄 시나리오를 이름별로 메모리에 보관하고, 스냅샷마다 시나리오를 비트 마스크로 바꿔 둔다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface ClosureScenarioResolver {
+	ClosureScenario save(ClosureScenario scenario);
+
+	Optional<ClosureScenario> fetch(String name);
+
+	List<ClosureScenario> fetchAll();
+
+	boolean delete(String name);
+
+	void clear();
+
+	/**
+	 * 시나리오가 없으면 비어 있다. 같은 스냅샷에 대해서는 한 번 만든 마스크를 재사용한다.
+	 */
+	Optional<ClosureMask> fetchMask(String name, NetworkSnapshot snapshot);
+}
@@ -0,0 +1,26 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.List;
+
+import nextstep.api.subway.domain.model.vo.DelayOverlay;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+
+/**
+ * 구간별 지연 시간을 메모리에만 보관하고, 소요 시간 기준 탐색이 쓸 스냅샷에 덧씌운다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface DelayOverlayResolver {
+	/**
+	 * 지연이 없으면 snapshot 을 그대로, 있으면 지연을 반영한 파생 스냅샷을 돌려준다.
+	 */
+	NetworkSnapshot applyTo(NetworkSnapshot snapshot);
+
+	DelayOverlay fetch();
+
+	DelayOverlay update(List<SectionDelay> delays);
+
+	DelayOverlay clear();
+}
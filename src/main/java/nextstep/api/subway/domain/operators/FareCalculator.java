@@ -80,7 +80,7 @@ public class FareCalculator {
 			.orElse(0);
 	}
 
-	private int calculateAdditionalLineFare(Long lineId) {
+	public int calculateAdditionalLineFare(Long lineId) {
 		return LINE_ADDITIONAL_FARES.getOrDefault(lineId, 0);
 	}
 
@@ -0,0 +1,16 @@
+package nextstep.api.subway.domain.operators;
+
+import java.time.LocalTime;
+
+import nextstep.api.subway.domain.model.vo.Journey;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 노선 시각표를 따라 출발 시각 이후 도착역에 가장 일찍 닿는 여정을 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface JourneyPlanner {
+	Journey findJourney(Long sourceStationId, Long targetStationId, LocalTime departureTime, NetworkSnapshot snapshot);
+}
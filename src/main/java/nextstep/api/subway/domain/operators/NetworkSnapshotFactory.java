@@ -0,0 +1,11 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface NetworkSnapshotFactory {
+	NetworkSnapshot createSnapshot(long version);
+}
@@ -0,0 +1,14 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 새 네트워크 스냅샷이 조회에 노출되기 전에 탐색 엔진별 전처리를 수행한다.
+ * 전처리 결과는 NetworkSnapshot#fetchIndex 로 스냅샷에 붙여 두어 요청 처리 중에 다시 계산하지 않도록 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface NetworkSnapshotPreprocessor {
+	void preprocess(NetworkSnapshot snapshot);
+}
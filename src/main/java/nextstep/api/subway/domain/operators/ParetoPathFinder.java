@@ -0,0 +1,14 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.PathAlternatives;
+
+/**
+ * 출발역에서 도착역까지 거리/소요 시간/요금(노선 추가 요금 포함) 중 어느 하나도 다른 경로보다 나빠지지 않는 경로를 모두 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface ParetoPathFinder {
+	PathAlternatives findParetoPaths(Long sourceStationId, Long targetStationId, NetworkSnapshot snapshot);
+}
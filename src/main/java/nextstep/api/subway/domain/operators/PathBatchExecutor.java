@@ -0,0 +1,17 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 일괄 경로 조회의 항목들을 동시 실행 수가 제한된 전용 풀에서 병렬로 계산한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface PathBatchExecutor {
+	/**
+	 * 항목마다 mapper 를 병렬로 실행하고 결과를 입력 순서대로 돌려준다.
+	 */
+	<T, R> List<R> mapInParallel(List<T> items, Function<T, R> mapper);
+}
@@ -2,9 +2,11 @@ package nextstep.api.subway.domain.operators;
 
 import java.util.List;
 
+import nextstep.api.subway.common.type.PathRequestType;
 import nextstep.api.subway.domain.model.entity.Line;
 import nextstep.api.subway.domain.model.entity.Section;
 import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
 import nextstep.api.subway.domain.model.vo.Path;
 
 /**
@@ -15,5 +17,6 @@ public interface PathFinder {
 
 	Path findShortestPathBySections(Station sourceStation, Station targetStation, List<Section> sections);
 	Path findShortestPathByLines(Station sourceStation, Station targetStation, List<Line> lines);
+	Path findShortestPathBySnapshot(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot);
 
 }
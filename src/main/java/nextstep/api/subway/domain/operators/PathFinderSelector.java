@@ -0,0 +1,16 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface PathFinderSelector {
+	PathFinder select();
+
+	PathFinder select(PathSearchStrategy strategy);
+
+	PathFinder selectFor(PathRequestType type);
+}
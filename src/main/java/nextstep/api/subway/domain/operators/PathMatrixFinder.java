@@ -0,0 +1,18 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.List;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+
+/**
+ * 출발역 하나에서 여러 도착역까지의 거리/소요 시간 합계를 한 번의 탐색으로 구한다.
+ * 결과는 도착역 순서대로 담기며, 도달할 수 없는 도착역의 자리는 null 이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface PathMatrixFinder {
+	List<PathSummary> findPathSummaries(Long sourceStationId, List<Long> targetStationIds, PathRequestType type, NetworkSnapshot snapshot);
+}
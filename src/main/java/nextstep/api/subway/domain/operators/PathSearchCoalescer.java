@@ -0,0 +1,16 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.function.Supplier;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.dto.outport.PathInfo;
+
+/**
+ * 같은 (출발역, 도착역, 유형, 네트워크 버전, 지연 오버레이 개정)의 경로 탐색이 동시에 들어오면 한 번만 탐색하고, 기다린 요청에도 같은 결과를 돌려준다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface PathSearchCoalescer {
+	PathInfo coalesce(Long source, Long target, PathRequestType type, long networkVersion, long overlayRevision, Supplier<PathInfo> search);
+}
@@ -0,0 +1,15 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+
+/**
+ * 역 목록 없이 최단 경로의 거리/소요 시간 합계만 구한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface PathSummaryFinder {
+	PathSummary findPathSummary(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot);
+}
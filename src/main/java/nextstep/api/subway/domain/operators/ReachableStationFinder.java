@@ -0,0 +1,17 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.List;
+
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.ReachableStation;
+
+/**
+ * 출발역에서 주어진 예산 안에 닿는 역을 예산 기준 비용이 작은 순서대로 찾는다. 출발역 자신은 결과에 넣지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface ReachableStationFinder {
+	List<ReachableStation> findReachableStations(Long sourceStationId, ReachabilityBudgetType budgetType, long budget, NetworkSnapshot snapshot);
+}
@@ -0,0 +1,18 @@
+package nextstep.api.subway.domain.operators;
+
+import java.util.Optional;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+
+/**
+ * 출발역과 도착역을 갈아타지 않고 잇는 노선이 있을 때, 그 노선만 타는 경로가 최단 경로임을 탐색 없이 보일 수 있으면 그 경로를 돌려준다.
+ * 최단임을 보일 수 없거나 지원하지 않는 유형이면 비어 있으며, 호출하는 쪽은 원래 탐색 엔진으로 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface SameLinePathFinder {
+	Optional<Path> findSameLinePath(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot);
+}
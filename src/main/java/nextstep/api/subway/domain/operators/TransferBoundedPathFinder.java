@@ -0,0 +1,23 @@
+package nextstep.api.subway.domain.operators;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * 환승 횟수 상한과 닫힌 간선(ClosureMask)을 지키며 경로를 찾는 탐색 엔진.
+ * 어느 노선으로 도착했는지 알아야 환승을 셀 수 있으므로 노선 단위로 펼친 그래프 위에서 찾는 엔진만 구현한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface TransferBoundedPathFinder {
+	int UNLIMITED_TRANSFERS = -1;
+
+	/**
+	 * @param maxTransfers 허용하는 최대 환승 횟수. 제한이 없으면 {@link #UNLIMITED_TRANSFERS}.
+	 */
+	Path findShortestPathWithinTransfers(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot, ClosureMask closures,
+		int maxTransfers);
+}
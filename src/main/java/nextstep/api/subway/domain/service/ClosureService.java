@@ -0,0 +1,20 @@
+package nextstep.api.subway.domain.service;
+
+import java.util.List;
+
+import nextstep.api.subway.domain.dto.inport.ClosureScenarioCommand;
+import nextstep.api.subway.domain.dto.outport.ClosureScenarioInfo;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface ClosureService {
+	ClosureScenarioInfo saveScenario(ClosureScenarioCommand scenarioCommand);
+
+	List<ClosureScenarioInfo> findAllScenarios();
+
+	ClosureScenarioInfo findScenario(String name);
+
+	void deleteScenario(String name);
+}
@@ -0,0 +1,18 @@
+package nextstep.api.subway.domain.service;
+
+import java.util.List;
+
+import nextstep.api.subway.domain.dto.inport.SectionDelayCommand;
+import nextstep.api.subway.domain.dto.outport.DelayOverlayInfo;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public interface DelayService {
+	DelayOverlayInfo updateDelays(List<SectionDelayCommand> delayCommands);
+
+	DelayOverlayInfo findDelays();
+
+	DelayOverlayInfo clearDelays();
+}
@@ -11,4 +11,5 @@ import nextstep.api.subway.domain.dto.outport.PathInfo;
 public interface FareCalculationService {
 	FareInfo calculate(PathInfo pathInfo);
 	FareInfo calculate(PathInfo pathInfo, UserPrincipal userPrincipal);
+	FareInfo calculateBaseFare(long distance);
 }
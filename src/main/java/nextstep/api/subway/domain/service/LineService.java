@@ -3,6 +3,7 @@ package nextstep.api.subway.domain.service;
 import java.util.List;
 
 import nextstep.api.subway.domain.dto.inport.LineCreateCommand;
+import nextstep.api.subway.domain.dto.inport.LineTimetableCommand;
 import nextstep.api.subway.domain.dto.inport.LineUpdateCommand;
 import nextstep.api.subway.interfaces.dto.response.LineResponse;
 
@@ -19,6 +20,8 @@ public interface LineService {
 
 	LineResponse updateLineById(Long id, LineUpdateCommand updateRequest);
 
+	LineResponse updateTimetable(Long id, LineTimetableCommand timetableCommand);
+
 	void deleteLineById(Long id);
 
 	boolean isProperSectionExist(Long source, Long target);
@@ -1,6 +1,21 @@
 package nextstep.api.subway.domain.service;
 
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.dto.inport.PathConstraintCommand;
+import nextstep.api.subway.domain.dto.inport.PathMatrixCommand;
+import nextstep.api.subway.domain.dto.inport.PathQueryCommand;
+import nextstep.api.subway.domain.dto.outport.JourneyInfo;
+import nextstep.api.subway.domain.dto.outport.PathAlternativesInfo;
+import nextstep.api.subway.domain.dto.outport.PathBatchItemInfo;
 import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixRowInfo;
+import nextstep.api.subway.domain.dto.outport.PathSummaryInfo;
+import nextstep.api.subway.domain.dto.outport.ReachableStationInfo;
 
 /**
  * @author : Rene Choi
@@ -9,4 +24,15 @@ import nextstep.api.subway.domain.dto.outport.PathInfo;
 public interface PathService {
 	PathInfo findShortestPath(Long source, Long target);
 	PathInfo findMinimumDurationPath(Long source, Long target);
+	PathInfo findMinimumFarePath(Long source, Long target);
+	PathInfo findMinimumTransferPath(Long source, Long target);
+	PathInfo findConstrainedPath(Long source, Long target, PathRequestType type, PathConstraintCommand constraints);
+	PathInfo findPathVia(Long source, List<Long> via, Long target, PathRequestType type, boolean optimizeOrder);
+	PathSummaryInfo findPathSummary(Long source, Long target, PathRequestType type);
+	List<PathBatchItemInfo> findPaths(List<PathQueryCommand> commands);
+	Stream<PathMatrixRowInfo> findPathMatrix(PathMatrixCommand command);
+	PathAlternativesInfo findAlternativePaths(Long source, Long target, PathRequestType type, int count);
+	PathAlternativesInfo findParetoPaths(Long source, Long target);
+	List<ReachableStationInfo> findReachableStations(Long source, ReachabilityBudgetType budgetType, long budget);
+	JourneyInfo findJourney(Long source, Long target, LocalTime departureTime);
 }
@@ -0,0 +1,218 @@
+package nextstep.api.subway.domain.service.impl;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.dto.inport.PathConstraintCommand;
+import nextstep.api.subway.domain.dto.inport.PathMatrixCommand;
+import nextstep.api.subway.domain.dto.inport.PathQueryCommand;
+import nextstep.api.subway.domain.dto.outport.JourneyInfo;
+import nextstep.api.subway.domain.dto.outport.PathAlternativesInfo;
+import nextstep.api.subway.domain.dto.outport.PathBatchItemInfo;
+import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixRowInfo;
+import nextstep.api.subway.domain.dto.outport.PathSummaryInfo;
+import nextstep.api.subway.domain.dto.outport.ReachableStationInfo;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.DelayOverlayResolver;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.domain.service.PathService;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * SimplePathService 앞에서 경로 조회 결과(PathInfo)를 (출발역, 도착역, 유형, 네트워크 버전, 지연 오버레이 개정) 단위로 보관하는 캐시.
+ * <p>
+ * 요금은 PathFacade 가 조회 이후에 계산하므로, 같은 PathInfo 로 /paths 와 /paths/auth 의 연령 할인 요금을 모두 계산할 수 있다.
+ * 키의 버전은 조회 시점에 제공 중인 스냅샷의 버전이며, 스냅샷은 앞으로만 바뀌므로 이전 버전 키의 항목은 더 이상 조회되지 않다가 밀려난다.
+ * 구간 지연은 소요 시간 기준 조회에만 반영되므로 오버레이 개정은 소요 시간 기준 키에만 넣고, 다른 유형의 항목은 지연이 바뀌어도 그대로 쓴다.
+ * 캐시는 Caffeine 의 W-TinyLFU 로 축출하고, 항목 무게는 PathInfo 의 대략적인 바이트 수로 재어 설정(subway.path.result-cache-maximum-bytes)으로 제한한다.
+ * 경로가 없는 경우처럼 예외로 끝난 조회는 캐시하지 않는다. 적중률은 cache.gets 지표(cache=pathResults)의 hit/miss 로 확인한다.
+ * <p>
+ * 캐시된 PathInfo 는 여러 요청이 함께 읽으므로 호출하는 쪽에서 변경해서는 안 된다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Primary
+@Service
+public class CachingPathService implements PathService {
+
+	public static final String CACHE_NAME = "pathResults";
+
+	private static final int PATH_INFO_BYTES = 64;
+	private static final int STATION_INFO_BYTES = 72;
+	private static final int LINE_INFO_BYTES = 112;
+	private static final int PATH_LEG_INFO_BYTES = 176;
+
+	private final SimplePathService simplePathService;
+	private final NetworkSnapshotResolver networkSnapshotResolver;
+	private final DelayOverlayResolver delayOverlayResolver;
+	private final Cache<PathResultKey, PathInfo> pathResults;
+
+	public CachingPathService(SimplePathService simplePathService, NetworkSnapshotResolver networkSnapshotResolver, DelayOverlayResolver delayOverlayResolver,
+		PathSearchConfigCollector pathSearchConfigCollector, MeterRegistry meterRegistry) {
+		this.simplePathService = simplePathService;
+		this.networkSnapshotResolver = networkSnapshotResolver;
+		this.delayOverlayResolver = delayOverlayResolver;
+		this.pathResults = Caffeine.newBuilder()
+			.maximumWeight(pathSearchConfigCollector.getResultCacheMaximumBytes())
+			.weigher((PathResultKey key, PathInfo pathInfo) -> weigh(pathInfo))
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, pathResults, CACHE_NAME);
+	}
+
+	@Override
+	public PathInfo findShortestPath(Long source, Long target) {
+		return findCachedPath(source, target, PathRequestType.DISTANCE);
+	}
+
+	@Override
+	public PathInfo findMinimumDurationPath(Long source, Long target) {
+		return findCachedPath(source, target, PathRequestType.DURATION);
+	}
+
+	@Override
+	public PathInfo findMinimumFarePath(Long source, Long target) {
+		return findCachedPath(source, target, PathRequestType.FARE);
+	}
+
+	@Override
+	public PathInfo findMinimumTransferPath(Long source, Long target) {
+		return findCachedPath(source, target, PathRequestType.MIN_TRANSFER);
+	}
+
+	/**
+	 * 제약(폐쇄 시나리오, 피할 노선과 역, 최대 환승 횟수)은 언제든 바뀌고 조합이 많아 같은 질의가 잘 반복되지 않으므로 캐시를 거치지 않는다.
+	 */
+	@Override
+	public PathInfo findConstrainedPath(Long source, Long target, PathRequestType type, PathConstraintCommand constraints) {
+		return simplePathService.findConstrainedPath(source, target, type, constraints);
+	}
+
+	/**
+	 * 경유 경로는 구간마다 단일 경로와 같은 키로 캐시를 거쳐 찾은 뒤 잇는다. 그래서 같은 구간을 지나는 다른 요청과 캐시 항목을 함께 쓰고,
+	 * 경유역 하나만 바꾼 요청은 바뀐 구간만 새로 찾는다.
+	 * 스냅샷과 지연 오버레이는 처음에 한 번만 정해 모든 구간의 키와 탐색에 쓰므로, 도중에 노선도나 지연이 바뀌어도 구간끼리 다른 버전이 섞이지 않는다.
+	 */
+	@Override
+	public PathInfo findPathVia(Long source, List<Long> via, Long target, PathRequestType type, boolean optimizeOrder) {
+		PathRequestType normalizedType = type == null ? PathRequestType.DURATION : type;
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		NetworkSnapshot searched = searchedSnapshotOf(normalizedType, snapshot);
+		List<Long> stops = simplePathService.planStops(source, via, target, normalizedType, optimizeOrder, snapshot);
+		return PathInfo.join(IntStream.range(0, stops.size() - 1)
+			.mapToObj(index -> findLeg(stops.get(index), stops.get(index + 1), normalizedType, searched))
+			.collect(Collectors.toList()));
+	}
+
+	@Override
+	public PathSummaryInfo findPathSummary(Long source, Long target, PathRequestType type) {
+		return simplePathService.findPathSummary(source, target, type);
+	}
+
+	/**
+	 * 일괄 조회는 한 스냅샷 위에서 모든 항목을 계산해야 하므로 캐시를 거치지 않는다.
+	 */
+	@Override
+	public List<PathBatchItemInfo> findPaths(List<PathQueryCommand> commands) {
+		return simplePathService.findPaths(commands);
+	}
+
+	/**
+	 * 행렬의 칸은 최단 경로 트리에서 합계만 읽어 오므로 PathInfo 캐시와 겹치지 않는다.
+	 */
+	@Override
+	public Stream<PathMatrixRowInfo> findPathMatrix(PathMatrixCommand command) {
+		return simplePathService.findPathMatrix(command);
+	}
+
+	@Override
+	public PathAlternativesInfo findAlternativePaths(Long source, Long target, PathRequestType type, int count) {
+		return simplePathService.findAlternativePaths(source, target, type, count);
+	}
+
+	@Override
+	public PathAlternativesInfo findParetoPaths(Long source, Long target) {
+		return simplePathService.findParetoPaths(source, target);
+	}
+
+	@Override
+	public List<ReachableStationInfo> findReachableStations(Long source, ReachabilityBudgetType budgetType, long budget) {
+		return simplePathService.findReachableStations(source, budgetType, budget);
+	}
+
+	/**
+	 * 여정은 출발 시각마다 달라 같은 질의가 거의 반복되지 않으므로 캐시를 거치지 않는다.
+	 */
+	@Override
+	public JourneyInfo findJourney(Long source, Long target, LocalTime departureTime) {
+		return simplePathService.findJourney(source, target, departureTime);
+	}
+
+	/**
+	 * 탐색할 스냅샷(지연 오버레이 포함)은 한 번만 정해 키와 탐색에 함께 쓴다. 키를 만든 뒤 탐색이 스냅샷이나 오버레이를 다시 읽으면,
+	 * 그 사이에 들어온 지연이 반영된 결과가 지연 없는 키에 저장되어 지연이 끝난 뒤에도 계속 제공될 수 있기 때문이다.
+	 */
+	private PathInfo findCachedPath(Long source, Long target, PathRequestType type) {
+		SimplePathService.validateNotSameStation(source, target);
+
+		return findLeg(source, target, type, searchedSnapshotOf(type, networkSnapshotResolver.fetch()));
+	}
+
+	private PathInfo findLeg(Long source, Long target, PathRequestType type, NetworkSnapshot searched) {
+		return pathResults.get(keyOf(source, target, type, searched), key -> simplePathService.findPathOn(source, target, type, searched));
+	}
+
+	private PathResultKey keyOf(Long source, Long target, PathRequestType type, NetworkSnapshot searched) {
+		return PathResultKey.of(source, target, type, searched.version(), searched.overlayRevision());
+	}
+
+	/**
+	 * 구간 지연은 소요 시간 기준 조회에만 반영되므로 그 밖의 유형은 원본 스냅샷으로 키를 만든다.
+	 */
+	private NetworkSnapshot searchedSnapshotOf(PathRequestType type, NetworkSnapshot snapshot) {
+		return type == PathRequestType.DURATION ? delayOverlayResolver.applyTo(snapshot) : snapshot;
+	}
+
+	/**
+	 * 구간(legs)은 역과 노선을 따로 복사해 들고 있고, 구간끼리 환승역을 하나씩 겹쳐 가지므로 역 수에 구간 수를 더해 센다.
+	 */
+	private static int weigh(PathInfo pathInfo) {
+		int stationCount = sizeOf(pathInfo.getStations());
+		int legCount = sizeOf(pathInfo.getLegs());
+		int legStationCount = legCount == 0 ? 0 : stationCount + legCount - 1;
+		return PATH_INFO_BYTES + stationCount * STATION_INFO_BYTES + sizeOf(pathInfo.getLines()) * LINE_INFO_BYTES
+			+ legCount * PATH_LEG_INFO_BYTES + legStationCount * STATION_INFO_BYTES;
+	}
+
+	private static int sizeOf(List<?> values) {
+		return values == null ? 0 : values.size();
+	}
+
+	@Value
+	@AllArgsConstructor(staticName = "of")
+	private static class PathResultKey {
+		Long source;
+		Long target;
+		PathRequestType type;
+		long networkVersion;
+		long overlayRevision;
+	}
+}
@@ -4,12 +4,14 @@ import static org.springframework.http.HttpStatus.*;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.api.subway.domain.dto.inport.SectionCreateCommand;
 import nextstep.api.subway.domain.dto.outport.SectionInfo;
+import nextstep.api.subway.domain.event.NetworkChangedEvent;
 import nextstep.api.subway.domain.model.entity.Line;
 import nextstep.api.subway.domain.model.entity.Section;
 import nextstep.api.subway.domain.model.entity.Station;
@@ -34,6 +36,7 @@ public class EnhancedSectionService implements SectionService {
 	private final SectionFactory sectionFactory;
 	private final StationResolver stationResolver;
 	private final SectionResolver sectionResolver;
+	private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -63,6 +66,7 @@ public class EnhancedSectionService implements SectionService {
 		Section newSection = sectionFactory.createSection(createCommand, upStation, downStation);
 
 		line.insertSection(newSection);
+		eventPublisher.publishEvent(NetworkChangedEvent.of("addSection"));
 
 		return SectionInfo.from(newSection);
 	}
@@ -76,6 +80,7 @@ public class EnhancedSectionService implements SectionService {
 		Line line = lineResolver.fetchOptional(lineId).orElseThrow(() -> new LineNotFoundException(BAD_REQUEST));
 
 		line.removeStation(stationId);
+		eventPublisher.publishEvent(NetworkChangedEvent.of("deleteSection"));
 	}
 
 
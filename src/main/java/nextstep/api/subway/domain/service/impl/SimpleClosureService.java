@@ -0,0 +1,117 @@
+package nextstep.api.subway.domain.service.impl;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.domain.dto.inport.ClosureScenarioCommand;
+import nextstep.api.subway.domain.dto.outport.ClosureScenarioInfo;
+import nextstep.api.subway.domain.model.vo.ClosedSection;
+import nextstep.api.subway.domain.model.vo.ClosureScenario;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.ClosureScenarioResolver;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.domain.service.ClosureService;
+import nextstep.common.exception.subway.ClosureScenarioNotValidException;
+import nextstep.common.yml.ClosureScenarioConfigCollector;
+
+/**
+ * 가상 폐쇄 시나리오는 DB 에 쓰지 않고 메모리에만 둔다. 노선도에서 실제로 구간을 지우는 Sections.removeStation 과 달리
+ * 노선도 버전이 오르지 않으므로 스냅샷 재조립이나 캐시 무효화가 일어나지 않는다.
+ * 저장할 때 닫을 역과 구간이 현재 노선도에 있는지 확인한다. 이후 노선도가 바뀌어 사라진 역이나 구간은 마스크를 만들 때 무시된다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Service
+@RequiredArgsConstructor
+public class SimpleClosureService implements ClosureService {
+
+	private static final Pattern SCENARIO_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+	private final ClosureScenarioResolver closureScenarioResolver;
+	private final NetworkSnapshotResolver networkSnapshotResolver;
+	private final ClosureScenarioConfigCollector closureScenarioConfigCollector;
+
+	@Override
+	public ClosureScenarioInfo saveScenario(ClosureScenarioCommand scenarioCommand) {
+		validateName(scenarioCommand.getName());
+		validateSize(scenarioCommand);
+
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		List<Long> stationIds = scenarioCommand.getStationIds().stream().distinct().collect(Collectors.toList());
+		stationIds.forEach(stationId -> validateStationExists(snapshot, stationId));
+		List<ClosedSection> sections = scenarioCommand.getSections().stream().distinct().collect(Collectors.toList());
+		sections.forEach(section -> validateSectionExists(snapshot, section));
+
+		if (closureScenarioResolver.fetch(scenarioCommand.getName()).isEmpty()
+			&& closureScenarioResolver.fetchAll().size() >= closureScenarioConfigCollector.getMaxScenarios()) {
+			throw new ClosureScenarioNotValidException("At most " + closureScenarioConfigCollector.getMaxScenarios() + " closure scenarios can be kept.");
+		}
+		return ClosureScenarioInfo.from(closureScenarioResolver.save(ClosureScenario.of(scenarioCommand.getName(), stationIds, sections)));
+	}
+
+	@Override
+	public List<ClosureScenarioInfo> findAllScenarios() {
+		return closureScenarioResolver.fetchAll().stream()
+			.map(ClosureScenarioInfo::from)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public ClosureScenarioInfo findScenario(String name) {
+		return closureScenarioResolver.fetch(name)
+			.map(ClosureScenarioInfo::from)
+			.orElseThrow(() -> new ClosureScenarioNotValidException("Unknown closure scenario: " + name));
+	}
+
+	@Override
+	public void deleteScenario(String name) {
+		if (!closureScenarioResolver.delete(name)) {
+			throw new ClosureScenarioNotValidException("Unknown closure scenario: " + name);
+		}
+	}
+
+	private void validateName(String name) {
+		if (name == null || !SCENARIO_NAME.matcher(name).matches()) {
+			throw new ClosureScenarioNotValidException("Closure scenario name must be 1 to 64 letters, digits, '-' or '_'.");
+		}
+	}
+
+	private void validateSize(ClosureScenarioCommand scenarioCommand) {
+		int closedItems = scenarioCommand.getStationIds().size() + scenarioCommand.getSections().size();
+		if (closedItems == 0 || closedItems > closureScenarioConfigCollector.getMaxClosedItems()) {
+			throw new ClosureScenarioNotValidException("Closure scenario must close between 1 and " + closureScenarioConfigCollector.getMaxClosedItems() + " stations or sections.");
+		}
+	}
+
+	private void validateStationExists(NetworkSnapshot snapshot, Long stationId) {
+		if (stationId == null || snapshot.indexOf(stationId) == NetworkSnapshot.NO_STATION) {
+			throw new ClosureScenarioNotValidException("Unknown station id: " + stationId);
+		}
+	}
+
+	private void validateSectionExists(NetworkSnapshot snapshot, ClosedSection section) {
+		if (section == null || section.getUpStationId() == null || section.getDownStationId() == null) {
+			throw new ClosureScenarioNotValidException("Closed section requires upStationId and downStationId.");
+		}
+		int upIndex = snapshot.indexOf(section.getUpStationId());
+		int downIndex = snapshot.indexOf(section.getDownStationId());
+		if (upIndex == NetworkSnapshot.NO_STATION || downIndex == NetworkSnapshot.NO_STATION
+			|| (!hasEdge(snapshot, upIndex, downIndex) && !hasEdge(snapshot, downIndex, upIndex))) {
+			throw new ClosureScenarioNotValidException("No section connects station " + section.getUpStationId() + " and station " + section.getDownStationId() + ".");
+		}
+	}
+
+	private boolean hasEdge(NetworkSnapshot snapshot, int sourceIndex, int targetIndex) {
+		for (int edge = snapshot.edgeBegin(sourceIndex); edge < snapshot.edgeEnd(sourceIndex); edge++) {
+			if (snapshot.edgeTarget(edge) == targetIndex) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
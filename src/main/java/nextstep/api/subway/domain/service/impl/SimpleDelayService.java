@@ -0,0 +1,93 @@
+package nextstep.api.subway.domain.service.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.domain.dto.inport.SectionDelayCommand;
+import nextstep.api.subway.domain.dto.outport.DelayOverlayInfo;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+import nextstep.api.subway.domain.operators.DelayOverlayResolver;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.domain.service.DelayService;
+import nextstep.common.exception.subway.SectionDelayNotValidException;
+import nextstep.common.yml.DelayOverlayConfigCollector;
+
+/**
+ * 구간 지연은 DB 에 쓰지 않고 메모리 오버레이에만 반영한다. 한 번의 요청은 모두 검증한 뒤 한꺼번에 반영되므로,
+ * 목록 중 하나라도 잘못되면 아무것도 바뀌지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Service
+@RequiredArgsConstructor
+public class SimpleDelayService implements DelayService {
+
+	private final DelayOverlayResolver delayOverlayResolver;
+	private final NetworkSnapshotResolver networkSnapshotResolver;
+	private final DelayOverlayConfigCollector delayOverlayConfigCollector;
+
+	@Override
+	public DelayOverlayInfo updateDelays(List<SectionDelayCommand> delayCommands) {
+		if (delayCommands == null || delayCommands.isEmpty()) {
+			throw new SectionDelayNotValidException("At least one section delay is required.");
+		}
+
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		long now = System.currentTimeMillis();
+		List<SectionDelay> delays = delayCommands.stream()
+			.map(delayCommand -> toSectionDelay(delayCommand, snapshot, now))
+			.collect(Collectors.toList());
+		return DelayOverlayInfo.from(delayOverlayResolver.update(delays));
+	}
+
+	@Override
+	public DelayOverlayInfo findDelays() {
+		return DelayOverlayInfo.from(delayOverlayResolver.fetch());
+	}
+
+	@Override
+	public DelayOverlayInfo clearDelays() {
+		return DelayOverlayInfo.from(delayOverlayResolver.clear());
+	}
+
+	private SectionDelay toSectionDelay(SectionDelayCommand delayCommand, NetworkSnapshot snapshot, long now) {
+		if (delayCommand == null || delayCommand.getUpStationId() == null || delayCommand.getDownStationId() == null || delayCommand.getDelayMinutes() == null) {
+			throw new SectionDelayNotValidException("Section delay requires upStationId, downStationId and delayMinutes.");
+		}
+		if (!hasSection(snapshot, delayCommand.getUpStationId(), delayCommand.getDownStationId())) {
+			throw new SectionDelayNotValidException("No section runs from station " + delayCommand.getUpStationId() + " to station " + delayCommand.getDownStationId() + ".");
+		}
+
+		int delayMinutes = delayCommand.getDelayMinutes();
+		if (delayMinutes < 0 || delayMinutes > delayOverlayConfigCollector.getMaxDelayMinutes()) {
+			throw new SectionDelayNotValidException("Delay minutes must be between 0 and " + delayOverlayConfigCollector.getMaxDelayMinutes() + ".");
+		}
+
+		long ttlSeconds = delayCommand.getTtlSeconds() == null ? delayOverlayConfigCollector.getDefaultTtlSeconds() : delayCommand.getTtlSeconds();
+		if (ttlSeconds < 1 || ttlSeconds > delayOverlayConfigCollector.getMaxTtlSeconds()) {
+			throw new SectionDelayNotValidException("TTL seconds must be between 1 and " + delayOverlayConfigCollector.getMaxTtlSeconds() + ".");
+		}
+
+		return SectionDelay.of(delayCommand.getUpStationId(), delayCommand.getDownStationId(), delayMinutes, now + TimeUnit.SECONDS.toMillis(ttlSeconds));
+	}
+
+	private boolean hasSection(NetworkSnapshot snapshot, Long upStationId, Long downStationId) {
+		int upIndex = snapshot.indexOf(upStationId);
+		int downIndex = snapshot.indexOf(downStationId);
+		if (upIndex == NetworkSnapshot.NO_STATION || downIndex == NetworkSnapshot.NO_STATION) {
+			return false;
+		}
+		for (int edge = snapshot.edgeBegin(upIndex); edge < snapshot.edgeEnd(upIndex); edge++) {
+			if (snapshot.edgeTarget(edge) == downIndex) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
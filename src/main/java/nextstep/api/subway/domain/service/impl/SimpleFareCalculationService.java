@@ -28,4 +28,12 @@ public class SimpleFareCalculationService implements FareCalculationService {
 	public FareInfo calculate(PathInfo pathInfo, UserPrincipal userPrincipal) {
 		return FareInfo.of(fareCalculator.calculateFareWithLineChargesWithAuthUser(pathInfo.getDistance(), pathInfo.getLineIds(), userPrincipal));
 	}
+
+	/**
+	 * 노선 추가 요금과 연령 할인 없이 거리만으로 정해지는 기본 요금. 지나는 노선을 모르는 행렬 조회에서 쓴다.
+	 */
+	@Override
+	public FareInfo calculateBaseFare(long distance) {
+		return FareInfo.of(fareCalculator.calculateFare(distance));
+	}
 }
@@ -5,13 +5,17 @@ import java.util.stream.Collectors;
 
 import javax.persistence.EntityNotFoundException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.api.subway.domain.dto.inport.LineCreateCommand;
+import nextstep.api.subway.domain.dto.inport.LineTimetableCommand;
 import nextstep.api.subway.domain.dto.inport.LineUpdateCommand;
+import nextstep.api.subway.domain.event.NetworkChangedEvent;
 import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.LineTimetable;
 import nextstep.api.subway.domain.model.entity.Section;
 import nextstep.api.subway.domain.operators.LineFactory;
 import nextstep.api.subway.domain.operators.LineResolver;
@@ -31,6 +35,7 @@ public class SimpleLineService implements LineService {
 	private final LineFactory lineFactory;
 	private final SectionFactory sectionFactory;
 	private final LineResolver lineResolver;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 기존의 방식은 Line을 먼저 만들고 Section을 생성
@@ -58,6 +63,7 @@ public class SimpleLineService implements LineService {
 		Section section = sectionFactory.createSection(command);
 		Line line = lineFactory.createLine(command);
 		line.addSection(section);
+		eventPublisher.publishEvent(NetworkChangedEvent.of("saveLine"));
 
 		return LineResponse.from(line);
 	}
@@ -80,6 +86,21 @@ public class SimpleLineService implements LineService {
 		line
 			.updateName(updateRequest.getName())
 			.updateColor(updateRequest.getColor());
+		eventPublisher.publishEvent(NetworkChangedEvent.of("updateLine"));
+
+		return LineResponse.from(line);
+	}
+
+	/**
+	 * 시각표를 바꾸면 스냅샷과 함께 시각표 색인도 다시 만들어지도록 네트워크 변경을 알린다.
+	 */
+	@Override
+	@Transactional
+	public LineResponse updateTimetable(Long id, LineTimetableCommand timetableCommand) {
+		Line line = fetchLineOrThrow(id);
+
+		line.updateTimetable(LineTimetable.of(timetableCommand.getFirstDepartureTime(), timetableCommand.getLastDepartureTime(), timetableCommand.getHeadwayMinutes()));
+		eventPublisher.publishEvent(NetworkChangedEvent.of("updateTimetable"));
 
 		return LineResponse.from(line);
 	}
@@ -91,6 +112,7 @@ public class SimpleLineService implements LineService {
 
 		sectionFactory.deleteByLine(line);
 		lineFactory.deleteLine(line);
+		eventPublisher.publishEvent(NetworkChangedEvent.of("deleteLine"));
 	}
 
 	@Override
@@ -1,20 +1,57 @@
 package nextstep.api.subway.domain.service.impl;
 
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.dto.inport.PathConstraintCommand;
+import nextstep.api.subway.domain.dto.inport.PathMatrixCommand;
+import nextstep.api.subway.domain.dto.inport.PathQueryCommand;
+import nextstep.api.subway.domain.dto.outport.JourneyInfo;
+import nextstep.api.subway.domain.dto.outport.PathAlternativesInfo;
+import nextstep.api.subway.domain.dto.outport.PathBatchItemInfo;
 import nextstep.api.subway.domain.dto.outport.PathInfo;
-import nextstep.api.subway.domain.model.entity.Line;
-import nextstep.api.subway.domain.model.entity.Station;
-import nextstep.api.subway.domain.operators.LineResolver;
-import nextstep.api.subway.domain.operators.StationResolver;
+import nextstep.api.subway.domain.dto.outport.PathMatrixCellInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixRowInfo;
+import nextstep.api.subway.domain.dto.outport.PathSummaryInfo;
+import nextstep.api.subway.domain.dto.outport.ReachableStationInfo;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+import nextstep.api.subway.domain.operators.AlternativePathFinder;
+import nextstep.api.subway.domain.operators.ClosureAwarePathFinder;
+import nextstep.api.subway.domain.operators.ClosureScenarioResolver;
+import nextstep.api.subway.domain.operators.DelayOverlayResolver;
+import nextstep.api.subway.domain.operators.JourneyPlanner;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.domain.operators.ParetoPathFinder;
+import nextstep.api.subway.domain.operators.PathBatchExecutor;
+import nextstep.api.subway.domain.operators.PathFinderSelector;
+import nextstep.api.subway.domain.operators.PathMatrixFinder;
+import nextstep.api.subway.domain.operators.PathSearchCoalescer;
+import nextstep.api.subway.domain.operators.PathSummaryFinder;
+import nextstep.api.subway.domain.operators.ReachableStationFinder;
+import nextstep.api.subway.domain.operators.SameLinePathFinder;
+import nextstep.api.subway.domain.operators.TransferBoundedPathFinder;
 import nextstep.api.subway.domain.service.PathService;
-import nextstep.api.subway.infrastructure.operators.DijkstraBaseMinimunDurationPathFinder;
-import nextstep.api.subway.infrastructure.operators.DijkstraBasedShortestPathFinder;
+import nextstep.api.subway.util.ClosureMask;
+import nextstep.api.subway.util.WaypointOrder;
 import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
 
 /**
  * @author : Rene Choi
@@ -22,23 +59,35 @@ import nextstep.common.exception.subway.PathNotValidException;
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SimplePathService implements PathService {
-	private final StationResolver stationResolver;
-	private final DijkstraBasedShortestPathFinder dijkstraBasedShortestPathFinder;
-	private final DijkstraBaseMinimunDurationPathFinder dijkstraBaseMinimunDurationPathFinder;
-
-	private final LineResolver lineResolver;
+	private final NetworkSnapshotResolver networkSnapshotResolver;
+	private final PathFinderSelector pathFinderSelector;
+	private final PathSummaryFinder pathSummaryFinder;
+	private final PathSearchCoalescer pathSearchCoalescer;
+	private final PathBatchExecutor pathBatchExecutor;
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final PathMatrixFinder pathMatrixFinder;
+	private final ReachableStationFinder reachableStationFinder;
+	private final AlternativePathFinder alternativePathFinder;
+	private final ParetoPathFinder paretoPathFinder;
+	private final JourneyPlanner journeyPlanner;
+	private final DelayOverlayResolver delayOverlayResolver;
+	private final ClosureScenarioResolver closureScenarioResolver;
+	private final ClosureAwarePathFinder closureAwarePathFinder;
+	private final TransferBoundedPathFinder transferBoundedPathFinder;
+	private final SameLinePathFinder sameLinePathFinder;
 
 	/**
 	 * source station과 target station이 주어질 때 최단거리를 찾아주는 서비스
 	 * 다익스트라 알고리즘을 통해 최단 거리 탐색시에는 node와 edge에 대한 정보가 필요하며 이는 station과 section에 대응된다.
-	 * 따라서 찾고자 하는 station에 대해 관련된 section을 불러오고 (다익스트라 알고리즘을 통해 최단 거리를 찾을 것이므로 여기서 순서는 상관없음)
-	 * 해당 값들을 파라미터로 pathFinder에게 넘겨주어 최단거리 탐색 알고리즘을 수행하여 최단거리를 찾아 Path 객체로 반환 받는다.
 	 * <p>
-	 * 노선의 개수를 불러오는 부분에서 모든 노선을 불러와 어플리케이션 연산으로 관련된 Section을 탐색하는데
-	 * db join연산으로 불러오는 방식과의 차이를 고려하여
-	 * 성능 이슈를 고려해보아야 한다.
+	 * 이전에는 요청마다 모든 노선을 불러와 그래프를 새로 구성했기 때문에 요청 비용이 경로 길이가 아닌 네트워크 크기에 비례했다.
+	 * 지금은 한 번 만들어 둔 NetworkSnapshot 을 공유하므로 요청 처리 중에는 JPA 에 접근하지 않으며,
+	 * 역의 존재 여부 역시 스냅샷 기준으로 검증한다.
+	 * 탐색 엔진은 설정(subway.path.search-strategy)에 따라 PathFinderSelector 가 고르며, 거리/소요 시간 기준 모두 같은 엔진이 담당한다.
+	 * 요금 기준은 PathFinderSelector 가 전용 엔진을 고른다.
+	 * 같은 스냅샷 버전에서 같은 구간을 동시에 찾는 요청은 PathSearchCoalescer 로 묶어 한 번만 탐색한다.
+	 * 소요 시간 기준 탐색은 DelayOverlayResolver 가 구간 지연을 덧씌운 스냅샷 위에서 수행한다.
 	 *
 	 * @param source
 	 * @param target
@@ -46,31 +95,418 @@ public class SimplePathService implements PathService {
 	 */
 	@Override
 	public PathInfo findShortestPath(Long source, Long target) {
-		if (source.equals(target)) {
-			throw new PathNotValidException("Source and target stations cannot be the same.");
+		validateNotSameStation(source, target);
+
+		return findPath(source, target, PathRequestType.DISTANCE, networkSnapshotResolver.fetch());
+	}
+
+	@Override
+	public PathInfo findMinimumDurationPath(Long source, Long target) {
+		validateNotSameStation(source, target);
+
+		return findPath(source, target, PathRequestType.DURATION, networkSnapshotResolver.fetch());
+	}
+
+	/**
+	 * 노선 추가 요금까지 반영한 요금이 가장 싼 경로를 찾는다. 요금이 같으면 거리, 소요 시간이 짧은 경로를 고른다.
+	 */
+	@Override
+	public PathInfo findMinimumFarePath(Long source, Long target) {
+		validateNotSameStation(source, target);
+
+		return findPath(source, target, PathRequestType.FARE, networkSnapshotResolver.fetch());
+	}
+
+	/**
+	 * 환승 횟수가 가장 적은 경로를 찾는다. 환승 횟수가 같으면 소요 시간, 거리가 짧은 경로를 고른다.
+	 * 결과의 구간(legs)은 탐색이 실제로 탄 노선 단위로 나뉘어 있다.
+	 */
+	@Override
+	public PathInfo findMinimumTransferPath(Long source, Long target) {
+		validateNotSameStation(source, target);
+
+		return findPath(source, target, PathRequestType.MIN_TRANSFER, networkSnapshotResolver.fetch());
+	}
+
+	/**
+	 * 요청 하나에만 적용하는 제약(폐쇄 시나리오, 피할 노선과 역, 최대 환승 횟수)을 지키는 경로를 찾는다.
+	 * 노선도를 다시 만들지 않고 피할 노선과 역을 스냅샷 간선 비트마스크로 바꿔 폐쇄 시나리오의 마스크와 합친 뒤, 탐색이 간선을 풀 때마다 비트 하나로 확인한다.
+	 * 전처리에 기대는 엔진은 마스크를 모르므로, 환승을 셀 필요가 없으면 ClosureAwarePathFinder 가,
+	 * 환승 횟수 상한이 있거나 최소 환승/환승 벌점처럼 노선 단위 탐색이 필요하면 TransferBoundedPathFinder 가 찾는다.
+	 * 요금 기준은 지원하지 않으며, 유형이 없으면 소요 시간 기준으로 찾는다.
+	 */
+	@Override
+	public PathInfo findConstrainedPath(Long source, Long target, PathRequestType type, PathConstraintCommand constraints) {
+		validateNotSameStation(source, target);
+		validateConstraints(type, constraints);
+
+		PathRequestType normalizedType = type == null ? PathRequestType.DURATION : type;
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		ClosureMask closures = closuresOf(constraints, snapshot);
+		NetworkSnapshot searched = snapshotFor(normalizedType, snapshot);
+		if (constraints.hasMaxTransfers() || isBeyondEdgeWeights(normalizedType)) {
+			int maxTransfers = constraints.hasMaxTransfers() ? constraints.getMaxTransfers() : TransferBoundedPathFinder.UNLIMITED_TRANSFERS;
+			return PathInfo.from(transferBoundedPathFinder.findShortestPathWithinTransfers(source, target, normalizedType, searched, closures, maxTransfers));
+		}
+		return PathInfo.from(closureAwarePathFinder.findShortestPathAvoiding(source, target, normalizedType, searched, closures));
+	}
+
+	/**
+	 * 출발역에서 경유역을 차례로 들러 도착역까지 가는 경로를 하나로 이어 돌려준다.
+	 * 구간마다 /paths 와 같은 엔진과 중복 탐색 합치기(PathSearchCoalescer)를 거치며, 모든 구간은 처음에 가져온 같은 스냅샷 위에서 찾는다.
+	 */
+	@Override
+	public PathInfo findPathVia(Long source, List<Long> via, Long target, PathRequestType type, boolean optimizeOrder) {
+		PathRequestType normalizedType = type == null ? PathRequestType.DURATION : type;
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		List<Long> stops = planStops(source, via, target, normalizedType, optimizeOrder, snapshot);
+		return PathInfo.join(IntStream.range(0, stops.size() - 1)
+			.mapToObj(index -> findPath(stops.get(index), stops.get(index + 1), normalizedType, snapshot))
+			.collect(Collectors.toList()));
+	}
+
+	/**
+	 * 역 목록이 필요 없는 호출(즐겨찾기 요약 등)을 위해 거리/소요 시간 합계만 돌려준다.
+	 * 유형이 없으면 /paths 와 마찬가지로 소요 시간 기준으로 조회한다.
+	 * 요금, 최소 환승 기준과 환승 벌점이 붙는 소요 시간 기준은 허브 라벨로 구할 수 없으므로 /paths 와 같은 엔진으로 경로를 찾아 합계만 돌려준다.
+	 * 구간 지연이 걸려 있는 동안의 소요 시간 기준도 마찬가지다. 지연이 바뀔 때마다 허브 라벨을 다시 만들지 않기 위해서다.
+	 */
+	@Override
+	public PathSummaryInfo findPathSummary(Long source, Long target, PathRequestType type) {
+		validateNotSameStation(source, target);
+
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		if (isBeyondEdgeWeights(type) || snapshotFor(type, snapshot).isOverlaid()) {
+			PathInfo pathInfo = findPath(source, target, type, snapshot);
+			return PathSummaryInfo.of(pathInfo.getDistance(), pathInfo.getDuration());
 		}
+		return PathSummaryInfo.from(pathSummaryFinder.findPathSummary(source, target, type, snapshot));
+	}
 
-		Station sourceStation = stationResolver.fetchOptional(source).orElseThrow(PathNotValidException::new);
-		Station targetStation = stationResolver.fetchOptional(target).orElseThrow(PathNotValidException::new);
+	/**
+	 * 여러 (출발역, 도착역, 유형) 질의를 한 번에 처리한다.
+	 * 모든 항목은 처음에 가져온 같은 스냅샷 위에서 계산되므로 도중에 노선도가 바뀌어도 한 버전의 결과만 섞인다.
+	 * 같은 질의는 한 번만 계산하고, 서로 다른 질의는 PathBatchExecutor 의 풀에서 병렬로 계산한 뒤 요청 순서대로 돌려준다.
+	 * 항목별 실패는 해당 항목의 오류 메시지로 돌려주며 일괄 요청 전체를 실패시키지 않는다.
+	 */
+	@Override
+	public List<PathBatchItemInfo> findPaths(List<PathQueryCommand> commands) {
+		validateBatchSize(commands);
 
-		List<Line> lines = lineResolver.fetchAll();
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		List<PathQueryCommand> distinctCommands = commands.stream()
+			.map(PathQueryCommand::normalize)
+			.distinct()
+			.collect(Collectors.toList());
+		List<PathBatchItemInfo> distinctResults = pathBatchExecutor.mapInParallel(distinctCommands, command -> findBatchItem(command, snapshot));
 
-		return PathInfo.from(dijkstraBasedShortestPathFinder.findShortestPathByLines(sourceStation, targetStation, lines));
+		Map<PathQueryCommand, PathBatchItemInfo> resultsByCommand = IntStream.range(0, distinctCommands.size())
+			.boxed()
+			.collect(Collectors.toMap(distinctCommands::get, distinctResults::get));
+		return commands.stream()
+			.map(command -> resultsByCommand.get(command.normalize()))
+			.collect(Collectors.toList());
 	}
 
+	/**
+	 * 출발역 × 도착역 행렬의 거리/소요 시간을 출발역 순서대로 한 행씩 돌려준다.
+	 * 역 검증과 스냅샷 고정은 호출 즉시 끝나므로 잘못된 요청은 응답을 쓰기 전에 예외로 드러난다.
+	 * 행은 반환된 Stream 을 소비할 때 계산된다. 출발역을 풀 크기의 두 배씩 묶어 PathBatchExecutor 에서 병렬로 계산하고,
+	 * 각 출발역은 최단 경로 트리 한 번으로 모든 도착역을 채운다. 그래서 메모리에는 한 묶음의 행만 남는다.
+	 * 최단 경로 트리는 간선 가중치 합으로 만들므로 거리와 소요 시간 기준만 지원하며, 유형이 없으면 소요 시간 기준으로 채운다.
+	 */
 	@Override
-	public PathInfo findMinimumDurationPath(Long source, Long target) {
-		if (source.equals(target)) {
-			throw new PathNotValidException("Source and target stations cannot be the same.");
+	public Stream<PathMatrixRowInfo> findPathMatrix(PathMatrixCommand command) {
+		validateMatrixType(command.getType());
+		validateMatrixSize(command);
+
+		PathRequestType type = PathRequestType.isDistance(command.getType()) ? PathRequestType.DISTANCE : PathRequestType.DURATION;
+		NetworkSnapshot snapshot = snapshotFor(type, networkSnapshotResolver.fetch());
+		validateStationsExist(command.getSources(), snapshot);
+		validateStationsExist(command.getTargets(), snapshot);
+
+		List<Long> sources = command.getSources();
+		List<Long> targets = command.getTargets();
+		int chunkSize = Math.max(1, pathSearchConfigCollector.getBatchParallelism() * 2);
+		int chunkCount = (sources.size() + chunkSize - 1) / chunkSize;
+		return IntStream.range(0, chunkCount)
+			.mapToObj(chunk -> sources.subList(chunk * chunkSize, Math.min(sources.size(), (chunk + 1) * chunkSize)))
+			.flatMap(chunkSources -> pathBatchExecutor.mapInParallel(chunkSources, source -> findMatrixRow(source, targets, type, snapshot)).stream());
+	}
+
+	/**
+	 * 비용 순으로 최대 count 개의 대안 경로를 돌려준다. 첫 경로는 /paths 가 돌려주는 최단 경로와 비용이 같다.
+	 * 요청 하나가 코어를 오래 붙잡지 않도록 count 는 설정(subway.path.alternatives-max-count)으로 제한한다.
+	 * 대안 경로는 간선 가중치 합으로 순위를 매기므로 거리와 소요 시간 기준만 지원하며, 유형이 없으면 소요 시간 기준으로 찾는다.
+	 */
+	@Override
+	public PathAlternativesInfo findAlternativePaths(Long source, Long target, PathRequestType type, int count) {
+		validateNotSameStation(source, target);
+		validateAlternativesType(type);
+		validateAlternativesCount(count);
+
+		PathRequestType normalizedType = type == null ? PathRequestType.DURATION : type;
+		return PathAlternativesInfo.from(alternativePathFinder.findAlternativePaths(source, target, normalizedType, count, snapshotFor(normalizedType, networkSnapshotResolver.fetch())));
+	}
+
+	/**
+	 * 거리/소요 시간/요금 중 어느 하나도 다른 경로보다 나빠지지 않는 경로를 거리 순으로 모두 돌려준다.
+	 * 거리 기준과 소요 시간 기준 최단 경로가 모두 포함되므로, 두 기준을 함께 보려는 클라이언트는 탐색을 두 번 요청하지 않아도 된다.
+	 * 소요 시간은 구간 지연을 반영한 값으로 비교한다.
+	 */
+	@Override
+	public PathAlternativesInfo findParetoPaths(Long source, Long target) {
+		validateNotSameStation(source, target);
+		return PathAlternativesInfo.from(paretoPathFinder.findParetoPaths(source, target, delayOverlayResolver.applyTo(networkSnapshotResolver.fetch())));
+	}
+
+	/**
+	 * 출발역에서 예산(소요 시간 분, 거리 km, 요금 원) 안에 닿는 역을 비용이 작은 순서대로 돌려준다.
+	 * 예산 유형이 없으면 /paths 와 마찬가지로 소요 시간 기준으로 본다.
+	 */
+	@Override
+	public List<ReachableStationInfo> findReachableStations(Long source, ReachabilityBudgetType budgetType, long budget) {
+		if (budget < 0) {
+			throw new PathNotValidException("Budget must not be negative.");
+		}
+
+		ReachabilityBudgetType normalizedBudgetType = ReachabilityBudgetType.orDefault(budgetType);
+		NetworkSnapshot snapshot = networkSnapshotResolver.fetch();
+		if (normalizedBudgetType == ReachabilityBudgetType.DURATION) {
+			snapshot = delayOverlayResolver.applyTo(snapshot);
+		}
+		return reachableStationFinder.findReachableStations(source, normalizedBudgetType, budget, snapshot).stream()
+			.map(ReachableStationInfo::from)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 출발 시각 이후 노선 시각표를 따라 도착역에 가장 일찍 닿는 여정을 찾는다. 도착 시각이 같으면 덜 갈아타는 여정을 고른다.
+	 * 시각표가 없는 노선은 타지 않으며, 막차가 끊겨 더 갈 수 없으면 예외로 알린다.
+	 */
+	@Override
+	public JourneyInfo findJourney(Long source, Long target, LocalTime departureTime) {
+		validateNotSameStation(source, target);
+		if (departureTime == null) {
+			throw new PathNotValidException("Departure time is required.");
+		}
+
+		return JourneyInfo.from(journeyPlanner.findJourney(source, target, departureTime, networkSnapshotResolver.fetch()));
+	}
+
+	private PathMatrixRowInfo findMatrixRow(Long source, List<Long> targets, PathRequestType type, NetworkSnapshot snapshot) {
+		List<PathSummary> summaries = pathMatrixFinder.findPathSummaries(source, targets, type, snapshot);
+		List<PathMatrixCellInfo> cells = IntStream.range(0, targets.size())
+			.mapToObj(index -> PathMatrixCellInfo.from(targets.get(index), summaries.get(index)))
+			.collect(Collectors.toList());
+		return PathMatrixRowInfo.of(source, cells);
+	}
+
+	private PathBatchItemInfo findBatchItem(PathQueryCommand command, NetworkSnapshot snapshot) {
+		try {
+			validateNotSameStation(command.getSource(), command.getTarget());
+			return PathBatchItemInfo.success(command, findPath(command.getSource(), command.getTarget(), command.getType(), snapshot));
+		} catch (RuntimeException e) {
+			return PathBatchItemInfo.failure(command, e.getMessage() != null ? e.getMessage() : "Path is not valid.");
+		}
+	}
+
+	/**
+	 * 원본 스냅샷에 유형에 맞는 지연 오버레이를 덧씌운 뒤 찾는다.
+	 */
+	public PathInfo findPath(Long source, Long target, PathRequestType type, NetworkSnapshot snapshot) {
+		return findPathOn(source, target, type, snapshotFor(type, snapshot));
+	}
+
+	/**
+	 * 지연 오버레이까지 이미 정한 searched 위에서 그대로 찾는다. 오버레이를 다시 읽지 않으므로, CachingPathService 는 캐시 키를 만든 스냅샷으로 탐색까지 마친다.
+	 * 갈아타지 않고 한 노선으로 가는 경로가 최단임을 누적 가중치와 랜드마크 하한으로 보일 수 있으면 탐색 엔진을 거치지 않는다.
+	 * 환승 벌점이나 요금처럼 간선 가중치만으로 정해지지 않는 기준은 늘 탐색 엔진으로 찾는다.
+	 */
+	public PathInfo findPathOn(Long source, Long target, PathRequestType type, NetworkSnapshot searched) {
+		return pathSearchCoalescer.coalesce(source, target, type, searched.version(), searched.overlayRevision(),
+			() -> PathInfo.from(findSameLinePath(source, target, type, searched)
+				.orElseGet(() -> pathFinderSelector.selectFor(type).findShortestPathBySnapshot(source, target, type, searched))));
+	}
+
+	private Optional<Path> findSameLinePath(Long source, Long target, PathRequestType type, NetworkSnapshot snapshot) {
+		if (isBeyondEdgeWeights(type)) {
+			return Optional.empty();
+		}
+		return sameLinePathFinder.findSameLinePath(source, target, type, snapshot);
+	}
+
+	/**
+	 * 경유 요청을 검증하고 들를 정류장 순서(출발역, 경유역..., 도착역)를 snapshot 위에서 정한다. CachingPathService 도 구간별 캐시를 쓰기 전에 이 순서를 받아 간다.
+	 * 순서 최적화를 요청하면 정류장 사이 비용 행렬을 경로 행렬과 같은 PathMatrixFinder 로 채운 뒤 WaypointOrder 로 가장 싼 순서를 고른다.
+	 * PathMatrixFinder 는 정류장마다 최단 경로 트리를 새로 만들 뿐 트리 캐시(ShortestPathTreeCache)에 넣거나 꺼내지 않는다.
+	 * 행렬은 거리와 소요 시간만 담으므로 요금 기준은 거리로, 최소 환승 기준은 소요 시간으로 어림해 순서를 정한다.
+	 */
+	public List<Long> planStops(Long source, List<Long> via, Long target, PathRequestType type, boolean optimizeOrder, NetworkSnapshot snapshot) {
+		validateVia(source, via, target);
+
+		List<Long> stops = new ArrayList<>(via.size() + 2);
+		stops.add(source);
+		stops.addAll(via);
+		stops.add(target);
+		validateStationsExist(stops, snapshot);
+		if (!optimizeOrder || via.size() < 2) {
+			return stops;
+		}
+
+		int[] order = WaypointOrder.optimize(costMatrixOf(stops, type, snapshot));
+		if (order == null) {
+			throw new PathNotValidException("No route visits every via station between the source and target stations.");
+		}
+		return Arrays.stream(order)
+			.mapToObj(stops::get)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 도착역에서 나가는 비용은 쓰지 않으므로 도착역을 뺀 정류장마다 최단 경로 트리 한 번으로 한 행을 채운다.
+	 */
+	private long[][] costMatrixOf(List<Long> stops, PathRequestType type, NetworkSnapshot snapshot) {
+		PathRequestType matrixType = PathRequestType.isDistance(type) || PathRequestType.isFare(type) ? PathRequestType.DISTANCE : PathRequestType.DURATION;
+		NetworkSnapshot searched = snapshotFor(matrixType, snapshot);
+		long[][] costs = new long[stops.size()][stops.size()];
+		for (int from = 0; from < stops.size() - 1; from++) {
+			List<PathSummary> summaries = pathMatrixFinder.findPathSummaries(stops.get(from), stops, matrixType, searched);
+			for (int to = 0; to < stops.size(); to++) {
+				PathSummary summary = summaries.get(to);
+				if (summary == null) {
+					costs[from][to] = WaypointOrder.UNREACHABLE;
+				} else {
+					costs[from][to] = PathRequestType.isDistance(matrixType) ? summary.getDistance() : summary.getDuration();
+				}
+			}
+		}
+		return costs;
+	}
+
+	/**
+	 * 피할 노선과 역을 마스크로 바꾸고, 폐쇄 시나리오가 있으면 그 마스크와 합친다.
+	 */
+	private ClosureMask closuresOf(PathConstraintCommand constraints, NetworkSnapshot snapshot) {
+		List<Long> avoidLineIds = idsOf(constraints.getAvoidLineIds());
+		List<Long> avoidStationIds = idsOf(constraints.getAvoidStationIds());
+		validateLinesExist(avoidLineIds, snapshot);
+		validateStationsExist(avoidStationIds, snapshot);
+
+		ClosureMask.Builder builder = ClosureMask.builder(snapshot);
+		avoidLineIds.forEach(builder::closeLine);
+		avoidStationIds.forEach(builder::closeStation);
+		ClosureMask closures = builder.build();
+		if (constraints.getClosure() == null) {
+			return closures;
+		}
+		return closureScenarioResolver.fetchMask(constraints.getClosure(), snapshot)
+			.map(closures::union)
+			.orElseThrow(() -> new PathNotValidException("Unknown closure scenario: " + constraints.getClosure()));
+	}
+
+	private static List<Long> idsOf(List<Long> ids) {
+		return ids == null ? Collections.emptyList() : ids;
+	}
+
+	/**
+	 * 구간 지연은 소요 시간 기준(유형이 없으면 소요 시간 기준) 탐색에만 반영한다. 거리, 요금, 최소 환승 기준은 원본 스냅샷을 그대로 쓴다.
+	 */
+	private NetworkSnapshot snapshotFor(PathRequestType type, NetworkSnapshot snapshot) {
+		if (type != null && type != PathRequestType.DURATION) {
+			return snapshot;
+		}
+		return delayOverlayResolver.applyTo(snapshot);
+	}
+
+	private boolean isBeyondEdgeWeights(PathRequestType type) {
+		return PathRequestType.isFare(type) || PathRequestType.isMinTransfer(type)
+			|| (type != null && !PathRequestType.isDistance(type) && pathSearchConfigCollector.getTransferPenaltyMinutes() > 0);
+	}
+
+	private void validateBatchSize(List<PathQueryCommand> commands) {
+		if (commands == null || commands.isEmpty() || commands.size() > pathSearchConfigCollector.getBatchMaxSize()) {
+			throw new PathNotValidException("Batch must contain between 1 and " + pathSearchConfigCollector.getBatchMaxSize() + " queries.");
+		}
+	}
+
+	private void validateAlternativesType(PathRequestType type) {
+		if (PathRequestType.isFare(type) || PathRequestType.isMinTransfer(type)) {
+			throw new PathNotValidException("Alternative paths are not supported for " + type + " paths.");
+		}
+	}
+
+	private void validateAlternativesCount(int count) {
+		if (count < 1 || count > pathSearchConfigCollector.getAlternativesMaxCount()) {
+			throw new PathNotValidException("Alternative route count must be between 1 and " + pathSearchConfigCollector.getAlternativesMaxCount() + ".");
+		}
+	}
+
+	private void validateMatrixType(PathRequestType type) {
+		if (PathRequestType.isFare(type) || PathRequestType.isMinTransfer(type)) {
+			throw new PathNotValidException("Path matrices are not supported for " + type + " paths.");
+		}
+	}
+
+	private void validateMatrixSize(PathMatrixCommand command) {
+		if (command.getSources() == null || command.getSources().isEmpty() || command.getTargets() == null || command.getTargets().isEmpty()) {
+			throw new PathNotValidException("Matrix must contain at least one source and one target.");
+		}
+		if ((long)command.getSources().size() * command.getTargets().size() > pathSearchConfigCollector.getMatrixMaxCells()) {
+			throw new PathNotValidException("Matrix must not exceed " + pathSearchConfigCollector.getMatrixMaxCells() + " cells.");
 		}
+	}
 
-		Station sourceStation = stationResolver.fetchOptional(source).orElseThrow(PathNotValidException::new);
-		Station targetStation = stationResolver.fetchOptional(target).orElseThrow(PathNotValidException::new);
+	/**
+	 * 같은 역을 두 번 들르면 그 사이 구간이 같은 역끼리의 경로가 되므로, 경유역은 서로 다르고 출발역, 도착역과도 달라야 한다.
+	 * 출발역과 도착역이 같은 순환 경로는 경유역이 있으므로 허용한다.
+	 */
+	private void validateVia(Long source, List<Long> via, Long target) {
+		if (via == null || via.isEmpty() || via.size() > pathSearchConfigCollector.getViaMaxCount()) {
+			throw new PathNotValidException("Via stations must contain between 1 and " + pathSearchConfigCollector.getViaMaxCount() + " stations.");
+		}
+		Set<Long> distinctVia = new HashSet<>(via);
+		if (distinctVia.size() != via.size() || distinctVia.contains(source) || distinctVia.contains(target)) {
+			throw new PathNotValidException("Via stations must be distinct from each other and from the source and target stations.");
+		}
+	}
 
-		List<Line> lines = lineResolver.fetchAll();
+	private void validateConstraints(PathRequestType type, PathConstraintCommand constraints) {
+		if (PathRequestType.isFare(type)) {
+			throw new PathNotValidException("Path constraints are not supported for FARE paths.");
+		}
+		if (constraints.hasMaxTransfers() && (constraints.getMaxTransfers() < 0 || constraints.getMaxTransfers() > pathSearchConfigCollector.getMaxTransfersLimit())) {
+			throw new PathNotValidException("Max transfers must be between 0 and " + pathSearchConfigCollector.getMaxTransfersLimit() + ".");
+		}
+	}
 
-		return PathInfo.from(dijkstraBaseMinimunDurationPathFinder.findShortestPathByLines(sourceStation, targetStation, lines));
+	private void validateLinesExist(List<Long> lineIds, NetworkSnapshot snapshot) {
+		Set<Long> knownLineIds = IntStream.range(0, snapshot.lineCount())
+			.mapToObj(line -> snapshot.lineAt(line).getId())
+			.collect(Collectors.toSet());
+		List<Long> unknownLineIds = lineIds.stream()
+			.filter(lineId -> !knownLineIds.contains(lineId))
+			.distinct()
+			.collect(Collectors.toList());
+		if (!unknownLineIds.isEmpty()) {
+			throw new PathNotValidException("Unknown line ids: " + unknownLineIds);
+		}
+	}
+
+	private void validateStationsExist(List<Long> stationIds, NetworkSnapshot snapshot) {
+		List<Long> unknownStationIds = stationIds.stream()
+			.filter(stationId -> stationId == null || snapshot.indexOf(stationId) == NetworkSnapshot.NO_STATION)
+			.distinct()
+			.collect(Collectors.toList());
+		if (!unknownStationIds.isEmpty()) {
+			throw new PathNotValidException("Unknown station ids: " + unknownStationIds);
+		}
 	}
 
+	static void validateNotSameStation(Long source, Long target) {
+		if (source.equals(target)) {
+			throw new PathNotValidException("Source and target stations cannot be the same.");
+		}
+	}
 
 }
@@ -3,11 +3,13 @@ package nextstep.api.subway.domain.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.api.subway.domain.dto.inport.StationCreateCommand;
+import nextstep.api.subway.domain.event.NetworkChangedEvent;
 import nextstep.api.subway.domain.model.entity.Station;
 import nextstep.api.subway.infrastructure.persistence.StationRepository;
 import nextstep.api.subway.interfaces.dto.response.StationResponse;
@@ -18,10 +20,13 @@ import nextstep.common.exception.subway.StationNotFoundException;
 @RequiredArgsConstructor
 public class StationService {
 	private final StationRepository stationRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public StationResponse saveStation(StationCreateCommand stationCreateRequest) {
-		return StationResponse.from(stationRepository.save(new Station(stationCreateRequest.getName())));
+		StationResponse station = StationResponse.from(stationRepository.save(new Station(stationCreateRequest.getName())));
+		eventPublisher.publishEvent(NetworkChangedEvent.of("saveStation"));
+		return station;
 	}
 
 	public List<StationResponse> findAllStations() {
@@ -40,6 +45,7 @@ public class StationService {
 	@Transactional
 	public void deleteStationById(Long id) {
 		stationRepository.deleteById(id);
+		eventPublisher.publishEvent(NetworkChangedEvent.of("deleteStation"));
 	}
 
 }
@@ -0,0 +1,35 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.PathFinder;
+import nextstep.api.subway.util.SnapshotDijkstraPathSearcher;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * 구간/노선 목록으로 들어온 요청은 JGraphT 그래프를 만들어 탐색하는 탐색기의 공통 골격.
+ * <p>
+ * 스냅샷 탐색은 기준 지표를 type 으로 받으므로 탐색기마다 다를 것이 없어 여기서 한 번만 구현한다.
+ * 하위 클래스는 그래프 간선에 어떤 지표를 가중치로 둘지와 구간/노선 목록 탐색만 구현한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public abstract class AbstractJGraphTPathFinder implements PathFinder {
+
+	/**
+	 * 요청마다 JGraphT 그래프를 만들지 않고, 미리 만들어 둔 NetworkSnapshot 의 CSR 배열 위에서 바로 탐색한다.
+	 */
+	@Override
+	public Path findShortestPathBySnapshot(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		return SnapshotDijkstraPathSearcher.search(snapshot, sourceIndex, targetIndex, type).orElseThrow(
+			() -> new PathNotValidException("No path exists between the source and target stations."));
+	}
+}
@@ -0,0 +1,88 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.PathFinder;
+import nextstep.api.subway.util.ClosureMask;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * NetworkSnapshot 위에서 동작하는 탐색 엔진의 공통 골격.
+ * <p>
+ * 역 ID 를 스냅샷 인덱스로 바꾸고 존재 여부를 검증하는 일, 구간/노선 목록으로 들어온 요청을 임시 스냅샷으로 바꾸는 일,
+ * 탐색 중 확정(settle)한 역의 수를 엔진별 지표(subway.path.search.settled)로 남기는 일을 맡는다.
+ * 하위 클래스는 인덱스 사이의 탐색만 구현한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public abstract class AbstractSnapshotPathFinder implements PathFinder {
+
+	public static final String SETTLED_NODES_METRIC = "subway.path.search.settled";
+
+	private final DistributionSummary settledNodes;
+
+	protected AbstractSnapshotPathFinder(MeterRegistry meterRegistry, String engine) {
+		this.settledNodes = DistributionSummary.builder(SETTLED_NODES_METRIC)
+			.description("Number of stations settled per path search")
+			.tag("engine", engine)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Path findShortestPathBySections(Station sourceStation, Station targetStation, List<Section> sections) {
+		return findShortestPathBySnapshot(sourceStation.getId(), targetStation.getId(), PathRequestType.DISTANCE, NetworkSnapshot.fromSections(sections));
+	}
+
+	@Override
+	public Path findShortestPathByLines(Station sourceStation, Station targetStation, List<Line> lines) {
+		List<Line> candidateLines = lines.stream()
+			.filter(line -> line.isContainsAnyStation(sourceStation.getId(), targetStation.getId()))
+			.collect(Collectors.toList());
+
+		return findShortestPathBySnapshot(sourceStation.getId(), targetStation.getId(), PathRequestType.DISTANCE, NetworkSnapshot.of(Collections.emptyList(), candidateLines));
+	}
+
+	@Override
+	public Path findShortestPathBySnapshot(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		return search(snapshot, sourceIndex, targetIndex, type).orElseThrow(
+			() -> new PathNotValidException("No path exists between the source and target stations."));
+	}
+
+	/**
+	 * 폐쇄 마스크를 거는 탐색에서 역 ID 를 스냅샷 인덱스로 바꾼다. 출발역이나 도착역이 닫혀 있으면 탐색하지 않고 예외로 알린다.
+	 */
+	protected int indexOfOpenStation(Long stationId, NetworkSnapshot snapshot, ClosureMask closures) {
+		int stationIndex = snapshot.indexOf(stationId);
+		if (stationIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+		if (closures.isStationClosed(stationIndex)) {
+			throw new PathNotValidException("Source or target station is closed.");
+		}
+		return stationIndex;
+	}
+
+	protected abstract Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type);
+
+	protected void recordSettledNodes(int count) {
+		settledNodes.record(count);
+	}
+}
@@ -0,0 +1,75 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.DijkstraWorkspace;
+import nextstep.api.subway.util.IndexedLongMinHeap;
+import nextstep.api.subway.util.LandmarkIndex;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 랜드마크 하한을 휴리스틱으로 쓰는 A* 탐색기(ALT).
+ * <p>
+ * 큐의 우선순위는 누적 비용 + 도착역까지의 하한이며, 랜드마크 하한은 일관적이므로
+ * 다익스트라와 마찬가지로 한 번 확정된 역은 다시 갱신되지 않고 도착역이 확정되는 즉시 멈출 수 있다.
+ * 하한이 실제 비용에 가까울수록 도착역 반대 방향의 역을 덜 확정하므로 꼬리 지연 시간이 줄어든다.
+ * 랜드마크 거리표는 스냅샷마다 한 번 만들어 스냅샷에 붙여 두며, 보통은 LandmarkIndexPreprocessor 가 스냅샷 교체 전에 미리 만든다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class AltPathFinder extends AbstractSnapshotPathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final ThreadLocal<DijkstraWorkspace> workspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+
+	public AltPathFinder(MeterRegistry meterRegistry, PathSearchConfigCollector pathSearchConfigCollector) {
+		super(meterRegistry, "alt");
+		this.pathSearchConfigCollector = pathSearchConfigCollector;
+	}
+
+	public LandmarkIndex fetchLandmarkIndex(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(LandmarkIndex.class, target -> LandmarkIndex.build(target, pathSearchConfigCollector.getLandmarkCount()));
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		LandmarkIndex landmarkIndex = fetchLandmarkIndex(snapshot);
+		DijkstraWorkspace workspace = workspaces.get();
+		workspace.reset(snapshot.stationCount());
+		workspace.relax(sourceIndex, 0L, landmarkIndex.lowerBound(sourceIndex, targetIndex, type), DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap heap = workspace.heap();
+		int settled = 0;
+		while (!heap.isEmpty()) {
+			int current = heap.pollMin();
+			settled++;
+			if (current == targetIndex) {
+				recordSettledNodes(settled);
+				int length = workspace.tracePath(snapshot, sourceIndex, targetIndex);
+				return Optional.of(snapshot.toPath(sourceIndex, workspace.pathEdges(), length));
+			}
+
+			long currentCost = workspace.costOf(current);
+			for (int edge = snapshot.edgeBegin(current); edge < snapshot.edgeEnd(current); edge++) {
+				int next = snapshot.edgeTarget(edge);
+				long cost = currentCost + snapshot.edgeWeight(edge, type);
+				if (cost < workspace.costOf(next)) {
+					workspace.relax(next, cost, cost + landmarkIndex.lowerBound(next, targetIndex, type), edge);
+				}
+			}
+		}
+
+		recordSettledNodes(settled);
+		return Optional.empty();
+	}
+}
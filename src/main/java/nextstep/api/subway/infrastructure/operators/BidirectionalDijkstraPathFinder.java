@@ -0,0 +1,93 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.DijkstraWorkspace;
+import nextstep.api.subway.util.IndexedLongMinHeap;
+
+/**
+ * 출발역에서의 정방향 탐색과 도착역에서의 역방향 탐색을 번갈아 진행하는 양방향 다익스트라 탐색기.
+ * <p>
+ * 두 탐색은 같은 스냅샷의 간선 배열을 정방향/역방향 인접 배열로 나눠 읽는다.
+ * 한쪽 탐색이 다른 쪽이 이미 도달한 역으로 간선을 완화할 때마다 그 역을 경유하는 경로 비용(best)을 갱신하고,
+ * 두 큐의 최솟값 합이 best 이상이 되면(표준 종료 조건) 더 싼 경로가 나올 수 없으므로 멈춘다.
+ * 매 단계 큐가 작은 쪽을 확장하여 두 탐색 반경이 비슷하게 자라도록 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class BidirectionalDijkstraPathFinder extends AbstractSnapshotPathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final ThreadLocal<DijkstraWorkspace> forwardWorkspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+	private final ThreadLocal<DijkstraWorkspace> backwardWorkspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+
+	public BidirectionalDijkstraPathFinder(MeterRegistry meterRegistry) {
+		super(meterRegistry, "bidirectional");
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		DijkstraWorkspace forward = forwardWorkspaces.get();
+		DijkstraWorkspace backward = backwardWorkspaces.get();
+		forward.reset(snapshot.stationCount());
+		backward.reset(snapshot.stationCount());
+		forward.relax(sourceIndex, 0L, DijkstraWorkspace.NO_EDGE);
+		backward.relax(targetIndex, 0L, DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap forwardHeap = forward.heap();
+		IndexedLongMinHeap backwardHeap = backward.heap();
+		long best = sourceIndex == targetIndex ? 0L : Long.MAX_VALUE;
+		int meeting = sourceIndex == targetIndex ? sourceIndex : NetworkSnapshot.NO_STATION;
+		int settled = 0;
+
+		while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+			if (forwardHeap.minKey() + backwardHeap.minKey() >= best) {
+				break;
+			}
+			settled++;
+
+			if (forwardHeap.size() <= backwardHeap.size()) {
+				int current = forwardHeap.pollMin();
+				long currentCost = forward.costOf(current);
+				for (int edge = snapshot.edgeBegin(current); edge < snapshot.edgeEnd(current); edge++) {
+					int next = snapshot.edgeTarget(edge);
+					forward.relax(next, currentCost + snapshot.edgeWeight(edge, type), edge);
+					if (backward.isReached(next) && forward.costOf(next) + backward.costOf(next) < best) {
+						best = forward.costOf(next) + backward.costOf(next);
+						meeting = next;
+					}
+				}
+			} else {
+				int current = backwardHeap.pollMin();
+				long currentCost = backward.costOf(current);
+				for (int position = snapshot.reverseEdgeBegin(current); position < snapshot.reverseEdgeEnd(current); position++) {
+					int edge = snapshot.reverseEdgeAt(position);
+					int previous = snapshot.edgeSource(edge);
+					backward.relax(previous, currentCost + snapshot.edgeWeight(edge, type), edge);
+					if (forward.isReached(previous) && forward.costOf(previous) + backward.costOf(previous) < best) {
+						best = forward.costOf(previous) + backward.costOf(previous);
+						meeting = previous;
+					}
+				}
+			}
+		}
+
+		recordSettledNodes(settled);
+		if (meeting == NetworkSnapshot.NO_STATION) {
+			return Optional.empty();
+		}
+
+		int length = forward.tracePath(snapshot, sourceIndex, meeting);
+		length = forward.appendSuccessorPath(snapshot, length, meeting, targetIndex, backward);
+		return Optional.of(snapshot.toPath(sourceIndex, forward.pathEdges(), length));
+	}
+}
@@ -0,0 +1,82 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.ReachableStation;
+import nextstep.api.subway.domain.operators.FareCalculator;
+import nextstep.api.subway.domain.operators.ReachableStationFinder;
+import nextstep.api.subway.util.LineSurchargeTiers;
+import nextstep.api.subway.util.ReachabilitySearch;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * 예산을 넘는 순간 더 뻗지 않는 한정 다익스트라(ReachabilitySearch)로 도달 가능 역을 찾는 조회기.
+ * <p>
+ * 요금은 FareCalculator 의 거리 구간 요금과 노선 추가 요금 규칙을 그대로 쓴다. 노선별 추가 요금 단계표는 스냅샷마다 한 번만 만든다.
+ * 작업 공간은 스레드마다 하나씩 두고 재사용하며, 탐색마다 큐에서 꺼낸 상태 수를 settled 지표(engine=reachable)로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class BoundedDijkstraReachableStationFinder implements ReachableStationFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final FareCalculator fareCalculator;
+	private final DistributionSummary settledNodes;
+	private final ThreadLocal<ReachabilitySearch> searches = ThreadLocal.withInitial(() -> new ReachabilitySearch(INITIAL_WORKSPACE_CAPACITY));
+
+	public BoundedDijkstraReachableStationFinder(MeterRegistry meterRegistry, FareCalculator fareCalculator) {
+		this.fareCalculator = fareCalculator;
+		this.settledNodes = DistributionSummary.builder(AbstractSnapshotPathFinder.SETTLED_NODES_METRIC)
+			.description("Number of stations settled per path search")
+			.tag("engine", "reachable")
+			.register(meterRegistry);
+	}
+
+	public LineSurchargeTiers fetchLineSurchargeTiers(NetworkSnapshot snapshot) {
+		return LineSurchargeTiers.fetch(snapshot, fareCalculator::calculateAdditionalLineFare);
+	}
+
+	@Override
+	public List<ReachableStation> findReachableStations(Long sourceStationId, ReachabilityBudgetType budgetType, long budget, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		ReachabilitySearch search = searches.get();
+		int reachedCount = search.search(snapshot, sourceIndex, budgetType, budget, fetchLineSurchargeTiers(snapshot), fareCalculator::calculateFare);
+		settledNodes.record(search.settledCount());
+
+		List<ReachableStation> reachableStations = new ArrayList<>(reachedCount);
+		for (int position = 0; position < reachedCount; position++) {
+			int station = search.reachedStationAt(position);
+			if (station != sourceIndex) {
+				reachableStations.add(ReachableStation.of(snapshot.stationAt(station), search.distanceOf(station), search.durationOf(station), search.fareOf(station)));
+			}
+		}
+		reachableStations.sort(orderOf(budgetType));
+		return reachableStations;
+	}
+
+	private Comparator<ReachableStation> orderOf(ReachabilityBudgetType budgetType) {
+		switch (budgetType) {
+			case DISTANCE:
+				return Comparator.comparing(ReachableStation::getDistance).thenComparing(ReachableStation::getDuration);
+			case FARE:
+				return Comparator.comparing(ReachableStation::getFare).thenComparing(ReachableStation::getDistance);
+			default:
+				return Comparator.comparing(ReachableStation::getDuration).thenComparing(ReachableStation::getDistance);
+		}
+	}
+}
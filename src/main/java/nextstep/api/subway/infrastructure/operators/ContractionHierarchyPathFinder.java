@@ -0,0 +1,184 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.ContractionHierarchy;
+import nextstep.api.subway.util.ContractionHierarchySet;
+import nextstep.api.subway.util.DijkstraWorkspace;
+import nextstep.api.subway.util.IndexedLongMinHeap;
+
+/**
+ * 축약 계층(Contraction Hierarchies) 위의 양방향 상향 탐색기.
+ * <p>
+ * 정방향은 출발역에서 상향 간선만, 역방향은 도착역에서 하향 간선을 거꾸로만 따라가므로 두 탐색 모두 계층의 위쪽 일부만 확정한다.
+ * 두 방향 모두 큐의 최솟값이 지금까지의 최선 비용 이상이 되면 멈춘다.
+ * 만나는 역까지의 지름길은 자식 간선으로 풀어 원본 간선 목록으로 되돌린 뒤 스냅샷으로 Path 를 만들므로,
+ * 역 목록과 거리/소요 시간 합계는 다른 엔진과 같은 방식으로 계산된다.
+ * 계층은 스냅샷마다 한 번 만들어 스냅샷에 붙여 두며, 보통은 ContractionHierarchyPreprocessor 가 스냅샷 교체 전에 미리 만든다.
+ * 지연을 덧씌운 파생 스냅샷에서는 지름길 비용이 맞지 않으므로, 개정마다 계층을 다시 만들지 않고 양방향 다익스트라로 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class ContractionHierarchyPathFinder extends AbstractSnapshotPathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final BidirectionalDijkstraPathFinder bidirectionalDijkstraPathFinder;
+	private final ThreadLocal<DijkstraWorkspace> forwardWorkspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+	private final ThreadLocal<DijkstraWorkspace> backwardWorkspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+	private final ThreadLocal<UnpackBuffer> unpackBuffers = ThreadLocal.withInitial(() -> new UnpackBuffer(INITIAL_WORKSPACE_CAPACITY));
+
+	public ContractionHierarchyPathFinder(MeterRegistry meterRegistry, BidirectionalDijkstraPathFinder bidirectionalDijkstraPathFinder) {
+		super(meterRegistry, "ch");
+		this.bidirectionalDijkstraPathFinder = bidirectionalDijkstraPathFinder;
+	}
+
+	public ContractionHierarchySet fetchContractionHierarchies(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(ContractionHierarchySet.class, ContractionHierarchySet::build);
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		if (snapshot.isOverlaid()) {
+			return bidirectionalDijkstraPathFinder.search(snapshot, sourceIndex, targetIndex, type);
+		}
+		ContractionHierarchy hierarchy = fetchContractionHierarchies(snapshot).hierarchyOf(type);
+		DijkstraWorkspace forward = forwardWorkspaces.get();
+		DijkstraWorkspace backward = backwardWorkspaces.get();
+		forward.reset(snapshot.stationCount());
+		backward.reset(snapshot.stationCount());
+		forward.relax(sourceIndex, 0L, DijkstraWorkspace.NO_EDGE);
+		backward.relax(targetIndex, 0L, DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap forwardHeap = forward.heap();
+		IndexedLongMinHeap backwardHeap = backward.heap();
+		long best = Long.MAX_VALUE;
+		int meeting = NetworkSnapshot.NO_STATION;
+		int settled = 0;
+		while (true) {
+			boolean forwardActive = !forwardHeap.isEmpty() && forwardHeap.minKey() < best;
+			boolean backwardActive = !backwardHeap.isEmpty() && backwardHeap.minKey() < best;
+			if (!forwardActive && !backwardActive) {
+				break;
+			}
+
+			boolean expandForward = forwardActive && (!backwardActive || forwardHeap.minKey() <= backwardHeap.minKey());
+			DijkstraWorkspace expanding = expandForward ? forward : backward;
+			DijkstraWorkspace opposite = expandForward ? backward : forward;
+			int current = expanding.heap().pollMin();
+			settled++;
+
+			long currentCost = expanding.costOf(current);
+			if (opposite.isReached(current) && currentCost + opposite.costOf(current) < best) {
+				best = currentCost + opposite.costOf(current);
+				meeting = current;
+			}
+
+			if (expandForward) {
+				for (int position = hierarchy.upBegin(current); position < hierarchy.upEnd(current); position++) {
+					int edge = hierarchy.upEdgeAt(position);
+					forward.relax(hierarchy.edgeTarget(edge), currentCost + hierarchy.edgeWeight(edge), edge);
+				}
+			} else {
+				for (int position = hierarchy.downBegin(current); position < hierarchy.downEnd(current); position++) {
+					int edge = hierarchy.downEdgeAt(position);
+					backward.relax(hierarchy.edgeSource(edge), currentCost + hierarchy.edgeWeight(edge), edge);
+				}
+			}
+		}
+
+		recordSettledNodes(settled);
+		if (meeting == NetworkSnapshot.NO_STATION) {
+			return Optional.empty();
+		}
+
+		UnpackBuffer buffer = unpackBuffers.get();
+		buffer.clear();
+		unpackForward(hierarchy, forward, sourceIndex, meeting, buffer);
+		for (int station = meeting; station != targetIndex; ) {
+			int edge = backward.previousEdgeOf(station);
+			buffer.unpack(hierarchy, edge);
+			station = hierarchy.edgeTarget(edge);
+		}
+		return Optional.of(snapshot.toPath(sourceIndex, buffer.edges, buffer.length));
+	}
+
+	/**
+	 * 정방향 선행 간선은 만나는 역에서 출발역 쪽으로 거슬러 올라가므로, 먼저 간선 순서를 뒤집어 담은 뒤 앞에서부터 푼다.
+	 */
+	private void unpackForward(ContractionHierarchy hierarchy, DijkstraWorkspace forward, int sourceIndex, int meeting, UnpackBuffer buffer) {
+		int count = 0;
+		for (int station = meeting; station != sourceIndex; station = hierarchy.edgeSource(forward.previousEdgeOf(station))) {
+			count++;
+		}
+
+		int[] chain = buffer.chain(count);
+		int cursor = count;
+		for (int station = meeting; station != sourceIndex; station = hierarchy.edgeSource(forward.previousEdgeOf(station))) {
+			chain[--cursor] = forward.previousEdgeOf(station);
+		}
+		for (int i = 0; i < count; i++) {
+			buffer.unpack(hierarchy, chain[i]);
+		}
+	}
+
+	/**
+	 * 지름길을 원본 간선으로 푸는 데 쓰는 스레드별 버퍼. 지름길이 깊게 겹쳐도 재귀 대신 명시적 스택을 쓴다.
+	 */
+	private static final class UnpackBuffer {
+		private int[] edges;
+		private int length;
+		private int[] stack;
+		private int[] chain;
+
+		private UnpackBuffer(int capacity) {
+			this.edges = new int[capacity];
+			this.stack = new int[capacity];
+			this.chain = new int[capacity];
+		}
+
+		private void clear() {
+			length = 0;
+		}
+
+		private int[] chain(int count) {
+			if (chain.length < count) {
+				chain = new int[Math.max(count, chain.length * 2)];
+			}
+			return chain;
+		}
+
+		private void unpack(ContractionHierarchy hierarchy, int edge) {
+			int top = 0;
+			stack[top++] = edge;
+			while (top > 0) {
+				int current = stack[--top];
+				if (!hierarchy.isShortcut(current)) {
+					append(hierarchy.originalEdgeOf(current));
+					continue;
+				}
+				if (top + 2 > stack.length) {
+					stack = Arrays.copyOf(stack, stack.length * 2);
+				}
+				stack[top++] = hierarchy.secondChildOf(current);
+				stack[top++] = hierarchy.firstChildOf(current);
+			}
+		}
+
+		private void append(int edge) {
+			if (length == edges.length) {
+				edges = Arrays.copyOf(edges, edges.length * 2);
+			}
+			edges[length++] = edge;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.NetworkSnapshotPreprocessor;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 축약 계층 탐색을 사용할 때 새 스냅샷의 거리/소요 시간 계층을 스냅샷 교체 전에 만들어 둔다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+public class ContractionHierarchyPreprocessor implements NetworkSnapshotPreprocessor {
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final ContractionHierarchyPathFinder contractionHierarchyPathFinder;
+
+	@Override
+	public void preprocess(NetworkSnapshot snapshot) {
+		if (pathSearchConfigCollector.getSearchStrategy() == PathSearchStrategy.CONTRACTION_HIERARCHY) {
+			contractionHierarchyPathFinder.fetchContractionHierarchies(snapshot);
+		}
+	}
+}
@@ -18,7 +18,6 @@ import nextstep.api.subway.domain.model.entity.Line;
 import nextstep.api.subway.domain.model.entity.Section;
 import nextstep.api.subway.domain.model.entity.Station;
 import nextstep.api.subway.domain.model.vo.Path;
-import nextstep.api.subway.domain.operators.PathFinder;
 import nextstep.common.exception.subway.PathNotValidException;
 
 /**
@@ -27,7 +26,7 @@ import nextstep.common.exception.subway.PathNotValidException;
  */
 
 @Component
-public class DijkstraBaseMinimunDurationPathFinder implements PathFinder {
+public class DijkstraBaseMinimunDurationPathFinder extends AbstractJGraphTPathFinder {
 
 	@Override
 	public Path findShortestPathBySections(Station sourceStation, Station targetStation, List<Section> sections) {
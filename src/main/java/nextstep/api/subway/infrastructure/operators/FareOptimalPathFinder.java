@@ -0,0 +1,49 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.FareCalculator;
+import nextstep.api.subway.util.FareOptimalSearch;
+import nextstep.api.subway.util.LineSurchargeTiers;
+
+/**
+ * 요금 기준(PathRequestType.FARE) 전용 탐색기.
+ * <p>
+ * 요금은 간선 가중치의 합이 아니므로 다른 엔진과 달리 (역, 최고 추가 요금 단계) 라벨 위에서 탐색하는 FareOptimalSearch 를 쓴다.
+ * 요금 규칙은 FareCalculator 의 거리 구간 요금과 노선 추가 요금을 그대로 쓰므로, 찾은 경로에 PathFacade 가 매기는 요금이 곧 탐색이 구한 최소 요금이다.
+ * 요청 유형과 관계없이 요금 기준으로 찾으며, 작업 공간은 스레드마다 하나씩 두고 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class FareOptimalPathFinder extends AbstractSnapshotPathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final FareCalculator fareCalculator;
+	private final ThreadLocal<FareOptimalSearch> searches = ThreadLocal.withInitial(() -> new FareOptimalSearch(INITIAL_WORKSPACE_CAPACITY));
+
+	public FareOptimalPathFinder(MeterRegistry meterRegistry, FareCalculator fareCalculator) {
+		super(meterRegistry, "fare");
+		this.fareCalculator = fareCalculator;
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		FareOptimalSearch search = searches.get();
+		LineSurchargeTiers tiers = LineSurchargeTiers.fetch(snapshot, fareCalculator::calculateAdditionalLineFare);
+		int length = search.search(snapshot, sourceIndex, targetIndex, tiers, fareCalculator::calculateFare);
+		recordSettledNodes(search.settledCount());
+		if (length == FareOptimalSearch.NO_PATH) {
+			return Optional.empty();
+		}
+		return Optional.of(snapshot.toPath(sourceIndex, search.pathEdges(), length));
+	}
+}
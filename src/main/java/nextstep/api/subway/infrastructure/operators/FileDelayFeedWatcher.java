@@ -0,0 +1,117 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nextstep.api.subway.domain.dto.inport.SectionDelayCommand;
+import nextstep.api.subway.domain.service.DelayService;
+import nextstep.common.exception.subway.SectionDelayNotValidException;
+import nextstep.common.yml.DelayOverlayConfigCollector;
+
+/**
+ * 로컬 파일(subway.delay.feed-file)을 주기적으로 확인해, 바뀌었으면 파일 전체를 한 번의 일괄 변경으로 지연 오버레이에 반영한다.
+ * <p>
+ * 한 줄이 구간 하나이며 "상행역 id,하행역 id,지연 분[,만료 초]" 형식이다. 빈 줄과 '#' 으로 시작하는 줄은 건너뛴다.
+ * 파일에서 지운 구간은 남은 만료 시간이 지나면 사라지므로, 바로 지우려면 지연을 0 으로 적는다.
+ * 형식이 잘못된 파일은 반영하지 않고 직전 오버레이를 유지한다. 경로가 비어 있으면 감시 스레드를 띄우지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDelayFeedWatcher {
+	private final DelayService delayService;
+	private final DelayOverlayConfigCollector delayOverlayConfigCollector;
+
+	private ScheduledExecutorService watcher;
+	private long lastModifiedMillis = Long.MIN_VALUE;
+
+	@PostConstruct
+	public void start() {
+		String feedFile = delayOverlayConfigCollector.getFeedFile();
+		if (feedFile == null || feedFile.isBlank()) {
+			return;
+		}
+
+		Path feedPath = Paths.get(feedFile);
+		long pollMillis = Math.max(100L, delayOverlayConfigCollector.getFeedPollMillis());
+		watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "delay-feed-watcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		watcher.scheduleWithFixedDelay(() -> poll(feedPath), 0L, pollMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (watcher != null) {
+			watcher.shutdownNow();
+		}
+	}
+
+	/**
+	 * 수정 시각이 바뀐 경우에만 읽는다. 반영에 실패해도 수정 시각은 기록해 두어, 같은 잘못된 파일을 매번 다시 읽지 않는다.
+	 */
+	private void poll(Path feedPath) {
+		try {
+			if (!Files.isRegularFile(feedPath)) {
+				return;
+			}
+			long modifiedMillis = Files.getLastModifiedTime(feedPath).toMillis();
+			if (modifiedMillis == lastModifiedMillis) {
+				return;
+			}
+			lastModifiedMillis = modifiedMillis;
+
+			List<SectionDelayCommand> delayCommands = parse(Files.readAllLines(feedPath, StandardCharsets.UTF_8));
+			if (!delayCommands.isEmpty()) {
+				delayService.updateDelays(delayCommands);
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("Failed to apply delay feed {}", feedPath, e);
+		}
+	}
+
+	static List<SectionDelayCommand> parse(List<String> lines) {
+		List<SectionDelayCommand> delayCommands = new ArrayList<>();
+		for (String line : lines) {
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+				continue;
+			}
+			String[] columns = trimmed.split("\\s*,\\s*");
+			if (columns.length < 3 || columns.length > 4) {
+				throw new SectionDelayNotValidException("Delay feed line must be 'upStationId,downStationId,delayMinutes[,ttlSeconds]': " + trimmed);
+			}
+			try {
+				delayCommands.add(SectionDelayCommand.builder()
+					.upStationId(Long.parseLong(columns[0]))
+					.downStationId(Long.parseLong(columns[1]))
+					.delayMinutes(Integer.parseInt(columns[2]))
+					.ttlSeconds(columns.length == 4 ? Long.parseLong(columns[3]) : null)
+					.build());
+			} catch (NumberFormatException e) {
+				throw new SectionDelayNotValidException("Delay feed line has a non-numeric column: " + trimmed);
+			}
+		}
+		return delayCommands;
+	}
+}
@@ -0,0 +1,47 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import nextstep.api.subway.domain.operators.PathBatchExecutor;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 일괄 경로 조회 전용 fork-join 풀 위의 PathBatchExecutor. 동시에 실행되는 탐색 수를 설정(subway.path.batch-parallelism)으로 제한해
+ * 큰 일괄 요청 하나가 웹 요청 스레드나 공용 풀을 모두 차지하지 않게 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class ForkJoinPathBatchExecutor implements PathBatchExecutor {
+
+	private final ForkJoinPool pool;
+
+	public ForkJoinPathBatchExecutor(PathSearchConfigCollector pathSearchConfigCollector) {
+		this.pool = new ForkJoinPool(pathSearchConfigCollector.getBatchParallelism());
+	}
+
+	@Override
+	public <T, R> List<R> mapInParallel(List<T> items, Function<T, R> mapper) {
+		List<CompletableFuture<R>> futures = items.stream()
+			.map(item -> CompletableFuture.supplyAsync(() -> mapper.apply(item), pool))
+			.collect(Collectors.toList());
+
+		return futures.stream()
+			.map(CompletableFuture::join)
+			.collect(Collectors.toList());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+}
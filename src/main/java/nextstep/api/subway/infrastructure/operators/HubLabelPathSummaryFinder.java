@@ -0,0 +1,64 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+import nextstep.api.subway.domain.operators.PathSummaryFinder;
+import nextstep.api.subway.util.HubLabelSet;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * 허브 라벨 병합으로 거리/소요 시간 합계만 돌려주는 조회기. 지름길을 풀지 않으므로 조회 비용은 두 라벨 길이에만 비례한다.
+ * <p>
+ * 라벨은 스냅샷마다 한 번 만들어 스냅샷에 붙여 두며, 가장 최근에 만든 라벨의 크기를 지표(subway.path.hub-label.memory)로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Slf4j
+@Component
+public class HubLabelPathSummaryFinder implements PathSummaryFinder {
+
+	public static final String LABEL_MEMORY_METRIC = "subway.path.hub-label.memory";
+
+	private final AtomicLong labelMemoryBytes = new AtomicLong();
+
+	public HubLabelPathSummaryFinder(MeterRegistry meterRegistry) {
+		Gauge.builder(LABEL_MEMORY_METRIC, labelMemoryBytes, AtomicLong::get)
+			.description("Approximate heap size of the hub labels built for the latest network snapshot")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	public HubLabelSet fetchHubLabels(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(HubLabelSet.class, target -> {
+			HubLabelSet hubLabels = HubLabelSet.build(target);
+			labelMemoryBytes.set(hubLabels.memoryBytes());
+			log.info("Built hub labels for network snapshot version {}: {} bytes", target.version(), hubLabels.memoryBytes());
+			return hubLabels;
+		});
+	}
+
+	public long fetchLabelMemoryBytes() {
+		return labelMemoryBytes.get();
+	}
+
+	@Override
+	public PathSummary findPathSummary(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		return fetchHubLabels(snapshot).labelsOf(type).query(sourceIndex, targetIndex).orElseThrow(
+			() -> new PathNotValidException("No path exists between the source and target stations."));
+	}
+}
@@ -0,0 +1,29 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.NetworkSnapshotPreprocessor;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 설정(subway.path.hub-label-preload)이 켜져 있으면 새 스냅샷의 허브 라벨을 스냅샷 교체 전에 만들어 둔다.
+ * 꺼져 있으면 첫 합계 조회가 라벨을 만든다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+public class HubLabelPreprocessor implements NetworkSnapshotPreprocessor {
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final HubLabelPathSummaryFinder hubLabelPathSummaryFinder;
+
+	@Override
+	public void preprocess(NetworkSnapshot snapshot) {
+		if (pathSearchConfigCollector.isHubLabelPreload()) {
+			hubLabelPathSummaryFinder.fetchHubLabels(snapshot);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.ClosureAwarePathFinder;
+import nextstep.api.subway.util.ClosureMask;
+import nextstep.api.subway.util.DijkstraWorkspace;
+import nextstep.api.subway.util.IndexedLongMinHeap;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * int 인덱스 기반 스냅샷 위에서 동작하는 다익스트라 탐색기.
+ * <p>
+ * JGraphT 의 DijkstraShortestPath 는 요청마다 그래프, 피보나치 힙, 박싱된 Double 가중치, HashMap 상태를 새로 만든다.
+ * 이 구현은 long 키 4진 인덱스 힙과 스레드별 작업 공간(DijkstraWorkspace)을 재사용하므로
+ * 작업 공간이 한 번 데워진 뒤에는 결과 Path 를 만드는 것 외에 탐색 중 할당이 일어나지 않는다.
+ * 거리/소요 시간 기준은 스냅샷의 간선 가중치로 구분되므로 하나의 탐색기가 두 기준을 모두 처리한다.
+ * 전처리 없이 간선을 그대로 훑으므로 폐쇄 마스크(ClosureMask)를 건 탐색도 이 탐색기가 맡는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class IndexedHeapDijkstraPathFinder extends AbstractSnapshotPathFinder implements ClosureAwarePathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final ThreadLocal<DijkstraWorkspace> workspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+
+	public IndexedHeapDijkstraPathFinder(MeterRegistry meterRegistry) {
+		super(meterRegistry, "unidirectional");
+	}
+
+	@Override
+	public Path findShortestPathAvoiding(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot, ClosureMask closures) {
+		int sourceIndex = indexOfOpenStation(sourceStationId, snapshot, closures);
+		int targetIndex = indexOfOpenStation(targetStationId, snapshot, closures);
+
+		return search(snapshot, sourceIndex, targetIndex, type, closures).orElseThrow(
+			() -> new PathNotValidException("No path exists between the source and target stations."));
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		return search(snapshot, sourceIndex, targetIndex, type, ClosureMask.NONE);
+	}
+
+	/**
+	 * 도착역이 확정되는 즉시 탐색을 멈춘다. 확정된 역은 더 싼 비용으로 다시 갱신될 수 없으므로 별도의 방문 표시가 필요 없다.
+	 * 닫힌 간선은 풀지 않으며, 닫힌 역은 들어오는 간선이 모두 닫혀 있으므로 따로 확인하지 않아도 닿지 않는다.
+	 */
+	private Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type, ClosureMask closures) {
+		DijkstraWorkspace workspace = workspaces.get();
+		workspace.reset(snapshot.stationCount());
+		workspace.relax(sourceIndex, 0L, DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap heap = workspace.heap();
+		int settled = 0;
+		while (!heap.isEmpty()) {
+			int current = heap.pollMin();
+			settled++;
+			if (current == targetIndex) {
+				recordSettledNodes(settled);
+				int length = workspace.tracePath(snapshot, sourceIndex, targetIndex);
+				return Optional.of(snapshot.toPath(sourceIndex, workspace.pathEdges(), length));
+			}
+
+			long currentCost = workspace.costOf(current);
+			for (int edge = snapshot.edgeBegin(current); edge < snapshot.edgeEnd(current); edge++) {
+				if (closures.isEdgeClosed(edge)) {
+					continue;
+				}
+				workspace.relax(snapshot.edgeTarget(edge), currentCost + snapshot.edgeWeight(edge, type), edge);
+			}
+		}
+
+		recordSettledNodes(settled);
+		return Optional.empty();
+	}
+}
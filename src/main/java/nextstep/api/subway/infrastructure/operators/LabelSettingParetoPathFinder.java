@@ -0,0 +1,82 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.model.vo.PathAlternatives;
+import nextstep.api.subway.domain.operators.FareCalculator;
+import nextstep.api.subway.domain.operators.ParetoPathFinder;
+import nextstep.api.subway.util.LineSurchargeTiers;
+import nextstep.api.subway.util.ParetoLabelSearch;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 다기준 라벨 설정 탐색(ParetoLabelSearch)으로 거리/소요 시간/요금의 파레토 최적 경로를 한 번에 찾는 조회기.
+ * <p>
+ * 요금은 FareCalculator 의 거리 구간 요금과 노선 추가 요금 규칙을 그대로 쓰며, 노선별 추가 요금 단계표는 도달 가능 역 조회와 같은 스냅샷 인덱스를 공유한다.
+ * 역마다 확정 라벨 수는 설정(subway.path.pareto-max-labels-per-station)으로 제한하고, 제한에 걸려 일부만 돌려준 요청 수는 subway.path.pareto.truncated 지표로 남는다.
+ * 작업 공간은 스레드마다 하나씩 두고 재사용하며, 확정한 라벨 수를 settled 지표(engine=pareto)로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class LabelSettingParetoPathFinder implements ParetoPathFinder {
+
+	public static final String TRUNCATED_METRIC = "subway.path.pareto.truncated";
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final FareCalculator fareCalculator;
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final DistributionSummary settledLabels;
+	private final Counter truncatedSearches;
+	private final ThreadLocal<ParetoLabelSearch> searches = ThreadLocal.withInitial(() -> new ParetoLabelSearch(INITIAL_WORKSPACE_CAPACITY));
+
+	public LabelSettingParetoPathFinder(MeterRegistry meterRegistry, FareCalculator fareCalculator, PathSearchConfigCollector pathSearchConfigCollector) {
+		this.fareCalculator = fareCalculator;
+		this.pathSearchConfigCollector = pathSearchConfigCollector;
+		this.settledLabels = DistributionSummary.builder(AbstractSnapshotPathFinder.SETTLED_NODES_METRIC)
+			.description("Number of stations settled per path search")
+			.tag("engine", "pareto")
+			.register(meterRegistry);
+		this.truncatedSearches = Counter.builder(TRUNCATED_METRIC)
+			.description("Number of Pareto route searches that dropped labels at the per-station cap")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public PathAlternatives findParetoPaths(Long sourceStationId, Long targetStationId, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		ParetoLabelSearch search = searches.get();
+		LineSurchargeTiers tiers = LineSurchargeTiers.fetch(snapshot, fareCalculator::calculateAdditionalLineFare);
+		int count = search.search(snapshot, sourceIndex, targetIndex, tiers, fareCalculator::calculateFare, pathSearchConfigCollector.getParetoMaxLabelsPerStation());
+		settledLabels.record(search.settledCount());
+		if (count == 0) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		if (search.isTruncated()) {
+			truncatedSearches.increment();
+		}
+
+		List<Path> paths = new ArrayList<>(count);
+		for (int position = 0; position < count; position++) {
+			int length = search.tracePath(position);
+			paths.add(snapshot.toPath(sourceIndex, search.pathEdges(), length));
+		}
+		return PathAlternatives.of(paths, search.isTruncated());
+	}
+}
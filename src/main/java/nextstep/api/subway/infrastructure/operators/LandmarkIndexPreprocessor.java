@@ -0,0 +1,30 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.NetworkSnapshotPreprocessor;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * ALT 탐색이나 같은 노선 빠른 경로(subway.path.same-line-fast-path)를 사용할 때 새 스냅샷의 랜드마크 거리표를 스냅샷 교체 전에 만들어 두어,
+ * 버전이 바뀐 직후의 첫 조회가 전처리 비용을 떠안지 않게 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+public class LandmarkIndexPreprocessor implements NetworkSnapshotPreprocessor {
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final AltPathFinder altPathFinder;
+
+	@Override
+	public void preprocess(NetworkSnapshot snapshot) {
+		if (pathSearchConfigCollector.getSearchStrategy() == PathSearchStrategy.ALT || pathSearchConfigCollector.isSameLineFastPath()) {
+			altPathFinder.fetchLandmarkIndex(snapshot);
+		}
+	}
+}
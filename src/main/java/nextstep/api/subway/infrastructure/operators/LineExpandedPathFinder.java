@@ -0,0 +1,66 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.TransferBoundedPathFinder;
+import nextstep.api.subway.util.ClosureMask;
+import nextstep.api.subway.util.LineExpandedGraph;
+import nextstep.api.subway.util.LineExpandedSearch;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 환승을 고려하는 탐색기. 최소 환승(PathRequestType.MIN_TRANSFER)과 환승 벌점(subway.path.transfer-penalty-minutes)이 있는 소요 시간 기준을 맡는다.
+ * <p>
+ * 역 단위 스냅샷에서는 어느 노선으로 도착했는지 알 수 없으므로 스냅샷마다 한 번 만든 노선 확장 그래프(LineExpandedGraph) 위에서 찾는다.
+ * 찾은 경로는 탐색이 탄 스냅샷 간선 그대로 Path 로 조립되므로 구간별 노선(PathLeg)과 환승 횟수를 따로 다시 계산하지 않는다.
+ * 환승 횟수 상한이나 피할 노선/역이 걸린 요청도 같은 그래프 위에서 환승 횟수별로 층을 나눠 찾는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class LineExpandedPathFinder extends AbstractSnapshotPathFinder implements TransferBoundedPathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final ThreadLocal<LineExpandedSearch> searches = ThreadLocal.withInitial(() -> new LineExpandedSearch(INITIAL_WORKSPACE_CAPACITY));
+
+	public LineExpandedPathFinder(MeterRegistry meterRegistry, PathSearchConfigCollector pathSearchConfigCollector) {
+		super(meterRegistry, "line-expanded");
+		this.pathSearchConfigCollector = pathSearchConfigCollector;
+	}
+
+	@Override
+	public Path findShortestPathWithinTransfers(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot, ClosureMask closures,
+		int maxTransfers) {
+		int sourceIndex = indexOfOpenStation(sourceStationId, snapshot, closures);
+		int targetIndex = indexOfOpenStation(targetStationId, snapshot, closures);
+
+		return search(snapshot, sourceIndex, targetIndex, type, closures, maxTransfers).orElseThrow(
+			() -> new PathNotValidException("No path exists between the source and target stations within the requested constraints."));
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		return search(snapshot, sourceIndex, targetIndex, type, ClosureMask.NONE, UNLIMITED_TRANSFERS);
+	}
+
+	private Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type, ClosureMask closures, int maxTransfers) {
+		LineExpandedSearch search = searches.get();
+		int length = search.search(snapshot, LineExpandedGraph.fetch(snapshot), sourceIndex, targetIndex, type, pathSearchConfigCollector.getTransferPenaltyMinutes(),
+			closures, maxTransfers);
+		recordSettledNodes(search.settledCount());
+		if (length == LineExpandedSearch.NO_PATH) {
+			return Optional.empty();
+		}
+		return Optional.of(snapshot.toPath(sourceIndex, search.pathEdges(), length));
+	}
+}
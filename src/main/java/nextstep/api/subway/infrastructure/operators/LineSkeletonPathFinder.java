@@ -0,0 +1,160 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.DijkstraWorkspace;
+import nextstep.api.subway.util.IndexedLongMinHeap;
+import nextstep.api.subway.util.LineSkeleton;
+
+/**
+ * 환승역/종점 골격망(LineSkeleton) 위의 2단계 탐색기.
+ * <p>
+ * 중간역(차수 2 사슬 위의 역)은 나가는 간선과 들어오는 간선이 하나씩뿐이므로, 출발역이 중간역이면 자기 run 의 끝 골격 역에서, 도착역이 중간역이면 자기 run 의 시작 골격 역까지 탐색하면 된다.
+ * 붙이는 비용은 run 의 누적 가중치 차로 구하고, 골격망에서는 run 을 간선 하나로 보고 다익스트라로 탐색하므로 확정하는 역은 골격 역뿐이다.
+ * 출발역과 도착역이 같은 run 에 이 순서로 있으면 골격 역을 거치지 않는 경로도 후보로 둔다.
+ * 찾은 run 들은 원본 간선으로 펼쳐 스냅샷으로 Path 를 만들므로, 역 목록과 거리/소요 시간 합계는 다른 엔진과 같은 방식으로 계산된다.
+ * 골격망은 스냅샷마다 한 번 만들어 스냅샷에 붙여 두며, 이 엔진이 설정된 경우 조립된 스냅샷의 것은 SimpleNetworkSnapshotResolver 가 조립 단계에서 미리 만든다.
+ * 압축된 골격망 위에서 탐색하는 것은 이 엔진뿐이다. 기본 설정(BIDIRECTIONAL_DIJKSTRA)을 비롯한 다른 엔진은 원본 스냅샷 전체를 탐색한다.
+ * 지연을 덧씌운 파생 스냅샷은 run 가중치가 달라지므로 처음 조회할 때 따로 만든다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class LineSkeletonPathFinder extends AbstractSnapshotPathFinder {
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final ThreadLocal<DijkstraWorkspace> workspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(INITIAL_WORKSPACE_CAPACITY));
+	private final ThreadLocal<PathBuffer> pathBuffers = ThreadLocal.withInitial(() -> new PathBuffer(INITIAL_WORKSPACE_CAPACITY));
+
+	public LineSkeletonPathFinder(MeterRegistry meterRegistry) {
+		super(meterRegistry, "skeleton");
+	}
+
+	public LineSkeleton fetchLineSkeleton(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(LineSkeleton.class, LineSkeleton::of);
+	}
+
+	/**
+	 * 골격망에서 도착 골격 역이 확정되면 그보다 싼 경로는 남아 있지 않으므로 멈춘다. 같은 run 위 직행 비용보다 큐의 최솟값이 커져도 멈춘다.
+	 * 선행 간선 자리에는 run 번호를 기록하고, 출발 골격 역에는 NO_EDGE 를 둔다.
+	 */
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		if (sourceIndex == targetIndex) {
+			recordSettledNodes(0);
+			return Optional.of(snapshot.toPath(sourceIndex, new int[0], 0));
+		}
+
+		LineSkeleton skeleton = fetchLineSkeleton(snapshot);
+		int sourceRun = skeleton.stationRun(sourceIndex);
+		int targetRun = skeleton.stationRun(targetIndex);
+		int sourceNode = sourceRun == LineSkeleton.NO_RUN ? sourceIndex : skeleton.runTail(sourceRun);
+		int targetNode = targetRun == LineSkeleton.NO_RUN ? targetIndex : skeleton.runHead(targetRun);
+		long sourceAttach = sourceRun == LineSkeleton.NO_RUN ? 0L
+			: skeleton.weightBetween(skeleton.stationPosition(sourceIndex), skeleton.runEdgeEnd(sourceRun), type);
+		long targetAttach = targetRun == LineSkeleton.NO_RUN ? 0L
+			: skeleton.weightBetween(skeleton.runEdgeBegin(targetRun), skeleton.stationPosition(targetIndex), type);
+		boolean direct = sourceRun != LineSkeleton.NO_RUN && sourceRun == targetRun
+			&& skeleton.stationPosition(sourceIndex) < skeleton.stationPosition(targetIndex);
+		long best = direct ? skeleton.weightBetween(skeleton.stationPosition(sourceIndex), skeleton.stationPosition(targetIndex), type) : Long.MAX_VALUE;
+
+		DijkstraWorkspace workspace = workspaces.get();
+		workspace.reset(snapshot.stationCount());
+		workspace.relax(sourceNode, sourceAttach, DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap heap = workspace.heap();
+		boolean viaSkeleton = false;
+		int settled = 0;
+		while (!heap.isEmpty() && heap.minKey() < best) {
+			int current = heap.pollMin();
+			settled++;
+			long currentCost = workspace.costOf(current);
+			if (current == targetNode) {
+				if (currentCost + targetAttach < best) {
+					best = currentCost + targetAttach;
+					viaSkeleton = true;
+				}
+				break;
+			}
+			for (int run = skeleton.runBegin(current); run < skeleton.runEnd(current); run++) {
+				workspace.relax(skeleton.runTail(run), currentCost + skeleton.runWeight(run, type), run);
+			}
+		}
+
+		recordSettledNodes(settled);
+		if (viaSkeleton) {
+			return Optional.of(expandSkeletonPath(snapshot, skeleton, workspace, sourceIndex, sourceRun, targetIndex, targetRun, targetNode));
+		}
+		if (direct) {
+			return Optional.of(expand(snapshot, skeleton, sourceIndex, skeleton.stationPosition(sourceIndex), skeleton.stationPosition(targetIndex)));
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 출발역의 run 나머지, 골격망에서 지난 run 들, 도착역 run 의 앞부분 순서로 원본 간선을 잇는다. 길이를 먼저 센 뒤 뒤에서부터 채운다.
+	 */
+	private Path expandSkeletonPath(NetworkSnapshot snapshot, LineSkeleton skeleton, DijkstraWorkspace workspace, int sourceIndex, int sourceRun, int targetIndex,
+		int targetRun, int targetNode) {
+		int sourceLength = sourceRun == LineSkeleton.NO_RUN ? 0 : skeleton.runEdgeEnd(sourceRun) - skeleton.stationPosition(sourceIndex);
+		int targetLength = targetRun == LineSkeleton.NO_RUN ? 0 : skeleton.stationPosition(targetIndex) - skeleton.runEdgeBegin(targetRun);
+		int length = sourceLength + targetLength;
+		for (int node = targetNode, run = workspace.previousEdgeOf(node); run != DijkstraWorkspace.NO_EDGE; node = skeleton.runHead(run), run = workspace.previousEdgeOf(node)) {
+			length += skeleton.runEdgeEnd(run) - skeleton.runEdgeBegin(run);
+		}
+
+		int[] edges = pathBuffers.get().edges(length);
+		int cursor = length;
+		if (targetRun != LineSkeleton.NO_RUN) {
+			cursor = copyBackward(skeleton, skeleton.runEdgeBegin(targetRun), skeleton.stationPosition(targetIndex), edges, cursor);
+		}
+		for (int node = targetNode, run = workspace.previousEdgeOf(node); run != DijkstraWorkspace.NO_EDGE; node = skeleton.runHead(run), run = workspace.previousEdgeOf(node)) {
+			cursor = copyBackward(skeleton, skeleton.runEdgeBegin(run), skeleton.runEdgeEnd(run), edges, cursor);
+		}
+		if (sourceRun != LineSkeleton.NO_RUN) {
+			copyBackward(skeleton, skeleton.stationPosition(sourceIndex), skeleton.runEdgeEnd(sourceRun), edges, cursor);
+		}
+		return snapshot.toPath(sourceIndex, edges, length);
+	}
+
+	private Path expand(NetworkSnapshot snapshot, LineSkeleton skeleton, int sourceIndex, int fromPosition, int toPosition) {
+		int length = toPosition - fromPosition;
+		int[] edges = pathBuffers.get().edges(length);
+		copyBackward(skeleton, fromPosition, toPosition, edges, length);
+		return snapshot.toPath(sourceIndex, edges, length);
+	}
+
+	private int copyBackward(LineSkeleton skeleton, int fromPosition, int toPosition, int[] edges, int cursor) {
+		for (int position = toPosition - 1; position >= fromPosition; position--) {
+			edges[--cursor] = skeleton.runEdgeAt(position);
+		}
+		return cursor;
+	}
+
+	/**
+	 * 펼친 원본 간선을 담는 스레드별 버퍼. 스냅샷이 결과 Path 를 만든 뒤에는 다시 쓴다.
+	 */
+	private static final class PathBuffer {
+		private int[] edges;
+
+		private PathBuffer(int capacity) {
+			this.edges = new int[capacity];
+		}
+
+		private int[] edges(int length) {
+			if (edges.length < length) {
+				edges = Arrays.copyOf(edges, Math.max(length, edges.length * 2));
+			}
+			return edges;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.SameLinePathFinder;
+import nextstep.api.subway.util.LandmarkIndex;
+import nextstep.api.subway.util.LinePrefixSums;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 노선별 누적 가중치(LinePrefixSums)로 같은 노선 경로의 비용을 O(1) 에 구하고, 랜드마크 하한으로 그 경로가 최단인지 가린다.
+ * <p>
+ * 출발역과 도착역을 이 순서로 지나는 노선이 여럿이면 비용이 가장 작은 노선을 고른다. 그 비용이 랜드마크 거리표로 구한 출발역-도착역 하한보다 크지 않으면
+ * 갈아타는 어떤 경로도 더 싸질 수 없으므로 탐색 없이 O(지나는 역 수) 로 경로를 만든다. 하한이 느슨해 가릴 수 없으면 비워 두어 원래 엔진이 찾게 한다.
+ * 비용과 하한은 모두 탐색 엔진과 같은 합성 가중치(기준 지표 + 보조 지표)이므로 엔진이 찾았을 경로와 비용이 같다.
+ * <p>
+ * 거리/소요 시간 기준만 다룬다. 지연을 덧씌운 스냅샷은 랜드마크 거리표를 새로 만들어야 하므로 다루지 않는다.
+ * 랜드마크 거리표는 ALT 탐색기와 함께 쓰며, 이 경로를 켜면 LandmarkIndexPreprocessor 가 스냅샷 교체 전에 만들어 둔다.
+ * 같은 노선 경로로 답한 조회와 하한에 막혀 탐색으로 넘긴 조회 수는 subway.path.same-line 지표(result=answered/searched)로 남긴다.
+ * 설정(subway.path.same-line-fast-path)으로 끌 수 있다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class PrefixSumSameLinePathFinder implements SameLinePathFinder {
+
+	public static final String SAME_LINE_METRIC = "subway.path.same-line";
+
+	private static final int NO_STOP = -1;
+
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final AltPathFinder altPathFinder;
+	private final Counter answeredQueries;
+	private final Counter searchedQueries;
+
+	public PrefixSumSameLinePathFinder(MeterRegistry meterRegistry, PathSearchConfigCollector pathSearchConfigCollector, AltPathFinder altPathFinder) {
+		this.pathSearchConfigCollector = pathSearchConfigCollector;
+		this.altPathFinder = altPathFinder;
+		this.answeredQueries = Counter.builder(SAME_LINE_METRIC)
+			.description("Number of same-line queries answered from line prefix sums or handed to the full search")
+			.tag("result", "answered")
+			.register(meterRegistry);
+		this.searchedQueries = Counter.builder(SAME_LINE_METRIC)
+			.description("Number of same-line queries answered from line prefix sums or handed to the full search")
+			.tag("result", "searched")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Optional<Path> findSameLinePath(Long sourceStationId, Long targetStationId, PathRequestType type, NetworkSnapshot snapshot) {
+		if (!pathSearchConfigCollector.isSameLineFastPath() || snapshot.isOverlaid() || !(PathRequestType.isDistance(type) || type == PathRequestType.DURATION)) {
+			return Optional.empty();
+		}
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION || sourceIndex == targetIndex) {
+			return Optional.empty();
+		}
+
+		LinePrefixSums prefixSums = LinePrefixSums.fetch(snapshot);
+		int bestBoardStop = NO_STOP;
+		int bestAlightStop = NO_STOP;
+		long bestWeight = Long.MAX_VALUE;
+		for (int boardPosition = prefixSums.stationStopBegin(sourceIndex); boardPosition < prefixSums.stationStopEnd(sourceIndex); boardPosition++) {
+			int boardStop = prefixSums.stationStopAt(boardPosition);
+			for (int alightPosition = prefixSums.stationStopBegin(targetIndex); alightPosition < prefixSums.stationStopEnd(targetIndex); alightPosition++) {
+				int alightStop = prefixSums.stationStopAt(alightPosition);
+				if (prefixSums.lineOfStop(alightStop) != prefixSums.lineOfStop(boardStop) || alightStop < boardStop) {
+					continue;
+				}
+				long weight = prefixSums.weightBetween(boardStop, alightStop, type);
+				if (weight < bestWeight) {
+					bestWeight = weight;
+					bestBoardStop = boardStop;
+					bestAlightStop = alightStop;
+				}
+			}
+		}
+		if (bestBoardStop == NO_STOP) {
+			return Optional.empty();
+		}
+
+		LandmarkIndex landmarkIndex = altPathFinder.fetchLandmarkIndex(snapshot);
+		if (bestWeight > landmarkIndex.lowerBound(sourceIndex, targetIndex, type)) {
+			searchedQueries.increment();
+			return Optional.empty();
+		}
+
+		answeredQueries.increment();
+		int[] edges = new int[bestAlightStop - bestBoardStop];
+		for (int stop = bestBoardStop; stop < bestAlightStop; stop++) {
+			edges[stop - bestBoardStop] = prefixSums.edgeOfStop(stop);
+		}
+		return Optional.of(snapshot.toPath(sourceIndex, edges, edges.length));
+	}
+}
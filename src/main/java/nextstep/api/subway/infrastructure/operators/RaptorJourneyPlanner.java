@@ -0,0 +1,102 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.Journey;
+import nextstep.api.subway.domain.model.vo.JourneyLeg;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.operators.JourneyPlanner;
+import nextstep.api.subway.util.RaptorSearch;
+import nextstep.api.subway.util.ServiceClock;
+import nextstep.api.subway.util.TimetableIndex;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 시각표가 있는 노선만으로 출발 시각 이후 가장 일찍 도착하는 여정을 RAPTOR 로 찾는다.
+ * <p>
+ * 시각표는 스냅샷마다 한 번 펼쳐 둔 TimetableIndex 를 공유하고, 탐색 작업 공간은 스레드마다 하나씩 재사용하므로
+ * 하루치 편이 모두 들어 있어도 요청마다 편 구조를 새로 만들지 않는다.
+ * 탑승 횟수는 설정(subway.path.journey-max-rounds)으로, 갈아탈 때 필요한 최소 시간은 설정(subway.path.journey-min-transfer-minutes)으로 정한다.
+ * 라운드마다 훑은 노선 수는 지표(subway.path.journey.scanned-routes)로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class RaptorJourneyPlanner implements JourneyPlanner {
+
+	public static final String SCANNED_ROUTES_METRIC = "subway.path.journey.scanned-routes";
+
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final DistributionSummary scannedRoutes;
+	private final ThreadLocal<RaptorSearch> searches = ThreadLocal.withInitial(RaptorSearch::new);
+
+	public RaptorJourneyPlanner(MeterRegistry meterRegistry, PathSearchConfigCollector pathSearchConfigCollector) {
+		this.pathSearchConfigCollector = pathSearchConfigCollector;
+		this.scannedRoutes = DistributionSummary.builder(SCANNED_ROUTES_METRIC)
+			.description("Number of routes scanned per journey search")
+			.tag("engine", "raptor")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Journey findJourney(Long sourceStationId, Long targetStationId, LocalTime departureTime, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		TimetableIndex index = TimetableIndex.fetch(snapshot);
+		RaptorSearch search = searches.get();
+		int departureMinute = ServiceClock.toServiceMinute(departureTime);
+		int legCount = search.search(index, snapshot.stationCount(), sourceIndex, targetIndex, departureMinute,
+			Math.max(1, pathSearchConfigCollector.getJourneyMaxRounds()), Math.max(0, pathSearchConfigCollector.getJourneyMinTransferMinutes()));
+		scannedRoutes.record(search.scannedRoutes());
+		if (legCount == RaptorSearch.NO_JOURNEY) {
+			throw new PathNotValidException("No journey departs after the requested time between the source and target stations.");
+		}
+
+		return toJourney(snapshot, index, search, sourceIndex, legCount, departureTime, departureMinute);
+	}
+
+	private Journey toJourney(NetworkSnapshot snapshot, TimetableIndex index, RaptorSearch search, int sourceIndex, int legCount, LocalTime departureTime,
+		int departureMinute) {
+		int edgeCount = 0;
+		for (int leg = 0; leg < legCount; leg++) {
+			edgeCount += search.legAlightStop(leg) - search.legBoardStop(leg);
+		}
+		int[] edges = new int[edgeCount];
+		List<JourneyLeg> legs = new ArrayList<>(legCount);
+		int cursor = 0;
+		for (int leg = 0; leg < legCount; leg++) {
+			int boardStop = search.legBoardStop(leg);
+			int alightStop = search.legAlightStop(leg);
+			int trip = search.legTrip(leg);
+			List<Station> stations = new ArrayList<>(alightStop - boardStop + 1);
+			long distance = 0L;
+			for (int stop = boardStop; stop <= alightStop; stop++) {
+				stations.add(snapshot.stationAt(index.stationOfStop(stop)));
+				if (stop < alightStop) {
+					edges[cursor++] = index.edgeOfStop(stop);
+					distance += snapshot.edgeDistance(index.edgeOfStop(stop));
+				}
+			}
+			legs.add(JourneyLeg.of(snapshot.lineAt(index.lineOfRoute(index.routeOfStop(boardStop))), stations, distance,
+				ServiceClock.toLocalTime(index.tripDeparture(trip) + index.minuteOfStop(boardStop)),
+				ServiceClock.toLocalTime(index.tripDeparture(trip) + index.minuteOfStop(alightStop))));
+		}
+
+		Path path = snapshot.toPath(sourceIndex, edges, edgeCount);
+		return Journey.of(path, legs, departureTime, ServiceClock.toLocalTime(search.arrivalMinute()), (long)(search.arrivalMinute() - departureMinute));
+	}
+}
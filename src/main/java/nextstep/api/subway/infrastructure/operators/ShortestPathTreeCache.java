@@ -0,0 +1,64 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.util.ShortestPathTree;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 출발역별 최단 경로 트리를 (출발역, 비용 기준, 네트워크 버전, 지연 오버레이 개정) 단위로 보관하는 캐시.
+ * <p>
+ * 요청이 몇몇 환승역에서 출발하는 경우에 몰리므로, 한 번 만든 트리로 같은 출발역의 모든 도착역 조회에 답한다.
+ * 캐시는 트리가 차지하는 바이트 수로 무게를 재며 설정(subway.path.tree-cache-maximum-bytes)을 넘으면 오래 쓰이지 않은 트리부터 밀어낸다.
+ * 키에 네트워크 버전과 오버레이 개정이 들어 있으므로 노선도나 구간 지연이 바뀐 뒤의 조회는 새 트리를 만들고, 이전 버전의 트리는 더 이상 쓰이지 않다가 밀려난다.
+ * 축출 등 캐시 정리 작업은 공용 스레드 풀로 넘기지 않고 호출 스레드에서 바로 수행해 지표가 늦게 반영되지 않게 한다.
+ * 적중/실패/축출 횟수는 cache.gets, cache.evictions 지표(cache=shortestPathTrees)로 노출된다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class ShortestPathTreeCache {
+
+	public static final String CACHE_NAME = "shortestPathTrees";
+
+	private final Cache<TreeKey, ShortestPathTree> trees;
+
+	public ShortestPathTreeCache(MeterRegistry meterRegistry, PathSearchConfigCollector pathSearchConfigCollector) {
+		this.trees = Caffeine.newBuilder()
+			.maximumWeight(pathSearchConfigCollector.getTreeCacheMaximumBytes())
+			.weigher((TreeKey key, ShortestPathTree tree) -> (int)Math.min(tree.memoryBytes(), Integer.MAX_VALUE))
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, trees, CACHE_NAME);
+	}
+
+	public ShortestPathTree fetch(NetworkSnapshot snapshot, int sourceIndex, PathRequestType type) {
+		TreeKey key = TreeKey.of(snapshot.stationAt(sourceIndex).getId(), type, snapshot.version(), snapshot.overlayRevision());
+		return trees.get(key, ignored -> ShortestPathTree.of(snapshot, sourceIndex, type, false));
+	}
+
+	public CacheStats stats() {
+		return trees.stats();
+	}
+
+	@Value
+	@AllArgsConstructor(staticName = "of")
+	private static class TreeKey {
+		Long sourceStationId;
+		PathRequestType type;
+		long networkVersion;
+		long overlayRevision;
+	}
+}
@@ -0,0 +1,46 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+import nextstep.api.subway.domain.operators.PathMatrixFinder;
+import nextstep.api.subway.util.ShortestPathTree;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * 출발역마다 최단 경로 트리를 한 번 만들고, 모든 도착역의 합계를 트리에서 바로 읽어 행렬의 한 행을 채운다.
+ * <p>
+ * 행렬 요청은 출발역 수백 개를 한꺼번에 훑으므로 트리를 ShortestPathTreeCache 에 넣지 않는다.
+ * 넣으면 단건 조회가 자주 쓰는 트리가 한 번 쓰고 버릴 트리에 밀려나기 때문이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class ShortestPathTreeMatrixFinder implements PathMatrixFinder {
+
+	@Override
+	public List<PathSummary> findPathSummaries(Long sourceStationId, List<Long> targetStationIds, PathRequestType type, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		ShortestPathTree tree = ShortestPathTree.of(snapshot, sourceIndex, type, false);
+		List<PathSummary> summaries = new ArrayList<>(targetStationIds.size());
+		for (Long targetStationId : targetStationIds) {
+			int targetIndex = snapshot.indexOf(targetStationId);
+			if (targetIndex == NetworkSnapshot.NO_STATION || !tree.isReachable(targetIndex)) {
+				summaries.add(null);
+				continue;
+			}
+			summaries.add(PathSummary.of(tree.distanceOf(targetIndex), tree.durationOf(targetIndex)));
+		}
+		return summaries;
+	}
+}
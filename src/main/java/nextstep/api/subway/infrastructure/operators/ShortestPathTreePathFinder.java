@@ -0,0 +1,42 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.ShortestPathTree;
+
+/**
+ * 출발역 하나에서 모든 역까지의 최단 경로 트리를 만들어 캐시해 두고, 도착역에서 선행 간선을 거슬러 올라가 답하는 탐색기.
+ * <p>
+ * 트리를 처음 만들 때는 도달 가능한 모든 역을 확정하므로 단방향 다익스트라보다 비싸지만,
+ * 같은 출발역에서 나가는 이후의 조회는 경로 길이에 비례하는 비용만 든다. 출발역이 몇몇 역에 몰리는 경우에 알맞다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class ShortestPathTreePathFinder extends AbstractSnapshotPathFinder {
+
+	private final ShortestPathTreeCache shortestPathTreeCache;
+
+	public ShortestPathTreePathFinder(MeterRegistry meterRegistry, ShortestPathTreeCache shortestPathTreeCache) {
+		super(meterRegistry, "tree");
+		this.shortestPathTreeCache = shortestPathTreeCache;
+	}
+
+	@Override
+	protected Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		ShortestPathTree tree = shortestPathTreeCache.fetch(snapshot, sourceIndex, type);
+		if (!tree.isReachable(targetIndex)) {
+			return Optional.empty();
+		}
+
+		int[] edges = tree.pathEdgesTo(snapshot, targetIndex);
+		return Optional.of(snapshot.toPath(sourceIndex, edges, edges.length));
+	}
+}
@@ -0,0 +1,109 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.domain.model.vo.ClosureScenario;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.ClosureScenarioResolver;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * 시나리오마다 (시나리오, 마지막으로 마스크를 만든 스냅샷의 버전과 모양, 마스크) 를 들고 있다.
+ * <p>
+ * 마스크는 스냅샷의 간선 수 / 8 바이트 정도이므로 시나리오가 많아도 메모리 부담이 작다. 스냅샷이 교체된 뒤 처음 조회하는 요청만
+ * 간선 수에 비례하는 비용으로 마스크를 다시 만들고, 그 뒤의 조회는 버전과 역/간선 수를 비교하는 것으로 끝난다.
+ * 스냅샷 자체를 붙들면 교체된 뒤에도 이전 스냅샷과 그 전처리 결과가 살아남으므로 버전과 역/간선 수만 기억한다.
+ * 지연을 덧씌운 파생 스냅샷은 버전과 역/간선 배열을 원본과 공유하므로 원본의 마스크를 그대로 쓴다.
+ * 시나리오를 같은 이름으로 다시 저장하면 항목을 통째로 바꾸므로 이전 시나리오의 마스크가 섞이지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class SimpleClosureScenarioResolver implements ClosureScenarioResolver {
+
+	private static final long NO_VERSION = -1L;
+
+	private final ConcurrentMap<String, ScenarioEntry> scenarios = new ConcurrentHashMap<>();
+
+	@Override
+	public ClosureScenario save(ClosureScenario scenario) {
+		scenarios.put(scenario.getName(), new ScenarioEntry(scenario));
+		return scenario;
+	}
+
+	@Override
+	public Optional<ClosureScenario> fetch(String name) {
+		return Optional.ofNullable(scenarios.get(name)).map(ScenarioEntry::getScenario);
+	}
+
+	@Override
+	public List<ClosureScenario> fetchAll() {
+		return scenarios.values().stream()
+			.map(ScenarioEntry::getScenario)
+			.sorted(Comparator.comparing(ClosureScenario::getName))
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	@Override
+	public boolean delete(String name) {
+		return scenarios.remove(name) != null;
+	}
+
+	@Override
+	public void clear() {
+		scenarios.clear();
+	}
+
+	@Override
+	public Optional<ClosureMask> fetchMask(String name, NetworkSnapshot snapshot) {
+		return Optional.ofNullable(scenarios.get(name)).map(entry -> entry.maskOf(snapshot));
+	}
+
+	private static final class ScenarioEntry {
+		private final ClosureScenario scenario;
+		private final AtomicReference<MaskState> mask = new AtomicReference<>(MaskState.of(NO_VERSION, 0, 0, ClosureMask.NONE));
+
+		private ScenarioEntry(ClosureScenario scenario) {
+			this.scenario = scenario;
+		}
+
+		private ClosureScenario getScenario() {
+			return scenario;
+		}
+
+		private ClosureMask maskOf(NetworkSnapshot snapshot) {
+			MaskState current = mask.get();
+			if (current.isBuiltFor(snapshot)) {
+				return current.getMask();
+			}
+			ClosureMask built = scenario.toMask(snapshot);
+			mask.compareAndSet(current, MaskState.of(snapshot.version(), snapshot.stationCount(), snapshot.edgeCount(), built));
+			return built;
+		}
+	}
+
+	@Value
+	@AllArgsConstructor(staticName = "of")
+	private static class MaskState {
+		long version;
+		int stationCount;
+		int edgeCount;
+		ClosureMask mask;
+
+		private boolean isBuiltFor(NetworkSnapshot snapshot) {
+			return version == snapshot.version() && stationCount == snapshot.stationCount() && edgeCount == snapshot.edgeCount();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.domain.model.vo.DelayOverlay;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+import nextstep.api.subway.domain.operators.DelayOverlayResolver;
+import nextstep.api.subway.util.LandmarkIndex;
+
+/**
+ * 지연 오버레이와 그것을 덧씌운 파생 스냅샷을 한 쌍으로 보관한다.
+ * <p>
+ * 읽기는 AtomicReference 하나를 읽는 것으로 끝나므로 잠금이 없다. 원본 스냅샷이 교체되었거나 오버레이가 바뀐 뒤 처음 읽는 요청만
+ * 간선 수에 비례하는 비용으로 파생 스냅샷을 만들고, 동시에 여러 요청이 만들더라도 결과는 같으므로 먼저 저장한 쪽을 함께 쓴다.
+ * 쓰기(일괄 변경, 만료 정리)는 이 객체의 모니터로 직렬화해 개정 번호가 뒤섞이지 않게 한다.
+ * 만료는 따로 타이머를 두지 않고, 읽는 요청이 가장 이른 만료 시각이 지난 것을 보면 그때 걷어 낸다.
+ * 지연은 소요 시간을 늘리기만 하므로 파생 스냅샷은 원본의 랜드마크 거리표를 그대로 빌려 쓴다. 그래서 ALT 탐색은 개정마다 거리표를 다시 만들지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class SimpleDelayOverlayResolver implements DelayOverlayResolver {
+
+	private final LongSupplier clock;
+	private final AtomicLong revisions = new AtomicLong();
+	private final AtomicReference<OverlayState> state = new AtomicReference<>(OverlayState.of(DelayOverlay.empty(), null, null));
+
+	@Autowired
+	public SimpleDelayOverlayResolver() {
+		this(System::currentTimeMillis);
+	}
+
+	SimpleDelayOverlayResolver(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public NetworkSnapshot applyTo(NetworkSnapshot snapshot) {
+		OverlayState current = currentState();
+		if (current.getOverlay().isEmpty() || snapshot.isOverlaid()) {
+			return snapshot;
+		}
+		if (current.getBase() == snapshot) {
+			return current.getOverlaid();
+		}
+
+		NetworkSnapshot overlaid = snapshot.withEdgeDelays(current.getOverlay().edgeDelaysOf(snapshot), current.getOverlay().getRevision(), LandmarkIndex.class);
+		state.compareAndSet(current, OverlayState.of(current.getOverlay(), snapshot, overlaid));
+		return overlaid;
+	}
+
+	@Override
+	public DelayOverlay fetch() {
+		return currentState().getOverlay();
+	}
+
+	@Override
+	public synchronized DelayOverlay update(List<SectionDelay> delays) {
+		DelayOverlay updated = state.get().getOverlay().merge(revisions.incrementAndGet(), delays, clock.getAsLong());
+		state.set(OverlayState.of(updated, null, null));
+		return updated;
+	}
+
+	@Override
+	public synchronized DelayOverlay clear() {
+		DelayOverlay cleared = DelayOverlay.empty().merge(revisions.incrementAndGet(), Collections.emptyList(), clock.getAsLong());
+		state.set(OverlayState.of(cleared, null, null));
+		return cleared;
+	}
+
+	private OverlayState currentState() {
+		OverlayState current = state.get();
+		if (!current.getOverlay().hasExpired(clock.getAsLong())) {
+			return current;
+		}
+		return pruneExpired();
+	}
+
+	private synchronized OverlayState pruneExpired() {
+		OverlayState current = state.get();
+		long now = clock.getAsLong();
+		if (current.getOverlay().hasExpired(now)) {
+			current = OverlayState.of(current.getOverlay().prune(revisions.incrementAndGet(), now), null, null);
+			state.set(current);
+		}
+		return current;
+	}
+
+	@Value
+	@AllArgsConstructor(staticName = "of")
+	private static class OverlayState {
+		DelayOverlay overlay;
+		NetworkSnapshot base;
+		NetworkSnapshot overlaid;
+	}
+}
@@ -0,0 +1,33 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.LineResolver;
+import nextstep.api.subway.domain.operators.NetworkSnapshotFactory;
+import nextstep.api.subway.domain.operators.StationResolver;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+public class SimpleNetworkSnapshotFactory implements NetworkSnapshotFactory {
+	private final StationResolver stationResolver;
+	private final LineResolver lineResolver;
+
+	/**
+	 * 노선의 구간은 지연 로딩되므로 스냅샷 조립이 끝날 때까지 하나의 읽기 전용 트랜잭션 안에서 수행한다.
+	 * 고립된 역(구간이 없는 역)도 존재 여부 검증을 위해 스냅샷에 포함한다.
+	 * 커밋 직후 콜백에서 호출될 수 있으므로 이미 끝난 트랜잭션의 영속성 컨텍스트에 참여하지 않고 새 트랜잭션에서 읽는다.
+	 */
+	@Override
+	@Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+	public NetworkSnapshot createSnapshot(long version) {
+		return NetworkSnapshot.of(version, stationResolver.fetchAll(), lineResolver.fetchAll());
+	}
+}
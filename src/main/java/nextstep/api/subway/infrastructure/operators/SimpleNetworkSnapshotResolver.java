@@ -0,0 +1,184 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+import nextstep.api.subway.domain.event.NetworkChangedEvent;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.NetworkSnapshotFactory;
+import nextstep.api.subway.domain.operators.NetworkSnapshotPreprocessor;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.util.LineSkeleton;
+import nextstep.common.yml.NetworkSnapshotConfigCollector;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 네트워크 스냅샷을 버전과 함께 보관하고, 변경이 커밋되면 백그라운드에서 새 스냅샷으로 교체한다.
+ * <p>
+ * 변경 이벤트는 커밋 이후에만 요청 버전을 올리므로 커밋되지 않은 데이터로 스냅샷이 만들어지지 않는다.
+ * 조회에 노출하는 네트워크 버전은 새 스냅샷으로 교체를 마친 뒤에만 올리므로, 버전을 키로 쓰는 캐시는 언제나 실제로 제공 중인 스냅샷의 버전으로 결과를 보관한다.
+ * 설정된 지연 시간 안에 연달아 들어온 변경은 한 번의 재조립으로 합쳐지며,
+ * 재조립이 끝나기 전까지 조회 요청은 잠금 없이 직전 스냅샷을 그대로 사용한다.
+ * 재조립은 전용 스레드 하나에서 직렬로 수행되고, 완성된 스냅샷은 엔진별 전처리(NetworkSnapshotPreprocessor)를 마친 뒤 원자적으로 교체된다.
+ * 골격망 탐색(subway.path.search-strategy=LINE_SKELETON)을 쓰면 조립 단계에서 차수 2 역 사슬을 접은 골격망(LineSkeleton)을 만들어 스냅샷에 붙이고,
+ * 교체를 마친 스냅샷의 골격망이 원본 대비 남긴 역/간선 비율을 지표(subway.snapshot.compaction.ratio, element=stations/edges)로 남긴다.
+ * 골격망을 읽는 엔진은 LineSkeletonPathFinder 뿐이므로, 다른 탐색 전략에서는 골격망을 만들지 않고 지표도 등록하지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Slf4j
+@Component
+public class SimpleNetworkSnapshotResolver implements NetworkSnapshotResolver {
+
+	public static final String COMPACTION_RATIO_METRIC = "subway.snapshot.compaction.ratio";
+
+	private final NetworkSnapshotFactory networkSnapshotFactory;
+	private final NetworkSnapshotConfigCollector networkSnapshotConfigCollector;
+	private final List<NetworkSnapshotPreprocessor> networkSnapshotPreprocessors;
+	private final boolean compactionEnabled;
+
+	private final AtomicLong originalStations = new AtomicLong();
+	private final AtomicLong reducedStations = new AtomicLong();
+	private final AtomicLong originalEdges = new AtomicLong();
+	private final AtomicLong reducedEdges = new AtomicLong();
+	private final AtomicLong requestedVersion = new AtomicLong();
+	private final AtomicLong networkVersion = new AtomicLong();
+	private final AtomicReference<NetworkSnapshot> snapshot = new AtomicReference<>();
+	private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+	private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "network-snapshot-rebuilder");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public SimpleNetworkSnapshotResolver(NetworkSnapshotFactory networkSnapshotFactory, NetworkSnapshotConfigCollector networkSnapshotConfigCollector,
+		List<NetworkSnapshotPreprocessor> networkSnapshotPreprocessors, PathSearchConfigCollector pathSearchConfigCollector, MeterRegistry meterRegistry) {
+		this.networkSnapshotFactory = networkSnapshotFactory;
+		this.networkSnapshotConfigCollector = networkSnapshotConfigCollector;
+		this.networkSnapshotPreprocessors = networkSnapshotPreprocessors;
+		this.compactionEnabled = pathSearchConfigCollector.getSearchStrategy() == PathSearchStrategy.LINE_SKELETON;
+		if (!compactionEnabled) {
+			return;
+		}
+		Gauge.builder(COMPACTION_RATIO_METRIC, reducedStations, reduced -> ratioOf(reduced.get(), originalStations.get()))
+			.description("Share of snapshot stations or edges kept in the latest compacted skeleton graph")
+			.tag("element", "stations")
+			.register(meterRegistry);
+		Gauge.builder(COMPACTION_RATIO_METRIC, reducedEdges, reduced -> ratioOf(reduced.get(), originalEdges.get()))
+			.description("Share of snapshot stations or edges kept in the latest compacted skeleton graph")
+			.tag("element", "edges")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 애플리케이션 기동 후 첫 조회만 스냅샷 조립을 기다리며, 이후의 조회는 보관 중인 스냅샷을 즉시 반환한다.
+	 */
+	@Override
+	public NetworkSnapshot fetch() {
+		NetworkSnapshot current = snapshot.get();
+		if (current != null) {
+			return current;
+		}
+
+		rebuild();
+		return snapshot.get();
+	}
+
+	@Override
+	public long fetchNetworkVersion() {
+		return networkVersion.get();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNetworkChanged(NetworkChangedEvent event) {
+		requestedVersion.incrementAndGet();
+
+		long rebuildDelayMillis = networkSnapshotConfigCollector.getRebuildDelayMillis();
+		if (rebuildDelayMillis <= 0) {
+			tryRebuild();
+			return;
+		}
+
+		if (rebuildScheduled.compareAndSet(false, true)) {
+			rebuilder.schedule(this::runScheduledRebuild, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		rebuilder.shutdownNow();
+	}
+
+	/**
+	 * 예약 플래그를 먼저 내려 두어야 재조립 도중 커밋된 변경이 다음 재조립을 예약할 수 있다.
+	 */
+	private void runScheduledRebuild() {
+		rebuildScheduled.set(false);
+		tryRebuild();
+	}
+
+	/**
+	 * 재조립에 실패하면 직전 스냅샷과 그 버전을 그대로 유지하고, 다음 변경 이벤트에서 다시 시도한다.
+	 * 커밋 이후에 호출되므로 예외를 밖으로 던지지 않는다.
+	 */
+	private void tryRebuild() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("Failed to rebuild network snapshot for version {}, keeping version {}", requestedVersion.get(), networkVersion.get(), e);
+		}
+	}
+
+	/**
+	 * 재조립끼리는 같은 모니터로 직렬화되므로 더 오래된 버전의 스냅샷이 최신 스냅샷을 덮어쓰지 않는다.
+	 * 네트워크 버전은 스냅샷을 교체한 뒤에 올리므로, 새 버전을 읽은 쪽은 반드시 그 버전 이상의 스냅샷을 받는다.
+	 * 압축 비율은 교체한 스냅샷 기준으로 조립마다 한 번만 기록한다.
+	 */
+	private synchronized void rebuild() {
+		long targetVersion = requestedVersion.get();
+		NetworkSnapshot current = snapshot.get();
+		if (current != null && current.version() >= targetVersion) {
+			return;
+		}
+		NetworkSnapshot rebuilt = networkSnapshotFactory.createSnapshot(targetVersion);
+		LineSkeleton skeleton = compactionEnabled ? rebuilt.fetchIndex(LineSkeleton.class, LineSkeleton::of) : null;
+		networkSnapshotPreprocessors.forEach(preprocessor -> preprocessor.preprocess(rebuilt));
+		snapshot.set(rebuilt);
+		networkVersion.set(targetVersion);
+		if (skeleton != null) {
+			recordCompaction(rebuilt, skeleton);
+		}
+	}
+
+	private void recordCompaction(NetworkSnapshot rebuilt, LineSkeleton skeleton) {
+		originalStations.set(rebuilt.stationCount());
+		reducedStations.set(skeleton.nodeCount());
+		originalEdges.set(rebuilt.edgeCount());
+		reducedEdges.set(skeleton.runCount());
+		log.info("Compacted network snapshot version {}: {} -> {} stations, {} -> {} edges", rebuilt.version(), rebuilt.stationCount(), skeleton.nodeCount(),
+			rebuilt.edgeCount(), skeleton.runCount());
+	}
+
+	/**
+	 * 빈 스냅샷은 줄일 것이 없으므로 1 로 본다.
+	 */
+	private static double ratioOf(long reduced, long original) {
+		return original == 0 ? 1.0 : (double)reduced / original;
+	}
+}
@@ -0,0 +1,67 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+import nextstep.api.subway.domain.operators.PathFinder;
+import nextstep.api.subway.domain.operators.PathFinderSelector;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * 설정(subway.path.search-strategy)에 따라 경로 탐색 엔진을 고른다.
+ * 모든 엔진은 같은 스냅샷과 같은 간선 가중치를 사용하므로 어떤 엔진을 고르더라도 같은 비용의 경로를 돌려준다.
+ * 요금 기준은 간선 가중치로 나타낼 수 없으므로 설정과 관계없이 전용 엔진(FareOptimalPathFinder)이 맡는다.
+ * 최소 환승 기준과, 환승 벌점(subway.path.transfer-penalty-minutes)이 설정된 소요 시간 기준은 노선 단위로 탐색하는 LineExpandedPathFinder 가 맡는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+public class SimplePathFinderSelector implements PathFinderSelector {
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder;
+	private final BidirectionalDijkstraPathFinder bidirectionalDijkstraPathFinder;
+	private final AltPathFinder altPathFinder;
+	private final ContractionHierarchyPathFinder contractionHierarchyPathFinder;
+	private final ShortestPathTreePathFinder shortestPathTreePathFinder;
+	private final LineSkeletonPathFinder lineSkeletonPathFinder;
+	private final FareOptimalPathFinder fareOptimalPathFinder;
+	private final LineExpandedPathFinder lineExpandedPathFinder;
+
+	@Override
+	public PathFinder select() {
+		return select(pathSearchConfigCollector.getSearchStrategy());
+	}
+
+	@Override
+	public PathFinder selectFor(PathRequestType type) {
+		if (PathRequestType.isFare(type)) {
+			return fareOptimalPathFinder;
+		}
+		if (PathRequestType.isMinTransfer(type) || (!PathRequestType.isDistance(type) && pathSearchConfigCollector.getTransferPenaltyMinutes() > 0)) {
+			return lineExpandedPathFinder;
+		}
+		return select();
+	}
+
+	@Override
+	public PathFinder select(PathSearchStrategy strategy) {
+		switch (strategy) {
+			case BIDIRECTIONAL_DIJKSTRA:
+				return bidirectionalDijkstraPathFinder;
+			case ALT:
+				return altPathFinder;
+			case CONTRACTION_HIERARCHY:
+				return contractionHierarchyPathFinder;
+			case SHORTEST_PATH_TREE:
+				return shortestPathTreePathFinder;
+			case LINE_SKELETON:
+				return lineSkeletonPathFinder;
+			default:
+				return indexedHeapDijkstraPathFinder;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.api.subway.domain.operators.PathSearchCoalescer;
+import nextstep.api.subway.util.SingleFlight;
+
+/**
+ * SingleFlight 로 같은 키의 탐색을 하나로 묶는 PathSearchCoalescer.
+ * <p>
+ * 네트워크 버전이 바뀐 직후처럼 인기 구간이 한꺼번에 캐시를 놓치는 순간의 중복 탐색을 막는다.
+ * 다른 요청의 탐색 결과를 기다린 요청 수는 subway.path.search.coalesced 지표로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class SingleFlightPathSearchCoalescer implements PathSearchCoalescer {
+
+	public static final String COALESCED_METRIC = "subway.path.search.coalesced";
+
+	private final SingleFlight<PathSearchKey, PathInfo> pathSearches;
+
+	public SingleFlightPathSearchCoalescer(MeterRegistry meterRegistry) {
+		Counter coalesced = Counter.builder(COALESCED_METRIC)
+			.description("Number of path requests that waited for an identical in-flight search")
+			.register(meterRegistry);
+		this.pathSearches = new SingleFlight<>(coalesced::increment);
+	}
+
+	@Override
+	public PathInfo coalesce(Long source, Long target, PathRequestType type, long networkVersion, long overlayRevision, Supplier<PathInfo> search) {
+		return pathSearches.execute(PathSearchKey.of(source, target, type, networkVersion, overlayRevision), search);
+	}
+
+	@Value
+	@AllArgsConstructor(staticName = "of")
+	private static class PathSearchKey {
+		Long source;
+		Long target;
+		PathRequestType type;
+		long networkVersion;
+		long overlayRevision;
+	}
+}
@@ -0,0 +1,78 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.model.vo.PathAlternatives;
+import nextstep.api.subway.domain.operators.AlternativePathFinder;
+import nextstep.api.subway.util.KShortestPaths;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * Yen 알고리즘(KShortestPaths)으로 대안 경로를 찾는 조회기.
+ * <p>
+ * 요청 하나가 코어를 오래 붙잡지 않도록 설정(subway.path.alternatives-time-budget-millis)한 시간이 지나면 그때까지 찾은 경로만 돌려준다.
+ * 그렇게 잘린 요청 수는 subway.path.alternatives.truncated 지표로 남는다.
+ * 작업 공간은 스레드마다 하나씩 두고 재사용하며, 분기 탐색들이 확정한 역 수의 합을 settled 지표(engine=yen)로 남긴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+public class YenAlternativePathFinder implements AlternativePathFinder {
+
+	public static final String TRUNCATED_METRIC = "subway.path.alternatives.truncated";
+
+	private static final int INITIAL_WORKSPACE_CAPACITY = 64;
+
+	private final PathSearchConfigCollector pathSearchConfigCollector;
+	private final DistributionSummary settledNodes;
+	private final Counter truncatedSearches;
+	private final ThreadLocal<KShortestPaths> workspaces = ThreadLocal.withInitial(() -> new KShortestPaths(INITIAL_WORKSPACE_CAPACITY));
+
+	public YenAlternativePathFinder(MeterRegistry meterRegistry, PathSearchConfigCollector pathSearchConfigCollector) {
+		this.pathSearchConfigCollector = pathSearchConfigCollector;
+		this.settledNodes = DistributionSummary.builder(AbstractSnapshotPathFinder.SETTLED_NODES_METRIC)
+			.description("Number of stations settled per path search")
+			.tag("engine", "yen")
+			.register(meterRegistry);
+		this.truncatedSearches = Counter.builder(TRUNCATED_METRIC)
+			.description("Number of alternative route searches cut short by the latency budget")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public PathAlternatives findAlternativePaths(Long sourceStationId, Long targetStationId, PathRequestType type, int count, NetworkSnapshot snapshot) {
+		int sourceIndex = snapshot.indexOf(sourceStationId);
+		int targetIndex = snapshot.indexOf(targetStationId);
+		if (sourceIndex == NetworkSnapshot.NO_STATION || targetIndex == NetworkSnapshot.NO_STATION) {
+			throw new PathNotValidException();
+		}
+
+		KShortestPaths kShortestPaths = workspaces.get();
+		long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pathSearchConfigCollector.getAlternativesTimeBudgetMillis());
+		List<int[]> edgeLists = kShortestPaths.search(snapshot, sourceIndex, targetIndex, type, count, deadlineNanos);
+		settledNodes.record(kShortestPaths.settledCount());
+		if (edgeLists.isEmpty()) {
+			throw new PathNotValidException("No path exists between the source and target stations.");
+		}
+		if (kShortestPaths.isTruncated()) {
+			truncatedSearches.increment();
+		}
+
+		List<Path> paths = edgeLists.stream()
+			.map(edges -> snapshot.toPath(sourceIndex, edges, edges.length))
+			.collect(Collectors.toList());
+		return PathAlternatives.of(paths, kShortestPaths.isTruncated());
+	}
+}
@@ -0,0 +1,52 @@
+package nextstep.api.subway.interfaces.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.domain.dto.inport.ClosureScenarioCommand;
+import nextstep.api.subway.domain.service.ClosureService;
+import nextstep.api.subway.interfaces.dto.request.ClosureScenarioRequest;
+import nextstep.api.subway.interfaces.dto.response.ClosureScenarioResponse;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/closures")
+public class ClosureController {
+
+	private final ClosureService service;
+
+	@PutMapping("/{name}")
+	public ResponseEntity<ClosureScenarioResponse> saveScenario(@PathVariable String name, @RequestBody ClosureScenarioRequest scenarioRequest) {
+		return ResponseEntity.ok().body(ClosureScenarioResponse.from(service.saveScenario(ClosureScenarioCommand.from(name, scenarioRequest))));
+	}
+
+	@GetMapping
+	public ResponseEntity<List<ClosureScenarioResponse>> showScenarios() {
+		return ResponseEntity.ok().body(service.findAllScenarios().stream().map(ClosureScenarioResponse::from).collect(Collectors.toList()));
+	}
+
+	@GetMapping("/{name}")
+	public ResponseEntity<ClosureScenarioResponse> showScenario(@PathVariable String name) {
+		return ResponseEntity.ok().body(ClosureScenarioResponse.from(service.findScenario(name)));
+	}
+
+	@DeleteMapping("/{name}")
+	public ResponseEntity<Void> deleteScenario(@PathVariable String name) {
+		service.deleteScenario(name);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -0,0 +1,46 @@
+package nextstep.api.subway.interfaces.controller;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.domain.dto.inport.SectionDelayCommand;
+import nextstep.api.subway.domain.service.DelayService;
+import nextstep.api.subway.interfaces.dto.request.DelayUpdateRequest;
+import nextstep.api.subway.interfaces.dto.response.DelayOverlayResponse;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/delays")
+public class DelayController {
+
+	private final DelayService service;
+
+	@PutMapping
+	public ResponseEntity<DelayOverlayResponse> updateDelays(@RequestBody DelayUpdateRequest updateRequest) {
+		return ResponseEntity.ok().body(DelayOverlayResponse.from(service.updateDelays(updateRequest.getDelays() == null ? Collections.emptyList()
+			: updateRequest.getDelays().stream().map(SectionDelayCommand::from).collect(Collectors.toList()))));
+	}
+
+	@GetMapping
+	public ResponseEntity<DelayOverlayResponse> showDelays() {
+		return ResponseEntity.ok().body(DelayOverlayResponse.from(service.findDelays()));
+	}
+
+	@DeleteMapping
+	public ResponseEntity<DelayOverlayResponse> clearDelays() {
+		return ResponseEntity.ok().body(DelayOverlayResponse.from(service.clearDelays()));
+	}
+}
@@ -14,9 +14,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.api.subway.domain.dto.inport.LineCreateCommand;
+import nextstep.api.subway.domain.dto.inport.LineTimetableCommand;
 import nextstep.api.subway.domain.dto.inport.LineUpdateCommand;
 import nextstep.api.subway.domain.service.LineService;
 import nextstep.api.subway.interfaces.dto.request.LineCreateRequest;
+import nextstep.api.subway.interfaces.dto.request.LineTimetableRequest;
 import nextstep.api.subway.interfaces.dto.request.LineUpdateRequest;
 import nextstep.api.subway.interfaces.dto.response.LineResponse;
 
@@ -51,6 +53,11 @@ public class LineController {
 		return ResponseEntity.ok().body(service.updateLineById(id, LineUpdateCommand.from(updateRequest)));
 	}
 
+	@PutMapping("/lines/{id}/timetable")
+	public ResponseEntity<LineResponse> updateTimetable(@PathVariable Long id, @RequestBody LineTimetableRequest timetableRequest) {
+		return ResponseEntity.ok().body(service.updateTimetable(id, LineTimetableCommand.from(timetableRequest)));
+	}
+
 	@DeleteMapping("/lines/{id}")
 	public ResponseEntity<LineResponse> deleteLine(@PathVariable Long id) {
 		service.deleteLineById(id);
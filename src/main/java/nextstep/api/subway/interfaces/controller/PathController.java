@@ -1,16 +1,37 @@
 package nextstep.api.subway.interfaces.controller;
 
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.api.auth.domain.dto.UserPrincipal;
 import nextstep.api.subway.application.PathFacade;
 import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.dto.inport.PathConstraintCommand;
+import nextstep.api.subway.interfaces.dto.request.PathBatchRequest;
+import nextstep.api.subway.interfaces.dto.request.PathMatrixRequest;
+import nextstep.api.subway.interfaces.dto.response.JourneyResponse;
+import nextstep.api.subway.interfaces.dto.response.PathAlternativesResponse;
+import nextstep.api.subway.interfaces.dto.response.PathBatchResponse;
+import nextstep.api.subway.interfaces.dto.response.PathMatrixRowResponse;
 import nextstep.api.subway.interfaces.dto.response.PathResponse;
+import nextstep.api.subway.interfaces.dto.response.PathSummaryResponse;
+import nextstep.api.subway.interfaces.dto.response.ReachableStationsResponse;
 import nextstep.common.annotation.AuthenticationPrincipal;
 
 /**
@@ -23,11 +44,14 @@ import nextstep.common.annotation.AuthenticationPrincipal;
 public class PathController {
 
 	private final PathFacade pathFacade;
+	private final ObjectMapper objectMapper;
 
 
 	@GetMapping
-	public ResponseEntity<PathResponse> findShortestPath(@RequestParam Long source, @RequestParam Long target, @RequestParam(required = false) PathRequestType type) {
-		PathResponse pathResponse = pathFacade.findPath(source, target, type);
+	public ResponseEntity<PathResponse> findShortestPath(@RequestParam Long source, @RequestParam Long target, @RequestParam(required = false) PathRequestType type,
+		@RequestParam(required = false) String closure, @RequestParam(required = false) List<Long> avoidLines, @RequestParam(required = false) List<Long> avoidStations,
+		@RequestParam(required = false) Integer maxTransfers, @RequestParam(required = false) List<Long> via, @RequestParam(defaultValue = "false") boolean optimizeVia) {
+		PathResponse pathResponse = pathFacade.findPath(source, target, type, new PathConstraintCommand(closure, avoidLines, avoidStations, maxTransfers), via, optimizeVia);
 		return ResponseEntity.ok(pathResponse);
 	}
 
@@ -39,6 +63,68 @@ public class PathController {
 	}
 
 
+	@GetMapping("/summary")
+	public ResponseEntity<PathSummaryResponse> findPathSummary(@RequestParam Long source, @RequestParam Long target, @RequestParam(required = false) PathRequestType type) {
+		PathSummaryResponse pathSummaryResponse = pathFacade.findPathSummary(source, target, type);
+		return ResponseEntity.ok(pathSummaryResponse);
+	}
+
+
+	@GetMapping("/alternatives")
+	public ResponseEntity<PathAlternativesResponse> findAlternativePaths(@RequestParam Long source, @RequestParam Long target, @RequestParam(required = false) PathRequestType type, @RequestParam(defaultValue = "3") int count) {
+		PathAlternativesResponse pathAlternativesResponse = pathFacade.findAlternativePaths(source, target, type, count);
+		return ResponseEntity.ok(pathAlternativesResponse);
+	}
+
+	@GetMapping("/pareto")
+	public ResponseEntity<PathAlternativesResponse> findParetoPaths(@RequestParam Long source, @RequestParam Long target) {
+		PathAlternativesResponse pathAlternativesResponse = pathFacade.findParetoPaths(source, target);
+		return ResponseEntity.ok(pathAlternativesResponse);
+	}
+
+
+	@GetMapping("/reachable")
+	public ResponseEntity<ReachableStationsResponse> findReachableStations(@RequestParam Long source, @RequestParam Long budget, @RequestParam(required = false) ReachabilityBudgetType budgetType) {
+		ReachableStationsResponse reachableStationsResponse = pathFacade.findReachableStations(source, budgetType, budget);
+		return ResponseEntity.ok(reachableStationsResponse);
+	}
+
+
+	@GetMapping("/journey")
+	public ResponseEntity<JourneyResponse> findJourney(@RequestParam Long source, @RequestParam Long target, @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime departureTime) {
+		JourneyResponse journeyResponse = pathFacade.findJourney(source, target, departureTime);
+		return ResponseEntity.ok(journeyResponse);
+	}
+
+
+	@PostMapping("/batch")
+	public ResponseEntity<PathBatchResponse> findPaths(@RequestBody PathBatchRequest pathBatchRequest) {
+		PathBatchResponse pathBatchResponse = pathFacade.findPaths(pathBatchRequest);
+		return ResponseEntity.ok(pathBatchResponse);
+	}
+
+
+	/**
+	 * 행렬은 출발역 한 행을 JSON 한 줄로 쓰는 NDJSON 으로 흘려보낸다. 요청 검증은 응답을 쓰기 전에 끝나므로 잘못된 요청은 평소처럼 오류 응답을 받는다.
+	 */
+	@PostMapping("/matrix")
+	public ResponseEntity<StreamingResponseBody> findPathMatrix(@RequestBody PathMatrixRequest pathMatrixRequest) {
+		Stream<PathMatrixRowResponse> rows = pathFacade.findPathMatrix(pathMatrixRequest);
+		StreamingResponseBody body = outputStream -> {
+			try (Stream<PathMatrixRowResponse> closingRows = rows) {
+				for (PathMatrixRowResponse row : (Iterable<PathMatrixRowResponse>)closingRows::iterator) {
+					outputStream.write(objectMapper.writeValueAsBytes(row));
+					outputStream.write('\n');
+					outputStream.flush();
+				}
+			}
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
+
+
 
 
 }
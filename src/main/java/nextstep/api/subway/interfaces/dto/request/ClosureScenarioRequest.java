@@ -0,0 +1,25 @@
+package nextstep.api.subway.interfaces.dto.request;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 폐쇄할 역과 구간 목록. 역을 닫으면 그 역을 지나는 모든 구간도 함께 닫힌다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClosureScenarioRequest {
+	private List<Long> stationIds;
+	private List<ClosedSectionRequest> sections;
+}
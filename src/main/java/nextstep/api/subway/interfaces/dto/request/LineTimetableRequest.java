@@ -0,0 +1,26 @@
+package nextstep.api.subway.interfaces.dto.request;
+
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상행 종점의 첫차/막차 출발 시각(HH:mm)과 배차 간격(분).
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LineTimetableRequest {
+	private LocalTime firstDepartureTime;
+	private LocalTime lastDepartureTime;
+	private Integer headwayMinutes;
+}
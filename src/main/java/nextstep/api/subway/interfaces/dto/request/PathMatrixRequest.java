@@ -0,0 +1,27 @@
+package nextstep.api.subway.interfaces.dto.request;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.common.type.PathRequestType;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathMatrixRequest {
+
+	private List<Long> sources;
+	private List<Long> targets;
+	private PathRequestType type;
+
+}
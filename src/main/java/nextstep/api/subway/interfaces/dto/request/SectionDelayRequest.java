@@ -0,0 +1,25 @@
+package nextstep.api.subway.interfaces.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상행역에서 하행역으로 가는 구간의 지연 시간(분). ttlSeconds 를 비우면 기본 만료 시간(subway.delay.default-ttl-seconds)을 쓴다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectionDelayRequest {
+	private Long upStationId;
+	private Long downStationId;
+	private Integer delayMinutes;
+	private Long ttlSeconds;
+}
@@ -0,0 +1,30 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.ClosureScenarioInfo;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ClosureScenarioResponse {
+	private String name;
+	private List<Long> stationIds;
+	private List<ClosedSectionResponse> sections;
+
+	public static ClosureScenarioResponse from(ClosureScenarioInfo scenarioInfo) {
+		return ModelMapperBasedObjectMapper.convert(scenarioInfo, ClosureScenarioResponse.class);
+	}
+}
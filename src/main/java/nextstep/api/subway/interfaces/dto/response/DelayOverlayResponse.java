@@ -0,0 +1,31 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.DelayOverlayInfo;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * 현재 적용 중인 지연 목록. revision 은 지연이 바뀔 때마다 올라가며, 경로 결과 캐시도 이 값이 바뀌면 새로 계산한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class DelayOverlayResponse {
+	private long revision;
+	private List<SectionDelayResponse> delays;
+
+	public static DelayOverlayResponse from(DelayOverlayInfo delayOverlayInfo) {
+		return ModelMapperBasedObjectMapper.convert(delayOverlayInfo, DelayOverlayResponse.class);
+	}
+}
@@ -0,0 +1,44 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.JourneyLegInfo;
+import nextstep.api.subway.domain.dto.outport.LineInfo;
+import nextstep.api.subway.domain.dto.outport.StationInfo;
+
+/**
+ * 여정 중 한 편을 타고 가는 구간. 시각은 HH:mm 형식이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class JourneyLegResponse {
+	private LineInfo line;
+	private List<StationResponse> stations;
+	private Long distance;
+	private String departureTime;
+	private String arrivalTime;
+
+	public static JourneyLegResponse from(JourneyLegInfo journeyLegInfo) {
+		List<StationResponse> stations = journeyLegInfo.getStations().stream()
+			.map(JourneyLegResponse::toStationResponse)
+			.collect(Collectors.toList());
+		return JourneyLegResponse.of(journeyLegInfo.getLine(), stations, journeyLegInfo.getDistance(),
+			JourneyResponse.formatTime(journeyLegInfo.getDepartureTime()), JourneyResponse.formatTime(journeyLegInfo.getArrivalTime()));
+	}
+
+	static StationResponse toStationResponse(StationInfo stationInfo) {
+		return new StationResponse(stationInfo.getId(), stationInfo.getName());
+	}
+}
@@ -0,0 +1,53 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.FareInfo;
+import nextstep.api.subway.domain.dto.outport.JourneyInfo;
+
+/**
+ * 출발 시각 기반 여정. duration 은 요청한 출발 시각부터 도착 시각까지(기다린 시간 포함, 분)이며, 시각은 HH:mm 형식이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class JourneyResponse {
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+	private List<StationResponse> stations;
+	private List<JourneyLegResponse> legs;
+	private Long distance;
+	private Long duration;
+	private String departureTime;
+	private String arrivalTime;
+	private int transferCount;
+	private int fareAmount; // won
+
+	public static JourneyResponse of(JourneyInfo journeyInfo, FareInfo fareInfo) {
+		List<StationResponse> stations = journeyInfo.getPath().getStations().stream()
+			.map(JourneyLegResponse::toStationResponse)
+			.collect(Collectors.toList());
+		List<JourneyLegResponse> legs = journeyInfo.getLegs().stream()
+			.map(JourneyLegResponse::from)
+			.collect(Collectors.toList());
+		return JourneyResponse.of(stations, legs, journeyInfo.getPath().getDistance(), journeyInfo.getDuration(), formatTime(journeyInfo.getDepartureTime()),
+			formatTime(journeyInfo.getArrivalTime()), journeyInfo.getTransferCount(), fareInfo.getFareAmount());
+	}
+
+	static String formatTime(LocalTime time) {
+		return time.format(TIME_FORMAT);
+	}
+}
@@ -0,0 +1,38 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.FareInfo;
+import nextstep.api.subway.domain.dto.outport.LineInfo;
+import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.common.mapper.ModelMapperBasedObjectMapper;
+
+/**
+ * 대안 경로 하나. 사용자가 경로끼리 비교할 수 있도록 지나는 노선도 함께 돌려준다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathAlternativeResponse {
+	private List<StationResponse> stations;
+	private List<LineInfo> lines;
+	private Long distance;
+	private Long duration;
+	private int fareAmount; // won
+
+	public static PathAlternativeResponse of(PathInfo pathInfo, FareInfo fareInfo) {
+		PathAlternativeResponse pathAlternativeResponse = ModelMapperBasedObjectMapper.convert(pathInfo, PathAlternativeResponse.class);
+		pathAlternativeResponse.setFareAmount(fareInfo.getFareAmount());
+		return pathAlternativeResponse;
+	}
+}
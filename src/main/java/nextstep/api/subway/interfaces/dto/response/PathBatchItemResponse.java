@@ -0,0 +1,30 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.dto.outport.PathBatchItemInfo;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathBatchItemResponse {
+	private Long source;
+	private Long target;
+	private PathRequestType type;
+	private PathResponse path;
+	private String errorMessage;
+
+	public static PathBatchItemResponse of(PathBatchItemInfo itemInfo, PathResponse path) {
+		return PathBatchItemResponse.of(itemInfo.getSource(), itemInfo.getTarget(), itemInfo.getType(), path, itemInfo.getErrorMessage());
+	}
+}
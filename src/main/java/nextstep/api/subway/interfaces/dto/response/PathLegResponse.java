@@ -0,0 +1,28 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.LineInfo;
+
+/**
+ * 경로 중 한 노선을 타고 가는 구간. stations 는 탑승역과 하차역을 포함한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathLegResponse {
+	private LineInfo line;
+	private List<StationResponse> stations;
+	private Long distance;
+	private Long duration;
+}
@@ -0,0 +1,29 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.FareInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixCellInfo;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathMatrixCellResponse {
+	private Long target;
+	private Long distance;
+	private Long duration;
+	private Integer fareAmount;
+
+	public static PathMatrixCellResponse of(PathMatrixCellInfo cellInfo, FareInfo fareInfo) {
+		return PathMatrixCellResponse.of(cellInfo.getTarget(), cellInfo.getDistance(), cellInfo.getDuration(), fareInfo == null ? null : fareInfo.getFareAmount());
+	}
+}
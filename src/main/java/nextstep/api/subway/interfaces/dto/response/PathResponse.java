@@ -22,13 +22,16 @@ import nextstep.common.mapper.ModelMapperBasedObjectMapper;
 @AllArgsConstructor(staticName = "of")
 public class PathResponse {
 	private List<StationResponse> stations;
+	private List<PathLegResponse> legs;
 	private Long distance;
 	private Long duration;
+	private int transferCount;
 	private int fareAmount; // won
 
 
 	public static PathResponse of(PathInfo pathInfo, FareInfo fareInfo) {
 		PathResponse pathResponse = ModelMapperBasedObjectMapper.convert(pathInfo, PathResponse.class);
+		pathResponse.setTransferCount(pathInfo.getTransferCount());
 		pathResponse.setFareAmount(fareInfo.getFareAmount());
 		return pathResponse;
 	}
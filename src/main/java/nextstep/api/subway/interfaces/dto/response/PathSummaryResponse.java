@@ -0,0 +1,26 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.PathSummaryInfo;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PathSummaryResponse {
+	private Long distance;
+	private Long duration;
+
+	public static PathSummaryResponse from(PathSummaryInfo pathSummaryInfo) {
+		return PathSummaryResponse.of(pathSummaryInfo.getDistance(), pathSummaryInfo.getDuration());
+	}
+}
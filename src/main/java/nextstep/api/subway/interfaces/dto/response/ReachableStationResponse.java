@@ -0,0 +1,29 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.domain.dto.outport.ReachableStationInfo;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ReachableStationResponse {
+	private StationResponse station;
+	private Long distance;
+	private Long duration;
+	private Integer fareAmount;
+
+	public static ReachableStationResponse from(ReachableStationInfo stationInfo) {
+		StationResponse station = new StationResponse(stationInfo.getStation().getId(), stationInfo.getStation().getName());
+		return ReachableStationResponse.of(station, stationInfo.getDistance(), stationInfo.getDuration(), stationInfo.getFareAmount());
+	}
+}
@@ -0,0 +1,26 @@
+package nextstep.api.subway.interfaces.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class ReachableStationsResponse {
+	private Long source;
+	private ReachabilityBudgetType budgetType;
+	private Long budget;
+	private List<ReachableStationResponse> stations;
+}
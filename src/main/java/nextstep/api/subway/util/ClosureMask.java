@@ -0,0 +1,169 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 스냅샷의 간선과 역 가운데 탐색에서 뺄 것을 비트 하나씩으로 표시한 마스크.
+ * <p>
+ * 간선 e 는 edgeBits 의 (e / 64) 번째 long 의 (e % 64) 번째 비트이다. 탐색 엔진은 간선을 풀기 전에 비트 하나만 확인하므로
+ * 마스크를 건 탐색도 마스크가 없는 탐색과 비용이 거의 같다. 역을 닫으면 그 역으로 들어오고 나가는 간선도 모두 닫힌다.
+ * 마스크는 만든 스냅샷의 간선 번호를 따르므로, 간선 배열을 공유하는 파생 스냅샷(지연 오버레이)에는 그대로 쓸 수 있다.
+ * 생성 이후 변경되지 않으므로 여러 요청이 함께 읽어도 된다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public final class ClosureMask {
+
+	public static final ClosureMask NONE = new ClosureMask(new long[0], new long[0], 0, 0);
+
+	private final long[] edgeBits;
+	private final long[] stationBits;
+	private final int closedEdgeCount;
+	private final int closedStationCount;
+
+	private ClosureMask(long[] edgeBits, long[] stationBits, int closedEdgeCount, int closedStationCount) {
+		this.edgeBits = edgeBits;
+		this.stationBits = stationBits;
+		this.closedEdgeCount = closedEdgeCount;
+		this.closedStationCount = closedStationCount;
+	}
+
+	public static Builder builder(NetworkSnapshot snapshot) {
+		return new Builder(snapshot);
+	}
+
+	public boolean isEdgeClosed(int edge) {
+		int word = edge >>> 6;
+		return word < edgeBits.length && (edgeBits[word] & (1L << edge)) != 0;
+	}
+
+	public boolean isStationClosed(int stationIndex) {
+		int word = stationIndex >>> 6;
+		return word < stationBits.length && (stationBits[word] & (1L << stationIndex)) != 0;
+	}
+
+	public boolean isEmpty() {
+		return closedEdgeCount == 0 && closedStationCount == 0;
+	}
+
+	public int closedEdgeCount() {
+		return closedEdgeCount;
+	}
+
+	public int closedStationCount() {
+		return closedStationCount;
+	}
+
+	/**
+	 * 두 마스크 중 어느 한쪽에서라도 닫힌 간선과 역을 모두 닫은 마스크. 두 마스크는 같은 스냅샷에서 만든 것이어야 한다.
+	 */
+	public ClosureMask union(ClosureMask other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		long[] edges = or(edgeBits, other.edgeBits);
+		long[] stations = or(stationBits, other.stationBits);
+		return new ClosureMask(edges, stations, bitCount(edges), bitCount(stations));
+	}
+
+	private static long[] or(long[] left, long[] right) {
+		long[] merged = Arrays.copyOf(left, Math.max(left.length, right.length));
+		for (int word = 0; word < right.length; word++) {
+			merged[word] |= right[word];
+		}
+		return merged;
+	}
+
+	private static int bitCount(long[] bits) {
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * 한 스냅샷 위에서 닫을 간선과 역을 모은다. 스냅샷에 없는 역 ID 는 무시한다.
+	 */
+	public static final class Builder {
+		private final NetworkSnapshot snapshot;
+		private final long[] edgeBits;
+		private final long[] stationBits;
+
+		private Builder(NetworkSnapshot snapshot) {
+			this.snapshot = snapshot;
+			this.edgeBits = new long[(snapshot.edgeCount() + 63) >>> 6];
+			this.stationBits = new long[(snapshot.stationCount() + 63) >>> 6];
+		}
+
+		public Builder closeEdge(int edge) {
+			edgeBits[edge >>> 6] |= 1L << edge;
+			return this;
+		}
+
+		public Builder closeStation(Long stationId) {
+			int stationIndex = snapshot.indexOf(stationId);
+			if (stationIndex == NetworkSnapshot.NO_STATION) {
+				return this;
+			}
+			stationBits[stationIndex >>> 6] |= 1L << stationIndex;
+			for (int edge = snapshot.edgeBegin(stationIndex); edge < snapshot.edgeEnd(stationIndex); edge++) {
+				closeEdge(edge);
+			}
+			for (int position = snapshot.reverseEdgeBegin(stationIndex); position < snapshot.reverseEdgeEnd(stationIndex); position++) {
+				closeEdge(snapshot.reverseEdgeAt(position));
+			}
+			return this;
+		}
+
+		/**
+		 * 두 역 사이의 구간을 방향과 관계없이 닫는다. 같은 두 역을 잇는 구간이 여러 노선에 있으면 모두 닫는다.
+		 */
+		public Builder closeSection(Long stationId, Long otherStationId) {
+			int stationIndex = snapshot.indexOf(stationId);
+			int otherStationIndex = snapshot.indexOf(otherStationId);
+			if (stationIndex == NetworkSnapshot.NO_STATION || otherStationIndex == NetworkSnapshot.NO_STATION) {
+				return this;
+			}
+			closeEdgesBetween(stationIndex, otherStationIndex);
+			closeEdgesBetween(otherStationIndex, stationIndex);
+			return this;
+		}
+
+		/**
+		 * 노선의 모든 간선을 닫는다. 역은 다른 노선으로 계속 지날 수 있다.
+		 */
+		public Builder closeLine(Long lineId) {
+			for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+				int line = snapshot.edgeLine(edge);
+				if (line != NetworkSnapshot.NO_LINE && snapshot.lineAt(line).getId().equals(lineId)) {
+					closeEdge(edge);
+				}
+			}
+			return this;
+		}
+
+		public ClosureMask build() {
+			int closedEdgeCount = bitCount(edgeBits);
+			int closedStationCount = bitCount(stationBits);
+			if (closedEdgeCount == 0 && closedStationCount == 0) {
+				return NONE;
+			}
+			return new ClosureMask(edgeBits, stationBits, closedEdgeCount, closedStationCount);
+		}
+
+		private void closeEdgesBetween(int sourceIndex, int targetIndex) {
+			for (int edge = snapshot.edgeBegin(sourceIndex); edge < snapshot.edgeEnd(sourceIndex); edge++) {
+				if (snapshot.edgeTarget(edge) == targetIndex) {
+					closeEdge(edge);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,398 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 한 가지 비용 기준(거리 또는 소요 시간)에 대한 축약 계층(Contraction Hierarchies).
+ * <p>
+ * 역을 중요도가 낮은 순서로 하나씩 축약하면서, 축약한 역 v 를 지나는 최단 경로 u → v → w 를
+ * 다른 경로(witness)로 대체할 수 없을 때만 지름길 간선 u → w 를 추가한다.
+ * 축약 순서는 edge difference(추가될 지름길 수 - 사라지는 간선 수 + 이미 축약된 이웃 수)로 정하며,
+ * 우선순위는 꺼낼 때 다시 계산해 더 커졌으면 큐에 되돌리는 지연 갱신(lazy update)을 사용한다.
+ * <p>
+ * 간선 번호 0 .. edgeCount() - 1 중 원본 간선은 스냅샷 간선 번호({@link #originalEdgeOf})를, 지름길은
+ * 거리/소요 시간 합계와 가운데 역, 그리고 두 자식 간선을 가진다. 조회 시 지름길은 자식 간선으로 재귀적으로 풀어
+ * 원본 간선 목록으로 되돌리므로 최종 Path 의 합계는 스냅샷 간선으로 다시 계산된다.
+ * 탐색은 정방향은 상향 간선(up), 역방향은 도착역 쪽에서 올라가는 하향 간선(down)만 따라간다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ContractionHierarchy {
+
+	public static final int NO_EDGE = -1;
+
+	private static final int WITNESS_SETTLE_LIMIT = 64;
+
+	private final int[] ranks;
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final long[] edgeWeights;
+	private final long[] edgeDistances;
+	private final long[] edgeDurations;
+	private final int[] edgeMiddles;
+	private final int[] firstChildren;
+	private final int[] secondChildren;
+	private final int[] originalEdges;
+	private final int[] upOffsets;
+	private final int[] upEdges;
+	private final int[] downOffsets;
+	private final int[] downEdges;
+	private final int shortcutCount;
+
+	private ContractionHierarchy(Builder builder, int[] upOffsets, int[] upEdges, int[] downOffsets, int[] downEdges) {
+		int edgeCount = builder.edgeCount;
+		this.ranks = builder.ranks;
+		this.edgeSources = Arrays.copyOf(builder.sources, edgeCount);
+		this.edgeTargets = Arrays.copyOf(builder.targets, edgeCount);
+		this.edgeWeights = Arrays.copyOf(builder.weights, edgeCount);
+		this.edgeDistances = Arrays.copyOf(builder.distances, edgeCount);
+		this.edgeDurations = Arrays.copyOf(builder.durations, edgeCount);
+		this.edgeMiddles = Arrays.copyOf(builder.middles, edgeCount);
+		this.firstChildren = Arrays.copyOf(builder.firstChildren, edgeCount);
+		this.secondChildren = Arrays.copyOf(builder.secondChildren, edgeCount);
+		this.originalEdges = Arrays.copyOf(builder.originalEdges, edgeCount);
+		this.upOffsets = upOffsets;
+		this.upEdges = upEdges;
+		this.downOffsets = downOffsets;
+		this.downEdges = downEdges;
+		this.shortcutCount = builder.shortcutCount;
+	}
+
+	public static ContractionHierarchy build(NetworkSnapshot snapshot, PathRequestType type) {
+		return new Builder(snapshot, type).build();
+	}
+
+	public int rankOf(int stationIndex) {
+		return ranks[stationIndex];
+	}
+
+	public int edgeCount() {
+		return edgeSources.length;
+	}
+
+	public int shortcutCount() {
+		return shortcutCount;
+	}
+
+	public int upBegin(int stationIndex) {
+		return upOffsets[stationIndex];
+	}
+
+	public int upEnd(int stationIndex) {
+		return upOffsets[stationIndex + 1];
+	}
+
+	public int upEdgeAt(int position) {
+		return upEdges[position];
+	}
+
+	public int downBegin(int stationIndex) {
+		return downOffsets[stationIndex];
+	}
+
+	public int downEnd(int stationIndex) {
+		return downOffsets[stationIndex + 1];
+	}
+
+	public int downEdgeAt(int position) {
+		return downEdges[position];
+	}
+
+	public int edgeSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	public int edgeTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	public long edgeWeight(int edge) {
+		return edgeWeights[edge];
+	}
+
+	public long edgeDistance(int edge) {
+		return edgeDistances[edge];
+	}
+
+	public long edgeDuration(int edge) {
+		return edgeDurations[edge];
+	}
+
+	public boolean isShortcut(int edge) {
+		return originalEdges[edge] == NO_EDGE;
+	}
+
+	public int middleOf(int edge) {
+		return edgeMiddles[edge];
+	}
+
+	public int firstChildOf(int edge) {
+		return firstChildren[edge];
+	}
+
+	public int secondChildOf(int edge) {
+		return secondChildren[edge];
+	}
+
+	public int originalEdgeOf(int edge) {
+		return originalEdges[edge];
+	}
+
+	/**
+	 * 축약 과정에서만 쓰이는 가변 상태. 간선 배열은 지름길이 추가될 때마다 두 배씩 늘린다.
+	 */
+	private static final class Builder {
+		private final NetworkSnapshot snapshot;
+		private final int stationCount;
+		private final int[] ranks;
+		private final boolean[] contracted;
+		private final int[] contractedNeighbors;
+		private final int[][] outEdges;
+		private final int[] outSizes;
+		private final int[][] inEdges;
+		private final int[] inSizes;
+		private final DijkstraWorkspace witness;
+
+		private int edgeCount;
+		private int shortcutCount;
+		private int[] sources;
+		private int[] targets;
+		private long[] weights;
+		private long[] distances;
+		private long[] durations;
+		private int[] middles;
+		private int[] firstChildren;
+		private int[] secondChildren;
+		private int[] originalEdges;
+
+		private Builder(NetworkSnapshot snapshot, PathRequestType type) {
+			this.snapshot = snapshot;
+			this.stationCount = snapshot.stationCount();
+			this.ranks = new int[stationCount];
+			this.contracted = new boolean[stationCount];
+			this.contractedNeighbors = new int[stationCount];
+			this.outEdges = new int[stationCount][];
+			this.outSizes = new int[stationCount];
+			this.inEdges = new int[stationCount][];
+			this.inSizes = new int[stationCount];
+			this.witness = new DijkstraWorkspace(Math.max(stationCount, 1));
+
+			int capacity = Math.max(snapshot.edgeCount() * 2, 16);
+			this.sources = new int[capacity];
+			this.targets = new int[capacity];
+			this.weights = new long[capacity];
+			this.distances = new long[capacity];
+			this.durations = new long[capacity];
+			this.middles = new int[capacity];
+			this.firstChildren = new int[capacity];
+			this.secondChildren = new int[capacity];
+			this.originalEdges = new int[capacity];
+			for (int station = 0; station < stationCount; station++) {
+				outEdges[station] = new int[4];
+				inEdges[station] = new int[4];
+			}
+
+			for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+				int source = snapshot.edgeSource(edge);
+				int target = snapshot.edgeTarget(edge);
+				if (source != target) {
+					addEdge(source, target, snapshot.edgeWeight(edge, type), snapshot.edgeDistance(edge), snapshot.edgeDuration(edge), NetworkSnapshot.NO_STATION, NO_EDGE, NO_EDGE, edge);
+				}
+			}
+		}
+
+		private ContractionHierarchy build() {
+			IndexedLongMinHeap queue = new IndexedLongMinHeap(Math.max(stationCount, 1));
+			for (int station = 0; station < stationCount; station++) {
+				queue.insertOrDecrease(station, priorityOf(station));
+			}
+
+			int order = 0;
+			while (!queue.isEmpty()) {
+				int station = queue.pollMin();
+				long priority = priorityOf(station);
+				if (!queue.isEmpty() && priority > queue.minKey()) {
+					queue.insertOrDecrease(station, priority);
+					continue;
+				}
+
+				contract(station, false);
+				contracted[station] = true;
+				ranks[station] = order++;
+				markNeighborsContracted(station);
+			}
+
+			return assemble();
+		}
+
+		/**
+		 * 음수 우선순위도 힙에 그대로 넣을 수 있도록 long 으로 계산한다.
+		 */
+		private long priorityOf(int station) {
+			int removedEdges = 0;
+			for (int i = 0; i < inSizes[station]; i++) {
+				if (!contracted[sources[inEdges[station][i]]]) {
+					removedEdges++;
+				}
+			}
+			for (int i = 0; i < outSizes[station]; i++) {
+				if (!contracted[targets[outEdges[station][i]]]) {
+					removedEdges++;
+				}
+			}
+			return (long)contract(station, true) - removedEdges + contractedNeighbors[station];
+		}
+
+		/**
+		 * station 을 축약할 때 필요한 지름길 수를 센다. simulate 가 false 이면 실제로 지름길을 추가한다.
+		 */
+		private int contract(int station, boolean simulate) {
+			int shortcuts = 0;
+			int inSize = inSizes[station];
+			int outSize = outSizes[station];
+			for (int i = 0; i < inSize; i++) {
+				int incoming = inEdges[station][i];
+				int from = sources[incoming];
+				if (contracted[from]) {
+					continue;
+				}
+
+				long maxCost = -1L;
+				for (int j = 0; j < outSize; j++) {
+					int outgoing = outEdges[station][j];
+					int to = targets[outgoing];
+					if (!contracted[to] && to != from) {
+						maxCost = Math.max(maxCost, weights[incoming] + weights[outgoing]);
+					}
+				}
+				if (maxCost < 0) {
+					continue;
+				}
+
+				searchWitness(from, station, maxCost);
+				for (int j = 0; j < outSize; j++) {
+					int outgoing = outEdges[station][j];
+					int to = targets[outgoing];
+					if (contracted[to] || to == from) {
+						continue;
+					}
+					long viaCost = weights[incoming] + weights[outgoing];
+					if (witness.costOf(to) > viaCost) {
+						shortcuts++;
+						if (!simulate) {
+							addEdge(from, to, viaCost, distances[incoming] + distances[outgoing], durations[incoming] + durations[outgoing], station, incoming, outgoing, NO_EDGE);
+							shortcutCount++;
+						}
+					}
+				}
+			}
+			return shortcuts;
+		}
+
+		/**
+		 * 축약 대상 역(excluded)을 거치지 않는 from 출발 최단 경로를 maxCost 이하 범위에서, 최대 {@value #WITNESS_SETTLE_LIMIT} 개 역까지만 찾는다.
+		 * 찾지 못한 경우 지름길이 하나 더 생길 뿐 정확성에는 영향이 없다.
+		 */
+		private void searchWitness(int from, int excluded, long maxCost) {
+			witness.reset(stationCount);
+			witness.relax(from, 0L, NO_EDGE);
+			IndexedLongMinHeap heap = witness.heap();
+			int settled = 0;
+			while (!heap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+				if (heap.minKey() > maxCost) {
+					break;
+				}
+				int current = heap.pollMin();
+				settled++;
+				long currentCost = witness.costOf(current);
+				for (int i = 0; i < outSizes[current]; i++) {
+					int edge = outEdges[current][i];
+					int next = targets[edge];
+					if (next != excluded && !contracted[next]) {
+						witness.relax(next, currentCost + weights[edge], edge);
+					}
+				}
+			}
+		}
+
+		private void markNeighborsContracted(int station) {
+			for (int i = 0; i < inSizes[station]; i++) {
+				contractedNeighbors[sources[inEdges[station][i]]]++;
+			}
+			for (int i = 0; i < outSizes[station]; i++) {
+				contractedNeighbors[targets[outEdges[station][i]]]++;
+			}
+		}
+
+		private void addEdge(int source, int target, long weight, long distance, long duration, int middle, int firstChild, int secondChild, int originalEdge) {
+			if (edgeCount == sources.length) {
+				int capacity = sources.length * 2;
+				sources = Arrays.copyOf(sources, capacity);
+				targets = Arrays.copyOf(targets, capacity);
+				weights = Arrays.copyOf(weights, capacity);
+				distances = Arrays.copyOf(distances, capacity);
+				durations = Arrays.copyOf(durations, capacity);
+				middles = Arrays.copyOf(middles, capacity);
+				firstChildren = Arrays.copyOf(firstChildren, capacity);
+				secondChildren = Arrays.copyOf(secondChildren, capacity);
+				originalEdges = Arrays.copyOf(originalEdges, capacity);
+			}
+
+			int edge = edgeCount++;
+			sources[edge] = source;
+			targets[edge] = target;
+			weights[edge] = weight;
+			distances[edge] = distance;
+			durations[edge] = duration;
+			middles[edge] = middle;
+			firstChildren[edge] = firstChild;
+			secondChildren[edge] = secondChild;
+			originalEdges[edge] = originalEdge;
+			append(outEdges, outSizes, source, edge);
+			append(inEdges, inSizes, target, edge);
+		}
+
+		private static void append(int[][] adjacency, int[] sizes, int station, int edge) {
+			if (sizes[station] == adjacency[station].length) {
+				adjacency[station] = Arrays.copyOf(adjacency[station], sizes[station] * 2);
+			}
+			adjacency[station][sizes[station]++] = edge;
+		}
+
+		/**
+		 * 간선 u → w 는 rank(u) < rank(w) 이면 u 의 상향 간선, 아니면 w 의 하향 간선으로 분류한다.
+		 */
+		private ContractionHierarchy assemble() {
+			int[] upOffsets = new int[stationCount + 1];
+			int[] downOffsets = new int[stationCount + 1];
+			for (int edge = 0; edge < edgeCount; edge++) {
+				if (ranks[sources[edge]] < ranks[targets[edge]]) {
+					upOffsets[sources[edge] + 1]++;
+				} else {
+					downOffsets[targets[edge] + 1]++;
+				}
+			}
+			for (int station = 0; station < stationCount; station++) {
+				upOffsets[station + 1] += upOffsets[station];
+				downOffsets[station + 1] += downOffsets[station];
+			}
+
+			int[] upEdges = new int[upOffsets[stationCount]];
+			int[] downEdges = new int[downOffsets[stationCount]];
+			int[] upCursor = Arrays.copyOf(upOffsets, stationCount);
+			int[] downCursor = Arrays.copyOf(downOffsets, stationCount);
+			for (int edge = 0; edge < edgeCount; edge++) {
+				if (ranks[sources[edge]] < ranks[targets[edge]]) {
+					upEdges[upCursor[sources[edge]]++] = edge;
+				} else {
+					downEdges[downCursor[targets[edge]]++] = edge;
+				}
+			}
+			return new ContractionHierarchy(this, upOffsets, upEdges, downOffsets, downEdges);
+		}
+	}
+}
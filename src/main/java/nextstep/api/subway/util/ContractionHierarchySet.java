@@ -0,0 +1,37 @@
+package nextstep.api.subway.util;
+
+import java.util.concurrent.CompletableFuture;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 스냅샷 하나에 대한 비용 기준별 축약 계층 묶음. 거리 기준과 소요 시간 기준 계층은 서로 독립적이므로 나란히 만든다.
+ * 스냅샷의 파생 인덱스 저장소는 타입별로 하나만 보관하므로, 두 계층을 이 묶음 하나로 붙여 둔다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ContractionHierarchySet {
+
+	private final ContractionHierarchy distanceHierarchy;
+	private final ContractionHierarchy durationHierarchy;
+
+	private ContractionHierarchySet(ContractionHierarchy distanceHierarchy, ContractionHierarchy durationHierarchy) {
+		this.distanceHierarchy = distanceHierarchy;
+		this.durationHierarchy = durationHierarchy;
+	}
+
+	public static ContractionHierarchySet build(NetworkSnapshot snapshot) {
+		CompletableFuture<ContractionHierarchy> durationHierarchy = CompletableFuture.supplyAsync(() -> ContractionHierarchy.build(snapshot, PathRequestType.DURATION));
+		ContractionHierarchy distanceHierarchy = ContractionHierarchy.build(snapshot, PathRequestType.DISTANCE);
+		return new ContractionHierarchySet(distanceHierarchy, durationHierarchy.join());
+	}
+
+	/**
+	 * 스냅샷의 간선 가중치와 마찬가지로 유형이 없으면 소요 시간 기준 계층을 돌려준다.
+	 */
+	public ContractionHierarchy hierarchyOf(PathRequestType type) {
+		return PathRequestType.isDistance(type) ? distanceHierarchy : durationHierarchy;
+	}
+}
@@ -0,0 +1,146 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 다익스트라 탐색 한 번에 필요한 비용/선행 간선 배열과 우선순위 큐를 묶은 재사용 가능한 작업 공간.
+ * <p>
+ * 배열을 매 탐색마다 초기화하지 않고 세대(generation) 도장으로 유효한 칸만 구분한다.
+ * stamps[v] 가 현재 세대와 같을 때만 costs[v], previousEdges[v] 가 의미를 가지므로
+ * reset 비용은 직전 탐색이 건드린 칸 수(힙에 남은 항목)에만 비례한다.
+ * 스레드 간에 공유해서는 안 되며, 탐색 엔진은 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class DijkstraWorkspace {
+
+	public static final int NO_EDGE = -1;
+
+	private final IndexedLongMinHeap heap;
+	private long[] costs;
+	private int[] previousEdges;
+	private int[] stamps;
+	private int generation;
+	private int[] pathEdges;
+
+	public DijkstraWorkspace(int capacity) {
+		this.heap = new IndexedLongMinHeap(capacity);
+		this.costs = new long[capacity];
+		this.previousEdges = new int[capacity];
+		this.stamps = new int[capacity];
+		this.pathEdges = new int[capacity];
+	}
+
+	/**
+	 * 새 탐색을 시작한다. 스냅샷이 커져 있으면 배열을 늘리고, 세대 값이 한 바퀴 돌면 도장을 모두 지운다.
+	 */
+	public void reset(int stationCount) {
+		ensureCapacity(stationCount);
+		heap.clear();
+		if (++generation == 0) {
+			Arrays.fill(stamps, 0);
+			generation = 1;
+		}
+	}
+
+	public IndexedLongMinHeap heap() {
+		return heap;
+	}
+
+	public boolean isReached(int stationIndex) {
+		return stamps[stationIndex] == generation;
+	}
+
+	public long costOf(int stationIndex) {
+		return isReached(stationIndex) ? costs[stationIndex] : Long.MAX_VALUE;
+	}
+
+	public int previousEdgeOf(int stationIndex) {
+		return isReached(stationIndex) ? previousEdges[stationIndex] : NO_EDGE;
+	}
+
+	/**
+	 * 더 싼 비용으로 도달한 경우에만 기록하고 큐에 넣는다.
+	 *
+	 * @return 비용이 갱신되었는지 여부
+	 */
+	public boolean relax(int stationIndex, long cost, int previousEdge) {
+		return relax(stationIndex, cost, cost, previousEdge);
+	}
+
+	/**
+	 * A* 처럼 큐의 우선순위가 누적 비용과 다를 때 사용한다. 비용 비교는 누적 비용(cost)으로 하고, 큐에는 priority 로 넣는다.
+	 */
+	public boolean relax(int stationIndex, long cost, long priority, int previousEdge) {
+		if (cost >= costOf(stationIndex)) {
+			return false;
+		}
+		stamps[stationIndex] = generation;
+		costs[stationIndex] = cost;
+		previousEdges[stationIndex] = previousEdge;
+		heap.insertOrDecrease(stationIndex, priority);
+		return true;
+	}
+
+	/**
+	 * 도착역에서 선행 간선을 거슬러 올라가 출발역부터의 간선 순서를 작업 버퍼에 채운다.
+	 *
+	 * @return 경로를 이루는 간선 수. 결과는 {@link #pathEdges()} 의 앞부분에 담긴다.
+	 */
+	public int tracePath(NetworkSnapshot snapshot, int sourceIndex, int targetIndex) {
+		int length = 0;
+		for (int station = targetIndex; station != sourceIndex; station = snapshot.edgeSource(previousEdges[station])) {
+			length++;
+		}
+
+		ensurePathCapacity(length);
+		int cursor = length;
+		for (int station = targetIndex; station != sourceIndex; station = snapshot.edgeSource(previousEdges[station])) {
+			pathEdges[--cursor] = previousEdges[station];
+		}
+		return length;
+	}
+
+	/**
+	 * 역방향 탐색 작업 공간(successors)의 선행 간선은 "다음 역으로 가는 간선"이므로,
+	 * fromIndex 에서 그 간선을 따라 도착역까지 내려가며 작업 버퍼의 length 번째 칸부터 이어 붙인다.
+	 *
+	 * @return 이어 붙인 뒤의 전체 간선 수
+	 */
+	public int appendSuccessorPath(NetworkSnapshot snapshot, int length, int fromIndex, int targetIndex, DijkstraWorkspace successors) {
+		int total = length;
+		for (int station = fromIndex; station != targetIndex; station = snapshot.edgeTarget(successors.previousEdges[station])) {
+			total++;
+		}
+
+		ensurePathCapacity(total);
+		int cursor = length;
+		for (int station = fromIndex; station != targetIndex; station = snapshot.edgeTarget(successors.previousEdges[station])) {
+			pathEdges[cursor++] = successors.previousEdges[station];
+		}
+		return total;
+	}
+
+	public int[] pathEdges() {
+		return pathEdges;
+	}
+
+	private void ensurePathCapacity(int length) {
+		if (pathEdges.length < length) {
+			pathEdges = Arrays.copyOf(pathEdges, Math.max(length, pathEdges.length * 2));
+		}
+	}
+
+	private void ensureCapacity(int stationCount) {
+		if (stationCount <= costs.length) {
+			return;
+		}
+		heap.ensureCapacity(stationCount);
+		costs = Arrays.copyOf(costs, stationCount);
+		previousEdges = Arrays.copyOf(previousEdges, stationCount);
+		stamps = Arrays.copyOf(stamps, stationCount);
+	}
+}
@@ -0,0 +1,174 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.function.LongToIntFunction;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 출발역에서 도착역까지 요금이 가장 싼 경로를 찾는 작업 공간.
+ * <p>
+ * 요금은 거리 구간 요금에 지나온 노선 중 가장 비싼 추가 요금 하나를 더한 값이라 간선 가중치의 합으로 나타낼 수 없고, 최단 거리 경로가 가장 싸다는 보장도 없다.
+ * 그래서 (역, 지금까지의 최고 추가 요금 단계) 를 하나의 라벨로 보고 거리 순으로 탐색한다. 같은 단계에서는 거리가 짧을수록 요금이 싸므로 라벨마다 가장 짧은 거리만 남기면 된다.
+ * 같은 역에서 더 낮은 단계의 라벨이 이미 같거나 짧은 거리로 도달해 있으면 그 라벨은 더 넓혀 볼 필요가 없다.
+ * <p>
+ * 라벨은 거리 순으로 꺼내므로, 꺼낸 라벨의 기본 요금이 지금까지 찾은 가장 싼 요금 이상이 되면 남은 라벨로는 더 싸질 수 없어 탐색을 멈춘다.
+ * 요금이 같은 경로끼리는 거리, 소요 시간이 짧은 쪽을 고른다. 탐색 비용은 거리 기준 다익스트라의 (추가 요금 단계 수) 배를 넘지 않는다.
+ * 배열은 DijkstraWorkspace 와 같이 세대 도장으로 구분해 매번 초기화하지 않는다. 스레드 간에 공유해서는 안 되며, 탐색 엔진은 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class FareOptimalSearch {
+
+	public static final int NO_PATH = -1;
+
+	private static final int NO_STATE = -1;
+
+	private final IndexedLongMinHeap heap;
+	private int generation;
+	private int[] stamps;
+	private long[] costs;
+	private long[] distances;
+	private int[] previousEdges;
+	private int[] previousTiers;
+	private int[] pathEdges;
+	private int fare;
+	private int settledCount;
+
+	public FareOptimalSearch(int capacity) {
+		this.heap = new IndexedLongMinHeap(capacity);
+		this.stamps = new int[capacity];
+		this.costs = new long[capacity];
+		this.distances = new long[capacity];
+		this.previousEdges = new int[capacity];
+		this.previousTiers = new int[capacity];
+		this.pathEdges = new int[capacity];
+	}
+
+	/**
+	 * @param baseFare 거리만으로 정해지는 기본 요금
+	 * @return 가장 싼 경로의 간선 수. 결과는 {@link #pathEdges()} 의 앞부분에 담긴다. 경로가 없으면 {@link #NO_PATH} 이다.
+	 */
+	public int search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		int tierCount = tiers.tierCount();
+		reset(snapshot.stationCount() * tierCount);
+
+		int bestState = NO_STATE;
+		int bestFare = Integer.MAX_VALUE;
+		reach(sourceIndex * tierCount, 0L, 0L, DijkstraWorkspace.NO_EDGE, 0);
+		while (!heap.isEmpty()) {
+			int state = heap.pollMin();
+			int station = state / tierCount;
+			int tier = state % tierCount;
+			if (baseFare.applyAsInt(distances[state]) >= bestFare) {
+				break;
+			}
+			if (isDominatedByLowerTier(station, tier, costs[state], tierCount)) {
+				continue;
+			}
+			settledCount++;
+			if (station == targetIndex) {
+				int candidateFare = baseFare.applyAsInt(distances[state]) + tiers.surchargeOf(tier);
+				if (candidateFare < bestFare) {
+					bestState = state;
+					bestFare = candidateFare;
+				}
+				continue;
+			}
+
+			for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+				long distance = distances[state] + snapshot.edgeDistance(edge);
+				int nextTier = Math.max(tier, tiers.tierOfEdge(snapshot, edge));
+				if (baseFare.applyAsInt(distance) + tiers.surchargeOf(nextTier) >= bestFare) {
+					continue;
+				}
+				reach(snapshot.edgeTarget(edge) * tierCount + nextTier, costs[state] + snapshot.edgeWeight(edge, PathRequestType.DISTANCE), distance, edge, tier);
+			}
+		}
+
+		if (bestState == NO_STATE) {
+			return NO_PATH;
+		}
+		fare = bestFare;
+		return tracePath(snapshot, sourceIndex * tierCount, bestState, tierCount);
+	}
+
+	public int[] pathEdges() {
+		return pathEdges;
+	}
+
+	/**
+	 * 직전 search 에서 찾은 경로의 요금.
+	 */
+	public int fare() {
+		return fare;
+	}
+
+	/**
+	 * 직전 search 에서 확정한 라벨의 수.
+	 */
+	public int settledCount() {
+		return settledCount;
+	}
+
+	private void reach(int state, long cost, long distance, int previousEdge, int previousTier) {
+		if (stamps[state] == generation && costs[state] <= cost) {
+			return;
+		}
+		stamps[state] = generation;
+		costs[state] = cost;
+		distances[state] = distance;
+		previousEdges[state] = previousEdge;
+		previousTiers[state] = previousTier;
+		heap.insertOrDecrease(state, cost);
+	}
+
+	private boolean isDominatedByLowerTier(int station, int tier, long cost, int tierCount) {
+		for (int lowerTier = 0; lowerTier < tier; lowerTier++) {
+			int lowerState = station * tierCount + lowerTier;
+			if (stamps[lowerState] == generation && costs[lowerState] <= cost) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int tracePath(NetworkSnapshot snapshot, int sourceState, int targetState, int tierCount) {
+		int length = 0;
+		for (int state = targetState; state != sourceState; state = previousStateOf(snapshot, state, tierCount)) {
+			length++;
+		}
+
+		if (pathEdges.length < length) {
+			pathEdges = Arrays.copyOf(pathEdges, Math.max(length, pathEdges.length * 2));
+		}
+		int cursor = length;
+		for (int state = targetState; state != sourceState; state = previousStateOf(snapshot, state, tierCount)) {
+			pathEdges[--cursor] = previousEdges[state];
+		}
+		return length;
+	}
+
+	private int previousStateOf(NetworkSnapshot snapshot, int state, int tierCount) {
+		return snapshot.edgeSource(previousEdges[state]) * tierCount + previousTiers[state];
+	}
+
+	private void reset(int stateCount) {
+		if (stateCount > stamps.length) {
+			heap.ensureCapacity(stateCount);
+			stamps = Arrays.copyOf(stamps, stateCount);
+			costs = Arrays.copyOf(costs, stateCount);
+			distances = Arrays.copyOf(distances, stateCount);
+			previousEdges = Arrays.copyOf(previousEdges, stateCount);
+			previousTiers = Arrays.copyOf(previousTiers, stateCount);
+		}
+		heap.clear();
+		settledCount = 0;
+		if (++generation == 0) {
+			Arrays.fill(stamps, 0);
+			generation = 1;
+		}
+	}
+}
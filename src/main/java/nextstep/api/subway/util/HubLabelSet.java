@@ -0,0 +1,42 @@
+package nextstep.api.subway.util;
+
+import java.util.concurrent.CompletableFuture;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 스냅샷 하나에 대한 비용 기준별 허브 라벨 묶음. 같은 스냅샷에 붙은 축약 계층의 순서를 그대로 사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class HubLabelSet {
+
+	private final HubLabels distanceLabels;
+	private final HubLabels durationLabels;
+
+	private HubLabelSet(HubLabels distanceLabels, HubLabels durationLabels) {
+		this.distanceLabels = distanceLabels;
+		this.durationLabels = durationLabels;
+	}
+
+	public static HubLabelSet build(NetworkSnapshot snapshot) {
+		ContractionHierarchySet hierarchies = snapshot.fetchIndex(ContractionHierarchySet.class, ContractionHierarchySet::build);
+		CompletableFuture<HubLabels> durationLabels = CompletableFuture.supplyAsync(
+			() -> HubLabels.build(hierarchies.hierarchyOf(PathRequestType.DURATION), snapshot.stationCount()));
+		HubLabels distanceLabels = HubLabels.build(hierarchies.hierarchyOf(PathRequestType.DISTANCE), snapshot.stationCount());
+		return new HubLabelSet(distanceLabels, durationLabels.join());
+	}
+
+	/**
+	 * 스냅샷의 간선 가중치와 마찬가지로 유형이 없으면 소요 시간 기준 라벨을 돌려준다.
+	 */
+	public HubLabels labelsOf(PathRequestType type) {
+		return PathRequestType.isDistance(type) ? distanceLabels : durationLabels;
+	}
+
+	public long memoryBytes() {
+		return distanceLabels.memoryBytes() + durationLabels.memoryBytes();
+	}
+}
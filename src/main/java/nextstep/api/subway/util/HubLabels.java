@@ -0,0 +1,241 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import nextstep.api.subway.domain.model.vo.PathSummary;
+
+/**
+ * 축약 계층의 순서로부터 만든 한 가지 비용 기준의 허브 라벨(2-hop label).
+ * <p>
+ * 각 역은 정방향 라벨(자신에서 상향 탐색으로 닿는 허브까지의 비용)과 역방향 라벨(허브에서 자신까지의 비용)을 허브 번호 순으로 정렬해 가진다.
+ * 두 역 사이의 최단 비용은 출발역의 정방향 라벨과 도착역의 역방향 라벨에 함께 있는 허브 중 비용 합이 가장 작은 값이므로,
+ * 조회는 정렬된 두 배열의 병합 한 번으로 끝난다.
+ * <p>
+ * 라벨은 순위가 높은 역부터 만든다. 역 v 의 라벨은 v 의 상향(역방향은 하향) 간선으로 이어진 이웃의 라벨을 이어 붙인 것이며,
+ * 이미 다른 허브를 거쳐 더 싸게 닿을 수 있는 항목은 버린다(pruning). 항목마다 비교용 합성 비용과 함께 실제 거리/소요 시간 합계를 저장한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class HubLabels {
+
+	private static final int ENTRY_BYTES = Integer.BYTES + Long.BYTES * 3;
+
+	private final Label forward;
+	private final Label backward;
+
+	private HubLabels(Label forward, Label backward) {
+		this.forward = forward;
+		this.backward = backward;
+	}
+
+	public static HubLabels build(ContractionHierarchy hierarchy, int stationCount) {
+		int[] stationsByRank = new int[stationCount];
+		for (int station = 0; station < stationCount; station++) {
+			stationsByRank[hierarchy.rankOf(station)] = station;
+		}
+
+		LabelBuilder forward = new LabelBuilder(stationCount);
+		LabelBuilder backward = new LabelBuilder(stationCount);
+		for (int rank = stationCount - 1; rank >= 0; rank--) {
+			int station = stationsByRank[rank];
+			forward.buildLabel(station, hierarchy, true, backward);
+			backward.buildLabel(station, hierarchy, false, forward);
+		}
+		return new HubLabels(forward.toLabel(), backward.toLabel());
+	}
+
+	/**
+	 * @return 두 역이 이어져 있지 않으면 빈 값
+	 */
+	public Optional<PathSummary> query(int sourceIndex, int targetIndex) {
+		int i = forward.offsets[sourceIndex];
+		int iEnd = forward.offsets[sourceIndex + 1];
+		int j = backward.offsets[targetIndex];
+		int jEnd = backward.offsets[targetIndex + 1];
+		long best = Long.MAX_VALUE;
+		int bestForward = -1;
+		int bestBackward = -1;
+		while (i < iEnd && j < jEnd) {
+			int forwardHub = forward.hubs[i];
+			int backwardHub = backward.hubs[j];
+			if (forwardHub < backwardHub) {
+				i++;
+			} else if (forwardHub > backwardHub) {
+				j++;
+			} else {
+				long cost = forward.costs[i] + backward.costs[j];
+				if (cost < best) {
+					best = cost;
+					bestForward = i;
+					bestBackward = j;
+				}
+				i++;
+				j++;
+			}
+		}
+
+		if (bestForward < 0) {
+			return Optional.empty();
+		}
+		return Optional.of(PathSummary.of(forward.distances[bestForward] + backward.distances[bestBackward],
+			forward.durations[bestForward] + backward.durations[bestBackward]));
+	}
+
+	public long entryCount() {
+		return (long)forward.hubs.length + backward.hubs.length;
+	}
+
+	/**
+	 * 라벨 배열이 차지하는 대략적인 힙 크기(바이트). 배열 헤더는 포함하지 않는다.
+	 */
+	public long memoryBytes() {
+		return entryCount() * ENTRY_BYTES + (long)(forward.offsets.length + backward.offsets.length) * Integer.BYTES;
+	}
+
+	/**
+	 * 역마다 허브 번호 순으로 정렬된 라벨 항목을 CSR 형태로 담는다.
+	 */
+	private static final class Label {
+		private final int[] offsets;
+		private final int[] hubs;
+		private final long[] costs;
+		private final long[] distances;
+		private final long[] durations;
+
+		private Label(int[] offsets, int[] hubs, long[] costs, long[] distances, long[] durations) {
+			this.offsets = offsets;
+			this.hubs = hubs;
+			this.costs = costs;
+			this.distances = distances;
+			this.durations = durations;
+		}
+	}
+
+	/**
+	 * 만드는 동안은 역별 라벨을 따로 보관하고, 후보 허브는 세대 도장을 쓰는 조밀 배열로 모은다.
+	 */
+	private static final class LabelBuilder {
+		private final int[][] hubs;
+		private final long[][] costs;
+		private final long[][] distances;
+		private final long[][] durations;
+
+		private final long[] candidateCosts;
+		private final long[] candidateDistances;
+		private final long[] candidateDurations;
+		private final int[] candidateStamps;
+		private int[] candidates;
+		private int candidateCount;
+		private int generation;
+
+		private LabelBuilder(int stationCount) {
+			this.hubs = new int[stationCount][];
+			this.costs = new long[stationCount][];
+			this.distances = new long[stationCount][];
+			this.durations = new long[stationCount][];
+			this.candidateCosts = new long[stationCount];
+			this.candidateDistances = new long[stationCount];
+			this.candidateDurations = new long[stationCount];
+			this.candidateStamps = new int[stationCount];
+			this.candidates = new int[16];
+		}
+
+		/**
+		 * 정방향이면 station 의 상향 간선(station → 이웃)을, 역방향이면 하향 간선(이웃 → station)을 따라 이웃의 라벨을 이어 붙인다.
+		 * 이웃은 모두 station 보다 순위가 높으므로 라벨이 이미 완성되어 있다.
+		 */
+		private void buildLabel(int station, ContractionHierarchy hierarchy, boolean upward, LabelBuilder opposite) {
+			generation++;
+			candidateCount = 0;
+			offer(station, 0L, 0L, 0L);
+
+			int begin = upward ? hierarchy.upBegin(station) : hierarchy.downBegin(station);
+			int end = upward ? hierarchy.upEnd(station) : hierarchy.downEnd(station);
+			for (int position = begin; position < end; position++) {
+				int edge = upward ? hierarchy.upEdgeAt(position) : hierarchy.downEdgeAt(position);
+				int neighbor = upward ? hierarchy.edgeTarget(edge) : hierarchy.edgeSource(edge);
+				for (int k = 0; k < hubs[neighbor].length; k++) {
+					offer(hubs[neighbor][k], hierarchy.edgeWeight(edge) + costs[neighbor][k],
+						hierarchy.edgeDistance(edge) + distances[neighbor][k], hierarchy.edgeDuration(edge) + durations[neighbor][k]);
+				}
+			}
+
+			int kept = 0;
+			for (int k = 0; k < candidateCount; k++) {
+				int hub = candidates[k];
+				if (hub == station || !isDominated(hub, opposite)) {
+					candidates[kept++] = hub;
+				}
+			}
+
+			Arrays.sort(candidates, 0, kept);
+			hubs[station] = Arrays.copyOf(candidates, kept);
+			costs[station] = new long[kept];
+			distances[station] = new long[kept];
+			durations[station] = new long[kept];
+			for (int k = 0; k < kept; k++) {
+				int hub = candidates[k];
+				costs[station][k] = candidateCosts[hub];
+				distances[station][k] = candidateDistances[hub];
+				durations[station][k] = candidateDurations[hub];
+			}
+		}
+
+		private void offer(int hub, long cost, long distance, long duration) {
+			if (candidateStamps[hub] == generation) {
+				if (cost >= candidateCosts[hub]) {
+					return;
+				}
+			} else {
+				candidateStamps[hub] = generation;
+				if (candidateCount == candidates.length) {
+					candidates = Arrays.copyOf(candidates, candidateCount * 2);
+				}
+				candidates[candidateCount++] = hub;
+			}
+			candidateCosts[hub] = cost;
+			candidateDistances[hub] = distance;
+			candidateDurations[hub] = duration;
+		}
+
+		/**
+		 * 후보 허브 h 의 반대 방향 라벨과 지금 만드는 라벨을 맞춰 보아, 다른 허브를 거치는 편이 더 싸면 h 는 필요 없다.
+		 */
+		private boolean isDominated(int hub, LabelBuilder opposite) {
+			long cost = candidateCosts[hub];
+			int[] oppositeHubs = opposite.hubs[hub];
+			long[] oppositeCosts = opposite.costs[hub];
+			for (int k = 0; k < oppositeHubs.length; k++) {
+				int via = oppositeHubs[k];
+				if (via != hub && candidateStamps[via] == generation && candidateCosts[via] + oppositeCosts[k] < cost) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private Label toLabel() {
+			int stationCount = hubs.length;
+			int[] offsets = new int[stationCount + 1];
+			for (int station = 0; station < stationCount; station++) {
+				offsets[station + 1] = offsets[station] + hubs[station].length;
+			}
+
+			int total = offsets[stationCount];
+			int[] flatHubs = new int[total];
+			long[] flatCosts = new long[total];
+			long[] flatDistances = new long[total];
+			long[] flatDurations = new long[total];
+			for (int station = 0; station < stationCount; station++) {
+				int length = hubs[station].length;
+				System.arraycopy(hubs[station], 0, flatHubs, offsets[station], length);
+				System.arraycopy(costs[station], 0, flatCosts, offsets[station], length);
+				System.arraycopy(distances[station], 0, flatDistances, offsets[station], length);
+				System.arraycopy(durations[station], 0, flatDurations, offsets[station], length);
+			}
+			return new Label(offsets, flatHubs, flatCosts, flatDistances, flatDurations);
+		}
+	}
+}
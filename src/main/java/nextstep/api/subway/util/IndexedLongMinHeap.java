@@ -0,0 +1,150 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 capacity 미만의 int 항목을 long 키로 정렬하는 인덱스 기반 4진 최소 힙.
+ * <p>
+ * 항목마다 힙 내 위치를 기억하므로 이미 들어 있는 항목의 키를 낮출 때 새 원소를 넣지 않고 제자리에서 끌어올린다.
+ * 박싱이나 노드 객체를 만들지 않으며, clear 는 힙에 남아 있는 항목 수에 비례하는 비용만 든다.
+ * 4진 힙은 이진 힙보다 트리 높이가 낮아 다익스트라처럼 decrease-key 가 잦은 경우에 유리하다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class IndexedLongMinHeap {
+
+	private static final int ARITY = 4;
+	private static final int ABSENT = -1;
+
+	private int[] heap;
+	private long[] keys;
+	private int[] positions;
+	private int size;
+
+	public IndexedLongMinHeap(int capacity) {
+		this.heap = new int[capacity];
+		this.keys = new long[capacity];
+		this.positions = new int[capacity];
+		Arrays.fill(positions, ABSENT);
+	}
+
+	public int capacity() {
+		return positions.length;
+	}
+
+	public void ensureCapacity(int capacity) {
+		if (capacity <= positions.length) {
+			return;
+		}
+		int previous = positions.length;
+		heap = Arrays.copyOf(heap, capacity);
+		keys = Arrays.copyOf(keys, capacity);
+		positions = Arrays.copyOf(positions, capacity);
+		Arrays.fill(positions, previous, capacity, ABSENT);
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean contains(int item) {
+		return positions[item] != ABSENT;
+	}
+
+	public long minKey() {
+		return keys[heap[0]];
+	}
+
+	/**
+	 * 항목이 없으면 넣고, 있으면 더 작은 키로 갱신한다. 기존 키보다 크거나 같은 키는 무시한다.
+	 *
+	 * @return 힙이 변경되었는지 여부
+	 */
+	public boolean insertOrDecrease(int item, long key) {
+		int position = positions[item];
+		if (position == ABSENT) {
+			keys[item] = key;
+			heap[size] = item;
+			positions[item] = size;
+			siftUp(size++);
+			return true;
+		}
+		if (key >= keys[item]) {
+			return false;
+		}
+		keys[item] = key;
+		siftUp(position);
+		return true;
+	}
+
+	public int pollMin() {
+		int min = heap[0];
+		positions[min] = ABSENT;
+		int last = heap[--size];
+		if (size > 0) {
+			heap[0] = last;
+			positions[last] = 0;
+			siftDown(0);
+		}
+		return min;
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			positions[heap[i]] = ABSENT;
+		}
+		size = 0;
+	}
+
+	private void siftUp(int position) {
+		int item = heap[position];
+		long key = keys[item];
+		while (position > 0) {
+			int parentPosition = (position - 1) / ARITY;
+			int parent = heap[parentPosition];
+			if (keys[parent] <= key) {
+				break;
+			}
+			heap[position] = parent;
+			positions[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = item;
+		positions[item] = position;
+	}
+
+	private void siftDown(int position) {
+		int item = heap[position];
+		long key = keys[item];
+		while (true) {
+			int firstChild = position * ARITY + 1;
+			if (firstChild >= size) {
+				break;
+			}
+			int lastChild = Math.min(firstChild + ARITY, size);
+			int minChildPosition = firstChild;
+			long minChildKey = keys[heap[firstChild]];
+			for (int child = firstChild + 1; child < lastChild; child++) {
+				long childKey = keys[heap[child]];
+				if (childKey < minChildKey) {
+					minChildKey = childKey;
+					minChildPosition = child;
+				}
+			}
+			if (minChildKey >= key) {
+				break;
+			}
+			int minChild = heap[minChildPosition];
+			heap[position] = minChild;
+			positions[minChild] = position;
+			position = minChildPosition;
+		}
+		heap[position] = item;
+		positions[item] = position;
+	}
+}
@@ -0,0 +1,200 @@
+package nextstep.api.subway.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * Yen 알고리즘으로 출발역에서 도착역까지 역을 두 번 지나지 않는 경로를 비용 순으로 최대 K 개 찾는 작업 공간.
+ * <p>
+ * k 번째 경로는 (k-1) 번째 경로의 각 역을 분기점(spur)으로 삼아 찾는다.
+ * 분기점까지의 앞부분(root)은 그대로 두고, 같은 root 를 가진 기존 경로가 분기점에서 쓴 간선과 root 위의 역을 막은 채 분기점에서 도착역까지 다시 탐색한다.
+ * 그렇게 모은 후보 중 가장 싼 것이 다음 경로가 된다.
+ * 분기 탐색은 모두 같은 스냅샷과 하나의 DijkstraWorkspace 를 재사용하며, 막힌 간선/역도 세대 도장으로 표시해 그래프를 다시 만들지 않는다.
+ * 비용은 탐색 엔진과 같은 합성 가중치(NetworkSnapshot#edgeWeight)를 써서 동일 비용 경로의 순서도 엔진과 맞춘다.
+ * <p>
+ * 마감 시각이 지나면 새 분기 탐색을 시작하지 않고 그때까지 찾은 경로만 돌려주며, {@link #isTruncated()} 로 이를 알린다.
+ * 스레드 간에 공유해서는 안 되며, 조회기는 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class KShortestPaths {
+
+	private final DijkstraWorkspace workspace;
+	private int[] bannedEdgeStamps;
+	private int[] bannedStationStamps;
+	private int banGeneration;
+	private boolean truncated;
+	private int settledCount;
+
+	public KShortestPaths(int capacity) {
+		this.workspace = new DijkstraWorkspace(capacity);
+		this.bannedEdgeStamps = new int[capacity];
+		this.bannedStationStamps = new int[capacity];
+	}
+
+	/**
+	 * @param deadlineNanos System.nanoTime() 기준 마감 시각. 첫 경로는 마감과 관계없이 찾는다.
+	 * @return 비용 순으로 정렬된 경로별 간선 배열. 경로가 없으면 빈 목록이다.
+	 */
+	public List<int[]> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type, int k, long deadlineNanos) {
+		ensureCapacity(snapshot.stationCount(), snapshot.edgeCount());
+		truncated = false;
+		settledCount = 0;
+
+		List<int[]> accepted = new ArrayList<>(k);
+		nextBanGeneration();
+		int[] first = spurSearch(snapshot, sourceIndex, targetIndex, type);
+		if (first == null) {
+			return accepted;
+		}
+		accepted.add(first);
+
+		PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingLong(Candidate::cost).thenComparingInt(candidate -> candidate.edges.length));
+		Set<Candidate> seen = new HashSet<>();
+		seen.add(new Candidate(first, 0L));
+		while (accepted.size() < k) {
+			int[] previous = accepted.get(accepted.size() - 1);
+			int spurStation = sourceIndex;
+			long rootCost = 0L;
+			for (int spurPosition = 0; spurPosition < previous.length; spurPosition++) {
+				if (System.nanoTime() - deadlineNanos > 0) {
+					truncated = true;
+					return accepted;
+				}
+				banForSpur(snapshot, accepted, previous, spurPosition);
+
+				int[] spur = spurSearch(snapshot, spurStation, targetIndex, type);
+				if (spur != null) {
+					int[] edges = Arrays.copyOf(previous, spurPosition + spur.length);
+					System.arraycopy(spur, 0, edges, spurPosition, spur.length);
+					Candidate candidate = new Candidate(edges, rootCost + costOf(snapshot, spur, type));
+					if (seen.add(candidate)) {
+						candidates.add(candidate);
+					}
+				}
+
+				rootCost += snapshot.edgeWeight(previous[spurPosition], type);
+				spurStation = snapshot.edgeTarget(previous[spurPosition]);
+			}
+
+			Candidate next = candidates.poll();
+			if (next == null) {
+				break;
+			}
+			accepted.add(next.edges);
+		}
+		return accepted;
+	}
+
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * 직전 search 에서 모든 분기 탐색이 확정한 역 수의 합.
+	 */
+	public int settledCount() {
+		return settledCount;
+	}
+
+	/**
+	 * root(앞의 spurPosition 개 간선)가 같은 기존 경로가 분기점에서 쓴 간선과, 분기점을 제외한 root 위의 역을 막는다.
+	 */
+	private void banForSpur(NetworkSnapshot snapshot, List<int[]> accepted, int[] previous, int spurPosition) {
+		nextBanGeneration();
+		for (int[] path : accepted) {
+			if (path.length > spurPosition && Arrays.equals(path, 0, spurPosition, previous, 0, spurPosition)) {
+				bannedEdgeStamps[path[spurPosition]] = banGeneration;
+			}
+		}
+		for (int position = 0; position < spurPosition; position++) {
+			bannedStationStamps[snapshot.edgeSource(previous[position])] = banGeneration;
+		}
+	}
+
+	private int[] spurSearch(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		workspace.reset(snapshot.stationCount());
+		workspace.relax(sourceIndex, 0L, DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap heap = workspace.heap();
+		while (!heap.isEmpty()) {
+			int current = heap.pollMin();
+			settledCount++;
+			if (current == targetIndex) {
+				int length = workspace.tracePath(snapshot, sourceIndex, targetIndex);
+				return Arrays.copyOf(workspace.pathEdges(), length);
+			}
+
+			long currentCost = workspace.costOf(current);
+			for (int edge = snapshot.edgeBegin(current); edge < snapshot.edgeEnd(current); edge++) {
+				int next = snapshot.edgeTarget(edge);
+				if (bannedEdgeStamps[edge] == banGeneration || bannedStationStamps[next] == banGeneration) {
+					continue;
+				}
+				workspace.relax(next, currentCost + snapshot.edgeWeight(edge, type), edge);
+			}
+		}
+		return null;
+	}
+
+	private long costOf(NetworkSnapshot snapshot, int[] edges, PathRequestType type) {
+		long cost = 0L;
+		for (int edge : edges) {
+			cost += snapshot.edgeWeight(edge, type);
+		}
+		return cost;
+	}
+
+	private void nextBanGeneration() {
+		if (++banGeneration == 0) {
+			Arrays.fill(bannedEdgeStamps, 0);
+			Arrays.fill(bannedStationStamps, 0);
+			banGeneration = 1;
+		}
+	}
+
+	private void ensureCapacity(int stationCount, int edgeCount) {
+		if (bannedEdgeStamps.length < edgeCount) {
+			bannedEdgeStamps = Arrays.copyOf(bannedEdgeStamps, edgeCount);
+		}
+		if (bannedStationStamps.length < stationCount) {
+			bannedStationStamps = Arrays.copyOf(bannedStationStamps, stationCount);
+		}
+	}
+
+	/**
+	 * 간선 순서가 같으면 같은 경로로 본다. 비용은 간선 순서로 정해지므로 비교에 넣지 않는다.
+	 */
+	private static final class Candidate {
+		private final int[] edges;
+		private final long cost;
+
+		private Candidate(int[] edges, long cost) {
+			this.edges = edges;
+			this.cost = cost;
+		}
+
+		private long cost() {
+			return cost;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Candidate && Arrays.equals(edges, ((Candidate)other).edges);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(edges);
+		}
+	}
+}
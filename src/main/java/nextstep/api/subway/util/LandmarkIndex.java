@@ -0,0 +1,145 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * ALT(A*, Landmarks, Triangle inequality) 탐색을 위한 랜드마크 거리표.
+ * <p>
+ * 역에는 좌표가 없으므로 기하학적 휴리스틱 대신 몇 개의 랜드마크 L 까지의 실제 최단 비용을 미리 계산해 두고,
+ * 삼각 부등식 d(v, t) >= d(L, t) - d(L, v), d(v, t) >= d(v, L) - d(t, L) 로 남은 비용의 하한을 구한다.
+ * 하한은 탐색에 쓰는 것과 같은 합성 가중치(기준 지표 + 보조 지표)로 계산하므로 허용 가능하고 일관적(consistent)이다.
+ * <p>
+ * 랜드마크는 farthest-first 로 고른다. 이미 고른 랜드마크들과의 거리(양방향 중 가까운 쪽)가 가장 먼 역을 다음 랜드마크로 삼으며,
+ * 어떤 랜드마크와도 연결되지 않은 역이 있으면 그 역을 먼저 고른다.
+ * 선택 과정은 앞선 선택에 의존하므로 거리 기준 표는 순차로 만들고, 나머지 소요 시간 기준 표는 랜드마크/방향별로 병렬 계산한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class LandmarkIndex {
+
+	private static final int DISTANCE_METRIC = 0;
+	private static final int DURATION_METRIC = 1;
+
+	private final int stationCount;
+	private final int[] landmarks;
+	private final long[][] fromLandmark;
+	private final long[][] toLandmark;
+
+	private LandmarkIndex(int stationCount, int[] landmarks, long[][] fromLandmark, long[][] toLandmark) {
+		this.stationCount = stationCount;
+		this.landmarks = landmarks;
+		this.fromLandmark = fromLandmark;
+		this.toLandmark = toLandmark;
+	}
+
+	public static LandmarkIndex build(NetworkSnapshot snapshot, int landmarkCount) {
+		int stationCount = snapshot.stationCount();
+		int count = Math.min(landmarkCount, stationCount);
+		int[] landmarks = new int[count];
+		long[][] fromLandmark = {new long[count * stationCount], new long[count * stationCount]};
+		long[][] toLandmark = {new long[count * stationCount], new long[count * stationCount]};
+		if (count == 0) {
+			return new LandmarkIndex(stationCount, landmarks, fromLandmark, toLandmark);
+		}
+
+		long[] nearest = new long[stationCount];
+		Arrays.fill(nearest, ShortestPathTree.UNREACHABLE);
+		int candidate = farthestFrom(ShortestPathTree.of(snapshot, 0, PathRequestType.DISTANCE, false), stationCount);
+		for (int k = 0; k < count; k++) {
+			landmarks[k] = candidate;
+			ShortestPathTree forward = ShortestPathTree.of(snapshot, candidate, PathRequestType.DISTANCE, false);
+			ShortestPathTree backward = ShortestPathTree.of(snapshot, candidate, PathRequestType.DISTANCE, true);
+			store(fromLandmark[DISTANCE_METRIC], k, stationCount, forward);
+			store(toLandmark[DISTANCE_METRIC], k, stationCount, backward);
+			candidate = nextLandmark(nearest, forward, backward, landmarks, k + 1);
+		}
+
+		IntStream.range(0, count * 2).parallel().forEach(task -> {
+			int k = task / 2;
+			boolean reverse = task % 2 == 1;
+			ShortestPathTree tree = ShortestPathTree.of(snapshot, landmarks[k], PathRequestType.DURATION, reverse);
+			store(reverse ? toLandmark[DURATION_METRIC] : fromLandmark[DURATION_METRIC], k, stationCount, tree);
+		});
+
+		return new LandmarkIndex(stationCount, landmarks, fromLandmark, toLandmark);
+	}
+
+	public int landmarkCount() {
+		return landmarks.length;
+	}
+
+	public int landmarkAt(int k) {
+		return landmarks[k];
+	}
+
+	/**
+	 * stationIndex 에서 targetIndex 까지 남은 비용(합성 가중치)의 하한. 어떤 랜드마크로도 하한을 구할 수 없으면 0 이다.
+	 */
+	public long lowerBound(int stationIndex, int targetIndex, PathRequestType type) {
+		int metric = PathRequestType.isDistance(type) ? DISTANCE_METRIC : DURATION_METRIC;
+		long[] from = fromLandmark[metric];
+		long[] to = toLandmark[metric];
+
+		long bound = 0L;
+		for (int base = 0; base < from.length; base += stationCount) {
+			long landmarkToTarget = from[base + targetIndex];
+			long landmarkToStation = from[base + stationIndex];
+			if (landmarkToTarget != ShortestPathTree.UNREACHABLE && landmarkToStation != ShortestPathTree.UNREACHABLE && landmarkToTarget - landmarkToStation > bound) {
+				bound = landmarkToTarget - landmarkToStation;
+			}
+
+			long stationToLandmark = to[base + stationIndex];
+			long targetToLandmark = to[base + targetIndex];
+			if (stationToLandmark != ShortestPathTree.UNREACHABLE && targetToLandmark != ShortestPathTree.UNREACHABLE && stationToLandmark - targetToLandmark > bound) {
+				bound = stationToLandmark - targetToLandmark;
+			}
+		}
+		return bound;
+	}
+
+	private static void store(long[] table, int k, int stationCount, ShortestPathTree tree) {
+		for (int station = 0; station < stationCount; station++) {
+			table[k * stationCount + station] = tree.costOf(station);
+		}
+	}
+
+	private static int farthestFrom(ShortestPathTree tree, int stationCount) {
+		int farthest = tree.root();
+		for (int station = 0; station < stationCount; station++) {
+			if (tree.isReachable(station) && tree.costOf(station) > tree.costOf(farthest)) {
+				farthest = station;
+			}
+		}
+		return farthest;
+	}
+
+	/**
+	 * nearest[v] 를 새 랜드마크와의 거리로 갱신한 뒤, 아직 랜드마크가 아닌 역 중 nearest 가 가장 큰 역을 고른다.
+	 */
+	private static int nextLandmark(long[] nearest, ShortestPathTree forward, ShortestPathTree backward, int[] landmarks, int selectedCount) {
+		int next = 0;
+		long farthest = -1L;
+		for (int station = 0; station < nearest.length; station++) {
+			nearest[station] = Math.min(nearest[station], Math.min(forward.costOf(station), backward.costOf(station)));
+			if (nearest[station] > farthest && !isSelected(landmarks, selectedCount, station)) {
+				farthest = nearest[station];
+				next = station;
+			}
+		}
+		return next;
+	}
+
+	private static boolean isSelected(int[] landmarks, int selectedCount, int station) {
+		for (int k = 0; k < selectedCount; k++) {
+			if (landmarks[k] == station) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
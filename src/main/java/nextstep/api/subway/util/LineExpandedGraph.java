@@ -0,0 +1,190 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 스냅샷의 역을 (역, 노선) 정점으로 펼친 노선 확장 그래프.
+ * <p>
+ * 역 단위 그래프에서는 어느 노선으로 도착했는지 알 수 없어 환승을 세거나 환승에 비용을 매길 수 없다.
+ * 이 그래프는 역마다 그 역을 지나는 노선 수만큼 노선 정점을 두고, 역 자체를 나타내는 환승 정점(hub)을 하나 더 둔다.
+ * <ul>
+ *     <li>탑승 간선: 스냅샷 간선 하나가 같은 노선의 두 노선 정점을 잇는다.</li>
+ *     <li>하차 간선: 노선 정점 → 환승 정점. 환승 비용은 이 간선에 매긴다.</li>
+ *     <li>승차 간선: 환승 정점 → 노선 정점. 비용이 없다.</li>
+ * </ul>
+ * 정점 번호 0 .. stationCount - 1 은 같은 번호 역의 환승 정점이고, 그 뒤가 노선 정점이다.
+ * 노선 정보가 없는 간선(구간 목록으로 만든 임시 스냅샷)은 NO_LINE 을 하나의 노선처럼 취급한다.
+ * 스냅샷과 마찬가지로 생성 이후 변경되지 않으므로 여러 스레드가 공유해도 안전하다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class LineExpandedGraph {
+
+	public static final int NO_EDGE = -1;
+
+	private final int stationCount;
+	private final int[] nodeStations;
+	private final int[] edgeOffsets;
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final int[] rideEdges;
+
+	private LineExpandedGraph(int stationCount, int[] nodeStations, int[] edgeOffsets, int[] edgeSources, int[] edgeTargets, int[] rideEdges) {
+		this.stationCount = stationCount;
+		this.nodeStations = nodeStations;
+		this.edgeOffsets = edgeOffsets;
+		this.edgeSources = edgeSources;
+		this.edgeTargets = edgeTargets;
+		this.rideEdges = rideEdges;
+	}
+
+	public static LineExpandedGraph of(NetworkSnapshot snapshot) {
+		int stationCount = snapshot.stationCount();
+		int[] lineNodeOffsets = new int[stationCount + 1];
+		int[] lineNodeLines = collectStationLines(snapshot, lineNodeOffsets);
+		int lineNodeCount = lineNodeOffsets[stationCount];
+		int nodeCount = stationCount + lineNodeCount;
+
+		int[] nodeStations = new int[nodeCount];
+		int[] edgeOffsets = new int[nodeCount + 1];
+		for (int station = 0; station < stationCount; station++) {
+			nodeStations[station] = station;
+			edgeOffsets[station + 1] = lineNodeOffsets[station + 1] - lineNodeOffsets[station];
+			for (int lineNode = lineNodeOffsets[station]; lineNode < lineNodeOffsets[station + 1]; lineNode++) {
+				nodeStations[stationCount + lineNode] = station;
+				edgeOffsets[stationCount + lineNode + 1] = 1;
+			}
+		}
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			edgeOffsets[lineNodeOf(snapshot.edgeSource(edge), snapshot.edgeLine(edge), stationCount, lineNodeOffsets, lineNodeLines) + 1]++;
+		}
+		for (int node = 0; node < nodeCount; node++) {
+			edgeOffsets[node + 1] += edgeOffsets[node];
+		}
+
+		int edgeCount = edgeOffsets[nodeCount];
+		int[] edgeSources = new int[edgeCount];
+		int[] edgeTargets = new int[edgeCount];
+		int[] rideEdges = new int[edgeCount];
+		int[] cursors = Arrays.copyOf(edgeOffsets, nodeCount);
+		for (int station = 0; station < stationCount; station++) {
+			for (int lineNode = lineNodeOffsets[station]; lineNode < lineNodeOffsets[station + 1]; lineNode++) {
+				int node = stationCount + lineNode;
+				addEdge(station, node, NO_EDGE, cursors, edgeSources, edgeTargets, rideEdges);
+				addEdge(node, station, NO_EDGE, cursors, edgeSources, edgeTargets, rideEdges);
+			}
+		}
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			int line = snapshot.edgeLine(edge);
+			int from = lineNodeOf(snapshot.edgeSource(edge), line, stationCount, lineNodeOffsets, lineNodeLines);
+			int to = lineNodeOf(snapshot.edgeTarget(edge), line, stationCount, lineNodeOffsets, lineNodeLines);
+			addEdge(from, to, edge, cursors, edgeSources, edgeTargets, rideEdges);
+		}
+		return new LineExpandedGraph(stationCount, nodeStations, edgeOffsets, edgeSources, edgeTargets, rideEdges);
+	}
+
+	/**
+	 * 노선 확장 그래프는 스냅샷마다 한 번만 만들어 노선 단위 탐색이 함께 쓴다.
+	 */
+	public static LineExpandedGraph fetch(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(LineExpandedGraph.class, LineExpandedGraph::of);
+	}
+
+	public int nodeCount() {
+		return nodeStations.length;
+	}
+
+	public int hubOf(int stationIndex) {
+		return stationIndex;
+	}
+
+	public boolean isHub(int node) {
+		return node < stationCount;
+	}
+
+	public int stationOf(int node) {
+		return nodeStations[node];
+	}
+
+	public int edgeBegin(int node) {
+		return edgeOffsets[node];
+	}
+
+	public int edgeEnd(int node) {
+		return edgeOffsets[node + 1];
+	}
+
+	public int edgeSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	public int edgeTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	/**
+	 * 탑승 간선이면 대응하는 스냅샷 간선 번호, 승차/하차 간선이면 {@link #NO_EDGE}.
+	 */
+	public int rideEdgeOf(int edge) {
+		return rideEdges[edge];
+	}
+
+	/**
+	 * 노선 정점에서 환승 정점으로 나가는 하차 간선인지 여부. 환승 한 번은 하차 간선 하나에 대응한다.
+	 */
+	public boolean isTransfer(int edge) {
+		return rideEdges[edge] == NO_EDGE && !isHub(edgeSources[edge]);
+	}
+
+	/**
+	 * 역마다 드나드는 간선의 노선을 중복 없이 모아 lineNodeOffsets 로 구간을 나눈 배열에 담는다.
+	 */
+	private static int[] collectStationLines(NetworkSnapshot snapshot, int[] lineNodeOffsets) {
+		int stationCount = snapshot.stationCount();
+		int[] seenBy = new int[snapshot.lineCount() + 1];
+		int[] stationLines = new int[Math.max(1, snapshot.edgeCount() * 2)];
+		int size = 0;
+		for (int station = 0; station < stationCount; station++) {
+			lineNodeOffsets[station] = size;
+			for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+				size = addStationLine(snapshot.edgeLine(edge), station, seenBy, stationLines, size);
+			}
+			for (int position = snapshot.reverseEdgeBegin(station); position < snapshot.reverseEdgeEnd(station); position++) {
+				size = addStationLine(snapshot.edgeLine(snapshot.reverseEdgeAt(position)), station, seenBy, stationLines, size);
+			}
+		}
+		lineNodeOffsets[stationCount] = size;
+		return stationLines;
+	}
+
+	private static int addStationLine(int line, int station, int[] seenBy, int[] stationLines, int size) {
+		if (seenBy[line + 1] == station + 1) {
+			return size;
+		}
+		seenBy[line + 1] = station + 1;
+		stationLines[size] = line;
+		return size + 1;
+	}
+
+	/**
+	 * 한 역을 지나는 노선은 많지 않으므로 선형 탐색으로 충분하다.
+	 */
+	private static int lineNodeOf(int station, int line, int stationCount, int[] lineNodeOffsets, int[] lineNodeLines) {
+		for (int lineNode = lineNodeOffsets[station]; lineNode < lineNodeOffsets[station + 1]; lineNode++) {
+			if (lineNodeLines[lineNode] == line) {
+				return stationCount + lineNode;
+			}
+		}
+		throw new IllegalStateException("Line " + line + " does not pass station " + station);
+	}
+
+	private static void addEdge(int from, int to, int rideEdge, int[] cursors, int[] edgeSources, int[] edgeTargets, int[] rideEdges) {
+		int position = cursors[from]++;
+		edgeSources[position] = from;
+		edgeTargets[position] = to;
+		rideEdges[position] = rideEdge;
+	}
+}
@@ -0,0 +1,173 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 노선 확장 그래프(LineExpandedGraph) 위에서 환승을 고려해 경로를 찾는 작업 공간.
+ * <p>
+ * 출발역의 환승 정점에서 시작해 도착역의 노선 정점 중 하나가 처음 확정되면 멈춘다. 탑승 간선의 비용은 스냅샷의 간선 가중치를 그대로 쓰고,
+ * 하차 간선에만 환승 비용을 매긴다.
+ * <ul>
+ *     <li>MIN_TRANSFER: 환승 한 번이 어떤 소요 시간 합보다 크도록 {@link #MIN_TRANSFER_WEIGHT} 를 매겨 환승 수를 먼저 줄이고, 같으면 소요 시간, 거리 순으로 고른다.</li>
+ *     <li>DISTANCE: 환승 비용을 매기지 않는다. 환승 벌점은 분 단위이므로 거리 기준에는 더하지 않는다.</li>
+ *     <li>그 외: 환승 한 번마다 transferPenaltyMinutes 분을 소요 시간에 더한 값으로 비교한다.</li>
+ * </ul>
+ * 찾은 경로는 탑승 간선에 대응하는 스냅샷 간선 순서로 돌려주므로 각 구간의 노선은 탐색이 실제로 탄 노선 그대로이다.
+ * <p>
+ * 환승 횟수에 상한이 있으면 정점을 (정점, 지금까지의 환승 횟수) 상태로 겹쳐 찾는다. 상태 번호는 {@code 환승 횟수 * 정점 수 + 정점} 이고,
+ * 하차 간선을 지날 때마다 한 층 위로 올라가며 상한을 넘는 층으로는 가지 않는다. 어떤 정점이 더 적은 환승으로 이미 확정되었으면
+ * 그보다 많은 환승으로 확정되는 상태는 더 싸지도 않으므로 펼치지 않는다.
+ * 닫힌 간선(ClosureMask)은 탑승 간선을 풀기 전에 비트 하나로 확인해 건너뛴다.
+ * 스레드 간에 공유해서는 안 되며, 탐색 엔진은 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class LineExpandedSearch {
+
+	public static final int NO_PATH = -1;
+	public static final int UNLIMITED_TRANSFERS = -1;
+
+	/**
+	 * 간선 가중치의 소요 시간은 {@code duration << 20} 으로 접히므로, 소요 시간 합이 2^24 분(약 32년)을 넘지 않는 한 환승 한 번이 더 크다.
+	 */
+	static final long MIN_TRANSFER_WEIGHT = 1L << 44;
+
+	private final DijkstraWorkspace workspace;
+	private int[] pathEdges;
+	private int[] settledLayers;
+	private int settledCount;
+
+	public LineExpandedSearch(int capacity) {
+		this.workspace = new DijkstraWorkspace(capacity);
+		this.pathEdges = new int[capacity];
+		this.settledLayers = new int[capacity];
+	}
+
+	/**
+	 * @return 찾은 경로의 스냅샷 간선 수. 결과는 {@link #pathEdges()} 의 앞부분에 담긴다. 경로가 없으면 {@link #NO_PATH} 이다.
+	 */
+	public int search(NetworkSnapshot snapshot, LineExpandedGraph graph, int sourceIndex, int targetIndex, PathRequestType type, int transferPenaltyMinutes) {
+		return search(snapshot, graph, sourceIndex, targetIndex, type, transferPenaltyMinutes, ClosureMask.NONE, UNLIMITED_TRANSFERS);
+	}
+
+	/**
+	 * @param closures 탐색에서 뺄 스냅샷 간선
+	 * @param maxTransfers 허용하는 최대 환승 횟수. 제한이 없으면 {@link #UNLIMITED_TRANSFERS}.
+	 */
+	public int search(NetworkSnapshot snapshot, LineExpandedGraph graph, int sourceIndex, int targetIndex, PathRequestType type, int transferPenaltyMinutes,
+		ClosureMask closures, int maxTransfers) {
+		long transferWeight = transferWeightOf(type, transferPenaltyMinutes);
+		int nodeCount = graph.nodeCount();
+		boolean layered = maxTransfers != UNLIMITED_TRANSFERS;
+		int layerCount = layered ? maxTransfers + 1 : 1;
+		workspace.reset(nodeCount * layerCount);
+		if (layered) {
+			resetSettledLayers(nodeCount);
+		}
+		int sourceNode = graph.hubOf(sourceIndex);
+		workspace.relax(sourceNode, 0L, DijkstraWorkspace.NO_EDGE);
+		settledCount = 0;
+
+		IndexedLongMinHeap heap = workspace.heap();
+		while (!heap.isEmpty()) {
+			int state = heap.pollMin();
+			int node = state % nodeCount;
+			int layer = state / nodeCount;
+			if (layered) {
+				if (layer >= settledLayers[node]) {
+					continue;
+				}
+				settledLayers[node] = layer;
+			}
+			settledCount++;
+			if (!graph.isHub(node) && graph.stationOf(node) == targetIndex) {
+				return tracePath(graph, sourceNode, state, layered);
+			}
+
+			long cost = workspace.costOf(state);
+			for (int edge = graph.edgeBegin(node); edge < graph.edgeEnd(node); edge++) {
+				int rideEdge = graph.rideEdgeOf(edge);
+				if (rideEdge != LineExpandedGraph.NO_EDGE && closures.isEdgeClosed(rideEdge)) {
+					continue;
+				}
+				int nextLayer = layered && graph.isTransfer(edge) ? layer + 1 : layer;
+				if (nextLayer < layerCount) {
+					workspace.relax(nextLayer * nodeCount + graph.edgeTarget(edge), cost + weightOf(snapshot, graph, edge, type, transferWeight), edge);
+				}
+			}
+		}
+		return NO_PATH;
+	}
+
+	public int[] pathEdges() {
+		return pathEdges;
+	}
+
+	/**
+	 * 직전 search 에서 확정한 정점의 수.
+	 */
+	public int settledCount() {
+		return settledCount;
+	}
+
+	private long weightOf(NetworkSnapshot snapshot, LineExpandedGraph graph, int edge, PathRequestType type, long transferWeight) {
+		int rideEdge = graph.rideEdgeOf(edge);
+		if (rideEdge != LineExpandedGraph.NO_EDGE) {
+			return snapshot.edgeWeight(rideEdge, type);
+		}
+		return graph.isTransfer(edge) ? transferWeight : 0L;
+	}
+
+	private static long transferWeightOf(PathRequestType type, int transferPenaltyMinutes) {
+		if (PathRequestType.isMinTransfer(type)) {
+			return MIN_TRANSFER_WEIGHT;
+		}
+		if (PathRequestType.isDistance(type)) {
+			return 0L;
+		}
+		return NetworkSnapshot.composeWeight(Math.max(0, transferPenaltyMinutes), 0L);
+	}
+
+	/**
+	 * 상태의 선행 간선을 따라 출발 정점까지 거슬러 올라간다. 층을 나눈 탐색이면 하차 간선을 지날 때마다 한 층 아래 상태로 내려간다.
+	 */
+	private int tracePath(LineExpandedGraph graph, int sourceNode, int targetState, boolean layered) {
+		int nodeCount = graph.nodeCount();
+		int length = 0;
+		for (int state = targetState; state != sourceNode; state = previousStateOf(graph, state, nodeCount, layered)) {
+			if (graph.rideEdgeOf(workspace.previousEdgeOf(state)) != LineExpandedGraph.NO_EDGE) {
+				length++;
+			}
+		}
+
+		if (pathEdges.length < length) {
+			pathEdges = Arrays.copyOf(pathEdges, Math.max(length, pathEdges.length * 2));
+		}
+		int cursor = length;
+		for (int state = targetState; state != sourceNode; state = previousStateOf(graph, state, nodeCount, layered)) {
+			int rideEdge = graph.rideEdgeOf(workspace.previousEdgeOf(state));
+			if (rideEdge != LineExpandedGraph.NO_EDGE) {
+				pathEdges[--cursor] = rideEdge;
+			}
+		}
+		return length;
+	}
+
+	private int previousStateOf(LineExpandedGraph graph, int state, int nodeCount, boolean layered) {
+		int edge = workspace.previousEdgeOf(state);
+		int layer = state / nodeCount;
+		int previousLayer = layered && graph.isTransfer(edge) ? layer - 1 : layer;
+		return previousLayer * nodeCount + graph.edgeSource(edge);
+	}
+
+	private void resetSettledLayers(int nodeCount) {
+		if (settledLayers.length < nodeCount) {
+			settledLayers = new int[Math.max(nodeCount, settledLayers.length * 2)];
+		}
+		Arrays.fill(settledLayers, 0, nodeCount, Integer.MAX_VALUE);
+	}
+}
@@ -0,0 +1,207 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 노선마다 역을 상행 종점부터 하행 종점 순서로 늘어놓고, 상행 종점부터의 누적 간선 가중치(prefix sum)를 함께 담은 색인.
+ * <p>
+ * 정차역(stop)은 모든 노선의 정차역을 이어 붙인 전역 번호로 다룬다.
+ * <ul>
+ *     <li>노선 l 의 정차역: [stopBegin(l), stopEnd(l)). 노선에 간선이 없거나 상행 종점이 없이 순환하면 빈 구간이다.</li>
+ *     <li>정차역 p 의 역 인덱스, 다음 정차역으로 가는 스냅샷 간선, 상행 종점부터의 누적 가중치(거리 기준, 소요 시간 기준).</li>
+ *     <li>역 s 에 서는 정차역: [stationStopBegin(s), stationStopEnd(s)) 위치의 stationStopAt.</li>
+ * </ul>
+ * 누적 가중치는 탐색 엔진과 같은 합성 가중치(edgeWeight)를 더한 값이므로, 같은 노선의 정차역 p 에서 q (p &lt; q) 까지 갈아타지 않고 가는 비용은
+ * 차 하나(weightBetween)로 O(1) 에 구해지고 엔진이 계산한 경로 비용과 그대로 비교할 수 있다. 역 목록은 p 부터 q 까지의 간선을 따라 O(q - p) 에 얻는다.
+ * 누적 가중치는 만든 스냅샷의 소요 시간을 따르므로, 지연을 덧씌운 파생 스냅샷에는 그 스냅샷에서 따로 만들어야 한다.
+ * 스냅샷과 마찬가지로 생성 이후 변경되지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class LinePrefixSums {
+
+	public static final int NO_EDGE = -1;
+
+	private static final int DISTANCE_METRIC = 0;
+	private static final int DURATION_METRIC = 1;
+
+	private final int[] lineStopOffsets;
+	private final int[] stopLines;
+	private final int[] stopStations;
+	private final int[] stopEdges;
+	private final long[][] stopWeights;
+	private final int[] stationStopOffsets;
+	private final int[] stationStops;
+
+	private LinePrefixSums(int[] lineStopOffsets, int[] stopLines, int[] stopStations, int[] stopEdges, long[][] stopWeights, int[] stationStopOffsets,
+		int[] stationStops) {
+		this.lineStopOffsets = lineStopOffsets;
+		this.stopLines = stopLines;
+		this.stopStations = stopStations;
+		this.stopEdges = stopEdges;
+		this.stopWeights = stopWeights;
+		this.stationStopOffsets = stationStopOffsets;
+		this.stationStops = stationStops;
+	}
+
+	/**
+	 * 노선의 구간은 한 줄로 이어져 있으므로, 들어오는 같은 노선 간선이 없는 역(상행 종점)에서 시작해 같은 노선 간선을 따라간다.
+	 * 노선별 간선을 한 번 모은 뒤 상행 종점을 찾으므로 전체 비용은 간선 수(와 역에서 나가는 간선 수)에 비례한다.
+	 */
+	public static LinePrefixSums of(NetworkSnapshot snapshot) {
+		int lineCount = snapshot.lineCount();
+		int[] lineEdgeOffsets = new int[lineCount + 1];
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			if (snapshot.edgeLine(edge) != NetworkSnapshot.NO_LINE) {
+				lineEdgeOffsets[snapshot.edgeLine(edge) + 1]++;
+			}
+		}
+		for (int line = 0; line < lineCount; line++) {
+			lineEdgeOffsets[line + 1] += lineEdgeOffsets[line];
+		}
+		int[] lineEdges = new int[lineEdgeOffsets[lineCount]];
+		int[] cursors = Arrays.copyOf(lineEdgeOffsets, lineCount);
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			if (snapshot.edgeLine(edge) != NetworkSnapshot.NO_LINE) {
+				lineEdges[cursors[snapshot.edgeLine(edge)]++] = edge;
+			}
+		}
+
+		int[] upEndStations = new int[lineCount];
+		int[] arrivalMarks = new int[snapshot.stationCount()];
+		int[] lineStopOffsets = new int[lineCount + 1];
+		for (int line = 0; line < lineCount; line++) {
+			upEndStations[line] = upEndStationOf(snapshot, line, lineEdges, lineEdgeOffsets[line], lineEdgeOffsets[line + 1], arrivalMarks);
+			int edgeCount = lineEdgeOffsets[line + 1] - lineEdgeOffsets[line];
+			lineStopOffsets[line + 1] = lineStopOffsets[line] + (upEndStations[line] == NetworkSnapshot.NO_STATION ? 0 : edgeCount + 1);
+		}
+		int stopCount = lineStopOffsets[lineCount];
+		int[] stopLines = new int[stopCount];
+		int[] stopStations = new int[stopCount];
+		int[] stopEdges = new int[stopCount];
+		long[][] stopWeights = {new long[stopCount], new long[stopCount]};
+		for (int line = 0; line < lineCount; line++) {
+			if (upEndStations[line] != NetworkSnapshot.NO_STATION) {
+				fillStops(snapshot, line, upEndStations[line], lineStopOffsets[line], lineStopOffsets[line + 1], stopLines, stopStations, stopEdges, stopWeights);
+			}
+		}
+
+		int[] stationStopOffsets = new int[snapshot.stationCount() + 1];
+		for (int stop = 0; stop < stopCount; stop++) {
+			stationStopOffsets[stopStations[stop] + 1]++;
+		}
+		for (int station = 0; station < snapshot.stationCount(); station++) {
+			stationStopOffsets[station + 1] += stationStopOffsets[station];
+		}
+		int[] stationStops = new int[stopCount];
+		int[] stationCursors = Arrays.copyOf(stationStopOffsets, snapshot.stationCount());
+		for (int stop = 0; stop < stopCount; stop++) {
+			stationStops[stationCursors[stopStations[stop]]++] = stop;
+		}
+
+		return new LinePrefixSums(lineStopOffsets, stopLines, stopStations, stopEdges, stopWeights, stationStopOffsets, stationStops);
+	}
+
+	/**
+	 * 누적 가중치는 스냅샷마다 한 번만 만들어 두고 같은 노선 경로 조회가 함께 쓴다.
+	 */
+	public static LinePrefixSums fetch(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(LinePrefixSums.class, LinePrefixSums::of);
+	}
+
+	public int stopCount() {
+		return stopStations.length;
+	}
+
+	public int stopBegin(int line) {
+		return lineStopOffsets[line];
+	}
+
+	public int stopEnd(int line) {
+		return lineStopOffsets[line + 1];
+	}
+
+	public int lineOfStop(int stop) {
+		return stopLines[stop];
+	}
+
+	public int stationOfStop(int stop) {
+		return stopStations[stop];
+	}
+
+	/**
+	 * 정차역 p 에서 다음 정차역으로 가는 스냅샷 간선. 하행 종점이면 {@link #NO_EDGE}.
+	 */
+	public int edgeOfStop(int stop) {
+		return stopEdges[stop];
+	}
+
+	/**
+	 * 같은 노선의 정차역 fromStop 에서 toStop (fromStop &lt;= toStop) 까지 갈아타지 않고 가는 합성 가중치.
+	 */
+	public long weightBetween(int fromStop, int toStop, PathRequestType type) {
+		long[] weights = stopWeights[PathRequestType.isDistance(type) ? DISTANCE_METRIC : DURATION_METRIC];
+		return weights[toStop] - weights[fromStop];
+	}
+
+	public int stationStopBegin(int stationIndex) {
+		return stationStopOffsets[stationIndex];
+	}
+
+	public int stationStopEnd(int stationIndex) {
+		return stationStopOffsets[stationIndex + 1];
+	}
+
+	public int stationStopAt(int position) {
+		return stationStops[position];
+	}
+
+	/**
+	 * 노선 간선이 닿는 역을 노선 번호로 표시해 두고, 표시되지 않은 출발역을 상행 종점으로 삼는다. 간선이 없거나 순환하는 노선은 {@link NetworkSnapshot#NO_STATION}.
+	 */
+	private static int upEndStationOf(NetworkSnapshot snapshot, int line, int[] lineEdges, int edgeBegin, int edgeEnd, int[] arrivalMarks) {
+		for (int position = edgeBegin; position < edgeEnd; position++) {
+			arrivalMarks[snapshot.edgeTarget(lineEdges[position])] = line + 1;
+		}
+		for (int position = edgeBegin; position < edgeEnd; position++) {
+			int source = snapshot.edgeSource(lineEdges[position]);
+			if (arrivalMarks[source] != line + 1) {
+				return source;
+			}
+		}
+		return NetworkSnapshot.NO_STATION;
+	}
+
+	private static void fillStops(NetworkSnapshot snapshot, int line, int upEndStation, int begin, int end, int[] stopLines, int[] stopStations,
+		int[] stopEdges, long[][] stopWeights) {
+		int station = upEndStation;
+		long distanceWeight = 0L;
+		long durationWeight = 0L;
+		for (int stop = begin; stop < end; stop++) {
+			int edge = stop + 1 < end ? lineEdgeFrom(snapshot, station, line) : NO_EDGE;
+			stopLines[stop] = line;
+			stopStations[stop] = station;
+			stopEdges[stop] = edge;
+			stopWeights[DISTANCE_METRIC][stop] = distanceWeight;
+			stopWeights[DURATION_METRIC][stop] = durationWeight;
+			if (edge != NO_EDGE) {
+				distanceWeight += snapshot.edgeWeight(edge, PathRequestType.DISTANCE);
+				durationWeight += snapshot.edgeWeight(edge, PathRequestType.DURATION);
+				station = snapshot.edgeTarget(edge);
+			}
+		}
+	}
+
+	private static int lineEdgeFrom(NetworkSnapshot snapshot, int station, int line) {
+		for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+			if (snapshot.edgeLine(edge) == line) {
+				return edge;
+			}
+		}
+		throw new IllegalStateException("Line " + line + " is not a single chain of sections");
+	}
+}
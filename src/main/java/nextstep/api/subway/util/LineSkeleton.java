@@ -0,0 +1,227 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 환승역과 종점만 남기고 그 사이의 차수 2 역 사슬을 한 간선(run)으로 접은 골격망.
+ * <p>
+ * 들어오는 간선과 나가는 간선이 하나씩인 역은 어느 경로든 그대로 지나갈 수밖에 없으므로 중간역으로 두고, 나머지 역(환승역, 종점, 갈림역)을 골격 역으로 삼는다.
+ * 두 간선의 노선이 달라도(직결 운행) 갈아탈 다른 길이 없으므로 중간역이다. 경로의 노선별 구간은 펼친 원본 간선에서 다시 나뉜다.
+ * 골격 역에서 나가는 간선마다 다음 골격 역에 닿을 때까지 중간역을 따라간 간선 묶음이 run 하나이다. 골격 역이 하나도 없는 순환선은 한 역을 골격 역으로 올린다.
+ * <ul>
+ *     <li>run r: 시작 골격 역 runHead(r), 끝 골격 역 runTail(r), 원본 간선은 runEdgeAt([runEdgeBegin(r), runEdgeEnd(r))) 순서대로이다.</li>
+ *     <li>골격 역 s 에서 나가는 run: [runBegin(s), runEnd(s)). 중간역에는 나가는 run 이 없다.</li>
+ *     <li>중간역 v 는 run 하나에만 속하며, stationPosition(v) 는 v 에서 나가는 간선의 위치이다. 들어오는 간선은 바로 앞 위치에 있다.</li>
+ * </ul>
+ * 위치마다 첫 위치부터의 누적 합성 가중치(거리 기준, 소요 시간 기준)를 담으므로, 중간역을 골격 역에 붙이는 비용과 같은 run 위 두 역 사이의 비용은 차 하나로 구한다.
+ * 누적 가중치는 만든 스냅샷의 소요 시간을 따르므로, 지연을 덧씌운 파생 스냅샷에는 그 스냅샷에서 따로 만들어야 한다.
+ * 스냅샷과 마찬가지로 생성 이후 변경되지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class LineSkeleton {
+
+	public static final int NO_RUN = -1;
+
+	private static final int DISTANCE_METRIC = 0;
+	private static final int DURATION_METRIC = 1;
+
+	private final int nodeCount;
+	private final int[] runOffsets;
+	private final int[] runHeads;
+	private final int[] runTails;
+	private final int[] runEdgeOffsets;
+	private final int[] runEdges;
+	private final long[][] positionWeights;
+	private final int[] stationRuns;
+	private final int[] stationPositions;
+
+	private LineSkeleton(int nodeCount, int[] runOffsets, int[] runHeads, int[] runTails, int[] runEdgeOffsets, int[] runEdges, long[][] positionWeights,
+		int[] stationRuns, int[] stationPositions) {
+		this.nodeCount = nodeCount;
+		this.runOffsets = runOffsets;
+		this.runHeads = runHeads;
+		this.runTails = runTails;
+		this.runEdgeOffsets = runEdgeOffsets;
+		this.runEdges = runEdges;
+		this.positionWeights = positionWeights;
+		this.stationRuns = stationRuns;
+		this.stationPositions = stationPositions;
+	}
+
+	/**
+	 * 골격 역을 정한 뒤 골격 역의 나가는 간선을 역 인덱스 순서로 따라가며 run 을 만든다. 모든 간선은 정확히 한 run 에 들어가므로 비용은 역 수 + 간선 수에 비례한다.
+	 */
+	public static LineSkeleton of(NetworkSnapshot snapshot) {
+		int stationCount = snapshot.stationCount();
+		boolean[] skeletonNodes = new boolean[stationCount];
+		for (int station = 0; station < stationCount; station++) {
+			skeletonNodes[station] = !isInterior(snapshot, station);
+		}
+		promoteDetachedCycles(snapshot, skeletonNodes);
+
+		int nodeCount = 0;
+		int[] runOffsets = new int[stationCount + 1];
+		for (int station = 0; station < stationCount; station++) {
+			if (skeletonNodes[station]) {
+				nodeCount++;
+				runOffsets[station + 1] = snapshot.edgeEnd(station) - snapshot.edgeBegin(station);
+			}
+			runOffsets[station + 1] += runOffsets[station];
+		}
+
+		int runCount = runOffsets[stationCount];
+		int[] runHeads = new int[runCount];
+		int[] runTails = new int[runCount];
+		int[] runEdgeOffsets = new int[runCount + 1];
+		int[] runEdges = new int[snapshot.edgeCount()];
+		long[][] positionWeights = {new long[snapshot.edgeCount() + 1], new long[snapshot.edgeCount() + 1]};
+		int[] stationRuns = new int[stationCount];
+		int[] stationPositions = new int[stationCount];
+		Arrays.fill(stationRuns, NO_RUN);
+		Arrays.fill(stationPositions, NO_RUN);
+
+		int run = 0;
+		int position = 0;
+		long distanceWeight = 0L;
+		long durationWeight = 0L;
+		for (int head = 0; head < stationCount; head++) {
+			if (!skeletonNodes[head]) {
+				continue;
+			}
+			for (int firstEdge = snapshot.edgeBegin(head); firstEdge < snapshot.edgeEnd(head); firstEdge++) {
+				runHeads[run] = head;
+				runEdgeOffsets[run] = position;
+				int edge = firstEdge;
+				while (true) {
+					runEdges[position] = edge;
+					positionWeights[DISTANCE_METRIC][position] = distanceWeight;
+					positionWeights[DURATION_METRIC][position] = durationWeight;
+					distanceWeight += snapshot.edgeWeight(edge, PathRequestType.DISTANCE);
+					durationWeight += snapshot.edgeWeight(edge, PathRequestType.DURATION);
+					position++;
+					int station = snapshot.edgeTarget(edge);
+					if (skeletonNodes[station]) {
+						runTails[run] = station;
+						break;
+					}
+					stationRuns[station] = run;
+					stationPositions[station] = position;
+					edge = snapshot.edgeBegin(station);
+				}
+				positionWeights[DISTANCE_METRIC][position] = distanceWeight;
+				positionWeights[DURATION_METRIC][position] = durationWeight;
+				run++;
+				runEdgeOffsets[run] = position;
+			}
+		}
+
+		return new LineSkeleton(nodeCount, runOffsets, runHeads, runTails, runEdgeOffsets, runEdges, positionWeights, stationRuns, stationPositions);
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	public int runCount() {
+		return runHeads.length;
+	}
+
+	public boolean isNode(int stationIndex) {
+		return stationRuns[stationIndex] == NO_RUN;
+	}
+
+	public int runBegin(int stationIndex) {
+		return runOffsets[stationIndex];
+	}
+
+	public int runEnd(int stationIndex) {
+		return runOffsets[stationIndex + 1];
+	}
+
+	public int runHead(int run) {
+		return runHeads[run];
+	}
+
+	public int runTail(int run) {
+		return runTails[run];
+	}
+
+	public int runEdgeBegin(int run) {
+		return runEdgeOffsets[run];
+	}
+
+	public int runEdgeEnd(int run) {
+		return runEdgeOffsets[run + 1];
+	}
+
+	public int runEdgeAt(int position) {
+		return runEdges[position];
+	}
+
+	/**
+	 * run 전체를 지나는 합성 가중치.
+	 */
+	public long runWeight(int run, PathRequestType type) {
+		return weightAt(runEdgeOffsets[run + 1], type) - weightAt(runEdgeOffsets[run], type);
+	}
+
+	/**
+	 * 중간역이 속한 run. 골격 역이면 {@link #NO_RUN}.
+	 */
+	public int stationRun(int stationIndex) {
+		return stationRuns[stationIndex];
+	}
+
+	/**
+	 * 중간역에서 나가는 간선의 위치. 골격 역이면 {@link #NO_RUN}.
+	 */
+	public int stationPosition(int stationIndex) {
+		return stationPositions[stationIndex];
+	}
+
+	/**
+	 * 같은 run 의 두 위치 사이(fromPosition &lt;= toPosition)를 지나는 합성 가중치. 위치 p 는 runEdgeAt(p) 의 출발역을 가리킨다.
+	 */
+	public long weightBetween(int fromPosition, int toPosition, PathRequestType type) {
+		return weightAt(toPosition, type) - weightAt(fromPosition, type);
+	}
+
+	private long weightAt(int position, PathRequestType type) {
+		return positionWeights[PathRequestType.isDistance(type) ? DISTANCE_METRIC : DURATION_METRIC][position];
+	}
+
+	private static boolean isInterior(NetworkSnapshot snapshot, int station) {
+		return snapshot.edgeEnd(station) - snapshot.edgeBegin(station) == 1 && snapshot.reverseEdgeEnd(station) - snapshot.reverseEdgeBegin(station) == 1;
+	}
+
+	/**
+	 * 골격 역에서 따라가도 닿지 않는 중간역은 중간역끼리만 이어진 순환선 위에 있으므로, 순환마다 한 역을 골격 역으로 올린다.
+	 */
+	private static void promoteDetachedCycles(NetworkSnapshot snapshot, boolean[] skeletonNodes) {
+		boolean[] reached = new boolean[skeletonNodes.length];
+		for (int station = 0; station < skeletonNodes.length; station++) {
+			if (skeletonNodes[station]) {
+				for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+					markRun(snapshot, skeletonNodes, reached, snapshot.edgeTarget(edge));
+				}
+			}
+		}
+		for (int station = 0; station < skeletonNodes.length; station++) {
+			if (!skeletonNodes[station] && !reached[station]) {
+				skeletonNodes[station] = true;
+				markRun(snapshot, skeletonNodes, reached, snapshot.edgeTarget(snapshot.edgeBegin(station)));
+			}
+		}
+	}
+
+	private static void markRun(NetworkSnapshot snapshot, boolean[] skeletonNodes, boolean[] reached, int from) {
+		for (int station = from; !skeletonNodes[station]; station = snapshot.edgeTarget(snapshot.edgeBegin(station))) {
+			reached[station] = true;
+		}
+	}
+}
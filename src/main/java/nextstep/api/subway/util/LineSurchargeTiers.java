@@ -0,0 +1,66 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 스냅샷의 노선별 추가 요금을 서로 다른 금액끼리 묶어 오름차순 단계(tier)로 바꾼 표.
+ * <p>
+ * 추가 요금은 경로가 지난 노선 중 가장 비싼 한 노선만 붙으므로, 경로를 따라가며 "지금까지의 최고 단계"만 들고 다니면 된다.
+ * 단계 0 은 항상 추가 요금 0 원이며, 단계 번호가 클수록 추가 요금도 크다. 따라서 두 단계 중 큰 쪽이 곧 더 비싼 쪽이다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class LineSurchargeTiers {
+
+	private final int[] tierOfLine;
+	private final int[] surchargeOfTier;
+
+	private LineSurchargeTiers(int[] tierOfLine, int[] surchargeOfTier) {
+		this.tierOfLine = tierOfLine;
+		this.surchargeOfTier = surchargeOfTier;
+	}
+
+	public static LineSurchargeTiers of(NetworkSnapshot snapshot, ToIntFunction<Long> surchargeOfLineId) {
+		int[] surchargeOfLine = new int[snapshot.lineCount()];
+		for (int line = 0; line < surchargeOfLine.length; line++) {
+			surchargeOfLine[line] = Math.max(0, surchargeOfLineId.applyAsInt(snapshot.lineAt(line).getId()));
+		}
+
+		int[] surchargeOfTier = Arrays.stream(Arrays.copyOf(surchargeOfLine, surchargeOfLine.length + 1))
+			.distinct()
+			.sorted()
+			.toArray();
+		int[] tierOfLine = new int[surchargeOfLine.length];
+		for (int line = 0; line < surchargeOfLine.length; line++) {
+			tierOfLine[line] = Arrays.binarySearch(surchargeOfTier, surchargeOfLine[line]);
+		}
+		return new LineSurchargeTiers(tierOfLine, surchargeOfTier);
+	}
+
+	/**
+	 * 요금 규칙은 스냅샷이 바뀌어도 그대로이므로 단계표는 스냅샷마다 한 번만 만들어 요금을 다루는 조회기들이 함께 쓴다.
+	 */
+	public static LineSurchargeTiers fetch(NetworkSnapshot snapshot, ToIntFunction<Long> surchargeOfLineId) {
+		return snapshot.fetchIndex(LineSurchargeTiers.class, target -> of(target, surchargeOfLineId));
+	}
+
+	public int tierCount() {
+		return surchargeOfTier.length;
+	}
+
+	public int surchargeOf(int tier) {
+		return surchargeOfTier[tier];
+	}
+
+	/**
+	 * 노선 정보가 없는 간선(구간 목록으로 만든 임시 스냅샷 등)은 추가 요금이 없는 것으로 본다.
+	 */
+	public int tierOfEdge(NetworkSnapshot snapshot, int edge) {
+		int line = snapshot.edgeLine(edge);
+		return line == NetworkSnapshot.NO_LINE ? 0 : tierOfLine[line];
+	}
+}
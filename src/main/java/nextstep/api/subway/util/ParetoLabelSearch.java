@@ -0,0 +1,286 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.function.LongToIntFunction;
+
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 거리/소요 시간/요금 세 기준 모두에서 다른 경로에 밀리지 않는(파레토 최적) 경로 집합을 한 번의 탐색으로 찾는 라벨 설정(label-setting) 작업 공간.
+ * <p>
+ * 라벨은 한 역까지 가는 경로 하나를 (거리, 소요 시간, 지금까지의 최고 추가 요금 단계) 로 요약한 것이다.
+ * 요금은 거리 구간 요금과 최고 추가 요금 단계 모두에 대해 증가하므로, 세 값이 모두 작거나 같은 라벨이 이미 있으면 그 라벨은 더 넓혀 볼 필요가 없다.
+ * 라벨은 거리, 소요 시간 순으로 큐에서 꺼내며, 먼저 확정된 라벨에 지배되는 라벨과 이미 도착역에서 확정된 결과보다 나아질 수 없는 라벨은 버린다.
+ * <p>
+ * 역마다 확정 라벨 수를 maxLabelsPerStation 개로 제한해 최악의 경우에도 라벨 수가 간선 수 × 제한값을 넘지 않는다.
+ * 제한에 걸려 버린 라벨이 있으면 결과가 파레토 집합의 일부일 수 있으므로 {@link #isTruncated()} 로 알린다.
+ * 스레드 간에 공유해서는 안 되며, 조회기는 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ParetoLabelSearch {
+
+	private static final int NO_LABEL = -1;
+
+	private final IndexedLongMinHeap heap;
+	private int generation;
+
+	private int labelCount;
+	private int[] labelStations;
+	private int[] labelPreviousLabels;
+	private int[] labelEdges;
+	private long[] labelDistances;
+	private long[] labelDurations;
+	private int[] labelTiers;
+	private int[] nextPermanentLabels;
+
+	private int[] stationStamps;
+	private int[] firstPermanentLabels;
+	private int[] permanentCounts;
+
+	private int[] resultLabels;
+	private int[] pathEdges;
+	private boolean truncated;
+	private int settledCount;
+
+	public ParetoLabelSearch(int capacity) {
+		this.heap = new IndexedLongMinHeap(capacity);
+		this.labelStations = new int[capacity];
+		this.labelPreviousLabels = new int[capacity];
+		this.labelEdges = new int[capacity];
+		this.labelDistances = new long[capacity];
+		this.labelDurations = new long[capacity];
+		this.labelTiers = new int[capacity];
+		this.nextPermanentLabels = new int[capacity];
+		this.stationStamps = new int[capacity];
+		this.firstPermanentLabels = new int[capacity];
+		this.permanentCounts = new int[capacity];
+		this.resultLabels = new int[capacity];
+		this.pathEdges = new int[capacity];
+	}
+
+	/**
+	 * @param baseFare 거리만으로 정해지는 기본 요금
+	 * @return 파레토 최적 경로의 수. 거리, 소요 시간 순으로 정렬되어 있으며 각 경로는 {@link #distanceOf(int)} 등으로 읽는다. 경로가 없으면 0 이다.
+	 */
+	public int search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, LineSurchargeTiers tiers, LongToIntFunction baseFare, int maxLabelsPerStation) {
+		reset(snapshot.stationCount());
+
+		addLabel(sourceIndex, NO_LABEL, DijkstraWorkspace.NO_EDGE, 0L, 0L, 0, tiers.tierCount());
+		while (!heap.isEmpty()) {
+			int label = heap.pollMin();
+			int station = labelStations[label];
+			if (isDominatedAt(station, labelDistances[label], labelDurations[label], labelTiers[label])
+				|| isDominatedByResult(targetIndex, labelDistances[label], labelDurations[label], fareOfLabel(label, tiers, baseFare), tiers, baseFare)) {
+				continue;
+			}
+			if (permanentCountOf(station) >= maxLabelsPerStation) {
+				truncated = true;
+				continue;
+			}
+			makePermanent(station, label);
+			settledCount++;
+			if (station == targetIndex) {
+				continue;
+			}
+
+			for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+				int next = snapshot.edgeTarget(edge);
+				long distance = labelDistances[label] + snapshot.edgeDistance(edge);
+				long duration = labelDurations[label] + snapshot.edgeDuration(edge);
+				int tier = Math.max(labelTiers[label], tiers.tierOfEdge(snapshot, edge));
+				if (!isDominatedAt(next, distance, duration, tier)) {
+					addLabel(next, label, edge, distance, duration, tier, tiers.tierCount());
+				}
+			}
+		}
+		return collectResults(targetIndex, tiers, baseFare);
+	}
+
+	public long distanceOf(int position) {
+		return labelDistances[resultLabels[position]];
+	}
+
+	public long durationOf(int position) {
+		return labelDurations[resultLabels[position]];
+	}
+
+	public int fareOf(int position, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		return fareOfLabel(resultLabels[position], tiers, baseFare);
+	}
+
+	/**
+	 * 결과 경로를 이루는 간선을 출발역부터 순서대로 작업 버퍼에 채운다.
+	 *
+	 * @return 간선 수. 결과는 {@link #pathEdges()} 의 앞부분에 담긴다.
+	 */
+	public int tracePath(int position) {
+		int length = 0;
+		for (int label = resultLabels[position]; labelPreviousLabels[label] != NO_LABEL; label = labelPreviousLabels[label]) {
+			length++;
+		}
+
+		if (pathEdges.length < length) {
+			pathEdges = Arrays.copyOf(pathEdges, Math.max(length, pathEdges.length * 2));
+		}
+		int cursor = length;
+		for (int label = resultLabels[position]; labelPreviousLabels[label] != NO_LABEL; label = labelPreviousLabels[label]) {
+			pathEdges[--cursor] = labelEdges[label];
+		}
+		return length;
+	}
+
+	public int[] pathEdges() {
+		return pathEdges;
+	}
+
+	/**
+	 * 직전 search 에서 역마다 라벨 수 제한에 걸려 버린 라벨이 있었는지 여부.
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * 직전 search 에서 확정한 라벨의 수.
+	 */
+	public int settledCount() {
+		return settledCount;
+	}
+
+	private int fareOfLabel(int label, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		return baseFare.applyAsInt(labelDistances[label]) + tiers.surchargeOf(labelTiers[label]);
+	}
+
+	private boolean isDominatedAt(int station, long distance, long duration, int tier) {
+		for (int label = firstPermanentLabelOf(station); label != NO_LABEL; label = nextPermanentLabels[label]) {
+			if (labelDistances[label] <= distance && labelDurations[label] <= duration && labelTiers[label] <= tier) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 라벨을 더 넓혀도 거리/소요 시간/요금은 줄지 않으므로, 도착역에서 확정된 결과가 이미 세 값 모두 작거나 같으면 버린다.
+	 */
+	private boolean isDominatedByResult(int targetIndex, long distance, long duration, int fare, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		for (int label = firstPermanentLabelOf(targetIndex); label != NO_LABEL; label = nextPermanentLabels[label]) {
+			if (labelDistances[label] <= distance && labelDurations[label] <= duration && fareOfLabel(label, tiers, baseFare) <= fare) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 도착역의 확정 라벨은 (거리, 소요 시간, 추가 요금 단계) 기준으로만 서로 밀리지 않으므로, 요금으로 바꿔 한 번 더 걸러 낸다.
+	 * 확정 목록은 나중에 확정된 라벨부터 이어져 있어 뒤집으면 거리, 소요 시간 순이 된다.
+	 */
+	private int collectResults(int targetIndex, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		int count = 0;
+		for (int label = firstPermanentLabelOf(targetIndex); label != NO_LABEL; label = nextPermanentLabels[label]) {
+			resultLabels[count++] = label;
+		}
+		for (int left = 0, right = count - 1; left < right; left++, right--) {
+			int swap = resultLabels[left];
+			resultLabels[left] = resultLabels[right];
+			resultLabels[right] = swap;
+		}
+
+		boolean[] dominated = new boolean[count];
+		for (int position = 0; position < count; position++) {
+			dominated[position] = isFareDominated(position, count, tiers, baseFare);
+		}
+		int resultCount = 0;
+		for (int position = 0; position < count; position++) {
+			if (!dominated[position]) {
+				resultLabels[resultCount++] = resultLabels[position];
+			}
+		}
+		return resultCount;
+	}
+
+	/**
+	 * 세 값이 모두 같은 결과끼리는 먼저 확정된 쪽만 남긴다.
+	 */
+	private boolean isFareDominated(int position, int count, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		int label = resultLabels[position];
+		int fare = fareOfLabel(label, tiers, baseFare);
+		for (int otherPosition = 0; otherPosition < count; otherPosition++) {
+			int other = resultLabels[otherPosition];
+			if (otherPosition == position || labelDistances[other] > labelDistances[label] || labelDurations[other] > labelDurations[label] || fareOfLabel(other, tiers, baseFare) > fare) {
+				continue;
+			}
+			boolean equal = labelDistances[other] == labelDistances[label] && labelDurations[other] == labelDurations[label] && fareOfLabel(other, tiers, baseFare) == fare;
+			if (!equal || otherPosition < position) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 큐의 키는 거리, 소요 시간, 추가 요금 단계 순의 사전식 순서를 하나의 long 으로 접은 값이다.
+	 * 라벨을 지배하는 라벨은 사전식으로도 앞서므로 먼저 확정된다.
+	 */
+	private void addLabel(int station, int previousLabel, int edge, long distance, long duration, int tier, int tierCount) {
+		ensureLabelCapacity(labelCount + 1);
+		int label = labelCount++;
+		labelStations[label] = station;
+		labelPreviousLabels[label] = previousLabel;
+		labelEdges[label] = edge;
+		labelDistances[label] = distance;
+		labelDurations[label] = duration;
+		labelTiers[label] = tier;
+		heap.insertOrDecrease(label, NetworkSnapshot.composeWeight(distance, duration) * tierCount + tier);
+	}
+
+	private void makePermanent(int station, int label) {
+		nextPermanentLabels[label] = firstPermanentLabelOf(station);
+		firstPermanentLabels[station] = label;
+		permanentCounts[station] = permanentCountOf(station) + 1;
+		stationStamps[station] = generation;
+	}
+
+	private int firstPermanentLabelOf(int station) {
+		return stationStamps[station] == generation ? firstPermanentLabels[station] : NO_LABEL;
+	}
+
+	private int permanentCountOf(int station) {
+		return stationStamps[station] == generation ? permanentCounts[station] : 0;
+	}
+
+	private void reset(int stationCount) {
+		heap.clear();
+		labelCount = 0;
+		truncated = false;
+		settledCount = 0;
+		if (stationCount > stationStamps.length) {
+			stationStamps = Arrays.copyOf(stationStamps, stationCount);
+			firstPermanentLabels = Arrays.copyOf(firstPermanentLabels, stationCount);
+			permanentCounts = Arrays.copyOf(permanentCounts, stationCount);
+		}
+		if (++generation == 0) {
+			Arrays.fill(stationStamps, 0);
+			generation = 1;
+		}
+	}
+
+	private void ensureLabelCapacity(int capacity) {
+		if (capacity <= labelStations.length) {
+			return;
+		}
+		int grown = Math.max(capacity, labelStations.length * 2);
+		heap.ensureCapacity(grown);
+		labelStations = Arrays.copyOf(labelStations, grown);
+		labelPreviousLabels = Arrays.copyOf(labelPreviousLabels, grown);
+		labelEdges = Arrays.copyOf(labelEdges, grown);
+		labelDistances = Arrays.copyOf(labelDistances, grown);
+		labelDurations = Arrays.copyOf(labelDurations, grown);
+		labelTiers = Arrays.copyOf(labelTiers, grown);
+		nextPermanentLabels = Arrays.copyOf(nextPermanentLabels, grown);
+		resultLabels = Arrays.copyOf(resultLabels, grown);
+	}
+}
@@ -0,0 +1,245 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+/**
+ * 시각표(TimetableIndex) 위에서 출발 시각 이후 가장 일찍 도착하는 여정을 찾는 RAPTOR(Round-bAsed Public Transit Optimized Router) 작업 공간.
+ * <p>
+ * k 번째 라운드는 "편을 k 번 타서" 각 역에 닿는 가장 이른 시각을 구한다. 직전 라운드에 시각이 나아진 역을 지나는 노선만 골라,
+ * 노선마다 정차역 순서대로 한 번 훑으며 탈 수 있는 가장 이른 편을 들고 내려간다. 우선순위 큐 없이 배열만 순서대로 읽으므로 캐시 친화적이다.
+ * 라운드 수가 곧 탑승 횟수이므로 같은 도착 시각이면 더 적게 갈아타는 여정을 돌려준다.
+ * <p>
+ * 라운드별 도착 시각과 되짚기 정보는 (라운드 수 + 1) x 역 수 크기의 평평한 배열에 담고, 작업 공간을 재사용하므로 한 번 데워진 뒤에는 탐색 중 할당이 없다.
+ * 스레드 간에 공유해서는 안 되며, 탐색 엔진은 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class RaptorSearch {
+
+	public static final int NO_JOURNEY = -1;
+
+	private static final int UNREACHED = Integer.MAX_VALUE;
+	private static final int NO_STOP = -1;
+
+	private int[] arrivals;
+	private int[] boardStops;
+	private int[] alightStops;
+	private int[] trips;
+	private int[] bestArrivals;
+	private int[] markedStations;
+	private boolean[] marked;
+	private int markedCount;
+	private int[] queuedRoutes;
+	private int[] queuedFromStops;
+
+	private int[] legBoardStops;
+	private int[] legAlightStops;
+	private int[] legTrips;
+	private int arrivalMinute;
+	private int scannedRoutes;
+
+	public RaptorSearch() {
+		this.arrivals = new int[0];
+		this.boardStops = new int[0];
+		this.alightStops = new int[0];
+		this.trips = new int[0];
+		this.bestArrivals = new int[0];
+		this.markedStations = new int[0];
+		this.marked = new boolean[0];
+		this.queuedRoutes = new int[0];
+		this.queuedFromStops = new int[0];
+		this.legBoardStops = new int[0];
+		this.legAlightStops = new int[0];
+		this.legTrips = new int[0];
+	}
+
+	/**
+	 * @param minTransferMinutes 두 번째 탑승부터 내린 뒤 다음 편을 타기까지 필요한 최소 시간
+	 * @return 찾은 여정의 탑승 횟수. 구간은 {@link #legBoardStop}, {@link #legAlightStop}, {@link #legTrip} 으로 읽는다. 여정이 없으면 {@link #NO_JOURNEY} 이다.
+	 */
+	public int search(TimetableIndex index, int stationCount, int sourceIndex, int targetIndex, int departureMinute, int maxRounds, int minTransferMinutes) {
+		reset(index, stationCount, maxRounds);
+		arrivals[sourceIndex] = departureMinute;
+		bestArrivals[sourceIndex] = departureMinute;
+		mark(sourceIndex);
+
+		for (int round = 1; round <= maxRounds && markedCount > 0; round++) {
+			int row = round * stationCount;
+			int previousRow = row - stationCount;
+			System.arraycopy(arrivals, previousRow, arrivals, row, stationCount);
+			Arrays.fill(boardStops, row, row + stationCount, NO_STOP);
+
+			int queuedCount = collectRoutes(index);
+			int transferMinutes = round > 1 ? minTransferMinutes : 0;
+			for (int position = 0; position < queuedCount; position++) {
+				int route = queuedRoutes[position];
+				scanRoute(index, route, queuedFromStops[route], row, previousRow, targetIndex, transferMinutes);
+				queuedFromStops[route] = NO_STOP;
+			}
+			scannedRoutes += queuedCount;
+		}
+
+		if (bestArrivals[targetIndex] == UNREACHED) {
+			return NO_JOURNEY;
+		}
+		arrivalMinute = bestArrivals[targetIndex];
+		return traceLegs(index, stationCount, sourceIndex, targetIndex);
+	}
+
+	public int legBoardStop(int leg) {
+		return legBoardStops[leg];
+	}
+
+	public int legAlightStop(int leg) {
+		return legAlightStops[leg];
+	}
+
+	public int legTrip(int leg) {
+		return legTrips[leg];
+	}
+
+	/**
+	 * 직전 search 에서 찾은 여정의 도착 시각(운행일 기준 분).
+	 */
+	public int arrivalMinute() {
+		return arrivalMinute;
+	}
+
+	/**
+	 * 직전 search 에서 훑은 노선 수(라운드별 합).
+	 */
+	public int scannedRoutes() {
+		return scannedRoutes;
+	}
+
+	/**
+	 * 직전 라운드에 시각이 나아진 역을 지나는 노선을 모으고, 노선마다 그중 가장 앞선 정차역부터 훑도록 기록한다.
+	 */
+	private int collectRoutes(TimetableIndex index) {
+		int queuedCount = 0;
+		for (int position = 0; position < markedCount; position++) {
+			int station = markedStations[position];
+			marked[station] = false;
+			for (int at = index.stationStopBegin(station); at < index.stationStopEnd(station); at++) {
+				int stop = index.stationStopAt(at);
+				int route = index.routeOfStop(stop);
+				if (queuedFromStops[route] == NO_STOP) {
+					queuedRoutes[queuedCount++] = route;
+					queuedFromStops[route] = stop;
+				} else if (stop < queuedFromStops[route]) {
+					queuedFromStops[route] = stop;
+				}
+			}
+		}
+		markedCount = 0;
+		return queuedCount;
+	}
+
+	private void scanRoute(TimetableIndex index, int route, int fromStop, int row, int previousRow, int targetIndex, int transferMinutes) {
+		int trip = TimetableIndex.NO_TRIP;
+		int boardStop = NO_STOP;
+		for (int stop = fromStop; stop < index.stopEnd(route); stop++) {
+			int station = index.stationOfStop(stop);
+			if (trip != TimetableIndex.NO_TRIP) {
+				int arrival = index.tripDeparture(trip) + index.minuteOfStop(stop);
+				if (arrival < bestArrivals[station] && arrival < bestArrivals[targetIndex]) {
+					arrivals[row + station] = arrival;
+					bestArrivals[station] = arrival;
+					boardStops[row + station] = boardStop;
+					alightStops[row + station] = stop;
+					trips[row + station] = trip;
+					mark(station);
+				}
+			}
+
+			int previousArrival = arrivals[previousRow + station];
+			if (previousArrival == UNREACHED) {
+				continue;
+			}
+			int readyMinute = previousArrival + transferMinutes;
+			if (trip == TimetableIndex.NO_TRIP || readyMinute < index.tripDeparture(trip) + index.minuteOfStop(stop)) {
+				int earlierTrip = index.earliestTrip(stop, readyMinute);
+				if (earlierTrip != TimetableIndex.NO_TRIP && (trip == TimetableIndex.NO_TRIP || earlierTrip < trip)) {
+					trip = earlierTrip;
+					boardStop = stop;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 가장 이른 도착 시각에 처음 닿은 라운드에서 시작해 탑승 정차역을 따라 거슬러 올라간다.
+	 * 도착 시각은 라운드마다 앞 라운드 값을 이어받으므로, 그 라운드에 나아지지 않은 역은 앞 라운드로 내려가 기록을 찾는다.
+	 */
+	private int traceLegs(TimetableIndex index, int stationCount, int sourceIndex, int targetIndex) {
+		int round = 0;
+		while (arrivals[round * stationCount + targetIndex] != arrivalMinute) {
+			round++;
+		}
+
+		int legCount = 0;
+		for (int station = targetIndex; station != sourceIndex; round--) {
+			while (boardStops[round * stationCount + station] == NO_STOP) {
+				round--;
+			}
+			int cell = round * stationCount + station;
+			legBoardStops[legCount] = boardStops[cell];
+			legAlightStops[legCount] = alightStops[cell];
+			legTrips[legCount] = trips[cell];
+			legCount++;
+			station = index.stationOfStop(boardStops[cell]);
+		}
+
+		reverse(legBoardStops, legCount);
+		reverse(legAlightStops, legCount);
+		reverse(legTrips, legCount);
+		return legCount;
+	}
+
+	private void mark(int station) {
+		if (!marked[station]) {
+			marked[station] = true;
+			markedStations[markedCount++] = station;
+		}
+	}
+
+	private void reset(TimetableIndex index, int stationCount, int maxRounds) {
+		int cells = (maxRounds + 1) * stationCount;
+		if (arrivals.length < cells) {
+			arrivals = new int[cells];
+			boardStops = new int[cells];
+			alightStops = new int[cells];
+			trips = new int[cells];
+		}
+		if (bestArrivals.length < stationCount) {
+			bestArrivals = new int[stationCount];
+			markedStations = new int[stationCount];
+			marked = new boolean[stationCount];
+		}
+		if (queuedRoutes.length < index.routeCount()) {
+			queuedRoutes = new int[index.routeCount()];
+			queuedFromStops = new int[index.routeCount()];
+		}
+		if (legTrips.length < maxRounds) {
+			legBoardStops = new int[maxRounds];
+			legAlightStops = new int[maxRounds];
+			legTrips = new int[maxRounds];
+		}
+
+		Arrays.fill(arrivals, 0, stationCount, UNREACHED);
+		Arrays.fill(bestArrivals, 0, stationCount, UNREACHED);
+		Arrays.fill(marked, 0, stationCount, false);
+		Arrays.fill(queuedFromStops, 0, index.routeCount(), NO_STOP);
+		markedCount = 0;
+		scannedRoutes = 0;
+	}
+
+	private static void reverse(int[] values, int length) {
+		for (int left = 0, right = length - 1; left < right; left++, right--) {
+			int value = values[left];
+			values[left] = values[right];
+			values[right] = value;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.function.LongToIntFunction;
+
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 출발역 하나에서 예산(소요 시간/거리/요금) 안에 닿는 역을 모두 찾는 한정 다익스트라 작업 공간.
+ * <p>
+ * 예산을 넘는 후보는 큐에 넣지 않으므로 탐색은 예산 안쪽 영역과 그 경계에서 뻗어 나간 간선만 건드린다.
+ * 배열은 DijkstraWorkspace 와 같이 세대 도장으로 구분해 매번 초기화하지 않으며, 슬라이더처럼 작은 예산의 조회가 잦아도 비용이 네트워크 크기에 비례하지 않는다.
+ * <p>
+ * 요금은 거리 구간 요금에 지나온 노선 중 가장 비싼 추가 요금 하나를 더한 값이라 간선마다 더해지는 가중치가 아니다.
+ * 그래서 요금 예산은 (역, 추가 요금 단계) 를 하나의 상태로 보고 거리 순으로 탐색한다.
+ * 같은 역에서 더 낮은 단계의 상태가 이미 같거나 짧은 거리로 도달해 있으면 그 상태는 더 넓혀 볼 필요가 없다.
+ * 한 역에 여러 상태가 남으면 그중 가장 싼 요금을 그 역의 결과로 삼는다.
+ * <p>
+ * 스레드 간에 공유해서는 안 되며, 조회기는 스레드마다 하나씩 보관해 재사용한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ReachabilitySearch {
+
+	private final IndexedLongMinHeap heap;
+	private int generation;
+
+	private int[] stateStamps;
+	private long[] stateCosts;
+	private long[] stateDistances;
+	private long[] stateDurations;
+	private int[] stateTiers;
+
+	private int[] stationStamps;
+	private long[] stationDistances;
+	private long[] stationDurations;
+	private int[] stationFares;
+	private int[] reachedStations;
+	private int reachedCount;
+	private int settledCount;
+
+	public ReachabilitySearch(int capacity) {
+		this.heap = new IndexedLongMinHeap(capacity);
+		this.stateStamps = new int[capacity];
+		this.stateCosts = new long[capacity];
+		this.stateDistances = new long[capacity];
+		this.stateDurations = new long[capacity];
+		this.stateTiers = new int[capacity];
+		this.stationStamps = new int[capacity];
+		this.stationDistances = new long[capacity];
+		this.stationDurations = new long[capacity];
+		this.stationFares = new int[capacity];
+		this.reachedStations = new int[capacity];
+	}
+
+	/**
+	 * 예산 안에 닿는 역을 찾는다. 출발역도 비용 0 으로 결과에 들어간다.
+	 *
+	 * @param baseFare 거리만으로 정해지는 기본 요금
+	 * @return 도달한 역의 수. 각 역은 {@link #reachedStationAt(int)} 등으로 읽는다.
+	 */
+	public int search(NetworkSnapshot snapshot, int sourceIndex, ReachabilityBudgetType budgetType, long budget, LineSurchargeTiers tiers, LongToIntFunction baseFare) {
+		boolean fareBudget = budgetType == ReachabilityBudgetType.FARE;
+		int tierCount = fareBudget ? tiers.tierCount() : 1;
+		reset(snapshot.stationCount(), snapshot.stationCount() * tierCount);
+
+		if (fareBudget && baseFare.applyAsInt(0L) > budget) {
+			return 0;
+		}
+		reach(sourceIndex * tierCount, 0L, 0L, 0L, 0);
+		while (!heap.isEmpty()) {
+			int state = heap.pollMin();
+			settledCount++;
+			int station = state / tierCount;
+			int tier = fareBudget ? state % tierCount : stateTiers[state];
+			if (fareBudget && isDominatedByLowerTier(station, tier, stateCosts[state], tierCount)) {
+				continue;
+			}
+			record(station, stateDistances[state], stateDurations[state], baseFare.applyAsInt(stateDistances[state]) + tiers.surchargeOf(tier));
+
+			for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+				long distance = stateDistances[state] + snapshot.edgeDistance(edge);
+				long duration = stateDurations[state] + snapshot.edgeDuration(edge);
+				int nextTier = Math.max(tier, tiers.tierOfEdge(snapshot, edge));
+				if (exceedsBudget(budgetType, budget, distance, duration, baseFare.applyAsInt(distance) + tiers.surchargeOf(nextTier))) {
+					continue;
+				}
+				int nextState = snapshot.edgeTarget(edge) * tierCount + (fareBudget ? nextTier : 0);
+				reach(nextState, budgetType == ReachabilityBudgetType.DURATION ? duration : distance, distance, duration, nextTier);
+			}
+		}
+		return reachedCount;
+	}
+
+	public int reachedStationAt(int position) {
+		return reachedStations[position];
+	}
+
+	public long distanceOf(int stationIndex) {
+		return stationDistances[stationIndex];
+	}
+
+	public long durationOf(int stationIndex) {
+		return stationDurations[stationIndex];
+	}
+
+	public int fareOf(int stationIndex) {
+		return stationFares[stationIndex];
+	}
+
+	/**
+	 * 직전 탐색에서 큐에서 꺼낸 상태의 수. 탐색이 예산 안쪽만 건드렸는지 지표로 확인할 때 쓴다.
+	 */
+	public int settledCount() {
+		return settledCount;
+	}
+
+	private boolean exceedsBudget(ReachabilityBudgetType budgetType, long budget, long distance, long duration, int fare) {
+		switch (budgetType) {
+			case DISTANCE:
+				return distance > budget;
+			case FARE:
+				return fare > budget;
+			default:
+				return duration > budget;
+		}
+	}
+
+	private void reach(int state, long cost, long distance, long duration, int tier) {
+		if (stateStamps[state] == generation && stateCosts[state] <= cost) {
+			return;
+		}
+		stateStamps[state] = generation;
+		stateCosts[state] = cost;
+		stateDistances[state] = distance;
+		stateDurations[state] = duration;
+		stateTiers[state] = tier;
+		heap.insertOrDecrease(state, cost);
+	}
+
+	private boolean isDominatedByLowerTier(int station, int tier, long cost, int tierCount) {
+		for (int lowerTier = 0; lowerTier < tier; lowerTier++) {
+			int lowerState = station * tierCount + lowerTier;
+			if (stateStamps[lowerState] == generation && stateCosts[lowerState] <= cost) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 역마다 처음 확정된 상태가 예산 기준 비용이 가장 작다. 요금 예산에서는 뒤에 확정된 상태가 더 쌀 수 있으므로 요금이 작을 때만 바꾼다.
+	 */
+	private void record(int station, long distance, long duration, int fare) {
+		if (stationStamps[station] != generation) {
+			stationStamps[station] = generation;
+			reachedStations[reachedCount++] = station;
+		} else if (fare >= stationFares[station]) {
+			return;
+		}
+		stationDistances[station] = distance;
+		stationDurations[station] = duration;
+		stationFares[station] = fare;
+	}
+
+	private void reset(int stationCount, int stateCount) {
+		ensureCapacity(stationCount, stateCount);
+		heap.clear();
+		reachedCount = 0;
+		settledCount = 0;
+		if (++generation == 0) {
+			Arrays.fill(stateStamps, 0);
+			Arrays.fill(stationStamps, 0);
+			generation = 1;
+		}
+	}
+
+	private void ensureCapacity(int stationCount, int stateCount) {
+		if (stateCount > stateStamps.length) {
+			heap.ensureCapacity(stateCount);
+			stateStamps = Arrays.copyOf(stateStamps, stateCount);
+			stateCosts = Arrays.copyOf(stateCosts, stateCount);
+			stateDistances = Arrays.copyOf(stateDistances, stateCount);
+			stateDurations = Arrays.copyOf(stateDurations, stateCount);
+			stateTiers = Arrays.copyOf(stateTiers, stateCount);
+		}
+		if (stationCount > stationStamps.length) {
+			stationStamps = Arrays.copyOf(stationStamps, stationCount);
+			stationDistances = Arrays.copyOf(stationDistances, stationCount);
+			stationDurations = Arrays.copyOf(stationDurations, stationCount);
+			stationFares = Arrays.copyOf(stationFares, stationCount);
+			reachedStations = Arrays.copyOf(reachedStations, stationCount);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package nextstep.api.subway.util;
+
+import java.time.LocalTime;
+
+/**
+ * 시각표의 시각을 운행일 기준 분(minute)으로 다룬다.
+ * <p>
+ * 막차는 자정을 넘겨 다니므로 달력 날짜 대신 {@link #SERVICE_DAY_START} 부터 다음 날 같은 시각 전까지를 하루 운행일로 본다.
+ * 그보다 이른 시각(예: 00:30)은 전날 운행일의 연장으로 보아 24 시간(1440 분)을 더한 값으로 바꾼다. 따라서 23:40 에 출발해 00:20 에 도착하는 여정도 분 값이 단조 증가한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ServiceClock {
+
+	public static final LocalTime SERVICE_DAY_START = LocalTime.of(3, 0);
+
+	private static final int MINUTES_PER_DAY = 24 * 60;
+
+	private ServiceClock() {
+		throw new AssertionError("유틸리티 클래스는 인스턴스화되어서는 안 됩니다.");
+	}
+
+	public static int toServiceMinute(LocalTime time) {
+		int minute = time.getHour() * 60 + time.getMinute();
+		return time.isBefore(SERVICE_DAY_START) ? minute + MINUTES_PER_DAY : minute;
+	}
+
+	public static LocalTime toLocalTime(int serviceMinute) {
+		int minute = serviceMinute % MINUTES_PER_DAY;
+		return LocalTime.of(minute / 60, minute % 60);
+	}
+}
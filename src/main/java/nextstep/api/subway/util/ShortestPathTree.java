@@ -0,0 +1,149 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 한 역(root)을 기준으로 스냅샷의 모든 역까지의 최단 비용과 선행 간선을 담은 최단 경로 트리.
+ * <p>
+ * reverse 가 false 이면 root 에서 출발하는 정방향 트리로 costs[v] 는 root → v 의 비용이고,
+ * true 이면 역방향 인접 배열을 따라 만든 트리로 costs[v] 는 v → root 의 비용이다.
+ * 도달할 수 없는 역의 비용은 {@link #UNREACHABLE} 이다. 비교용 합성 비용과 함께 실제 거리/소요 시간 합계도 역마다 담아 두므로,
+ * 트리를 캐시해 두면 같은 root 에서 출발하는 조회는 선행 간선만 따라가 답할 수 있다.
+ * 전처리와 캐시 적재 단계에서 쓰이므로 트리마다 배열을 새로 할당한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ShortestPathTree {
+
+	public static final long UNREACHABLE = Long.MAX_VALUE;
+
+	private final int root;
+	private final boolean reverse;
+	private final long[] costs;
+	private final long[] distances;
+	private final long[] durations;
+	private final int[] previousEdges;
+
+	private ShortestPathTree(int root, boolean reverse, long[] costs, long[] distances, long[] durations, int[] previousEdges) {
+		this.root = root;
+		this.reverse = reverse;
+		this.costs = costs;
+		this.distances = distances;
+		this.durations = durations;
+		this.previousEdges = previousEdges;
+	}
+
+	public static ShortestPathTree of(NetworkSnapshot snapshot, int root, PathRequestType type, boolean reverse) {
+		int stationCount = snapshot.stationCount();
+		long[] costs = new long[stationCount];
+		long[] distances = new long[stationCount];
+		long[] durations = new long[stationCount];
+		int[] previousEdges = new int[stationCount];
+		Arrays.fill(costs, UNREACHABLE);
+		Arrays.fill(previousEdges, DijkstraWorkspace.NO_EDGE);
+
+		IndexedLongMinHeap heap = new IndexedLongMinHeap(stationCount);
+		costs[root] = 0L;
+		heap.insertOrDecrease(root, 0L);
+		while (!heap.isEmpty()) {
+			int current = heap.pollMin();
+			int previousEdge = previousEdges[current];
+			if (previousEdge != DijkstraWorkspace.NO_EDGE) {
+				int parent = reverse ? snapshot.edgeTarget(previousEdge) : snapshot.edgeSource(previousEdge);
+				distances[current] = distances[parent] + snapshot.edgeDistance(previousEdge);
+				durations[current] = durations[parent] + snapshot.edgeDuration(previousEdge);
+			}
+			if (reverse) {
+				for (int position = snapshot.reverseEdgeBegin(current); position < snapshot.reverseEdgeEnd(current); position++) {
+					int edge = snapshot.reverseEdgeAt(position);
+					relax(heap, costs, previousEdges, snapshot.edgeSource(edge), costs[current] + snapshot.edgeWeight(edge, type), edge);
+				}
+			} else {
+				for (int edge = snapshot.edgeBegin(current); edge < snapshot.edgeEnd(current); edge++) {
+					relax(heap, costs, previousEdges, snapshot.edgeTarget(edge), costs[current] + snapshot.edgeWeight(edge, type), edge);
+				}
+			}
+		}
+		return new ShortestPathTree(root, reverse, costs, distances, durations, previousEdges);
+	}
+
+	public int root() {
+		return root;
+	}
+
+	public boolean isReverse() {
+		return reverse;
+	}
+
+	public boolean isReachable(int stationIndex) {
+		return costs[stationIndex] != UNREACHABLE;
+	}
+
+	public long costOf(int stationIndex) {
+		return costs[stationIndex];
+	}
+
+	public long distanceOf(int stationIndex) {
+		return distances[stationIndex];
+	}
+
+	public long durationOf(int stationIndex) {
+		return durations[stationIndex];
+	}
+
+	public int stationCount() {
+		return costs.length;
+	}
+
+	/**
+	 * 배열이 차지하는 대략적인 힙 크기(바이트). 캐시의 무게 계산에 쓰인다.
+	 */
+	public long memoryBytes() {
+		return (long)costs.length * (Long.BYTES * 3 + Integer.BYTES);
+	}
+
+	/**
+	 * 정방향 트리에서는 stationIndex 로 들어오는 간선, 역방향 트리에서는 stationIndex 에서 root 쪽으로 나가는 간선이다.
+	 */
+	public int previousEdgeOf(int stationIndex) {
+		return previousEdges[stationIndex];
+	}
+
+	/**
+	 * 정방향 트리에서 root 부터 stationIndex 까지의 간선을 순서대로 돌려준다. 역방향 트리라면 stationIndex 부터 root 까지의 간선이다.
+	 */
+	public int[] pathEdgesTo(NetworkSnapshot snapshot, int stationIndex) {
+		int length = 0;
+		for (int station = stationIndex; station != root; station = parentOf(snapshot, station)) {
+			length++;
+		}
+
+		int[] edges = new int[length];
+		int cursor = reverse ? 0 : length;
+		for (int station = stationIndex; station != root; station = parentOf(snapshot, station)) {
+			if (reverse) {
+				edges[cursor++] = previousEdges[station];
+			} else {
+				edges[--cursor] = previousEdges[station];
+			}
+		}
+		return edges;
+	}
+
+	private int parentOf(NetworkSnapshot snapshot, int stationIndex) {
+		int edge = previousEdges[stationIndex];
+		return reverse ? snapshot.edgeTarget(edge) : snapshot.edgeSource(edge);
+	}
+
+	private static void relax(IndexedLongMinHeap heap, long[] costs, int[] previousEdges, int next, long cost, int edge) {
+		if (cost < costs[next]) {
+			costs[next] = cost;
+			previousEdges[next] = edge;
+			heap.insertOrDecrease(next, cost);
+		}
+	}
+}
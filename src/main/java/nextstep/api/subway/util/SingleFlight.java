@@ -0,0 +1,68 @@
+package nextstep.api.subway.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 작업이 동시에 여러 번 요청되면 하나만 실행하고 나머지 호출은 그 결과를 기다리게 한다(single-flight).
+ * <p>
+ * 결과를 보관하지 않으므로 실행 중인 작업이 끝나면 다음 호출은 다시 실행된다. 캐시가 아니라 캐시 미스 순간의 중복 계산을 막는 용도다.
+ * 먼저 들어온 호출이 예외로 끝나면 기다리던 호출도 같은 예외를 받는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Runnable onCoalesced;
+
+	/**
+	 * @param onCoalesced 다른 호출의 결과를 기다리게 된 호출마다 한 번씩 실행된다.
+	 */
+	public SingleFlight(Runnable onCoalesced) {
+		this.onCoalesced = onCoalesced;
+	}
+
+	public V execute(K key, Supplier<V> supplier) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			onCoalesced.run();
+			return await(existing);
+		}
+
+		try {
+			V value = supplier.get();
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private V await(CompletableFuture<V> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+
+/**
+ * NetworkSnapshot 의 CSR 인접 배열 위에서 다익스트라 탐색을 수행합니다.
+ * 요청마다 그래프를 새로 만들지 않고 스냅샷을 그대로 순회하므로 탐색 비용은 방문한 역의 수에만 비례합니다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class SnapshotDijkstraPathSearcher {
+
+	private static final int NO_EDGE = -1;
+
+	private SnapshotDijkstraPathSearcher() {
+		throw new AssertionError("유틸리티 클래스는 인스턴스화되어서는 안 됩니다.");
+	}
+
+	public static Optional<Path> search(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, PathRequestType type) {
+		int stationCount = snapshot.stationCount();
+		long[] costs = new long[stationCount];
+		int[] previousEdges = new int[stationCount];
+		Arrays.fill(costs, Long.MAX_VALUE);
+		Arrays.fill(previousEdges, NO_EDGE);
+
+		PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+		costs[sourceIndex] = 0;
+		queue.add(new long[] {0, sourceIndex});
+
+		while (!queue.isEmpty()) {
+			long[] entry = queue.poll();
+			int current = (int)entry[1];
+			if (entry[0] > costs[current]) {
+				continue;
+			}
+			if (current == targetIndex) {
+				return Optional.of(tracePath(snapshot, sourceIndex, targetIndex, previousEdges));
+			}
+
+			for (int edge = snapshot.edgeBegin(current); edge < snapshot.edgeEnd(current); edge++) {
+				int next = snapshot.edgeTarget(edge);
+				long nextCost = entry[0] + snapshot.edgeWeight(edge, type);
+				if (nextCost < costs[next]) {
+					costs[next] = nextCost;
+					previousEdges[next] = edge;
+					queue.add(new long[] {nextCost, next});
+				}
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private static Path tracePath(NetworkSnapshot snapshot, int sourceIndex, int targetIndex, int[] previousEdges) {
+		int length = 0;
+		for (int station = targetIndex; station != sourceIndex; station = snapshot.edgeSource(previousEdges[station])) {
+			length++;
+		}
+
+		int[] edges = new int[length];
+		int cursor = length;
+		for (int station = targetIndex; station != sourceIndex; station = snapshot.edgeSource(previousEdges[station])) {
+			edges[--cursor] = previousEdges[station];
+		}
+		return snapshot.toPath(sourceIndex, edges, length);
+	}
+}
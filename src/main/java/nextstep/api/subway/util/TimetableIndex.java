@@ -0,0 +1,258 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 시각표가 있는 노선을 RAPTOR 가 읽는 평평한 배열로 옮긴 색인.
+ * <p>
+ * 노선 하나가 노선(route) 하나이며, 정차역(stop)은 모든 노선의 정차역을 이어 붙인 전역 번호로 다룬다.
+ * <ul>
+ *     <li>노선 r 의 정차역: [stopBegin(r), stopEnd(r)). 상행 종점부터 하행 종점 순서이다.</li>
+ *     <li>정차역 p 의 역 인덱스, 다음 정차역으로 가는 스냅샷 간선, 상행 종점 출발부터의 누적 소요 시간(분).</li>
+ *     <li>노선 r 의 편(trip): [tripBegin(r), tripEnd(r)). 상행 종점 출발 시각(운행일 기준 분) 오름차순이다.</li>
+ *     <li>역 s 에 서는 정차역: [stationStopBegin(s), stationStopEnd(s)) 위치의 stationStopAt.</li>
+ * </ul>
+ * 모든 편이 같은 소요 시간으로 달리므로 편 t 가 정차역 p 에 닿는 시각은 tripDeparture(t) + minuteOfStop(p) 이고, 앞선 편이 뒤 편을 추월하지 않는다.
+ * 편별 역 시각을 따로 만들지 않으므로 하루치 시각표 전체를 들고 있어도 크기는 (정차역 수 + 편 수) 에 비례한다.
+ * 스냅샷과 마찬가지로 생성 이후 변경되지 않는다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class TimetableIndex {
+
+	public static final int NO_TRIP = -1;
+	public static final int NO_EDGE = -1;
+
+	private final int[] routeLines;
+	private final int[] routeStopOffsets;
+	private final int[] routeTripOffsets;
+	private final int[] stopRoutes;
+	private final int[] stopStations;
+	private final int[] stopEdges;
+	private final int[] stopMinutes;
+	private final int[] tripDepartures;
+	private final int[] stationStopOffsets;
+	private final int[] stationStops;
+
+	private TimetableIndex(int[] routeLines, int[] routeStopOffsets, int[] routeTripOffsets, int[] stopRoutes, int[] stopStations, int[] stopEdges,
+		int[] stopMinutes, int[] tripDepartures, int[] stationStopOffsets, int[] stationStops) {
+		this.routeLines = routeLines;
+		this.routeStopOffsets = routeStopOffsets;
+		this.routeTripOffsets = routeTripOffsets;
+		this.stopRoutes = stopRoutes;
+		this.stopStations = stopStations;
+		this.stopEdges = stopEdges;
+		this.stopMinutes = stopMinutes;
+		this.tripDepartures = tripDepartures;
+		this.stationStopOffsets = stationStopOffsets;
+		this.stationStops = stationStops;
+	}
+
+	public static TimetableIndex of(NetworkSnapshot snapshot) {
+		int[] lineEdgeCounts = new int[snapshot.lineCount()];
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			if (snapshot.edgeLine(edge) != NetworkSnapshot.NO_LINE) {
+				lineEdgeCounts[snapshot.edgeLine(edge)]++;
+			}
+		}
+
+		int routeCount = 0;
+		int stopCount = 0;
+		int tripCount = 0;
+		for (int line = 0; line < snapshot.lineCount(); line++) {
+			if (isRoute(snapshot.lineAt(line), lineEdgeCounts[line])) {
+				routeCount++;
+				stopCount += lineEdgeCounts[line] + 1;
+				tripCount += snapshot.lineAt(line).getTimetable().departureMinutes().length;
+			}
+		}
+
+		int[] routeLines = new int[routeCount];
+		int[] routeStopOffsets = new int[routeCount + 1];
+		int[] routeTripOffsets = new int[routeCount + 1];
+		int[] stopRoutes = new int[stopCount];
+		int[] stopStations = new int[stopCount];
+		int[] stopEdges = new int[stopCount];
+		int[] stopMinutes = new int[stopCount];
+		int[] tripDepartures = new int[tripCount];
+		int route = 0;
+		for (int line = 0; line < snapshot.lineCount(); line++) {
+			Line entity = snapshot.lineAt(line);
+			if (!isRoute(entity, lineEdgeCounts[line])) {
+				continue;
+			}
+			routeLines[route] = line;
+			int stopEnd = fillStops(snapshot, line, lineEdgeCounts[line], routeStopOffsets[route], route, stopRoutes, stopStations, stopEdges, stopMinutes);
+			routeStopOffsets[route + 1] = stopEnd;
+			int[] departures = entity.getTimetable().departureMinutes();
+			System.arraycopy(departures, 0, tripDepartures, routeTripOffsets[route], departures.length);
+			routeTripOffsets[route + 1] = routeTripOffsets[route] + departures.length;
+			route++;
+		}
+
+		int[] stationStopOffsets = new int[snapshot.stationCount() + 1];
+		for (int stop = 0; stop < stopCount; stop++) {
+			stationStopOffsets[stopStations[stop] + 1]++;
+		}
+		for (int station = 0; station < snapshot.stationCount(); station++) {
+			stationStopOffsets[station + 1] += stationStopOffsets[station];
+		}
+		int[] stationStops = new int[stopCount];
+		int[] cursors = Arrays.copyOf(stationStopOffsets, snapshot.stationCount());
+		for (int stop = 0; stop < stopCount; stop++) {
+			stationStops[cursors[stopStations[stop]]++] = stop;
+		}
+
+		return new TimetableIndex(routeLines, routeStopOffsets, routeTripOffsets, stopRoutes, stopStations, stopEdges, stopMinutes, tripDepartures,
+			stationStopOffsets, stationStops);
+	}
+
+	/**
+	 * 시각표는 스냅샷마다 한 번만 펼쳐 두고 여정 탐색이 함께 쓴다. 시각표를 바꾸면 네트워크 버전이 올라가 스냅샷과 함께 다시 만들어진다.
+	 */
+	public static TimetableIndex fetch(NetworkSnapshot snapshot) {
+		return snapshot.fetchIndex(TimetableIndex.class, TimetableIndex::of);
+	}
+
+	public int routeCount() {
+		return routeLines.length;
+	}
+
+	public int stopCount() {
+		return stopStations.length;
+	}
+
+	public int lineOfRoute(int route) {
+		return routeLines[route];
+	}
+
+	public int stopBegin(int route) {
+		return routeStopOffsets[route];
+	}
+
+	public int stopEnd(int route) {
+		return routeStopOffsets[route + 1];
+	}
+
+	public int routeOfStop(int stop) {
+		return stopRoutes[stop];
+	}
+
+	public int stationOfStop(int stop) {
+		return stopStations[stop];
+	}
+
+	/**
+	 * 정차역 p 에서 다음 정차역으로 가는 스냅샷 간선. 하행 종점이면 {@link #NO_EDGE}.
+	 */
+	public int edgeOfStop(int stop) {
+		return stopEdges[stop];
+	}
+
+	public int minuteOfStop(int stop) {
+		return stopMinutes[stop];
+	}
+
+	public int tripBegin(int route) {
+		return routeTripOffsets[route];
+	}
+
+	public int tripEnd(int route) {
+		return routeTripOffsets[route + 1];
+	}
+
+	public int tripDeparture(int trip) {
+		return tripDepartures[trip];
+	}
+
+	public int stationStopBegin(int stationIndex) {
+		return stationStopOffsets[stationIndex];
+	}
+
+	public int stationStopEnd(int stationIndex) {
+		return stationStopOffsets[stationIndex + 1];
+	}
+
+	public int stationStopAt(int position) {
+		return stationStops[position];
+	}
+
+	/**
+	 * 정차역 p 에서 minute 이후(같은 분 포함)에 출발하는 가장 이른 편. 편의 출발 시각이 오름차순이므로 이분 탐색으로 찾는다.
+	 */
+	public int earliestTrip(int stop, int minute) {
+		int route = stopRoutes[stop];
+		int low = routeTripOffsets[route];
+		int high = routeTripOffsets[route + 1];
+		int required = minute - stopMinutes[stop];
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (tripDepartures[middle] < required) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low < routeTripOffsets[route + 1] ? low : NO_TRIP;
+	}
+
+	private static boolean isRoute(Line line, int edgeCount) {
+		return edgeCount > 0 && line.hasTimetable();
+	}
+
+	/**
+	 * 노선의 구간은 한 줄로 이어져 있으므로, 들어오는 같은 노선 간선이 없는 역(상행 종점)에서 시작해 같은 노선 간선을 따라간다.
+	 *
+	 * @return 채운 뒤의 다음 정차역 위치
+	 */
+	private static int fillStops(NetworkSnapshot snapshot, int line, int edgeCount, int begin, int route, int[] stopRoutes, int[] stopStations,
+		int[] stopEdges, int[] stopMinutes) {
+		int station = upEndStationOf(snapshot, line);
+		int minute = 0;
+		int stop = begin;
+		for (int step = 0; step <= edgeCount; step++) {
+			int edge = step < edgeCount ? lineEdgeFrom(snapshot, station, line) : NO_EDGE;
+			stopRoutes[stop] = route;
+			stopStations[stop] = station;
+			stopEdges[stop] = edge;
+			stopMinutes[stop] = minute;
+			stop++;
+			if (edge != NO_EDGE) {
+				minute += snapshot.edgeDuration(edge);
+				station = snapshot.edgeTarget(edge);
+			}
+		}
+		return stop;
+	}
+
+	private static int upEndStationOf(NetworkSnapshot snapshot, int line) {
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			if (snapshot.edgeLine(edge) == line && !hasIncomingLineEdge(snapshot, snapshot.edgeSource(edge), line)) {
+				return snapshot.edgeSource(edge);
+			}
+		}
+		throw new IllegalStateException("Line " + line + " has no up end station");
+	}
+
+	private static boolean hasIncomingLineEdge(NetworkSnapshot snapshot, int station, int line) {
+		for (int position = snapshot.reverseEdgeBegin(station); position < snapshot.reverseEdgeEnd(station); position++) {
+			if (snapshot.edgeLine(snapshot.reverseEdgeAt(position)) == line) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int lineEdgeFrom(NetworkSnapshot snapshot, int station, int line) {
+		for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+			if (snapshot.edgeLine(edge) == line) {
+				return edge;
+			}
+		}
+		return NO_EDGE;
+	}
+}
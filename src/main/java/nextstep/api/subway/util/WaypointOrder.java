@@ -0,0 +1,92 @@
+package nextstep.api.subway.util;
+
+import java.util.Arrays;
+
+/**
+ * 출발역과 도착역을 고정한 채 경유역을 들르는 순서 가운데 비용 합이 가장 작은 순서를 고른다.
+ * <p>
+ * costs[i][j] 는 i 번째 정류장에서 j 번째 정류장까지의 비용이며, 0 번이 출발역, 마지막이 도착역, 그 사이가 경유역이다.
+ * 닿을 수 없는 칸은 {@link #UNREACHABLE} 로 둔다. 경유역 k 개에 대해 (들른 경유역 집합, 마지막 경유역) 단위의 동적 계획법(Held-Karp)으로
+ * O(2^k * k^2) 에 답을 구하므로, 경유역 수는 호출하는 쪽에서 작게 제한해야 한다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class WaypointOrder {
+
+	public static final long UNREACHABLE = Long.MAX_VALUE;
+
+	private WaypointOrder() {
+		throw new AssertionError("유틸리티 클래스는 인스턴스화되어서는 안 됩니다.");
+	}
+
+	/**
+	 * 가장 싼 정류장 순서(0 으로 시작하고 costs.length - 1 로 끝난다)를 돌려준다. 모든 경유역을 들러 도착역에 닿는 순서가 없으면 null 이다.
+	 */
+	public static int[] optimize(long[][] costs) {
+		int stopCount = costs.length;
+		int waypointCount = stopCount - 2;
+		int target = stopCount - 1;
+		int subsetCount = 1 << waypointCount;
+
+		long[][] best = new long[subsetCount][waypointCount];
+		int[][] previous = new int[subsetCount][waypointCount];
+		for (long[] row : best) {
+			Arrays.fill(row, UNREACHABLE);
+		}
+		for (int last = 0; last < waypointCount; last++) {
+			best[1 << last][last] = costs[0][last + 1];
+			previous[1 << last][last] = -1;
+		}
+		for (int visited = 1; visited < subsetCount; visited++) {
+			for (int last = 0; last < waypointCount; last++) {
+				if (best[visited][last] == UNREACHABLE) {
+					continue;
+				}
+				for (int next = 0; next < waypointCount; next++) {
+					if ((visited & (1 << next)) != 0) {
+						continue;
+					}
+					long cost = add(best[visited][last], costs[last + 1][next + 1]);
+					int extended = visited | (1 << next);
+					if (cost < best[extended][next]) {
+						best[extended][next] = cost;
+						previous[extended][next] = last;
+					}
+				}
+			}
+		}
+
+		if (waypointCount == 0) {
+			return costs[0][target] == UNREACHABLE ? null : new int[] {0, target};
+		}
+		int all = subsetCount - 1;
+		int bestLast = -1;
+		long bestCost = UNREACHABLE;
+		for (int last = 0; last < waypointCount; last++) {
+			long cost = add(best[all][last], costs[last + 1][target]);
+			if (cost < bestCost) {
+				bestCost = cost;
+				bestLast = last;
+			}
+		}
+		if (bestLast < 0) {
+			return null;
+		}
+
+		int[] order = new int[stopCount];
+		order[target] = target;
+		int visited = all;
+		for (int position = waypointCount, last = bestLast; position >= 1; position--) {
+			order[position] = last + 1;
+			int before = previous[visited][last];
+			visited &= ~(1 << last);
+			last = before;
+		}
+		return order;
+	}
+
+	private static long add(long cost, long other) {
+		return cost == UNREACHABLE || other == UNREACHABLE ? UNREACHABLE : cost + other;
+	}
+}
@@ -0,0 +1,34 @@
+package nextstep.common.exception.subway;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class SectionDelayNotValidException extends RuntimeException {
+	private HttpStatus status = HttpStatus.BAD_REQUEST;
+
+	public SectionDelayNotValidException() {
+		super();
+	}
+
+	public SectionDelayNotValidException(String message) {
+		super(message);
+	}
+
+	public SectionDelayNotValidException(HttpStatus status) {
+		super(status.getReasonPhrase());
+	}
+
+	public SectionDelayNotValidException(String message, HttpStatus status) {
+		super(message);
+		this.status = status;
+	}
+
+	public HttpStatus getStatus() {
+		return status;
+	}
+}
@@ -0,0 +1,30 @@
+package nextstep.common.yml;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+@Getter
+public class ClosureScenarioConfigCollector {
+
+	/**
+	 * 메모리에 함께 둘 수 있는 폐쇄 시나리오 수.
+	 */
+	@Value("${subway.closure.max-scenarios}")
+	private int maxScenarios;
+
+	/**
+	 * 시나리오 하나에 담을 수 있는 폐쇄 역과 구간 수의 합.
+	 */
+	@Value("${subway.closure.max-closed-items}")
+	private int maxClosedItems;
+
+}
@@ -0,0 +1,39 @@
+package nextstep.common.yml;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+@Getter
+public class DelayOverlayConfigCollector {
+
+	/**
+	 * 만료 시간을 정하지 않은 지연이 유지되는 시간(초).
+	 */
+	@Value("${subway.delay.default-ttl-seconds}")
+	private long defaultTtlSeconds;
+
+	@Value("${subway.delay.max-ttl-seconds}")
+	private long maxTtlSeconds;
+
+	@Value("${subway.delay.max-delay-minutes}")
+	private int maxDelayMinutes;
+
+	/**
+	 * 지연 목록을 읽어 올 로컬 파일 경로. 비어 있으면 파일 피드를 쓰지 않는다.
+	 */
+	@Value("${subway.delay.feed-file}")
+	private String feedFile;
+
+	@Value("${subway.delay.feed-poll-millis}")
+	private long feedPollMillis;
+
+}
@@ -0,0 +1,25 @@
+package nextstep.common.yml;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+@Getter
+public class NetworkSnapshotConfigCollector {
+
+	/**
+	 * 변경 이벤트를 받은 뒤 스냅샷을 다시 만들기까지 기다리는 시간(ms).
+	 * 이 시간 안에 들어온 변경은 한 번의 재조립으로 합쳐진다. 0 이면 커밋 직후 호출 스레드에서 바로 재조립한다.
+	 */
+	@Value("${subway.snapshot.rebuild-delay-millis}")
+	private long rebuildDelayMillis;
+
+}
@@ -0,0 +1,70 @@
+package nextstep.common.yml;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@Component
+@RequiredArgsConstructor
+@Getter
+public class PathSearchConfigCollector {
+
+	@Value("${subway.path.search-strategy}")
+	private PathSearchStrategy searchStrategy;
+
+	@Value("${subway.path.landmark-count}")
+	private int landmarkCount;
+
+	@Value("${subway.path.hub-label-preload}")
+	private boolean hubLabelPreload;
+
+	@Value("${subway.path.tree-cache-maximum-bytes}")
+	private long treeCacheMaximumBytes;
+
+	@Value("${subway.path.result-cache-maximum-bytes}")
+	private long resultCacheMaximumBytes;
+
+	@Value("${subway.path.batch-parallelism}")
+	private int batchParallelism;
+
+	@Value("${subway.path.batch-max-size}")
+	private int batchMaxSize;
+
+	@Value("${subway.path.matrix-max-cells}")
+	private int matrixMaxCells;
+
+	@Value("${subway.path.alternatives-max-count}")
+	private int alternativesMaxCount;
+
+	@Value("${subway.path.alternatives-time-budget-millis}")
+	private long alternativesTimeBudgetMillis;
+
+	@Value("${subway.path.pareto-max-labels-per-station}")
+	private int paretoMaxLabelsPerStation;
+
+	@Value("${subway.path.transfer-penalty-minutes}")
+	private int transferPenaltyMinutes;
+
+	@Value("${subway.path.journey-max-rounds}")
+	private int journeyMaxRounds;
+
+	@Value("${subway.path.journey-min-transfer-minutes}")
+	private int journeyMinTransferMinutes;
+
+	@Value("${subway.path.max-transfers-limit}")
+	private int maxTransfersLimit;
+
+	@Value("${subway.path.via-max-count}")
+	private int viaMaxCount;
+
+	@Value("${subway.path.same-line-fast-path}")
+	private boolean sameLineFastPath;
+
+}
@@ -0,0 +1,181 @@
+package nextstep.api.subway.domain.model.vo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class NetworkSnapshotTest {
+
+	private final Station 교대역 = new Station(1L, "교대역");
+	private final Station 강남역 = new Station(2L, "강남역");
+	private final Station 양재역 = new Station(3L, "양재역");
+	private final Station 남부터미널역 = new Station(4L, "남부터미널역");
+	private final Station 고립역 = new Station(5L, "고립역");
+
+	@Test
+	@DisplayName("역은 id 순서의 조밀한 인덱스로, 구간은 상행역 기준 CSR 인접 배열로 구성된다")
+	void createSnapshot() {
+		// given
+		Line 이호선 = createLine(1L, "2호선", Section.of(교대역, 강남역, 10L, 10));
+		Line 삼호선 = createLine(2L, "3호선", Section.of(교대역, 남부터미널역, 2L, 2), Section.of(남부터미널역, 양재역, 3L, 3));
+
+		// when
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Arrays.asList(교대역, 강남역, 양재역, 남부터미널역, 고립역), Arrays.asList(이호선, 삼호선));
+
+		// then
+		assertThat(snapshot.stationCount()).isEqualTo(5);
+		assertThat(snapshot.edgeCount()).isEqualTo(3);
+		assertThat(snapshot.indexOf(5L)).isEqualTo(4);
+		assertThat(snapshot.indexOf(99L)).isEqualTo(NetworkSnapshot.NO_STATION);
+
+		int 교대역_인덱스 = snapshot.indexOf(1L);
+		assertThat(snapshot.edgeEnd(교대역_인덱스) - snapshot.edgeBegin(교대역_인덱스)).isEqualTo(2);
+		assertThat(snapshot.edgeEnd(snapshot.indexOf(5L)) - snapshot.edgeBegin(snapshot.indexOf(5L))).isZero();
+	}
+
+	@Test
+	@DisplayName("간선 배열로 Path 를 조립하면 역 목록, 이용 노선, 총 거리와 소요 시간이 계산된다")
+	void toPath() {
+		// given
+		Line 삼호선 = createLine(2L, "3호선", Section.of(교대역, 남부터미널역, 2L, 4), Section.of(남부터미널역, 양재역, 3L, 5));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Arrays.asList(교대역, 양재역, 남부터미널역), List.of(삼호선));
+		int source = snapshot.indexOf(1L);
+		int[] edges = {snapshot.edgeBegin(source), snapshot.edgeBegin(snapshot.indexOf(4L))};
+
+		// when
+		Path path = snapshot.toPath(source, edges, edges.length);
+
+		// then
+		assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+		assertThat(path.getLines()).extracting("id").containsExactly(2L);
+		assertThat(path.getDistance()).isEqualTo(5L);
+		assertThat(path.getDuration()).isEqualTo(9L);
+	}
+
+	@Test
+	@DisplayName("간선 배열로 Path 를 조립하면 같은 노선으로 이어지는 간선끼리 하나의 구간으로 묶이고, 구간 수로 환승 횟수를 센다")
+	void toPath_legs() {
+		// given
+		Line 이호선 = createLine(1L, "2호선", Section.of(교대역, 강남역, 10L, 10));
+		Line 신분당선 = createLine(2L, "신분당선", Section.of(강남역, 양재역, 10L, 3), Section.of(양재역, 남부터미널역, 2L, 4));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Arrays.asList(교대역, 강남역, 양재역, 남부터미널역), Arrays.asList(이호선, 신분당선));
+		int[] edges = {snapshot.edgeBegin(snapshot.indexOf(1L)), snapshot.edgeBegin(snapshot.indexOf(2L)), snapshot.edgeBegin(snapshot.indexOf(3L))};
+
+		// when
+		Path path = snapshot.toPath(snapshot.indexOf(1L), edges, edges.length);
+
+		// then
+		assertThat(path.getLegs()).hasSize(2);
+		assertThat(path.getLegs().get(0).getLine().getId()).isEqualTo(1L);
+		assertThat(path.getLegs().get(0).getStations()).containsExactly(교대역, 강남역);
+		assertThat(path.getLegs().get(1).getLine().getId()).isEqualTo(2L);
+		assertThat(path.getLegs().get(1).getStations()).containsExactly(강남역, 양재역, 남부터미널역);
+		assertThat(path.getLegs().get(1).getDistance()).isEqualTo(12L);
+		assertThat(path.getLegs().get(1).getDuration()).isEqualTo(7L);
+		assertThat(path.transferCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("탐색 기준 지표가 같으면 보조 지표가 작은 간선의 가중치가 더 작다")
+	void edgeWeight() {
+		// given
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(Section.of(교대역, 강남역, 10L, 3), Section.of(교대역, 양재역, 10L, 7)));
+		int first = snapshot.edgeBegin(snapshot.indexOf(1L));
+
+		// when & then
+		assertThat(snapshot.edgeWeight(first, PathRequestType.DISTANCE)).isLessThan(snapshot.edgeWeight(first + 1, PathRequestType.DISTANCE));
+		assertThat(NetworkSnapshot.primaryWeightOf(snapshot.edgeWeight(first, PathRequestType.DISTANCE))).isEqualTo(10L);
+		assertThat(NetworkSnapshot.primaryWeightOf(snapshot.edgeWeight(first, PathRequestType.DURATION))).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("전체 거리 합이나 소요 시간 합이 보조 지표 비트를 넘어도 스냅샷은 만들어지고, 보조 지표를 밀어 담으므로 전체 간선 가중치의 합에도 기준 지표 쪽 올림이 생기지 않는다")
+	void createSnapshot_weightsBeyondCompositeBound() {
+		// given
+		long halfBound = 1L << 19;
+		List<Section> sections = Arrays.asList(Section.of(교대역, 강남역, halfBound, 3), Section.of(강남역, 양재역, halfBound, 3));
+		NetworkSnapshot smallSnapshot = NetworkSnapshot.fromSections(Arrays.asList(Section.of(교대역, 강남역, 10L, 3), Section.of(강남역, 양재역, 10L, 3)));
+
+		// when
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(sections);
+		NetworkSnapshot delayed = smallSnapshot.withEdgeDelays(new int[] {(int)halfBound, (int)halfBound}, 1L);
+
+		// then
+		assertThat(primaryWeightOfAllEdges(snapshot, PathRequestType.DURATION)).isEqualTo(6L);
+		assertThat(primaryWeightOfAllEdges(snapshot, PathRequestType.DISTANCE)).isEqualTo(2 * halfBound);
+		assertThat(primaryWeightOfAllEdges(delayed, PathRequestType.DISTANCE)).isEqualTo(20L);
+		assertThat(primaryWeightOfAllEdges(delayed, PathRequestType.DURATION)).isEqualTo(2 * halfBound + 6);
+	}
+
+	@Test
+	@DisplayName("전처리 결과는 타입별로 한 번만 만들어져 스냅샷에 보관되고, 만들다 실패하면 보관되지 않는다")
+	void fetchIndex() {
+		// given
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(Section.of(교대역, 강남역, 10L, 3)));
+		AtomicInteger builds = new AtomicInteger();
+
+		// when
+		String first = snapshot.fetchIndex(String.class, target -> "index-" + builds.incrementAndGet());
+		String second = snapshot.fetchIndex(String.class, target -> "index-" + builds.incrementAndGet());
+
+		// then
+		assertThat(first).isSameAs(second);
+		assertThat(builds.get()).isEqualTo(1);
+
+		// when & then
+		assertThatThrownBy(() -> snapshot.fetchIndex(Integer.class, target -> {
+			throw new IllegalStateException("build failed");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(snapshot.fetchIndex(Integer.class, target -> 7)).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("파생 스냅샷은 물려받기로 한 전처리 타입만 원본에서 가져오고, 나머지는 개정마다 따로 만들며, 음수 지연은 받지 않는다")
+	void withEdgeDelays_inheritedIndexes() {
+		// given
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(Section.of(교대역, 강남역, 10L, 3)));
+		AtomicInteger builds = new AtomicInteger();
+		String inherited = snapshot.fetchIndex(String.class, target -> "index-" + builds.incrementAndGet());
+
+		// when
+		NetworkSnapshot first = snapshot.withEdgeDelays(new int[] {5}, 1L, String.class);
+		NetworkSnapshot second = first.withEdgeDelays(new int[] {2}, 2L, String.class);
+
+		// then
+		assertThat(first.fetchIndex(String.class, target -> "index-" + builds.incrementAndGet())).isSameAs(inherited);
+		assertThat(second.fetchIndex(String.class, target -> "index-" + builds.incrementAndGet())).isSameAs(inherited);
+		assertThat(builds.get()).isEqualTo(1);
+		assertThat(first.fetchIndex(Integer.class, target -> target.edgeDuration(0))).isEqualTo(8);
+		assertThat(second.fetchIndex(Integer.class, target -> target.edgeDuration(0))).isEqualTo(10);
+		assertThatThrownBy(() -> snapshot.withEdgeDelays(new int[] {-1}, 3L)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private long primaryWeightOfAllEdges(NetworkSnapshot snapshot, PathRequestType type) {
+		long total = 0L;
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			total += snapshot.edgeWeight(edge, type);
+		}
+		return NetworkSnapshot.primaryWeightOf(total);
+	}
+
+	private Line createLine(Long id, String name, Section... sections) {
+		Line line = new Line(id, name, "bg-red-600", new Sections());
+		Arrays.stream(sections).forEach(line::addSection);
+		return line;
+	}
+}
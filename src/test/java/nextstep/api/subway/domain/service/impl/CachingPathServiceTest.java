@@ -0,0 +1,177 @@
+package nextstep.api.subway.domain.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.api.subway.domain.dto.outport.StationInfo;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+import nextstep.api.subway.domain.operators.DelayOverlayResolver;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.infrastructure.operators.SimpleDelayOverlayResolver;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingPathServiceTest {
+
+	@Mock
+	private SimplePathService simplePathService;
+
+	@Mock
+	private NetworkSnapshotResolver networkSnapshotResolver;
+
+	@Mock
+	private PathSearchConfigCollector pathSearchConfigCollector;
+
+	private final DelayOverlayResolver delayOverlayResolver = new SimpleDelayOverlayResolver();
+
+	private CachingPathService cachingPathService;
+
+	@BeforeEach
+	void setUp() {
+		given(pathSearchConfigCollector.getResultCacheMaximumBytes()).willReturn(1L << 20);
+		cachingPathService = new CachingPathService(simplePathService, networkSnapshotResolver, delayOverlayResolver, pathSearchConfigCollector, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("같은 출발역, 도착역, 유형, 네트워크 버전의 조회는 캐시된 PathInfo 를 돌려준다")
+	void findShortestPath_cached() {
+		// given
+		PathInfo pathInfo = createPathInfo();
+		given(networkSnapshotResolver.fetch()).willReturn(snapshotOf(3L));
+		given(simplePathService.findPathOn(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class))).willReturn(pathInfo);
+
+		// when
+		PathInfo first = cachingPathService.findShortestPath(1L, 2L);
+		PathInfo second = cachingPathService.findShortestPath(1L, 2L);
+
+		// then
+		assertThat(first).isSameAs(pathInfo);
+		assertThat(second).isSameAs(pathInfo);
+		then(simplePathService).should(times(1)).findPathOn(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class));
+	}
+
+	@Test
+	@DisplayName("유형이나 네트워크 버전이 다르면 다시 조회한다")
+	void findPath_missOnTypeOrVersionChange() {
+		// given
+		given(networkSnapshotResolver.fetch()).willReturn(snapshotOf(3L), snapshotOf(3L), snapshotOf(4L));
+		given(simplePathService.findPathOn(eq(1L), eq(2L), any(PathRequestType.class), any(NetworkSnapshot.class))).willReturn(createPathInfo());
+
+		// when
+		cachingPathService.findShortestPath(1L, 2L);
+		cachingPathService.findMinimumDurationPath(1L, 2L);
+		cachingPathService.findShortestPath(1L, 2L);
+
+		// then
+		then(simplePathService).should(times(2)).findPathOn(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class));
+		then(simplePathService).should(times(1)).findPathOn(eq(1L), eq(2L), eq(PathRequestType.DURATION), any(NetworkSnapshot.class));
+	}
+
+	@Test
+	@DisplayName("구간 지연이 바뀌면 소요 시간 기준 조회만 다시 조회하고, 거리 기준 조회는 캐시된 결과를 쓴다")
+	void findPath_missOnDelayChangeForDurationOnly() {
+		// given
+		given(networkSnapshotResolver.fetch()).willReturn(snapshotOf(3L));
+		given(simplePathService.findPathOn(eq(1L), eq(2L), any(PathRequestType.class), any(NetworkSnapshot.class))).willReturn(createPathInfo());
+		cachingPathService.findShortestPath(1L, 2L);
+		cachingPathService.findMinimumDurationPath(1L, 2L);
+
+		// when
+		delayOverlayResolver.update(List.of(SectionDelay.of(1L, 2L, 5, Long.MAX_VALUE)));
+		cachingPathService.findShortestPath(1L, 2L);
+		cachingPathService.findMinimumDurationPath(1L, 2L);
+
+		// then
+		then(simplePathService).should(times(1)).findPathOn(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class));
+		then(simplePathService).should(times(2)).findPathOn(eq(1L), eq(2L), eq(PathRequestType.DURATION), any(NetworkSnapshot.class));
+	}
+
+	@Test
+	@DisplayName("캐시 키를 만든 스냅샷과 지연 오버레이로 탐색까지 마치므로, 도중에 들어온 지연이 반영된 결과가 지연 없는 키에 저장되지 않는다")
+	void findMinimumDurationPath_searchesKeyedSnapshot() {
+		// given
+		NetworkSnapshot snapshot = snapshotOf(3L);
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(simplePathService.findPathOn(eq(1L), eq(2L), eq(PathRequestType.DURATION), any(NetworkSnapshot.class))).willAnswer(invocation -> {
+			delayOverlayResolver.update(List.of(SectionDelay.of(1L, 2L, 5, Long.MAX_VALUE)));
+			return createPathInfo();
+		});
+
+		// when
+		cachingPathService.findMinimumDurationPath(1L, 2L);
+
+		// then
+		then(simplePathService).should().findPathOn(1L, 2L, PathRequestType.DURATION, snapshot);
+		then(simplePathService).should(never()).findMinimumDurationPath(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("경유 경로는 처음 가져온 스냅샷 하나로 모든 구간의 키를 만들고 탐색하며, 구간 항목은 단일 경로 조회와 함께 쓴다")
+	void findPathVia_pinsSnapshotForEveryLeg() {
+		// given
+		NetworkSnapshot pinned = snapshotOf(3L);
+		given(networkSnapshotResolver.fetch()).willReturn(pinned, snapshotOf(4L), pinned);
+		given(simplePathService.planStops(1L, List.of(2L), 3L, PathRequestType.DISTANCE, false, pinned)).willReturn(List.of(1L, 2L, 3L));
+		given(simplePathService.findPathOn(anyLong(), anyLong(), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class))).willReturn(createPathInfo());
+
+		// when
+		cachingPathService.findPathVia(1L, List.of(2L), 3L, PathRequestType.DISTANCE, false);
+		cachingPathService.findShortestPath(1L, 2L);
+		cachingPathService.findShortestPath(1L, 2L);
+
+		// then
+		then(simplePathService).should(times(1)).findPathOn(1L, 2L, PathRequestType.DISTANCE, pinned);
+		then(simplePathService).should(times(1)).findPathOn(2L, 3L, PathRequestType.DISTANCE, pinned);
+	}
+
+	@Test
+	@DisplayName("경로가 없어 예외로 끝난 조회는 캐시하지 않는다")
+	void findShortestPath_exceptionNotCached() {
+		// given
+		given(networkSnapshotResolver.fetch()).willReturn(snapshotOf(3L));
+		given(simplePathService.findPathOn(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class))).willThrow(new PathNotValidException());
+
+		// when & then
+		assertThatThrownBy(() -> cachingPathService.findShortestPath(1L, 2L)).isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> cachingPathService.findShortestPath(1L, 2L)).isInstanceOf(PathNotValidException.class);
+		then(simplePathService).should(times(2)).findPathOn(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), any(NetworkSnapshot.class));
+	}
+
+	@Test
+	@DisplayName("출발역과 도착역이 같으면 스냅샷을 가져오기 전에 PathNotValidException 예외가 발생한다")
+	void findShortestPath_sameStation() {
+		// when & then
+		assertThatThrownBy(() -> cachingPathService.findShortestPath(1L, 1L)).isInstanceOf(PathNotValidException.class);
+		then(networkSnapshotResolver).should(never()).fetch();
+	}
+
+	private NetworkSnapshot snapshotOf(long version) {
+		return NetworkSnapshot.of(version, Collections.<Station>emptyList(), Collections.<Line>emptyList());
+	}
+
+	private PathInfo createPathInfo() {
+		return PathInfo.of(Arrays.asList(new StationInfo(1L, "Station1"), new StationInfo(2L, "Station2")), Collections.emptyList(), 10L, 5L);
+	}
+}
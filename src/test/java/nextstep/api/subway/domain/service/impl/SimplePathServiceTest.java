@@ -1,26 +1,76 @@
 package nextstep.api.subway.domain.service.impl;
 
+import static nextstep.fixture.SectionFixtureCreator.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.ArrayList;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.dto.inport.PathConstraintCommand;
+import nextstep.api.subway.domain.dto.inport.PathMatrixCommand;
+import nextstep.api.subway.domain.dto.inport.PathQueryCommand;
+import nextstep.api.subway.domain.dto.outport.JourneyInfo;
+import nextstep.api.subway.domain.dto.outport.PathAlternativesInfo;
+import nextstep.api.subway.domain.dto.outport.PathBatchItemInfo;
 import nextstep.api.subway.domain.dto.outport.PathInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixCellInfo;
+import nextstep.api.subway.domain.dto.outport.PathMatrixRowInfo;
+import nextstep.api.subway.domain.dto.outport.PathSummaryInfo;
+import nextstep.api.subway.domain.dto.outport.ReachableStationInfo;
+import nextstep.api.subway.domain.dto.outport.StationInfo;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
 import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.ClosureScenario;
+import nextstep.api.subway.domain.model.vo.Journey;
+import nextstep.api.subway.domain.model.vo.JourneyLeg;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
 import nextstep.api.subway.domain.model.vo.Path;
-import nextstep.api.subway.domain.operators.LineResolver;
-import nextstep.api.subway.domain.operators.StationResolver;
-import nextstep.api.subway.infrastructure.operators.DijkstraBasedShortestPathFinder;
+import nextstep.api.subway.domain.model.vo.PathAlternatives;
+import nextstep.api.subway.domain.model.vo.PathLeg;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+import nextstep.api.subway.domain.model.vo.ReachableStation;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+import nextstep.api.subway.domain.operators.AlternativePathFinder;
+import nextstep.api.subway.domain.operators.ClosureAwarePathFinder;
+import nextstep.api.subway.domain.operators.ClosureScenarioResolver;
+import nextstep.api.subway.domain.operators.DelayOverlayResolver;
+import nextstep.api.subway.domain.operators.JourneyPlanner;
+import nextstep.api.subway.domain.operators.NetworkSnapshotResolver;
+import nextstep.api.subway.domain.operators.ParetoPathFinder;
+import nextstep.api.subway.domain.operators.PathBatchExecutor;
+import nextstep.api.subway.domain.operators.PathFinder;
+import nextstep.api.subway.domain.operators.PathFinderSelector;
+import nextstep.api.subway.domain.operators.PathMatrixFinder;
+import nextstep.api.subway.domain.operators.PathSearchCoalescer;
+import nextstep.api.subway.domain.operators.PathSummaryFinder;
+import nextstep.api.subway.domain.operators.ReachableStationFinder;
+import nextstep.api.subway.domain.operators.SameLinePathFinder;
+import nextstep.api.subway.domain.operators.TransferBoundedPathFinder;
+import nextstep.api.subway.infrastructure.operators.SimpleClosureScenarioResolver;
+import nextstep.api.subway.infrastructure.operators.SimpleDelayOverlayResolver;
+import nextstep.api.subway.infrastructure.operators.SingleFlightPathSearchCoalescer;
 import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
 
 /**
  * @author : Rene Choi
@@ -34,13 +84,55 @@ class SimplePathServiceTest {
 	private SimplePathService simplePathService;
 
 	@Mock
-	private StationResolver stationResolver;
+	private NetworkSnapshotResolver networkSnapshotResolver;
 
 	@Mock
-	private DijkstraBasedShortestPathFinder pathFinder;
+	private PathFinderSelector pathFinderSelector;
 
 	@Mock
-	private LineResolver lineResolver;
+	private PathFinder pathFinder;
+
+	@Mock
+	private PathSummaryFinder pathSummaryFinder;
+
+	@Spy
+	private PathSearchCoalescer pathSearchCoalescer = new SingleFlightPathSearchCoalescer(new SimpleMeterRegistry());
+
+	@Mock
+	private PathBatchExecutor pathBatchExecutor;
+
+	@Mock
+	private PathSearchConfigCollector pathSearchConfigCollector;
+
+	@Mock
+	private PathMatrixFinder pathMatrixFinder;
+
+	@Mock
+	private ReachableStationFinder reachableStationFinder;
+
+	@Mock
+	private AlternativePathFinder alternativePathFinder;
+
+	@Mock
+	private ParetoPathFinder paretoPathFinder;
+
+	@Mock
+	private JourneyPlanner journeyPlanner;
+
+	@Spy
+	private DelayOverlayResolver delayOverlayResolver = new SimpleDelayOverlayResolver();
+
+	@Spy
+	private ClosureScenarioResolver closureScenarioResolver = new SimpleClosureScenarioResolver();
+
+	@Mock
+	private ClosureAwarePathFinder closureAwarePathFinder;
+
+	@Mock
+	private TransferBoundedPathFinder transferBoundedPathFinder;
+
+	@Mock
+	private SameLinePathFinder sameLinePathFinder;
 
 	@Test
 	@DisplayName("최단 경로 조회 성공 - 단순 mock으로 성공 케이스")
@@ -49,10 +141,11 @@ class SimplePathServiceTest {
 		Station sourceStation = new Station(1L, "SourceStation");
 		Station targetStation = new Station(2L, "TargetStation");
 
-		given(stationResolver.fetchOptional(1L)).willReturn(Optional.of(sourceStation));
-		given(stationResolver.fetchOptional(2L)).willReturn(Optional.of(targetStation));
-		given(lineResolver.fetchAll()).willReturn(new ArrayList<>());
-		given(pathFinder.findShortestPathByLines(eq(sourceStation), eq(targetStation), anyList())).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), null,10L, null) );
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathFinderSelector.selectFor(PathRequestType.DISTANCE)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.DISTANCE, snapshot)).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), null,10L, null) );
 
 		// when
 		PathInfo result = simplePathService.findShortestPath(1L, 2L);
@@ -62,6 +155,579 @@ class SimplePathServiceTest {
 		assertThat(result.getDistance()).isEqualTo(10);
 	}
 
+	@Test
+	@DisplayName("구간 지연이 걸려 있으면 소요 시간 기준은 지연을 덧씌운 스냅샷으로, 거리 기준은 원본 스냅샷으로 찾는다")
+	void findPath_appliesDelayToDurationOnly() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		Line line = new Line(1L, "Line1", "bg-red-600", new Sections());
+		line.addSection(new Section(1L, sourceStation, targetStation, 10L, 5));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), List.of(line));
+		delayOverlayResolver.update(List.of(SectionDelay.of(1L, 2L, 3, Long.MAX_VALUE)));
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathFinderSelector.selectFor(any())).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(anyLong(), anyLong(), any(), any())).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), null, 10L, null));
+
+		// when
+		simplePathService.findMinimumDurationPath(1L, 2L);
+		simplePathService.findShortestPath(1L, 2L);
+
+		// then
+		then(pathFinder).should().findShortestPathBySnapshot(eq(1L), eq(2L), eq(PathRequestType.DURATION), argThat(searched -> searched.isOverlaid() && searched.edgeDuration(0) == 8));
+		then(pathFinder).should().findShortestPathBySnapshot(1L, 2L, PathRequestType.DISTANCE, snapshot);
+	}
+
+	@Test
+	@DisplayName("같은 노선 경로가 최단임이 보이면 탐색 엔진을 거치지 않고, 요금 기준은 같은 노선 경로를 묻지 않고 탐색 엔진으로 찾는다")
+	void findPath_sameLineFastPath() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+		Path sameLinePath = Path.of(Arrays.asList(sourceStation, targetStation), null, 10L, null);
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(sameLinePathFinder.findSameLinePath(1L, 2L, PathRequestType.DISTANCE, snapshot)).willReturn(Optional.of(sameLinePath));
+		given(pathFinderSelector.selectFor(PathRequestType.FARE)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.FARE, snapshot)).willReturn(sameLinePath);
+
+		// when
+		PathInfo result = simplePathService.findShortestPath(1L, 2L);
+		simplePathService.findMinimumFarePath(1L, 2L);
+
+		// then
+		assertThat(result.getDistance()).isEqualTo(10);
+		then(pathFinderSelector).should(never()).selectFor(PathRequestType.DISTANCE);
+		then(sameLinePathFinder).should(never()).findSameLinePath(anyLong(), anyLong(), eq(PathRequestType.FARE), any());
+	}
+
+	@Test
+	@DisplayName("폐쇄 시나리오를 고르면 시나리오를 스냅샷 마스크로 바꿔 폐쇄 인식 탐색기로 찾고, 결과 캐시용 탐색 엔진은 거치지 않는다")
+	void findConstrainedPath_Closure() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station middleStation = new Station(2L, "MiddleStation");
+		Station targetStation = new Station(3L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(
+			new Section(1L, sourceStation, middleStation, 1L, 1),
+			new Section(2L, middleStation, targetStation, 1L, 1),
+			new Section(3L, sourceStation, targetStation, 5L, 5)));
+		closureScenarioResolver.save(ClosureScenario.of("middle-closed", List.of(2L), Collections.emptyList()));
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(closureAwarePathFinder.findShortestPathAvoiding(eq(1L), eq(3L), eq(PathRequestType.DISTANCE), eq(snapshot), any()))
+			.willReturn(Path.of(Arrays.asList(sourceStation, targetStation), null, 5L, null));
+
+		// when
+		PathInfo result = simplePathService.findConstrainedPath(1L, 3L, PathRequestType.DISTANCE, new PathConstraintCommand("middle-closed", null, null, null));
+
+		// then
+		assertThat(result.getDistance()).isEqualTo(5);
+		then(closureAwarePathFinder).should().findShortestPathAvoiding(eq(1L), eq(3L), eq(PathRequestType.DISTANCE), eq(snapshot),
+			argThat(closures -> closures.closedStationCount() == 1 && closures.isStationClosed(snapshot.indexOf(2L))));
+		then(pathFinderSelector).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("없는 폐쇄 시나리오나 노선을 고르거나, 요금 기준으로 제약을 걸거나, 최대 환승 횟수가 범위를 벗어나면 예외가 발생한다")
+	void findConstrainedPath_Failure() {
+		// given
+		given(networkSnapshotResolver.fetch()).willReturn(NetworkSnapshot.empty());
+		given(pathSearchConfigCollector.getMaxTransfersLimit()).willReturn(5);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findConstrainedPath(1L, 3L, PathRequestType.DISTANCE, new PathConstraintCommand("unknown", null, null, null)))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findConstrainedPath(1L, 3L, PathRequestType.DISTANCE, new PathConstraintCommand(null, List.of(99L), null, null)))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findConstrainedPath(1L, 3L, PathRequestType.FARE, new PathConstraintCommand("unknown", null, null, null)))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findConstrainedPath(1L, 3L, PathRequestType.DISTANCE, new PathConstraintCommand(null, null, null, 6)))
+			.isInstanceOf(PathNotValidException.class);
+		then(closureAwarePathFinder).shouldHaveNoInteractions();
+		then(transferBoundedPathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("피할 노선과 최대 환승 횟수를 주면 노선 간선을 닫은 마스크와 환승 상한을 함께 노선 단위 탐색기에 넘긴다")
+	void findConstrainedPath_AvoidLineWithinTransfers() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		Line line = new Line(7L, "Line7", "bg-red-600", new Sections());
+		line.addSection(new Section(1L, sourceStation, targetStation, 10L, 5));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), List.of(line));
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathSearchConfigCollector.getMaxTransfersLimit()).willReturn(5);
+		given(transferBoundedPathFinder.findShortestPathWithinTransfers(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), eq(snapshot), any(), eq(1)))
+			.willReturn(Path.of(Arrays.asList(sourceStation, targetStation), null, 10L, null));
+
+		// when
+		simplePathService.findConstrainedPath(1L, 2L, PathRequestType.DISTANCE, new PathConstraintCommand(null, List.of(7L), null, 1));
+
+		// then
+		then(transferBoundedPathFinder).should().findShortestPathWithinTransfers(eq(1L), eq(2L), eq(PathRequestType.DISTANCE), eq(snapshot),
+			argThat(closures -> closures.closedEdgeCount() == snapshot.edgeCount() && closures.closedStationCount() == 0), eq(1));
+		then(closureAwarePathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("경유 경로 조회 - 구간별 경로를 이어 합계를 더하고, 경유역에서 같은 노선을 계속 타면 구간을 하나로 합친다")
+	void findPathVia_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station viaStation = new Station(2L, "ViaStation");
+		Station targetStation = new Station(3L, "TargetStation");
+		Line line = new Line(1L, "Line1", "bg-red-600", new Sections());
+		line.addSection(new Section(1L, sourceStation, viaStation, 5L, 4));
+		line.addSection(new Section(2L, viaStation, targetStation, 7L, 5));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), List.of(line));
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathSearchConfigCollector.getViaMaxCount()).willReturn(5);
+		given(pathFinderSelector.selectFor(PathRequestType.DISTANCE)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.DISTANCE, snapshot)).willReturn(Path.of(
+			Arrays.asList(sourceStation, viaStation), List.of(line), 5L, 4L, List.of(PathLeg.of(line, Arrays.asList(sourceStation, viaStation), 5L, 4L))));
+		given(pathFinder.findShortestPathBySnapshot(2L, 3L, PathRequestType.DISTANCE, snapshot)).willReturn(Path.of(
+			Arrays.asList(viaStation, targetStation), List.of(line), 7L, 5L, List.of(PathLeg.of(line, Arrays.asList(viaStation, targetStation), 7L, 5L))));
+
+		// when
+		PathInfo result = simplePathService.findPathVia(1L, List.of(2L), 3L, PathRequestType.DISTANCE, false);
+
+		// then
+		assertThat(result.getStations()).extracting(StationInfo::getId).containsExactly(1L, 2L, 3L);
+		assertThat(result.getLineIds()).containsExactly(1L);
+		assertThat(result.getDistance()).isEqualTo(12L);
+		assertThat(result.getDuration()).isEqualTo(9L);
+		assertThat(result.getTransferCount()).isZero();
+		assertThat(result.getLegs().get(0).getStations()).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("경유 경로 조회 - 순서 최적화를 요청하면 최단 경로 트리로 채운 비용 행렬에서 가장 싼 순서로 경유역을 들른다")
+	void findPathVia_OptimizeOrder() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 1L),
+			createSectionWithIdRandom(station2, station3, 1L), createSectionWithIdRandom(station3, station4, 1L)));
+		List<Long> stops = Arrays.asList(1L, 3L, 2L, 4L);
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathSearchConfigCollector.getViaMaxCount()).willReturn(5);
+		given(pathMatrixFinder.findPathSummaries(anyLong(), eq(stops), eq(PathRequestType.DISTANCE), eq(snapshot))).willAnswer(invocation -> {
+			long from = invocation.getArgument(0);
+			return stops.stream()
+				.map(to -> to > from ? PathSummary.of(to - from, 1L) : null)
+				.collect(Collectors.toList());
+		});
+		given(pathFinderSelector.selectFor(PathRequestType.DISTANCE)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(anyLong(), anyLong(), eq(PathRequestType.DISTANCE), eq(snapshot))).willAnswer(invocation -> Path.of(
+			Arrays.asList(new Station(invocation.getArgument(0), "From"), new Station(invocation.getArgument(1), "To")), Collections.emptyList(), 1L, 1L));
+
+		// when
+		PathInfo result = simplePathService.findPathVia(1L, List.of(3L, 2L), 4L, PathRequestType.DISTANCE, true);
+
+		// then
+		assertThat(result.getStations()).extracting(StationInfo::getId).containsExactly(1L, 2L, 3L, 4L);
+		assertThat(result.getDistance()).isEqualTo(3L);
+		then(pathMatrixFinder).should(times(3)).findPathSummaries(anyLong(), eq(stops), eq(PathRequestType.DISTANCE), eq(snapshot));
+	}
+
+	@Test
+	@DisplayName("경유 경로 조회 실패 - 경유역이 겹치거나 출발역과 같거나, 설정한 최대 개수를 넘는 경우")
+	void findPathVia_Failure() {
+		// given
+		given(pathSearchConfigCollector.getViaMaxCount()).willReturn(2);
+		given(networkSnapshotResolver.fetch()).willReturn(NetworkSnapshot.empty());
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findPathVia(1L, List.of(2L, 2L), 3L, null, false))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findPathVia(1L, List.of(1L), 3L, null, false))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findPathVia(1L, List.of(2L, 4L, 5L), 3L, null, false))
+			.isInstanceOf(PathNotValidException.class);
+		assertThatThrownBy(() -> simplePathService.findPathVia(1L, Collections.emptyList(), 3L, null, false))
+			.isInstanceOf(PathNotValidException.class);
+		then(pathFinderSelector).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("경로 합계 조회 성공 - 역 목록 없이 거리와 소요 시간만 돌려준다")
+	void findPathSummary_Success() {
+		// given
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathSummaryFinder.findPathSummary(1L, 2L, PathRequestType.DURATION, snapshot)).willReturn(PathSummary.of(10L, 7L));
+
+		// when
+		PathSummaryInfo result = simplePathService.findPathSummary(1L, 2L, PathRequestType.DURATION);
+
+		// then
+		assertThat(result.getDistance()).isEqualTo(10);
+		assertThat(result.getDuration()).isEqualTo(7);
+		then(pathFinderSelector).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("최소 요금 경로 조회 성공 - 요금 기준 엔진으로 찾는다")
+	void findMinimumFarePath_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathFinderSelector.selectFor(PathRequestType.FARE)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.FARE, snapshot)).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), Collections.emptyList(), 12L, 9L));
+
+		// when
+		PathInfo result = simplePathService.findMinimumFarePath(1L, 2L);
+
+		// then
+		assertThat(result.getDistance()).isEqualTo(12);
+		assertThat(result.getDuration()).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("최소 환승 경로 조회 성공 - 환승 기준 엔진이 돌려준 노선별 구간과 환승 횟수를 그대로 돌려준다")
+	void findMinimumTransferPath_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station transferStation = new Station(2L, "TransferStation");
+		Station targetStation = new Station(3L, "TargetStation");
+		Line firstLine = new Line(1L, "FirstLine", "bg-red-600", new Sections());
+		Line secondLine = new Line(2L, "SecondLine", "bg-blue-600", new Sections());
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathFinderSelector.selectFor(PathRequestType.MIN_TRANSFER)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 3L, PathRequestType.MIN_TRANSFER, snapshot)).willReturn(Path.of(
+			Arrays.asList(sourceStation, transferStation, targetStation), Arrays.asList(firstLine, secondLine), 12L, 9L, Arrays.asList(
+				PathLeg.of(firstLine, Arrays.asList(sourceStation, transferStation), 5L, 4L),
+				PathLeg.of(secondLine, Arrays.asList(transferStation, targetStation), 7L, 5L))));
+
+		// when
+		PathInfo result = simplePathService.findMinimumTransferPath(1L, 3L);
+
+		// then
+		assertThat(result.getTransferCount()).isEqualTo(1);
+		assertThat(result.getLegs()).hasSize(2);
+		assertThat(result.getLegs().get(1).getLine().getId()).isEqualTo(2L);
+		assertThat(result.getLegs().get(1).getStations()).hasSize(2);
+		assertThat(result.getLegs().get(1).getDistance()).isEqualTo(7L);
+	}
+
+	@Test
+	@DisplayName("경로 합계 조회 - 요금 기준은 허브 라벨 대신 요금 기준 엔진으로 찾은 경로의 합계를 돌려준다")
+	void findPathSummary_Fare() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathFinderSelector.selectFor(PathRequestType.FARE)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.FARE, snapshot)).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), Collections.emptyList(), 12L, 9L));
+
+		// when
+		PathSummaryInfo result = simplePathService.findPathSummary(1L, 2L, PathRequestType.FARE);
+
+		// then
+		assertThat(result.getDistance()).isEqualTo(12);
+		assertThat(result.getDuration()).isEqualTo(9);
+		then(pathSummaryFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("일괄 경로 조회 - 같은 질의는 한 번만 탐색하고, 요청 순서대로 항목별 결과를 돌려준다")
+	@SuppressWarnings("unchecked")
+	void findPaths_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(pathSearchConfigCollector.getBatchMaxSize()).willReturn(10);
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathFinderSelector.selectFor(PathRequestType.DURATION)).willReturn(pathFinder);
+		given(pathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.DURATION, snapshot)).willReturn(Path.of(Arrays.asList(sourceStation, targetStation), null, 10L, 3L));
+		given(pathBatchExecutor.mapInParallel(anyList(), any())).willAnswer(invocation -> {
+			List<PathQueryCommand> commands = invocation.getArgument(0);
+			Function<PathQueryCommand, PathBatchItemInfo> mapper = invocation.getArgument(1);
+			return commands.stream().map(mapper).collect(Collectors.toList());
+		});
+
+		// when
+		List<PathBatchItemInfo> results = simplePathService.findPaths(Arrays.asList(
+			new PathQueryCommand(1L, 2L, null),
+			new PathQueryCommand(1L, 1L, PathRequestType.DISTANCE),
+			new PathQueryCommand(1L, 2L, PathRequestType.DURATION)));
+
+		// then
+		assertThat(results).extracting(PathBatchItemInfo::isSuccess).containsExactly(true, false, true);
+		assertThat(results.get(0).getPath().getDuration()).isEqualTo(3L);
+		assertThat(results.get(1).getErrorMessage()).isEqualTo("Source and target stations cannot be the same.");
+		then(pathFinder).should(times(1)).findShortestPathBySnapshot(1L, 2L, PathRequestType.DURATION, snapshot);
+	}
+
+	@Test
+	@DisplayName("일괄 경로 조회 실패 - 질의 수가 설정한 최대 개수를 넘는 경우")
+	void findPaths_Failure_TooManyQueries() {
+		// given
+		given(pathSearchConfigCollector.getBatchMaxSize()).willReturn(1);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findPaths(Arrays.asList(new PathQueryCommand(1L, 2L, null), new PathQueryCommand(2L, 3L, null))))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("경로 행렬 조회 - 행은 소비할 때 출발역 묶음 단위로 계산되고, 출발역/도착역 순서를 따른다")
+	@SuppressWarnings("unchecked")
+	void findPathMatrix_Success() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L), createSectionWithIdRandom(station2, station3, 5L)));
+
+		given(pathSearchConfigCollector.getMatrixMaxCells()).willReturn(100);
+		given(pathSearchConfigCollector.getBatchParallelism()).willReturn(1);
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(pathMatrixFinder.findPathSummaries(anyLong(), eq(Arrays.asList(3L, 1L)), eq(PathRequestType.DURATION), eq(snapshot)))
+			.willAnswer(invocation -> Arrays.asList(PathSummary.of((Long)invocation.getArgument(0) * 10L, 1L), null));
+		given(pathBatchExecutor.mapInParallel(anyList(), any())).willAnswer(invocation -> {
+			List<Long> sources = invocation.getArgument(0);
+			Function<Long, PathMatrixRowInfo> mapper = invocation.getArgument(1);
+			return sources.stream().map(mapper).collect(Collectors.toList());
+		});
+
+		// when
+		Stream<PathMatrixRowInfo> rows = simplePathService.findPathMatrix(new PathMatrixCommand(Arrays.asList(1L, 2L, 3L), Arrays.asList(3L, 1L), null));
+
+		// then
+		then(pathMatrixFinder).shouldHaveNoInteractions();
+		List<PathMatrixRowInfo> result = rows.collect(Collectors.toList());
+		assertThat(result).extracting(PathMatrixRowInfo::getSource).containsExactly(1L, 2L, 3L);
+		assertThat(result.get(1).getCells()).extracting(PathMatrixCellInfo::getTarget).containsExactly(3L, 1L);
+		assertThat(result.get(1).getCells()).extracting(PathMatrixCellInfo::getDistance).containsExactly(20L, null);
+		then(pathBatchExecutor).should(times(2)).mapInParallel(anyList(), any());
+	}
+
+	@Test
+	@DisplayName("경로 행렬 조회 실패 - 노선도에 없는 역이 있으면 행을 계산하기 전에 예외가 발생한다")
+	void findPathMatrix_Failure_UnknownStation() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
+
+		given(pathSearchConfigCollector.getMatrixMaxCells()).willReturn(100);
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findPathMatrix(new PathMatrixCommand(Arrays.asList(1L), Arrays.asList(2L, 99L), PathRequestType.DISTANCE)))
+			.isInstanceOf(PathNotValidException.class)
+			.hasMessageContaining("99");
+		then(pathMatrixFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("경로 행렬 조회 실패 - 칸 수가 설정한 최대 개수를 넘는 경우")
+	void findPathMatrix_Failure_TooManyCells() {
+		// given
+		given(pathSearchConfigCollector.getMatrixMaxCells()).willReturn(3);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findPathMatrix(new PathMatrixCommand(Arrays.asList(1L, 2L), Arrays.asList(1L, 2L), null)))
+			.isInstanceOf(PathNotValidException.class);
+	}
+
+	@Test
+	@DisplayName("경로 행렬 조회 실패 - 요금 기준은 최단 경로 트리로 채울 수 없으므로 소요 시간 행렬로 바꾸지 않고 거절한다")
+	void findPathMatrix_Failure_Fare() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findPathMatrix(new PathMatrixCommand(Arrays.asList(1L), Arrays.asList(2L), PathRequestType.FARE)))
+			.isInstanceOf(PathNotValidException.class);
+		then(networkSnapshotResolver).shouldHaveNoInteractions();
+		then(pathMatrixFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("경로 행렬 조회 실패 - 최소 환승 기준은 최단 경로 트리로 채울 수 없으므로 소요 시간 행렬로 바꾸지 않고 거절한다")
+	void findPathMatrix_Failure_MinTransfer() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findPathMatrix(new PathMatrixCommand(Arrays.asList(1L), Arrays.asList(2L), PathRequestType.MIN_TRANSFER)))
+			.isInstanceOf(PathNotValidException.class);
+		then(networkSnapshotResolver).shouldHaveNoInteractions();
+		then(pathMatrixFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 - 유형이 없으면 소요 시간 기준으로 찾고, 잘림 여부를 함께 돌려준다")
+	void findAlternativePaths_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station middleStation = new Station(3L, "MiddleStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(pathSearchConfigCollector.getAlternativesMaxCount()).willReturn(5);
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(alternativePathFinder.findAlternativePaths(1L, 2L, PathRequestType.DURATION, 2, snapshot)).willReturn(PathAlternatives.of(Arrays.asList(
+			Path.of(Arrays.asList(sourceStation, targetStation), Collections.emptyList(), 10L, 3L),
+			Path.of(Arrays.asList(sourceStation, middleStation, targetStation), Collections.emptyList(), 8L, 5L)), true));
+
+		// when
+		PathAlternativesInfo result = simplePathService.findAlternativePaths(1L, 2L, null, 2);
+
+		// then
+		assertThat(result.getPaths()).extracting(PathInfo::getDuration).containsExactly(3L, 5L);
+		assertThat(result.isTruncated()).isTrue();
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 실패 - 요청한 개수가 설정한 최대 개수를 넘는 경우")
+	void findAlternativePaths_Failure_TooManyRoutes() {
+		// given
+		given(pathSearchConfigCollector.getAlternativesMaxCount()).willReturn(5);
+
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(1L, 2L, PathRequestType.DISTANCE, 6))
+			.isInstanceOf(PathNotValidException.class);
+		then(alternativePathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 실패 - 요금 기준은 간선 가중치 합으로 순위를 매길 수 없으므로 거절한다")
+	void findAlternativePaths_Failure_Fare() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(1L, 2L, PathRequestType.FARE, 2))
+			.isInstanceOf(PathNotValidException.class);
+		then(alternativePathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("대안 경로 조회 실패 - 최소 환승 기준은 간선 가중치 합으로 순위를 매길 수 없으므로 거절한다")
+	void findAlternativePaths_Failure_MinTransfer() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findAlternativePaths(1L, 2L, PathRequestType.MIN_TRANSFER, 2))
+			.isInstanceOf(PathNotValidException.class);
+		then(alternativePathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("파레토 경로 조회 - 조회기가 찾은 경로를 순서대로 돌려준다")
+	void findParetoPaths_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station middleStation = new Station(3L, "MiddleStation");
+		Station targetStation = new Station(2L, "TargetStation");
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(paretoPathFinder.findParetoPaths(1L, 2L, snapshot)).willReturn(PathAlternatives.of(Arrays.asList(
+			Path.of(Arrays.asList(sourceStation, targetStation), Collections.emptyList(), 5L, 20L),
+			Path.of(Arrays.asList(sourceStation, middleStation, targetStation), Collections.emptyList(), 20L, 5L)), false));
+
+		// when
+		PathAlternativesInfo result = simplePathService.findParetoPaths(1L, 2L);
+
+		// then
+		assertThat(result.getPaths()).extracting(PathInfo::getDistance).containsExactly(5L, 20L);
+		assertThat(result.getPaths()).extracting(PathInfo::getDuration).containsExactly(20L, 5L);
+		assertThat(result.isTruncated()).isFalse();
+	}
+
+	@Test
+	@DisplayName("파레토 경로 조회 실패 - 출발역과 도착역이 같은 경우")
+	void findParetoPaths_Failure_SameStation() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findParetoPaths(1L, 1L))
+			.isInstanceOf(PathNotValidException.class);
+		then(paretoPathFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("도달 가능 역 조회 - 예산 유형이 없으면 소요 시간 기준으로 찾는다")
+	void findReachableStations_Success() {
+		// given
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+		Station station = new Station(2L, "Station2");
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(reachableStationFinder.findReachableStations(1L, ReachabilityBudgetType.DURATION, 30L, snapshot))
+			.willReturn(Arrays.asList(ReachableStation.of(station, 12L, 9L, 1350)));
+
+		// when
+		List<ReachableStationInfo> result = simplePathService.findReachableStations(1L, null, 30L);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getStation().getName()).isEqualTo("Station2");
+		assertThat(result.get(0).getDuration()).isEqualTo(9L);
+		assertThat(result.get(0).getFareAmount()).isEqualTo(1350);
+	}
+
+	@Test
+	@DisplayName("도달 가능 역 조회 실패 - 예산이 음수인 경우")
+	void findReachableStations_Failure_NegativeBudget() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findReachableStations(1L, ReachabilityBudgetType.FARE, -1L))
+			.isInstanceOf(PathNotValidException.class);
+		then(reachableStationFinder).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("여정 조회 성공 - 출발 시각부터 도착 시각까지 기다린 시간을 포함한 소요 시간과 편별 구간 시각을 돌려준다")
+	void findJourney_Success() {
+		// given
+		Station sourceStation = new Station(1L, "SourceStation");
+		Station transferStation = new Station(2L, "TransferStation");
+		Station targetStation = new Station(3L, "TargetStation");
+		Line firstLine = new Line(1L, "FirstLine", "bg-red-600", new Sections());
+		Line secondLine = new Line(2L, "SecondLine", "bg-blue-600", new Sections());
+		NetworkSnapshot snapshot = NetworkSnapshot.empty();
+		Path path = Path.of(Arrays.asList(sourceStation, transferStation, targetStation), Arrays.asList(firstLine, secondLine), 12L, 9L, Arrays.asList(
+			PathLeg.of(firstLine, Arrays.asList(sourceStation, transferStation), 5L, 4L),
+			PathLeg.of(secondLine, Arrays.asList(transferStation, targetStation), 7L, 5L)));
+		Journey journey = Journey.of(path, Arrays.asList(
+			JourneyLeg.of(firstLine, Arrays.asList(sourceStation, transferStation), 5L, LocalTime.of(23, 45), LocalTime.of(23, 49)),
+			JourneyLeg.of(secondLine, Arrays.asList(transferStation, targetStation), 7L, LocalTime.of(23, 55), LocalTime.of(0, 0))),
+			LocalTime.of(23, 40), LocalTime.of(0, 0), 20L);
+
+		given(networkSnapshotResolver.fetch()).willReturn(snapshot);
+		given(journeyPlanner.findJourney(1L, 3L, LocalTime.of(23, 40), snapshot)).willReturn(journey);
+
+		// when
+		JourneyInfo result = simplePathService.findJourney(1L, 3L, LocalTime.of(23, 40));
+
+		// then
+		assertThat(result.getDuration()).isEqualTo(20L);
+		assertThat(result.getArrivalTime()).isEqualTo(LocalTime.of(0, 0));
+		assertThat(result.getTransferCount()).isEqualTo(1);
+		assertThat(result.getPath().getDistance()).isEqualTo(12L);
+		assertThat(result.getLegs().get(1).getLine().getId()).isEqualTo(2L);
+		assertThat(result.getLegs().get(1).getDepartureTime()).isEqualTo(LocalTime.of(23, 55));
+	}
+
+	@Test
+	@DisplayName("여정 조회 실패 - 출발 시각이 없는 경우")
+	void findJourney_Failure_NoDepartureTime() {
+		// when & then
+		assertThatThrownBy(() -> simplePathService.findJourney(1L, 3L, null))
+			.isInstanceOf(PathNotValidException.class);
+		then(journeyPlanner).shouldHaveNoInteractions();
+	}
+
 	@Test
 	@DisplayName("출발역과 도착역이 동일할 때 최단 경로 조회 실패")
 	void findShortestPath_Failure_SameSourceAndTarget() {
@@ -0,0 +1,149 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static nextstep.fixture.SectionFixtureCreator.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+import nextstep.api.subway.util.LandmarkIndex;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+class AltPathFinderTest {
+
+	private static final int STATION_COUNT = 60;
+
+	@Mock
+	private PathSearchConfigCollector pathSearchConfigCollector;
+
+	private AltPathFinder altPathFinder;
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+
+	@BeforeEach
+	void setUp() {
+		altPathFinder = new AltPathFinder(new SimpleMeterRegistry(), pathSearchConfigCollector);
+	}
+
+	@Test
+	@DisplayName("ALT 최단 경로 조회: 무작위 노선망에서 거리/소요 시간 기준 모두 다익스트라와 같은 비용의 경로를 돌려준다")
+	void findShortestPathBySnapshot_sameCostAsDijkstra() {
+		// given
+		given(pathSearchConfigCollector.getLandmarkCount()).willReturn(4);
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(2026L), STATION_COUNT, 180);
+
+		// when & then
+		for (int source = 1; source <= STATION_COUNT; source += 3) {
+			for (int target = 2; target <= STATION_COUNT; target += 5) {
+				if (source == target) {
+					continue;
+				}
+				for (PathRequestType type : PathRequestType.values()) {
+					assertSameCost(snapshot, (long)source, (long)target, type);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("랜드마크 거리표는 스냅샷마다 한 번만 만들어진다")
+	void fetchLandmarkIndex_memoized() {
+		// given
+		given(pathSearchConfigCollector.getLandmarkCount()).willReturn(2);
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
+
+		// when
+		LandmarkIndex first = altPathFinder.fetchLandmarkIndex(snapshot);
+		altPathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.DISTANCE, snapshot);
+
+		// then
+		assertSame(first, altPathFinder.fetchLandmarkIndex(snapshot));
+		then(pathSearchConfigCollector).should(times(1)).getLandmarkCount();
+	}
+
+	@Test
+	@DisplayName("지연을 덧씌운 파생 스냅샷은 원본의 랜드마크 거리표를 빌려 쓰므로 개정이 바뀌어도 거리표를 다시 만들지 않고, 다익스트라와 같은 비용의 경로를 돌려준다")
+	void findShortestPathBySnapshot_overlaidReusesBaseLandmarks() {
+		// given
+		given(pathSearchConfigCollector.getLandmarkCount()).willReturn(4);
+		Random random = new Random(2026L);
+		NetworkSnapshot snapshot = createRandomSnapshot(random, STATION_COUNT, 180);
+		LandmarkIndex landmarkIndex = altPathFinder.fetchLandmarkIndex(snapshot);
+		SimpleDelayOverlayResolver delayOverlayResolver = new SimpleDelayOverlayResolver();
+
+		for (int revision = 0; revision < 2; revision++) {
+			// when
+			List<SectionDelay> delays = new ArrayList<>();
+			for (int edge = 0; edge < snapshot.edgeCount(); edge += 4) {
+				delays.add(SectionDelay.of(snapshot.stationAt(snapshot.edgeSource(edge)).getId(), snapshot.stationAt(snapshot.edgeTarget(edge)).getId(),
+					1 + random.nextInt(30), Long.MAX_VALUE));
+			}
+			delayOverlayResolver.update(delays);
+			NetworkSnapshot overlaid = delayOverlayResolver.applyTo(snapshot);
+
+			// then
+			assertTrue(overlaid.isOverlaid());
+			assertSame(landmarkIndex, altPathFinder.fetchLandmarkIndex(overlaid));
+			for (int source = 1; source <= STATION_COUNT; source += 3) {
+				for (int target = 2; target <= STATION_COUNT; target += 5) {
+					if (source != target) {
+						assertSameCost(overlaid, (long)source, (long)target, PathRequestType.DURATION);
+					}
+				}
+			}
+		}
+		then(pathSearchConfigCollector).should(times(1)).getLandmarkCount();
+	}
+
+	@Test
+	@DisplayName("ALT 최단 경로 조회: 연결되지 않은 경우 PathNotValidException 예외가 발생한다")
+	void findShortestPathBySnapshot_invalid() {
+		// given
+		given(pathSearchConfigCollector.getLandmarkCount()).willReturn(2);
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
+
+		// when & then
+		assertThrows(PathNotValidException.class, () -> altPathFinder.findShortestPathBySnapshot(2L, 1L, PathRequestType.DISTANCE, snapshot));
+	}
+
+	private void assertSameCost(NetworkSnapshot snapshot, Long source, Long target, PathRequestType type) {
+		Path expected;
+		try {
+			expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		} catch (PathNotValidException e) {
+			assertThrows(PathNotValidException.class, () -> altPathFinder.findShortestPathBySnapshot(source, target, type, snapshot));
+			return;
+		}
+
+		Path actual = altPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		assertEquals(expected.getStations(), actual.getStations());
+		assertEquals(expected.getDistance(), actual.getDistance());
+		assertEquals(expected.getDuration(), actual.getDuration());
+	}
+}
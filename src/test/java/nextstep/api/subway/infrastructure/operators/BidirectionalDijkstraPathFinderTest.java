@@ -0,0 +1,141 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static nextstep.fixture.SectionFixtureCreator.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class BidirectionalDijkstraPathFinderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BidirectionalDijkstraPathFinder bidirectionalDijkstraPathFinder = new BidirectionalDijkstraPathFinder(meterRegistry);
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(meterRegistry);
+
+	/**
+	 * Station1 --10--> Station2 --15--> Station3 --20--> Station4
+	 *                     |                               ^
+	 *                     5                               |
+	 *                     v                               |
+	 *                 Station5 -----------------------> 10
+	 */
+	@Test
+	@DisplayName("양방향 최단 경로 조회: 단방향 탐색과 같은 경로와 거리를 계산한다")
+	void findShortestPathBySnapshot() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+
+		// When
+		Path result = bidirectionalDijkstraPathFinder.findShortestPathBySnapshot(1L, 4L, PathRequestType.DISTANCE, snapshot);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station5, station4), result.getStations());
+		assertEquals(25, result.getDistance());
+	}
+
+	@Test
+	@DisplayName("양방향 최단 경로 조회: 무작위 노선망에서 거리/소요 시간 기준 모두 단방향 탐색과 같은 Path 를 돌려준다")
+	void findShortestPathBySnapshot_sameAsUnidirectional() {
+		// Given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(2026L), 60, 180);
+
+		// When & Then
+		for (int source = 1; source <= 60; source += 3) {
+			for (int target = 2; target <= 60; target += 5) {
+				if (source == target) {
+					continue;
+				}
+				for (PathRequestType type : PathRequestType.values()) {
+					assertSamePath(snapshot, (long)source, (long)target, type);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("양방향 최단 경로 조회: 긴 노선에서는 단방향 탐색보다 적은 역을 확정하고, 확정한 역의 수를 지표로 남긴다")
+	void findShortestPathBySnapshot_settledNodes() {
+		// Given
+		int size = 101;
+		Station[] stations = new Station[size];
+		for (int i = 0; i < size; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+		List<Section> sections = new ArrayList<>();
+		for (int i = 0; i < size - 1; i++) {
+			sections.add(createSectionWithIdRandom(stations[i], stations[i + 1], 1L));
+			for (int branch = 0; branch < 3; branch++) {
+				Station leaf = new Station((long)(1000 + i * 3 + branch), "Leaf" + i + "-" + branch);
+				sections.add(createSectionWithIdRandom(stations[i], leaf, 1L));
+			}
+		}
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(sections);
+
+		// When
+		bidirectionalDijkstraPathFinder.findShortestPathBySnapshot(1L, 101L, PathRequestType.DISTANCE, snapshot);
+		indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 101L, PathRequestType.DISTANCE, snapshot);
+
+		// Then
+		DistributionSummary bidirectional = meterRegistry.get(AbstractSnapshotPathFinder.SETTLED_NODES_METRIC).tag("engine", "bidirectional").summary();
+		DistributionSummary unidirectional = meterRegistry.get(AbstractSnapshotPathFinder.SETTLED_NODES_METRIC).tag("engine", "unidirectional").summary();
+		assertEquals(1, bidirectional.count());
+		assertTrue(bidirectional.totalAmount() < unidirectional.totalAmount());
+	}
+
+	@Test
+	@DisplayName("양방향 최단 경로 조회: 연결되지 않은 경우 PathNotValidException 예외가 발생한다")
+	void findShortestPathBySnapshot_invalid() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
+
+		// When & Then
+		assertThrows(PathNotValidException.class, () -> bidirectionalDijkstraPathFinder.findShortestPathBySnapshot(2L, 1L, PathRequestType.DISTANCE, snapshot));
+		assertThrows(PathNotValidException.class, () -> bidirectionalDijkstraPathFinder.findShortestPathBySnapshot(1L, 99L, PathRequestType.DISTANCE, snapshot));
+	}
+
+	private void assertSamePath(NetworkSnapshot snapshot, Long source, Long target, PathRequestType type) {
+		Path expected;
+		try {
+			expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		} catch (PathNotValidException e) {
+			assertThrows(PathNotValidException.class, () -> bidirectionalDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot));
+			return;
+		}
+
+		Path actual = bidirectionalDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		assertEquals(expected.getStations(), actual.getStations());
+		assertEquals(expected.getDistance(), actual.getDistance());
+		assertEquals(expected.getDuration(), actual.getDuration());
+	}
+}
@@ -0,0 +1,165 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static nextstep.fixture.SectionFixtureCreator.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.ContractionHierarchySet;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class ContractionHierarchyPathFinderTest {
+
+	private static final int STATION_COUNT = 60;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ContractionHierarchyPathFinder contractionHierarchyPathFinder = new ContractionHierarchyPathFinder(meterRegistry, new BidirectionalDijkstraPathFinder(meterRegistry));
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+	private final DijkstraBasedShortestPathFinder dijkstraBasedShortestPathFinder = new DijkstraBasedShortestPathFinder();
+
+	@Test
+	@DisplayName("축약 계층 최단 경로 조회: 지름길을 풀어 기존 다익스트라 탐색기와 같은 역 목록과 합계를 돌려준다")
+	void findShortestPathBySnapshot_sameAsLegacyFinder() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L)));
+
+		// when
+		Path expected = dijkstraBasedShortestPathFinder.findShortestPathBySnapshot(1L, 4L, PathRequestType.DISTANCE, snapshot);
+		Path actual = contractionHierarchyPathFinder.findShortestPathBySnapshot(1L, 4L, PathRequestType.DISTANCE, snapshot);
+
+		// then
+		assertEquals(Arrays.asList(station1, station2, station5, station4), actual.getStations());
+		assertEquals(expected.getStations(), actual.getStations());
+		assertEquals(expected.getDistance(), actual.getDistance());
+		assertEquals(expected.getDuration(), actual.getDuration());
+	}
+
+	@Test
+	@DisplayName("축약 계층 최단 경로 조회: 무작위 노선망에서 거리/소요 시간 기준 모두 다익스트라와 같은 합계의 경로를 돌려준다")
+	void findShortestPathBySnapshot_sameTotalsAsDijkstra() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(2026L), STATION_COUNT, 180);
+
+		// when & then
+		for (int source = 1; source <= STATION_COUNT; source += 3) {
+			for (int target = 2; target <= STATION_COUNT; target += 5) {
+				for (PathRequestType type : PathRequestType.values()) {
+					assertSameTotals(snapshot, (long)source, (long)target, type);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("지연을 덧씌운 파생 스냅샷에서는 축약 계층을 만들지 않고 양방향 다익스트라로 찾으므로, 개정이 바뀌어도 계층을 다시 만들지 않는다")
+	void findShortestPathBySnapshot_overlaidFallsBackWithoutRebuild() {
+		// given
+		Random random = new Random(2026L);
+		NetworkSnapshot snapshot = createRandomSnapshot(random, STATION_COUNT, 180);
+		contractionHierarchyPathFinder.fetchContractionHierarchies(snapshot);
+		AtomicInteger builds = new AtomicInteger();
+
+		for (long revision = 1L; revision <= 2L; revision++) {
+			int[] edgeDelays = new int[snapshot.edgeCount()];
+			for (int edge = 0; edge < edgeDelays.length; edge++) {
+				edgeDelays[edge] = random.nextInt(30);
+			}
+			NetworkSnapshot overlaid = snapshot.withEdgeDelays(edgeDelays, revision);
+
+			// when & then
+			for (int source = 1; source <= STATION_COUNT; source += 3) {
+				for (int target = 2; target <= STATION_COUNT; target += 5) {
+					assertSameTotals(overlaid, (long)source, (long)target, PathRequestType.DURATION);
+				}
+			}
+			overlaid.fetchIndex(ContractionHierarchySet.class, target -> {
+				builds.incrementAndGet();
+				return ContractionHierarchySet.build(target);
+			});
+		}
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	@DisplayName("축약 계층 최단 경로 조회: 여러 겹으로 겹친 지름길도 빠짐없이 풀어 전체 역 목록을 돌려준다")
+	void findShortestPathBySnapshot_unpackNestedShortcuts() {
+		// given
+		Station[] stations = new Station[200];
+		List<Section> sections = new ArrayList<>();
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+			if (i > 0) {
+				sections.add(new Section((long)i, stations[i - 1], stations[i], 3L, 2));
+			}
+		}
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(sections);
+
+		// when
+		Path path = contractionHierarchyPathFinder.findShortestPathBySnapshot(1L, 200L, PathRequestType.DURATION, snapshot);
+
+		// then
+		assertEquals(Arrays.asList(stations), path.getStations());
+		assertEquals(597L, path.getDistance());
+		assertEquals(398L, path.getDuration());
+	}
+
+	@Test
+	@DisplayName("축약 계층 최단 경로 조회: 연결되지 않은 경우 PathNotValidException 예외가 발생한다")
+	void findShortestPathBySnapshot_invalid() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
+
+		// when & then
+		assertThrows(PathNotValidException.class, () -> contractionHierarchyPathFinder.findShortestPathBySnapshot(2L, 1L, PathRequestType.DISTANCE, snapshot));
+	}
+
+	/**
+	 * 합계가 같은 경로가 여럿이면 엔진마다 다른 역 목록을 고를 수 있으므로, 역 목록은 양 끝만 비교한다.
+	 */
+	private void assertSameTotals(NetworkSnapshot snapshot, Long source, Long target, PathRequestType type) {
+		Path expected;
+		try {
+			expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		} catch (PathNotValidException e) {
+			assertThrows(PathNotValidException.class, () -> contractionHierarchyPathFinder.findShortestPathBySnapshot(source, target, type, snapshot));
+			return;
+		}
+
+		Path actual = contractionHierarchyPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		List<Station> stations = actual.getStations();
+		assertEquals(source, stations.get(0).getId());
+		assertEquals(target, stations.get(stations.size() - 1).getId());
+		assertEquals(expected.getDistance(), actual.getDistance());
+		assertEquals(expected.getDuration(), actual.getDuration());
+	}
+}
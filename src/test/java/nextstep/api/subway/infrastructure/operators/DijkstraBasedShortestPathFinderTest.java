@@ -13,8 +13,10 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jdk.jfr.Description;
+import nextstep.api.subway.common.type.PathRequestType;
 import nextstep.api.subway.domain.model.entity.Section;
 import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
 import nextstep.api.subway.domain.model.vo.Path;
 import nextstep.common.exception.subway.PathNotValidException;
 
@@ -162,9 +164,41 @@ class DijkstraBasedShortestPathFinderTest {
 		}, "두 역 사이에 경로가 존재하지 않으면 PathNotValidException 예외가 발생해야 한다.");
 	}
 
+	@Test
+	@DisplayName("스냅샷 기반 최단 경로 조회: JGraphT 그래프 없이 스냅샷 위에서 같은 최단 경로와 거리를 계산한다")
+	void findShortestPathBySnapshotTest() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 10L),
+			createSectionWithIdRandom(station2, station3, 15L),
+			createSectionWithIdRandom(station3, station4, 20L),
+			createSectionWithIdRandom(station2, station5, 5L),
+			createSectionWithIdRandom(station5, station4, 10L));
 
+		// When
+		Path result = dijkstraBasedShortestPathFinder.findShortestPathBySnapshot(1L, 4L, PathRequestType.DISTANCE, NetworkSnapshot.fromSections(sections));
 
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station5, station4), result.getStations());
+		assertEquals(25, result.getDistance());
+	}
 
+	@Test
+	@DisplayName("스냅샷 기반 최단 경로 조회: 스냅샷에 없는 역이거나 연결되지 않은 경우 PathNotValidException 예외가 발생한다")
+	void findShortestPathBySnapshotTest_invalid() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
 
+		// When & Then
+		assertThrows(PathNotValidException.class, () -> dijkstraBasedShortestPathFinder.findShortestPathBySnapshot(1L, 99L, PathRequestType.DISTANCE, snapshot));
+		assertThrows(PathNotValidException.class, () -> dijkstraBasedShortestPathFinder.findShortestPathBySnapshot(2L, 1L, PathRequestType.DISTANCE, snapshot));
+	}
 
 }
@@ -0,0 +1,151 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.SectionFixtureCreator.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.ClosureMask;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class IndexedHeapDijkstraPathFinderTest {
+
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+
+	/**
+	 * Station1 --5--> Station2 --10--> Station3 --3--> Station4 --4--> Station5
+	 *                     |                               ^
+	 *                     2                               |
+	 *                     v                               |
+	 *                Station6 --------------------------> 8
+	 */
+	@Test
+	@DisplayName("거리 기준 최단 경로 조회: JGraphT 기반 탐색기와 같은 경로와 거리를 계산한다")
+	void findShortestPathBySections() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Station station5 = new Station(5L, "Station5");
+		Station station6 = new Station(6L, "Station6");
+		List<Section> sections = Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 5L),
+			createSectionWithIdRandom(station2, station3, 10L),
+			createSectionWithIdRandom(station3, station4, 3L),
+			createSectionWithIdRandom(station4, station5, 4L),
+			createSectionWithIdRandom(station2, station6, 2L),
+			createSectionWithIdRandom(station6, station4, 8L),
+			createSectionWithIdRandom(station5, station6, 1L));
+
+		// When
+		Path result = indexedHeapDijkstraPathFinder.findShortestPathBySections(station1, station5, sections);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station6, station4, station5), result.getStations());
+		assertEquals(19, result.getDistance());
+	}
+
+	@Test
+	@DisplayName("소요 시간 기준 최단 경로 조회: 거리가 더 길어도 소요 시간이 짧은 경로를 선택한다")
+	void findShortestPathBySnapshot_duration() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(
+			new Section(1L, station1, station3, 5L, 30),
+			new Section(2L, station1, station2, 10L, 5),
+			new Section(3L, station2, station3, 10L, 5)));
+
+		// When
+		Path byDistance = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 3L, PathRequestType.DISTANCE, snapshot);
+		Path byDuration = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 3L, PathRequestType.DURATION, snapshot);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station3), byDistance.getStations());
+		assertEquals(Arrays.asList(station1, station2, station3), byDuration.getStations());
+		assertEquals(20, byDuration.getDistance());
+		assertEquals(10, byDuration.getDuration());
+	}
+
+	@Test
+	@DisplayName("작업 공간 재사용: 같은 스레드에서 크기가 다른 스냅샷을 연달아 탐색해도 이전 탐색의 상태가 남지 않는다")
+	void findShortestPathBySnapshot_reuseWorkspace() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		NetworkSnapshot small = NetworkSnapshot.fromSections(Arrays.asList(createSectionWithIdRandom(station1, station2, 10L)));
+
+		Station[] chain = new Station[200];
+		Section[] chainSections = new Section[chain.length - 1];
+		for (int i = 0; i < chain.length; i++) {
+			chain[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+		for (int i = 0; i < chainSections.length; i++) {
+			chainSections[i] = createSectionWithIdRandom(chain[i], chain[i + 1], 1L);
+		}
+		NetworkSnapshot large = NetworkSnapshot.fromSections(Arrays.asList(chainSections));
+
+		// When
+		Path first = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.DISTANCE, small);
+		Path second = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 200L, PathRequestType.DISTANCE, large);
+		Path third = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 2L, PathRequestType.DISTANCE, small);
+
+		// Then
+		assertEquals(10, first.getDistance());
+		assertEquals(199, second.getDistance());
+		assertEquals(200, second.getStations().size());
+		assertEquals(first.getStations(), third.getStations());
+		assertThrows(PathNotValidException.class, () -> indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(2L, 1L, PathRequestType.DISTANCE, small));
+		assertThrows(PathNotValidException.class, () -> indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, station3.getId(), PathRequestType.DISTANCE, small));
+	}
+
+	@Test
+	@DisplayName("폐쇄 마스크 반영: 닫힌 구간과 역을 건너뛰어 우회 경로를 찾고, 출발역이 닫혀 있거나 우회로가 없으면 예외가 발생한다")
+	void findShortestPathAvoiding() {
+		// Given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(
+			createSectionWithIdRandom(station1, station2, 1L),
+			createSectionWithIdRandom(station2, station4, 1L),
+			createSectionWithIdRandom(station1, station3, 5L),
+			createSectionWithIdRandom(station3, station4, 5L)));
+		ClosureMask sectionClosed = ClosureMask.builder(snapshot).closeSection(2L, 4L).build();
+		ClosureMask stationClosed = ClosureMask.builder(snapshot).closeStation(2L).build();
+		ClosureMask everythingClosed = sectionClosed.union(ClosureMask.builder(snapshot).closeStation(3L).build());
+
+		// When
+		Path open = indexedHeapDijkstraPathFinder.findShortestPathAvoiding(1L, 4L, PathRequestType.DISTANCE, snapshot, ClosureMask.NONE);
+		Path detourBySection = indexedHeapDijkstraPathFinder.findShortestPathAvoiding(1L, 4L, PathRequestType.DISTANCE, snapshot, sectionClosed);
+		Path detourByStation = indexedHeapDijkstraPathFinder.findShortestPathAvoiding(1L, 4L, PathRequestType.DISTANCE, snapshot, stationClosed);
+		Path afterClosure = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(1L, 4L, PathRequestType.DISTANCE, snapshot);
+
+		// Then
+		assertEquals(Arrays.asList(station1, station2, station4), open.getStations());
+		assertEquals(Arrays.asList(station1, station3, station4), detourBySection.getStations());
+		assertEquals(10, detourBySection.getDistance());
+		assertEquals(Arrays.asList(station1, station3, station4), detourByStation.getStations());
+		assertEquals(2, afterClosure.getDistance());
+		assertThrows(PathNotValidException.class, () -> indexedHeapDijkstraPathFinder.findShortestPathAvoiding(2L, 4L, PathRequestType.DISTANCE, snapshot, stationClosed));
+		assertThrows(PathNotValidException.class, () -> indexedHeapDijkstraPathFinder.findShortestPathAvoiding(1L, 4L, PathRequestType.DISTANCE, snapshot, everythingClosed));
+	}
+}
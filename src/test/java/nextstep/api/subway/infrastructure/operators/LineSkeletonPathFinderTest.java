@@ -0,0 +1,128 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.util.LineSkeleton;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class LineSkeletonPathFinderTest {
+
+	private static final int TRANSFER_STATION_COUNT = 12;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final LineSkeletonPathFinder lineSkeletonPathFinder = new LineSkeletonPathFinder(meterRegistry);
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(meterRegistry);
+
+	@Test
+	@DisplayName("무작위 노선망에서 거리/소요 시간 기준 모두 다익스트라와 같은 합계의 경로를 돌려주고, 골격 역만 확정하므로 확정한 역 수가 크게 줄어든다")
+	void findShortestPathBySnapshot_sameTotalsAsDijkstra() {
+		// given
+		Random random = new Random(24L);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), createRandomTransferLines(random, TRANSFER_STATION_COUNT, 8));
+
+		// when & then
+		for (PathRequestType type : List.of(PathRequestType.DISTANCE, PathRequestType.DURATION)) {
+			for (int sourceIndex = 0; sourceIndex < snapshot.stationCount(); sourceIndex++) {
+				for (int targetIndex = 0; targetIndex < snapshot.stationCount(); targetIndex++) {
+					Long source = snapshot.stationAt(sourceIndex).getId();
+					Long target = snapshot.stationAt(targetIndex).getId();
+					Path expected;
+					try {
+						expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+					} catch (PathNotValidException e) {
+						assertThatThrownBy(() -> lineSkeletonPathFinder.findShortestPathBySnapshot(source, target, type, snapshot))
+							.isInstanceOf(PathNotValidException.class);
+						continue;
+					}
+					Path actual = lineSkeletonPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+					assertThat(actual.getStations().get(0).getId()).isEqualTo(source);
+					assertThat(actual.getStations().get(actual.getStations().size() - 1).getId()).isEqualTo(target);
+					assertThat(actual.getDistance()).isEqualTo(expected.getDistance());
+					assertThat(actual.getDuration()).isEqualTo(expected.getDuration());
+				}
+			}
+		}
+		assertThat(lineSkeletonPathFinder.fetchLineSkeleton(snapshot).nodeCount()).isLessThan(snapshot.stationCount() / 4);
+		assertThat(settledNodes("skeleton")).isLessThan(settledNodes("unidirectional") / 5);
+	}
+
+	@Test
+	@DisplayName("환승역이 없는 순환선은 한 역을 골격 역으로 올려, 같은 run 에서 뒤쪽 역으로 가는 경로도 한 바퀴 돌아 찾는다")
+	void findShortestPathBySnapshot_detachedLoop() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(
+			new Section(1L, station1, station2, 1L, 1),
+			new Section(2L, station2, station3, 2L, 2),
+			new Section(3L, station3, station4, 3L, 3),
+			new Section(4L, station4, station1, 4L, 4)));
+
+		// when
+		LineSkeleton skeleton = lineSkeletonPathFinder.fetchLineSkeleton(snapshot);
+		Path backward = lineSkeletonPathFinder.findShortestPathBySnapshot(3L, 2L, PathRequestType.DISTANCE, snapshot);
+		Path forward = lineSkeletonPathFinder.findShortestPathBySnapshot(2L, 4L, PathRequestType.DISTANCE, snapshot);
+
+		// then
+		assertThat(skeleton.nodeCount()).isEqualTo(1);
+		assertThat(skeleton.runCount()).isEqualTo(1);
+		assertThat(backward.getStations()).containsExactly(station3, station4, station1, station2);
+		assertThat(backward.getDistance()).isEqualTo(8L);
+		assertThat(forward.getStations()).containsExactly(station2, station3, station4);
+		assertThat(forward.getDistance()).isEqualTo(5L);
+	}
+
+	@Test
+	@DisplayName("노선이 바뀌어도 들어오고 나가는 간선이 하나씩인 역은 사슬로 접고, 펼친 경로는 노선별 구간으로 나뉜다")
+	void fetchLineSkeleton_contractsThroughRunningChain() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Line firstLine = new Line(1L, "Line1", "bg-red-600", new Sections());
+		firstLine.addSection(new Section(1L, station1, station2, 3L, 3));
+		firstLine.addSection(new Section(2L, station2, station3, 4L, 4));
+		Line secondLine = new Line(2L, "Line2", "bg-blue-600", new Sections());
+		secondLine.addSection(new Section(3L, station3, station4, 5L, 5));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), List.of(firstLine, secondLine));
+
+		// when
+		LineSkeleton skeleton = lineSkeletonPathFinder.fetchLineSkeleton(snapshot);
+		Path path = lineSkeletonPathFinder.findShortestPathBySnapshot(1L, 4L, PathRequestType.DURATION, snapshot);
+
+		// then
+		assertThat(skeleton.nodeCount()).isEqualTo(2);
+		assertThat(skeleton.runCount()).isEqualTo(1);
+		assertThat(path.getStations()).containsExactly(station1, station2, station3, station4);
+		assertThat(path.getDuration()).isEqualTo(12L);
+		assertThat(path.getLegs()).hasSize(2);
+	}
+
+	private double settledNodes(String engine) {
+		return meterRegistry.get(AbstractSnapshotPathFinder.SETTLED_NODES_METRIC).tag("engine", engine).summary().totalAmount();
+	}
+}
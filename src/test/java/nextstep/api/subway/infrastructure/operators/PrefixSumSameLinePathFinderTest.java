@@ -0,0 +1,118 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+class PrefixSumSameLinePathFinderTest {
+
+	private static final int STATION_COUNT = 30;
+
+	@Mock
+	private PathSearchConfigCollector pathSearchConfigCollector;
+
+	private PrefixSumSameLinePathFinder sameLinePathFinder;
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+
+	@BeforeEach
+	void setUp() {
+		sameLinePathFinder = new PrefixSumSameLinePathFinder(new SimpleMeterRegistry(), pathSearchConfigCollector,
+			new AltPathFinder(new SimpleMeterRegistry(), pathSearchConfigCollector));
+	}
+
+	@Test
+	@DisplayName("무작위 노선망에서 같은 노선 경로로 답한 조회는 모두 다익스트라와 같은 역과 비용이고, 같은 노선 경로가 있는 조회 일부는 탐색 없이 답한다")
+	void findSameLinePath_sameCostAsDijkstra() {
+		// given
+		given(pathSearchConfigCollector.isSameLineFastPath()).willReturn(true);
+		given(pathSearchConfigCollector.getLandmarkCount()).willReturn(4);
+		Random random = new Random(23L);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), createRandomLines(random, STATION_COUNT, 12, 6));
+		int answered = 0;
+
+		// when & then
+		for (PathRequestType type : List.of(PathRequestType.DISTANCE, PathRequestType.DURATION)) {
+			for (long source = 1; source <= STATION_COUNT; source++) {
+				for (long target = 1; target <= STATION_COUNT; target++) {
+					if (source == target) {
+						continue;
+					}
+					Optional<Path> actual = sameLinePathFinder.findSameLinePath(source, target, type, snapshot);
+					if (actual.isEmpty()) {
+						continue;
+					}
+					answered++;
+					Path expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+					assertThat(actual.get().getStations()).isEqualTo(expected.getStations());
+					assertThat(actual.get().getDistance()).isEqualTo(expected.getDistance());
+					assertThat(actual.get().getDuration()).isEqualTo(expected.getDuration());
+					assertThat(actual.get().getLegs()).hasSize(1);
+				}
+			}
+		}
+		assertThat(answered).isGreaterThan(0);
+	}
+
+	@Test
+	@DisplayName("갈아타는 경로가 같은 노선 경로보다 싸거나, 지연을 덧씌운 스냅샷이거나, 노선이 반대 방향이거나, 설정을 껐으면 비워 두어 탐색 엔진에 맡긴다")
+	void findSameLinePath_defersToSearch() {
+		// given
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Line slowLine = createLine(1L, new Section(1L, station1, station2, 10L, 10), new Section(2L, station2, station3, 10L, 10));
+		Line firstLine = createLine(2L, new Section(3L, station1, station4, 1L, 1));
+		Line secondLine = createLine(3L, new Section(4L, station4, station3, 1L, 1));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), List.of(slowLine, firstLine, secondLine));
+		given(pathSearchConfigCollector.isSameLineFastPath()).willReturn(true, true, true, false);
+		given(pathSearchConfigCollector.getLandmarkCount()).willReturn(4);
+
+		// when
+		Optional<Path> transferCheaper = sameLinePathFinder.findSameLinePath(1L, 3L, PathRequestType.DISTANCE, snapshot);
+		Optional<Path> overlaid = sameLinePathFinder.findSameLinePath(1L, 2L, PathRequestType.DURATION, snapshot.withEdgeDelays(new int[snapshot.edgeCount()], 1L));
+		Optional<Path> reversed = sameLinePathFinder.findSameLinePath(3L, 1L, PathRequestType.DISTANCE, snapshot);
+		Optional<Path> disabled = sameLinePathFinder.findSameLinePath(1L, 2L, PathRequestType.DISTANCE, snapshot);
+
+		// then
+		assertThat(transferCheaper).isEmpty();
+		assertThat(overlaid).isEmpty();
+		assertThat(reversed).isEmpty();
+		assertThat(disabled).isEmpty();
+	}
+
+	private Line createLine(Long id, Section... sections) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		for (Section section : sections) {
+			line.addSection(section);
+		}
+		return line;
+	}
+}
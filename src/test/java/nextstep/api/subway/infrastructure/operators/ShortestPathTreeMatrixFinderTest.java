@@ -0,0 +1,70 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class ShortestPathTreeMatrixFinderTest {
+
+	private final ShortestPathTreeMatrixFinder shortestPathTreeMatrixFinder = new ShortestPathTreeMatrixFinder();
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("행렬의 한 행: 무작위 노선망에서 모든 도착역의 합계가 다익스트라 단건 조회와 같고, 도달할 수 없는 도착역은 null 이다")
+	void findPathSummaries_sameAsDijkstra() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(2026L), 50, 120);
+		List<Long> targets = new ArrayList<>();
+		for (long stationId = 1; stationId <= 50; stationId++) {
+			if (snapshot.indexOf(stationId) != NetworkSnapshot.NO_STATION) {
+				targets.add(stationId);
+			}
+		}
+
+		// when & then
+		for (PathRequestType type : PathRequestType.values()) {
+			for (int sourcePosition = 0; sourcePosition < targets.size(); sourcePosition += 4) {
+				Long source = targets.get(sourcePosition);
+				List<PathSummary> summaries = shortestPathTreeMatrixFinder.findPathSummaries(source, targets, type, snapshot);
+
+				assertThat(summaries).hasSize(targets.size());
+				for (int targetPosition = 0; targetPosition < targets.size(); targetPosition++) {
+					assertSameTotals(snapshot, source, targets.get(targetPosition), type, summaries.get(targetPosition));
+				}
+			}
+		}
+	}
+
+	private void assertSameTotals(NetworkSnapshot snapshot, Long source, Long target, PathRequestType type, PathSummary actual) {
+		if (source.equals(target)) {
+			assertThat(actual).isEqualTo(PathSummary.of(0L, 0L));
+			return;
+		}
+
+		Path expected;
+		try {
+			expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		} catch (PathNotValidException e) {
+			assertThat(actual).isNull();
+			return;
+		}
+		assertThat(actual).isEqualTo(PathSummary.of(expected.getDistance(), expected.getDuration()));
+	}
+}
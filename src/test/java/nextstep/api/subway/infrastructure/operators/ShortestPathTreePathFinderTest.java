@@ -0,0 +1,142 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.common.exception.subway.PathNotValidException;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+class ShortestPathTreePathFinderTest {
+
+	@Mock
+	private PathSearchConfigCollector pathSearchConfigCollector;
+
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("최단 경로 트리 조회: 무작위 노선망에서 거리/소요 시간 기준 모두 다익스트라와 같은 경로를 돌려준다")
+	void findShortestPathBySnapshot_sameAsDijkstra() {
+		// given
+		given(pathSearchConfigCollector.getTreeCacheMaximumBytes()).willReturn(1L << 20);
+		ShortestPathTreePathFinder shortestPathTreePathFinder = createFinder();
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(2026L), 60, 180);
+
+		// when & then
+		for (long source = 1; source <= 60; source += 3) {
+			for (long target = 2; target <= 60; target += 5) {
+				for (PathRequestType type : PathRequestType.values()) {
+					assertSamePath(shortestPathTreePathFinder, snapshot, source, target, type);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("같은 출발역, 같은 기준, 같은 네트워크 버전의 조회는 캐시된 트리로 답한다")
+	void fetch_hitForSameSourceAndVersion() {
+		// given
+		given(pathSearchConfigCollector.getTreeCacheMaximumBytes()).willReturn(1L << 20);
+		ShortestPathTreeCache shortestPathTreeCache = new ShortestPathTreeCache(new SimpleMeterRegistry(), pathSearchConfigCollector);
+		ShortestPathTreePathFinder shortestPathTreePathFinder = new ShortestPathTreePathFinder(new SimpleMeterRegistry(), shortestPathTreeCache);
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(1L), 20, 60);
+		NetworkSnapshot nextVersion = NetworkSnapshot.of(1L, Arrays.asList(snapshotStations(snapshot)), Collections.<Line>emptyList());
+
+		// when
+		findQuietly(shortestPathTreePathFinder, snapshot, 1L, 2L, PathRequestType.DISTANCE);
+		findQuietly(shortestPathTreePathFinder, snapshot, 1L, 3L, PathRequestType.DISTANCE);
+		findQuietly(shortestPathTreePathFinder, snapshot, 1L, 3L, PathRequestType.DURATION);
+		findQuietly(shortestPathTreePathFinder, nextVersion, 1L, 3L, PathRequestType.DISTANCE);
+
+		// then
+		assertEquals(1L, shortestPathTreeCache.stats().hitCount());
+		assertEquals(3L, shortestPathTreeCache.stats().missCount());
+	}
+
+	@Test
+	@DisplayName("캐시된 트리의 크기가 설정한 바이트 수를 넘으면 트리를 밀어낸다")
+	void fetch_evictsBySize() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(3L), 20, 60);
+		given(pathSearchConfigCollector.getTreeCacheMaximumBytes()).willReturn(snapshot.stationCount() * 28L * 2);
+		ShortestPathTreeCache shortestPathTreeCache = new ShortestPathTreeCache(new SimpleMeterRegistry(), pathSearchConfigCollector);
+
+		// when
+		for (int source = 0; source < snapshot.stationCount(); source++) {
+			shortestPathTreeCache.fetch(snapshot, source, PathRequestType.DISTANCE);
+		}
+
+		// then
+		assertTrue(shortestPathTreeCache.stats().evictionCount() >= snapshot.stationCount() - 2);
+	}
+
+	@Test
+	@DisplayName("최단 경로 트리 조회: 연결되지 않은 경우 PathNotValidException 예외가 발생한다")
+	void findShortestPathBySnapshot_invalid() {
+		// given
+		given(pathSearchConfigCollector.getTreeCacheMaximumBytes()).willReturn(1L << 20);
+		ShortestPathTreePathFinder shortestPathTreePathFinder = createFinder();
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		NetworkSnapshot snapshot = NetworkSnapshot.fromSections(Arrays.asList(new Section(1L, station1, station2, 10L, 10)));
+
+		// when & then
+		assertThrows(PathNotValidException.class, () -> shortestPathTreePathFinder.findShortestPathBySnapshot(2L, 1L, PathRequestType.DISTANCE, snapshot));
+	}
+
+	private ShortestPathTreePathFinder createFinder() {
+		return new ShortestPathTreePathFinder(new SimpleMeterRegistry(), new ShortestPathTreeCache(new SimpleMeterRegistry(), pathSearchConfigCollector));
+	}
+
+	private void assertSamePath(ShortestPathTreePathFinder shortestPathTreePathFinder, NetworkSnapshot snapshot, Long source, Long target, PathRequestType type) {
+		Path expected;
+		try {
+			expected = indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		} catch (PathNotValidException e) {
+			assertThrows(PathNotValidException.class, () -> shortestPathTreePathFinder.findShortestPathBySnapshot(source, target, type, snapshot));
+			return;
+		}
+
+		Path actual = shortestPathTreePathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		assertEquals(expected.getStations(), actual.getStations());
+		assertEquals(expected.getDistance(), actual.getDistance());
+		assertEquals(expected.getDuration(), actual.getDuration());
+	}
+
+	private void findQuietly(ShortestPathTreePathFinder shortestPathTreePathFinder, NetworkSnapshot snapshot, Long source, Long target, PathRequestType type) {
+		try {
+			shortestPathTreePathFinder.findShortestPathBySnapshot(source, target, type, snapshot);
+		} catch (PathNotValidException ignored) {
+		}
+	}
+
+	private Station[] snapshotStations(NetworkSnapshot snapshot) {
+		Station[] stations = new Station[snapshot.stationCount()];
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = snapshot.stationAt(i);
+		}
+		return stations;
+	}
+}
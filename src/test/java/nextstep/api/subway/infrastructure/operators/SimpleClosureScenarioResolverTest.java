@@ -0,0 +1,56 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.ClosureScenario;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.util.ClosureMask;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class SimpleClosureScenarioResolverTest {
+
+	private final SimpleClosureScenarioResolver simpleClosureScenarioResolver = new SimpleClosureScenarioResolver();
+
+	@Test
+	@DisplayName("같은 버전과 모양의 스냅샷이면 지연을 덧씌운 파생 스냅샷이어도 만들어 둔 마스크를 다시 쓰고, 버전이 바뀌면 새로 만든다")
+	void fetchMask_reusedPerSnapshotVersion() {
+		// given
+		simpleClosureScenarioResolver.save(ClosureScenario.of("middle-closed", List.of(2L), Collections.emptyList()));
+		NetworkSnapshot snapshot = createSnapshot(7L);
+		NetworkSnapshot overlaid = snapshot.withEdgeDelays(new int[snapshot.edgeCount()], 1L);
+
+		// when
+		ClosureMask first = simpleClosureScenarioResolver.fetchMask("middle-closed", snapshot).orElseThrow();
+		ClosureMask second = simpleClosureScenarioResolver.fetchMask("middle-closed", overlaid).orElseThrow();
+		ClosureMask rebuilt = simpleClosureScenarioResolver.fetchMask("middle-closed", createSnapshot(8L)).orElseThrow();
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(rebuilt).isNotSameAs(first);
+		assertThat(rebuilt.isStationClosed(snapshot.indexOf(2L))).isTrue();
+		assertThat(simpleClosureScenarioResolver.fetchMask("missing", snapshot)).isEmpty();
+	}
+
+	private NetworkSnapshot createSnapshot(long version) {
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Line line = new Line(1L, "Line1", "bg-red-600", new Sections());
+		line.addSection(new Section(1L, station1, station2, 5L, 4));
+		line.addSection(new Section(2L, station2, station3, 8L, 6));
+		return NetworkSnapshot.of(version, Collections.emptyList(), List.of(line));
+	}
+}
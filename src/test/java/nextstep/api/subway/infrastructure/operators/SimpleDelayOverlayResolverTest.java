@@ -0,0 +1,131 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.SectionDelay;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class SimpleDelayOverlayResolverTest {
+
+	private final AtomicLong now = new AtomicLong(1_000L);
+	private final SimpleDelayOverlayResolver simpleDelayOverlayResolver = new SimpleDelayOverlayResolver(now::get);
+
+	@Test
+	@DisplayName("지연이 없으면 원본 스냅샷을 그대로 돌려준다")
+	void applyTo_noDelay() {
+		// given
+		NetworkSnapshot snapshot = createSnapshot();
+
+		// when
+		NetworkSnapshot applied = simpleDelayOverlayResolver.applyTo(snapshot);
+
+		// then
+		assertThat(applied).isSameAs(snapshot);
+	}
+
+	@Test
+	@DisplayName("지연을 건 구간의 소요 시간만 늘어난 파생 스냅샷을 돌려주고, 같은 원본에는 같은 파생 스냅샷을 재사용한다")
+	void applyTo_delayedEdgeOnly() {
+		// given
+		NetworkSnapshot snapshot = createSnapshot();
+		simpleDelayOverlayResolver.update(List.of(SectionDelay.of(2L, 3L, 7, 5_000L)));
+
+		// when
+		NetworkSnapshot first = simpleDelayOverlayResolver.applyTo(snapshot);
+		NetworkSnapshot second = simpleDelayOverlayResolver.applyTo(snapshot);
+
+		// then
+		assertThat(first.isOverlaid()).isTrue();
+		assertThat(first.version()).isEqualTo(snapshot.version());
+		assertThat(second).isSameAs(first);
+		assertThat(first.edgeDuration(edgeOf(first, 1L, 2L))).isEqualTo(4);
+		assertThat(first.edgeDuration(edgeOf(first, 2L, 3L))).isEqualTo(6 + 7);
+		assertThat(first.edgeDistance(edgeOf(first, 2L, 3L))).isEqualTo(snapshot.edgeDistance(edgeOf(snapshot, 2L, 3L)));
+		assertThat(simpleDelayOverlayResolver.applyTo(first)).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("일괄 변경마다 개정 번호가 오르고, 같은 구간은 나중 값이 앞 값을 대신하며 0 분은 지연을 지운다")
+	void update_mergesBatches() {
+		// given
+		long firstRevision = simpleDelayOverlayResolver.update(List.of(SectionDelay.of(1L, 2L, 3, 5_000L), SectionDelay.of(2L, 3L, 4, 5_000L))).getRevision();
+
+		// when
+		long secondRevision = simpleDelayOverlayResolver.update(List.of(SectionDelay.of(1L, 2L, 0, 5_000L), SectionDelay.of(2L, 3L, 9, 5_000L))).getRevision();
+
+		// then
+		assertThat(secondRevision).isGreaterThan(firstRevision);
+		assertThat(simpleDelayOverlayResolver.fetch().getDelays()).containsExactly(SectionDelay.of(2L, 3L, 9, 5_000L));
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 지연은 다음 조회에서 저절로 사라지고 원본 스냅샷으로 돌아간다")
+	void applyTo_expires() {
+		// given
+		NetworkSnapshot snapshot = createSnapshot();
+		simpleDelayOverlayResolver.update(List.of(SectionDelay.of(2L, 3L, 7, 5_000L), SectionDelay.of(1L, 2L, 2, 9_000L)));
+		long revision = simpleDelayOverlayResolver.fetch().getRevision();
+
+		// when
+		now.set(5_000L);
+		NetworkSnapshot halfExpired = simpleDelayOverlayResolver.applyTo(snapshot);
+		now.set(9_000L);
+		NetworkSnapshot expired = simpleDelayOverlayResolver.applyTo(snapshot);
+
+		// then
+		assertThat(halfExpired.overlayRevision()).isGreaterThan(revision);
+		assertThat(halfExpired.edgeDuration(edgeOf(halfExpired, 2L, 3L))).isEqualTo(6);
+		assertThat(halfExpired.edgeDuration(edgeOf(halfExpired, 1L, 2L))).isEqualTo(4 + 2);
+		assertThat(expired).isSameAs(snapshot);
+		assertThat(simpleDelayOverlayResolver.fetch().isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("지연을 모두 지우면 원본 스냅샷으로 돌아간다")
+	void clear() {
+		// given
+		NetworkSnapshot snapshot = createSnapshot();
+		simpleDelayOverlayResolver.update(List.of(SectionDelay.of(2L, 3L, 7, 5_000L)));
+
+		// when
+		simpleDelayOverlayResolver.clear();
+
+		// then
+		assertThat(simpleDelayOverlayResolver.applyTo(snapshot)).isSameAs(snapshot);
+	}
+
+	private NetworkSnapshot createSnapshot() {
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Line line = new Line(1L, "Line1", "bg-red-600", new Sections());
+		line.addSection(new Section(1L, station1, station2, 5L, 4));
+		line.addSection(new Section(2L, station2, station3, 8L, 6));
+		return NetworkSnapshot.of(7L, Collections.emptyList(), List.of(line));
+	}
+
+	private int edgeOf(NetworkSnapshot snapshot, Long upStationId, Long downStationId) {
+		int source = snapshot.indexOf(upStationId);
+		for (int edge = snapshot.edgeBegin(source); edge < snapshot.edgeEnd(source); edge++) {
+			if (snapshot.stationAt(snapshot.edgeTarget(edge)).getId().equals(downStationId)) {
+				return edge;
+			}
+		}
+		throw new IllegalStateException("No edge from " + upStationId + " to " + downStationId);
+	}
+}
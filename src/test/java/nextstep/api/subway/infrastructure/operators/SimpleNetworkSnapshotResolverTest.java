@@ -0,0 +1,224 @@
+package nextstep.api.subway.infrastructure.operators;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathSearchStrategy;
+import nextstep.api.subway.domain.event.NetworkChangedEvent;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.operators.NetworkSnapshotFactory;
+import nextstep.api.subway.domain.operators.NetworkSnapshotPreprocessor;
+import nextstep.api.subway.util.LineSkeleton;
+import nextstep.common.yml.NetworkSnapshotConfigCollector;
+import nextstep.common.yml.PathSearchConfigCollector;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+@DisplayName(value = "런던파 스타일의 SimpleNetworkSnapshotResolver 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class SimpleNetworkSnapshotResolverTest {
+
+	private SimpleNetworkSnapshotResolver simpleNetworkSnapshotResolver;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Mock
+	private NetworkSnapshotFactory networkSnapshotFactory;
+
+	@Mock
+	private NetworkSnapshotConfigCollector networkSnapshotConfigCollector;
+
+	@Mock
+	private NetworkSnapshotPreprocessor networkSnapshotPreprocessor;
+
+	@Mock
+	private PathSearchConfigCollector pathSearchConfigCollector;
+
+	@BeforeEach
+	void setUp() {
+		given(pathSearchConfigCollector.getSearchStrategy()).willReturn(PathSearchStrategy.LINE_SKELETON);
+		simpleNetworkSnapshotResolver = createResolver();
+	}
+
+	@AfterEach
+	void tearDown() {
+		simpleNetworkSnapshotResolver.shutdown();
+	}
+
+	@Test
+	@DisplayName("스냅샷은 최초 조회 시 한 번만 만들어지고 이후에는 재사용된다")
+	void fetch_reusesSnapshot() {
+		// given
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> emptySnapshot(invocation.getArgument(0)));
+
+		// when
+		NetworkSnapshot first = simpleNetworkSnapshotResolver.fetch();
+		NetworkSnapshot second = simpleNetworkSnapshotResolver.fetch();
+
+		// then
+		assertThat(second).isSameAs(first);
+		then(networkSnapshotFactory).should(times(1)).createSnapshot(0L);
+		then(networkSnapshotPreprocessor).should(times(1)).preprocess(first);
+	}
+
+	@Test
+	@DisplayName("지연 시간이 0이면 변경 이벤트를 받은 즉시 새 버전의 스냅샷으로 교체된다")
+	void onNetworkChanged_rebuildImmediately() {
+		// given
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> emptySnapshot(invocation.getArgument(0)));
+		given(networkSnapshotConfigCollector.getRebuildDelayMillis()).willReturn(0L);
+		simpleNetworkSnapshotResolver.fetch();
+
+		// when
+		simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("test"));
+
+		// then
+		assertThat(simpleNetworkSnapshotResolver.fetchNetworkVersion()).isEqualTo(1L);
+		assertThat(simpleNetworkSnapshotResolver.fetch().version()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("골격망 탐색을 쓰면 조립 단계에서 골격망을 만들어 스냅샷에 붙이고, 교체한 스냅샷 기준의 압축 비율을 조립마다 지표로 남긴다")
+	void fetch_compactsSnapshotOnBuild() {
+		// given
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> chainSnapshot(invocation.getArgument(0)));
+		given(networkSnapshotConfigCollector.getRebuildDelayMillis()).willReturn(0L);
+
+		// when
+		NetworkSnapshot initial = simpleNetworkSnapshotResolver.fetch();
+
+		// then
+		assertThat(initial.fetchIndex(LineSkeleton.class, target -> {
+			throw new IllegalStateException("skeleton must be built with the snapshot");
+		}).nodeCount()).isEqualTo(2);
+		assertThat(compactionRatio("stations")).isEqualTo(0.5);
+		assertThat(compactionRatio("edges")).isEqualTo(1.0 / 3);
+
+		// when
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> emptySnapshot(invocation.getArgument(0)));
+		simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("emptied"));
+
+		// then
+		assertThat(simpleNetworkSnapshotResolver.fetch().version()).isEqualTo(1L);
+		assertThat(compactionRatio("stations")).isEqualTo(1.0);
+		assertThat(compactionRatio("edges")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("골격망을 읽는 엔진이 설정되지 않았으면 골격망을 만들지 않고 압축 비율 지표도 등록하지 않는다")
+	void fetch_skipsCompactionForOtherStrategies() {
+		// given
+		simpleNetworkSnapshotResolver.shutdown();
+		meterRegistry.clear();
+		given(pathSearchConfigCollector.getSearchStrategy()).willReturn(PathSearchStrategy.BIDIRECTIONAL_DIJKSTRA);
+		simpleNetworkSnapshotResolver = createResolver();
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> chainSnapshot(invocation.getArgument(0)));
+
+		// when
+		NetworkSnapshot snapshot = simpleNetworkSnapshotResolver.fetch();
+
+		// then
+		assertThat(snapshot.fetchIndex(LineSkeleton.class, target -> null)).isNull();
+		assertThat(meterRegistry.find(SimpleNetworkSnapshotResolver.COMPACTION_RATIO_METRIC).gauge()).isNull();
+	}
+
+	@Test
+	@DisplayName("재조립에 실패하면 예외를 밖으로 던지지 않고 직전 스냅샷과 그 버전을 유지하며, 다음 변경에서 다시 조립한다")
+	void onNetworkChanged_keepsVersionOnFailure() {
+		// given
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> {
+			long version = invocation.getArgument(0);
+			if (version == 1L) {
+				throw new IllegalStateException("rebuild failed");
+			}
+			return emptySnapshot(version);
+		});
+		given(networkSnapshotConfigCollector.getRebuildDelayMillis()).willReturn(0L);
+		NetworkSnapshot initial = simpleNetworkSnapshotResolver.fetch();
+
+		// when & then
+		assertThatCode(() -> simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("failing"))).doesNotThrowAnyException();
+		assertThat(simpleNetworkSnapshotResolver.fetchNetworkVersion()).isEqualTo(0L);
+		assertThat(simpleNetworkSnapshotResolver.fetch()).isSameAs(initial);
+
+		// when & then
+		simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("recovering"));
+		assertThat(simpleNetworkSnapshotResolver.fetchNetworkVersion()).isEqualTo(2L);
+		assertThat(simpleNetworkSnapshotResolver.fetch().version()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("지연 시간 안에 연달아 들어온 변경은 한 번의 재조립으로 합쳐지고, 그동안 조회는 직전 스냅샷을 사용한다")
+	void onNetworkChanged_coalesceBurst() throws InterruptedException {
+		// given
+		given(networkSnapshotFactory.createSnapshot(anyLong())).willAnswer(invocation -> emptySnapshot(invocation.getArgument(0)));
+		given(networkSnapshotConfigCollector.getRebuildDelayMillis()).willReturn(100L);
+		NetworkSnapshot initial = simpleNetworkSnapshotResolver.fetch();
+
+		// when
+		simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("first"));
+		simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("second"));
+		simpleNetworkSnapshotResolver.onNetworkChanged(NetworkChangedEvent.of("third"));
+
+		// then
+		assertThat(simpleNetworkSnapshotResolver.fetch()).isSameAs(initial);
+		assertThat(awaitSnapshotVersion(3L)).isEqualTo(3L);
+		then(networkSnapshotFactory).should(never()).createSnapshot(1L);
+		then(networkSnapshotFactory).should(never()).createSnapshot(2L);
+	}
+
+	private long awaitSnapshotVersion(long expectedVersion) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 2000;
+		while (simpleNetworkSnapshotResolver.fetch().version() < expectedVersion && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		return simpleNetworkSnapshotResolver.fetch().version();
+	}
+
+	private SimpleNetworkSnapshotResolver createResolver() {
+		return new SimpleNetworkSnapshotResolver(networkSnapshotFactory, networkSnapshotConfigCollector, Collections.singletonList(networkSnapshotPreprocessor),
+			pathSearchConfigCollector, meterRegistry);
+	}
+
+	private double compactionRatio(String element) {
+		return meterRegistry.get(SimpleNetworkSnapshotResolver.COMPACTION_RATIO_METRIC).tag("element", element).gauge().value();
+	}
+
+	/**
+	 * 1 - 2 - 3 은 1호선, 3 - 4 는 2호선으로 이어진 한 줄이므로 골격 역은 양 끝 둘, run 은 하나다.
+	 */
+	private NetworkSnapshot chainSnapshot(long version) {
+		Station station1 = new Station(1L, "Station1");
+		Station station2 = new Station(2L, "Station2");
+		Station station3 = new Station(3L, "Station3");
+		Station station4 = new Station(4L, "Station4");
+		Line firstLine = new Line(1L, "Line1", "bg-red-600", new Sections());
+		firstLine.addSection(new Section(1L, station1, station2, 3L, 3));
+		firstLine.addSection(new Section(2L, station2, station3, 4L, 4));
+		Line secondLine = new Line(2L, "Line2", "bg-blue-600", new Sections());
+		secondLine.addSection(new Section(3L, station3, station4, 5L, 5));
+		return NetworkSnapshot.of(version, Collections.emptyList(), List.of(firstLine, secondLine));
+	}
+
+	private NetworkSnapshot emptySnapshot(long version) {
+		return NetworkSnapshot.of(version, Collections.emptyList(), Collections.emptyList());
+	}
+}
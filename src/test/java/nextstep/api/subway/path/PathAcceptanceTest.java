@@ -1,17 +1,33 @@
 package nextstep.api.subway.path;
 
 import static nextstep.fixture.SubwayScenarioFixtureCreator.*;
+import static nextstep.utils.resthelper.ClosureRequestExecutor.*;
+import static nextstep.utils.resthelper.DelayRequestExecutor.*;
 import static nextstep.utils.resthelper.ExtractableResponseParser.*;
 import static nextstep.utils.resthelper.PathRequestExecutor.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.api.CommonAcceptanceTest;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.interfaces.dto.request.ClosedSectionRequest;
+import nextstep.api.subway.interfaces.dto.request.ClosureScenarioRequest;
+import nextstep.api.subway.interfaces.dto.request.DelayUpdateRequest;
+import nextstep.api.subway.interfaces.dto.request.PathBatchRequest;
+import nextstep.api.subway.interfaces.dto.request.PathMatrixRequest;
+import nextstep.api.subway.interfaces.dto.request.PathQueryRequest;
+import nextstep.api.subway.interfaces.dto.request.SectionDelayRequest;
 
 /**
  * @author : Rene Choi
@@ -61,6 +77,285 @@ public class PathAcceptanceTest extends CommonAcceptanceTest {
 		assertThat(parseDuration(findPathResponse)).isEqualTo(5);
 	}
 
+	/**
+	 * 구간 지연 반영
+	 * - given 교대역에서 양재역까지 소요 시간 기준 최단 경로가 3호선(남부터미널역 경유)인 노선도에서
+	 * - when 남부터미널역 -> 양재역 구간에 30분 지연을 걸면
+	 * - then 소요 시간 기준은 2호선과 신분당선으로 갈아타는 경로로 바뀌고, 거리 기준은 그대로이며, 지연을 지우면 원래 경로로 돌아온다
+	 */
+	@Test
+	@DisplayName("구간 지연 반영: 관리자 API 로 건 지연이 DB 변경 없이 소요 시간 기준 경로에만 반영되고, 지우면 원래 경로로 돌아오는지 검증")
+	void findPath_withSectionDelay() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+		executeFindPathRequest(stationId1, stationId3, "DURATION");
+
+		// when
+		ExtractableResponse<Response> updateResponse = executeUpdateDelaysRequest(new DelayUpdateRequest(List.of(new SectionDelayRequest(stationId4, stationId3, 30, 600L))));
+		ExtractableResponse<Response> delayedResponse = executeFindPathRequest(stationId1, stationId3, "DURATION");
+		ExtractableResponse<Response> distanceResponse = executeFindPathRequest(stationId1, stationId3, "DISTANCE");
+		ExtractableResponse<Response> invalidResponse = executeUpdateDelaysRequest(new DelayUpdateRequest(List.of(new SectionDelayRequest(stationId3, stationId1, 5, null))));
+		executeClearDelaysRequest();
+		ExtractableResponse<Response> clearedResponse = executeFindPathRequest(stationId1, stationId3, "DURATION");
+
+		// then
+		assertThat(updateResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(updateResponse.jsonPath().getList("delays.delayMinutes", Integer.class)).containsExactly(30);
+
+		assertThat(parseStations(delayedResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseDuration(delayedResponse)).isEqualTo(30);
+		assertThat(parseStations(distanceResponse)).extracting("name").containsExactly("교대역", "남부터미널역", "양재역");
+
+		assertThat(invalidResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(executeGetDelaysRequest().jsonPath().getList("delays")).isEmpty();
+		assertThat(parseStations(clearedResponse)).extracting("name").containsExactly("교대역", "남부터미널역", "양재역");
+		assertThat(parseDuration(clearedResponse)).isEqualTo(5);
+	}
+
+	/**
+	 * 가상 폐쇄 시나리오 경로 조회
+	 * - given 교대역에서 남부터미널역을 거쳐 양재역으로 가는 길이 가장 짧은 노선도에 남부터미널역을 닫는 시나리오와 남부터미널역-양재역 구간을 닫는 시나리오를 저장하고
+	 * - when 시나리오를 골라 경로를 조회하면
+	 * - then 닫힌 역과 구간을 피해 돌아가는 경로를 리턴하고, 시나리오 없이 조회하면 원래 경로를, 없는 시나리오를 고르면 400 을 리턴한다
+	 */
+	@Test
+	@DisplayName("가상 폐쇄 시나리오: 노선도를 바꾸지 않고 시나리오에서 닫은 역과 구간만 피해 경로를 찾는지 검증")
+	void findPath_withClosureScenario() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		// when
+		ExtractableResponse<Response> saveResponse = executeSaveClosureRequest("terminal-closed", new ClosureScenarioRequest(List.of(stationId4), null));
+		executeSaveClosureRequest("section-closed", new ClosureScenarioRequest(null, List.of(new ClosedSectionRequest(stationId3, stationId4))));
+		ExtractableResponse<Response> invalidSaveResponse = executeSaveClosureRequest("broken", new ClosureScenarioRequest(null, List.of(new ClosedSectionRequest(stationId1, stationId3))));
+		ExtractableResponse<Response> stationClosedResponse = executeFindPathWithClosureRequest(stationId1, stationId3, "DISTANCE", "terminal-closed");
+		ExtractableResponse<Response> sectionClosedResponse = executeFindPathWithClosureRequest(stationId1, stationId3, "DURATION", "section-closed");
+		ExtractableResponse<Response> openResponse = executeFindPathRequest(stationId1, stationId3, "DISTANCE");
+		ExtractableResponse<Response> unknownResponse = executeFindPathWithClosureRequest(stationId1, stationId3, "DISTANCE", "unknown");
+		executeDeleteClosureRequest("terminal-closed");
+
+		// then
+		assertThat(saveResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(saveResponse.jsonPath().getList("stationIds", Long.class)).containsExactly(stationId4);
+		assertThat(invalidSaveResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+
+		assertThat(parseStations(stationClosedResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseStations(sectionClosedResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseDuration(sectionClosedResponse)).isEqualTo(30);
+		assertThat(parseStations(openResponse)).extracting("name").containsExactly("교대역", "남부터미널역", "양재역");
+		assertThat(unknownResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(executeGetClosuresRequest().jsonPath().getList("name", String.class)).containsExactly("section-closed");
+	}
+
+	/**
+	 * 요청별 제약 경로 조회
+	 * - given 교대역에서 남부터미널역을 거쳐 양재역으로 가는 3호선 길이 가장 짧고, 남부터미널역을 피하면 강남역에서 한 번 갈아타야 하는 노선도에서
+	 * - when 피할 노선, 피할 역, 최대 환승 횟수를 주고 경로를 조회하면
+	 * - then 피할 노선과 역을 지나지 않는 경로를 리턴하고, 환승 상한 안에 갈 수 있는 경로가 없으면 400 을 리턴한다
+	 */
+	@Test
+	@DisplayName("요청별 제약: 피할 노선과 역, 최대 환승 횟수를 지키는 경로를 찾는지 검증")
+	void findPath_withConstraints() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		// when
+		ExtractableResponse<Response> avoidLineResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DISTANCE", Map.of("avoidLines", lineId2));
+		ExtractableResponse<Response> avoidStationResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DURATION", Map.of("avoidStations", stationId4));
+		ExtractableResponse<Response> oneTransferResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DISTANCE", Map.of("avoidStations", stationId4, "maxTransfers", 1));
+		ExtractableResponse<Response> noTransferResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DISTANCE", Map.of("avoidStations", stationId4, "maxTransfers", 0));
+		ExtractableResponse<Response> avoidSourceResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DISTANCE", Map.of("avoidStations", stationId1));
+
+		// then
+		assertThat(parseStations(avoidLineResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseStations(avoidStationResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseDuration(avoidStationResponse)).isEqualTo(30);
+		assertThat(parseStations(oneTransferResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(noTransferResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(avoidSourceResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	/**
+	 * 경유역 경로 조회
+	 * - given 교대역에서 양재역까지 3호선(남부터미널역 경유)이 가장 짧고, 신분당선이 양재역에서 판교역까지 이어지는 노선도에서
+	 * - when 강남역을 거쳐 양재역으로 가는 경로와, 양재역과 강남역을 순서 최적화로 거쳐 판교역으로 가는 경로를 조회하면
+	 * - then 경유역을 지나는 경로 하나와 합계, 전체 경로 기준의 요금 하나를 리턴하고, 순서를 바꿔야 갈 수 있는 경유역은 최적화한 순서로 들른다
+	 */
+	@Test
+	@DisplayName("경유역 경로 조회: 경유역을 차례로 들르는 경로 하나와 전체 경로 기준 요금을 반환하고, 순서 최적화를 요청하면 갈 수 있는 순서로 들르는지 검증")
+	void findPath_via() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+		long stationId5 = createStation("판교역");
+
+		long lineId1 = createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+		long lineId3 = createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+		createSectionWithDuration(lineId3, stationId3, stationId5, 8L, 8);
+
+		// when
+		ExtractableResponse<Response> viaResponse = executeFindPathViaRequest(stationId1, stationId3, "DISTANCE", List.of(stationId2), false);
+		ExtractableResponse<Response> sameRouteResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DISTANCE", Map.of("avoidLines", lineId2));
+		ExtractableResponse<Response> unorderedResponse = executeFindPathViaRequest(stationId1, stationId5, "DISTANCE", List.of(stationId3, stationId2), false);
+		ExtractableResponse<Response> optimizedResponse = executeFindPathViaRequest(stationId1, stationId5, "DISTANCE", List.of(stationId3, stationId2), true);
+		ExtractableResponse<Response> withConstraintResponse = executeFindConstrainedPathRequest(stationId1, stationId3, "DISTANCE", Map.of("via", stationId2, "avoidLines", lineId1));
+
+		// then
+		assertThat(parseStations(viaResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseDistance(viaResponse)).isEqualTo(20);
+		assertThat(parseDuration(viaResponse)).isEqualTo(30);
+		assertThat(viaResponse.jsonPath().getInt("fareAmount")).isEqualTo(sameRouteResponse.jsonPath().getInt("fareAmount"));
+		assertThat(unorderedResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(parseStations(optimizedResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역", "판교역");
+		assertThat(parseDistance(optimizedResponse)).isEqualTo(28);
+		assertThat(withConstraintResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	/**
+	 * 최소 요금 경로 조회
+	 * - given 교대역에서 양재역까지 신분당선으로 바로 가면 가장 짧지만 추가 요금이 가장 비싼 노선도에서
+	 * - when 요금 기준으로 경로를 조회하면
+	 * - then 조금 더 멀어도 추가 요금이 싼 2호선 경로를 리턴한다
+	 */
+	@Test
+	@DisplayName("최소 요금 경로 조회: 최단 거리 경로보다 노선 추가 요금이 싼 경로가 있으면 그 경로와 요금을 반환하는지 검증")
+	void findMinimumFarePath_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		long lineId1 = createLineWithDuration("2호선", stationId1, stationId2, 5L, 5);
+		createSectionWithDuration(lineId1, stationId2, stationId3, 5L, 5);
+
+		createLineWithDuration("3호선", stationId1, stationId4, 2L, 2);
+
+		createLineWithDuration("신분당선", stationId1, stationId3, 8L, 4);
+
+		// when
+		ExtractableResponse<Response> fareResponse = executeFindPathRequest(stationId1, stationId3, "FARE");
+		ExtractableResponse<Response> distanceResponse = executeFindPathRequest(stationId1, stationId3, "DISTANCE");
+
+		// then
+		assertThat(fareResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(parseStations(fareResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(parseDistance(fareResponse)).isEqualTo(10);
+		assertThat(fareResponse.jsonPath().getInt("fareAmount")).isEqualTo(1450);
+		assertThat(parseDistance(distanceResponse)).isEqualTo(8);
+		assertThat(distanceResponse.jsonPath().getInt("fareAmount")).isEqualTo(2150);
+	}
+
+	/**
+	 * 최소 환승 경로 조회
+	 * - given 교대역에서 양재역까지 2호선과 신분당선을 갈아타면 가장 빠르고, 3호선으로는 갈아타지 않고 갈 수 있는 노선도에서
+	 * - when 최소 환승 기준으로 경로를 조회하면
+	 * - then 더 오래 걸려도 3호선 하나로 가는 경로와 그 노선 구간을 리턴한다
+	 */
+	@Test
+	@DisplayName("최소 환승 경로 조회: 환승이 없는 경로를 고르고, 노선별 구간과 환승 횟수를 함께 반환하는지 검증")
+	void findMinimumTransferPath_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 2L, 2);
+		createLineWithDuration("신분당선", stationId2, stationId3, 2L, 2);
+
+		long lineId3 = createLineWithDuration("3호선", stationId1, stationId4, 5L, 5);
+		createSectionWithDuration(lineId3, stationId4, stationId3, 5L, 5);
+
+		// when
+		ExtractableResponse<Response> transferResponse = executeFindPathRequest(stationId1, stationId3, "MIN_TRANSFER");
+		ExtractableResponse<Response> durationResponse = executeFindPathRequest(stationId1, stationId3, "DURATION");
+
+		// then
+		assertThat(transferResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(parseStations(transferResponse)).extracting("name").containsExactly("교대역", "남부터미널역", "양재역");
+		assertThat(transferResponse.jsonPath().getInt("transferCount")).isEqualTo(0);
+		assertThat(transferResponse.jsonPath().getList("legs.line.name", String.class)).containsExactly("3호선");
+		assertThat(transferResponse.jsonPath().getList("legs[0].stations.name", String.class)).containsExactly("교대역", "남부터미널역", "양재역");
+
+		assertThat(parseStations(durationResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(durationResponse.jsonPath().getInt("transferCount")).isEqualTo(1);
+		assertThat(durationResponse.jsonPath().getList("legs.line.name", String.class)).containsExactly("2호선", "신분당선");
+	}
+
+	/**
+	 * 출발 시각 기반 여정 조회
+	 * - given 시각표가 있는 2호선(교대-강남), 신분당선(강남-양재)과 시각표가 없는 3호선(교대-양재)이 있을 때
+	 * - when 23:41 에 교대역에서 양재역까지 여정을 조회하면
+	 * - then 시각표가 있는 노선만 타고, 갈아탈 최소 시간(2분)을 지켜 자정을 넘겨 도착하는 여정을 돌려준다
+	 * - when 막차가 떠난 뒤에 조회하면
+	 * - then 여정이 없다는 오류를 돌려준다
+	 */
+	@Test
+	@DisplayName("출발 시각 기반 여정 조회: 시각표를 따라 갈아타며 자정을 넘겨 도착하는 여정을 반환하고, 막차 이후에는 실패하는지 검증")
+	void findJourney_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+
+		long lineId1 = createLineWithDuration("2호선", stationId1, stationId2, 10L, 4);
+		long lineId2 = createLineWithDuration("신분당선", stationId2, stationId3, 10L, 3);
+		createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		updateTimetable(lineId1, "05:30", "00:30", 10);
+		updateTimetable(lineId2, "05:35", "00:35", 10);
+
+		// when
+		ExtractableResponse<Response> journeyResponse = executeFindJourneyRequest(stationId1, stationId3, "23:41");
+		ExtractableResponse<Response> missedResponse = executeFindJourneyRequest(stationId1, stationId3, "00:31");
+
+		// then
+		assertThat(journeyResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(parseStations(journeyResponse)).extracting("name").containsExactly("교대역", "강남역", "양재역");
+		assertThat(journeyResponse.jsonPath().getList("legs.line.name", String.class)).containsExactly("2호선", "신분당선");
+		assertThat(journeyResponse.jsonPath().getList("legs.departureTime", String.class)).containsExactly("23:50", "00:05");
+		assertThat(journeyResponse.jsonPath().getString("arrivalTime")).isEqualTo("00:08");
+		assertThat(journeyResponse.jsonPath().getLong("duration")).isEqualTo(27L);
+		assertThat(journeyResponse.jsonPath().getInt("transferCount")).isEqualTo(1);
+
+		assertThat(missedResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
 	/**
 	 * 최단 경로 조회 - 성공 케이스 2
 	 * - given 지하철 역, 노선이 복잡하게 교차되어 여러 경로가 존재할 때
@@ -113,6 +408,237 @@ public class PathAcceptanceTest extends CommonAcceptanceTest {
 		assertThat(parseDuration(findPathResponse)).isEqualTo(10);
 	}
 
+	/**
+	 * 경로 합계 조회 - 성공 케이스
+	 * - given 성공 케이스 1 과 같은 노선도에서
+	 * - when 두 개의 역에 대한 경로 합계 조회 요청에 대해
+	 * - then 역 목록 없이 최단 경로의 거리와 소요 시간을 리턴한다
+	 */
+	@Test
+	@DisplayName("교대역에서 양재역까지의 경로 합계 조회: 최단 경로 조회와 같은 거리와 소요 시간이 반환되는지 검증")
+	void findPathSummary_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		// when
+		ExtractableResponse<Response> findPathSummaryResponse = executeFindPathSummaryRequest(stationId1, stationId3, "DISTANCE");
+
+		// then
+		assertThat(findPathSummaryResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(findPathSummaryResponse.jsonPath().getLong("distance")).isEqualTo(5);
+		assertThat(findPathSummaryResponse.jsonPath().getLong("duration")).isEqualTo(5);
+		assertThat(findPathSummaryResponse.jsonPath().getList("stations")).isNull();
+	}
+
+	/**
+	 * 일괄 경로 조회
+	 * - given 성공 케이스 1 과 같은 노선도에서
+	 * - when 정상 질의, 중복 질의, 출발역과 도착역이 같은 질의를 한 번에 요청하면
+	 * - then 요청 순서대로 결과를 리턴하며, 잘못된 질의는 해당 항목에만 오류를 담는다
+	 */
+	@Test
+	@DisplayName("일괄 경로 조회: 요청 순서대로 항목별 결과를 반환하고, 잘못된 항목의 오류가 다른 항목에 영향을 주지 않는지 검증")
+	void findPaths_batch() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		PathBatchRequest pathBatchRequest = new PathBatchRequest(Arrays.asList(
+			new PathQueryRequest(stationId1, stationId3, PathRequestType.DISTANCE),
+			new PathQueryRequest(stationId1, stationId1, PathRequestType.DISTANCE),
+			new PathQueryRequest(stationId1, stationId2, PathRequestType.DURATION),
+			new PathQueryRequest(stationId1, stationId3, PathRequestType.DISTANCE)));
+
+		// when
+		ExtractableResponse<Response> response = executeFindPathsBatchRequest(pathBatchRequest);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.jsonPath().getList("results.target", Long.class)).containsExactly(stationId3, stationId1, stationId2, stationId3);
+		assertThat(response.jsonPath().getList("results.path.distance", Long.class)).containsExactly(5L, null, 10L, 5L);
+		assertThat(response.jsonPath().getString("results[1].errorMessage")).isEqualTo("Source and target stations cannot be the same.");
+		assertThat(response.jsonPath().getInt("results[0].path.fareAmount")).isGreaterThanOrEqualTo(1250);
+	}
+
+	/**
+	 * 대안 경로 조회
+	 * - given 위와 같은 노선도에서
+	 * - when 교대역에서 양재역까지 대안 경로를 3개까지 요청하면
+	 * - then 존재하는 두 경로를 거리 순으로, 지나는 노선과 요금을 포함해 돌려준다
+	 */
+	@Test
+	@DisplayName("대안 경로 조회: 역을 두 번 지나지 않는 경로를 비용 순으로 노선/요금과 함께 반환하는지 검증")
+	void findAlternativePaths_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		// when
+		ExtractableResponse<Response> response = executeFindAlternativePathsRequest(stationId1, stationId3, "DISTANCE", 3);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.jsonPath().getList("paths.distance", Long.class)).containsExactly(5L, 20L);
+		assertThat(response.jsonPath().getList("paths[0].stations.id", Long.class)).containsExactly(stationId1, stationId4, stationId3);
+		assertThat(response.jsonPath().getList("paths[1].lines.name", String.class)).containsExactly("2호선", "신분당선");
+		assertThat(response.jsonPath().getInt("paths[1].fareAmount")).isGreaterThan(response.jsonPath().getInt("paths[0].fareAmount"));
+		assertThat(response.jsonPath().getBoolean("truncated")).isFalse();
+	}
+
+	/**
+	 * 파레토 경로 조회
+	 * - given 강남역을 지나면 짧은 시간에, 남부터미널역을 지나면 짧은 거리로 가는 노선도에서
+	 * - when 교대역에서 양재역까지 파레토 경로를 요청하면
+	 * - then 두 경로를 거리 순으로, 각각의 소요 시간과 노선 추가 요금을 반영한 요금과 함께 돌려준다
+	 */
+	@Test
+	@DisplayName("파레토 경로 조회: 거리와 소요 시간이 엇갈리는 두 경로를 한 번에 반환하는지 검증")
+	void findParetoPaths_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 2);
+
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId4, 2L, 10);
+		createSectionWithDuration(lineId2, stationId4, stationId3, 3L, 10);
+
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 3);
+
+		// when
+		ExtractableResponse<Response> response = executeFindParetoPathsRequest(stationId1, stationId3);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.jsonPath().getList("paths.distance", Long.class)).containsExactly(5L, 20L);
+		assertThat(response.jsonPath().getList("paths.duration", Long.class)).containsExactly(20L, 5L);
+		assertThat(response.jsonPath().getList("paths[0].stations.id", Long.class)).containsExactly(stationId1, stationId4, stationId3);
+		assertThat(response.jsonPath().getInt("paths[1].fareAmount")).isGreaterThan(response.jsonPath().getInt("paths[0].fareAmount"));
+		assertThat(response.jsonPath().getBoolean("truncated")).isFalse();
+	}
+
+	/**
+	 * 도달 가능 역 조회
+	 * - given 위와 같은 노선도에서
+	 * - when 교대역에서 소요 시간 5분 예산으로 도달 가능 역을 조회하면
+	 * - then 5분 안에 닿는 역만 소요 시간이 짧은 순서대로 돌려준다
+	 */
+	@Test
+	@DisplayName("도달 가능 역 조회: 예산 안에 닿는 역만 비용이 작은 순서대로 반환하는지 검증")
+	void findReachableStations_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		// when
+		ExtractableResponse<Response> response = executeFindReachableStationsRequest(stationId1, 5L, "DURATION");
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.jsonPath().getList("stations.station.id", Long.class)).containsExactly(stationId4, stationId3);
+		assertThat(response.jsonPath().getList("stations.duration", Long.class)).containsExactly(2L, 5L);
+		assertThat(response.jsonPath().getList("stations.fareAmount", Integer.class)).allMatch(fare -> fare >= 1250);
+	}
+
+	/**
+	 * 경로 행렬 조회
+	 * - given 위와 같은 노선도에서
+	 * - when 출발역 목록 × 도착역 목록의 행렬을 요청하면
+	 * - then 출발역마다 한 줄씩 거리/소요 시간/기본 요금을 돌려주고, 도달할 수 없는 칸은 비워 둔다
+	 */
+	@Test
+	@DisplayName("경로 행렬 조회: 출발역 순서대로 한 줄에 한 행씩 흘려보내고, 도달할 수 없는 칸은 null 로 채우는지 검증")
+	void findPathMatrix_success() {
+
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		long stationId3 = createStation("양재역");
+		long stationId4 = createStation("남부터미널역");
+
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+
+		long lineId2 = createLineWithDuration("3호선", stationId1, stationId3, 5L, 5);
+		createSectionWithDuration(lineId2, stationId1, stationId4, 2L, 2);
+
+		createLineWithDuration("신분당선", stationId2, stationId3, 10L, 20);
+
+		PathMatrixRequest pathMatrixRequest = new PathMatrixRequest(Arrays.asList(stationId1, stationId2), Arrays.asList(stationId3, stationId1), PathRequestType.DISTANCE);
+
+		// when
+		ExtractableResponse<Response> response = executeFindPathMatrixRequest(pathMatrixRequest);
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+		List<JsonPath> rows = Arrays.stream(response.asString().split("\n"))
+			.map(JsonPath::from)
+			.collect(Collectors.toList());
+		assertThat(rows).extracting(row -> row.getLong("source")).containsExactly(stationId1, stationId2);
+		assertThat(rows.get(0).getList("cells.distance", Long.class)).containsExactly(5L, 0L);
+		assertThat(rows.get(0).getList("cells.fareAmount", Integer.class)).containsExactly(1250, 1250);
+		assertThat(rows.get(1).getList("cells.distance", Long.class)).containsExactly(10L, null);
+		assertThat(rows.get(1).getList("cells.fareAmount", Integer.class)).containsExactly(1250, null);
+	}
+
+	@Test
+	@DisplayName("경로 행렬 조회: 노선도에 없는 역이 있으면 응답을 쓰기 전에 400 을 돌려주는지 검증")
+	void findPathMatrix_Fail_When_UnknownStation() {
+		// given
+		long stationId1 = createStation("교대역");
+		long stationId2 = createStation("강남역");
+		createLineWithDuration("2호선", stationId1, stationId2, 10L, 10);
+
+		// when
+		ExtractableResponse<Response> response = executeFindPathMatrixRequest(new PathMatrixRequest(Arrays.asList(stationId1), Arrays.asList(stationId2, 9999L), null));
+
+		// then
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
 	@Test
 	@DisplayName("출발역과 도착역이 같을 때의 예외 상황 처리 검증 1")
 	void findPath_Fail_When_SourceAndTargetAreTheSame_1() {
@@ -0,0 +1,126 @@
+package nextstep.api.subway.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class ClosureMaskTest {
+
+	private static final int STATION_COUNT = 100;
+
+	@Test
+	@DisplayName("역을 닫으면 그 역으로 들어오고 나가는 간선만 닫히고, 64 번째 이후 역과 간선도 같은 방식으로 표시된다")
+	void closeStation() {
+		// given
+		NetworkSnapshot snapshot = chainSnapshot();
+		int closedIndex = snapshot.indexOf(80L);
+
+		// when
+		ClosureMask mask = ClosureMask.builder(snapshot).closeStation(80L).closeStation(999L).build();
+
+		// then
+		assertThat(mask.closedStationCount()).isEqualTo(1);
+		assertThat(mask.isStationClosed(closedIndex)).isTrue();
+		assertThat(mask.isStationClosed(snapshot.indexOf(79L))).isFalse();
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			boolean touchesClosed = snapshot.edgeSource(edge) == closedIndex || snapshot.edgeTarget(edge) == closedIndex;
+			assertThat(mask.isEdgeClosed(edge)).isEqualTo(touchesClosed);
+		}
+		assertThat(mask.closedEdgeCount()).isEqualTo(countEdges(snapshot, closedIndex));
+	}
+
+	@Test
+	@DisplayName("구간은 어느 방향으로 지정해도 같은 두 역을 잇는 간선이 모두 닫히고, 노선을 닫으면 그 노선 간선만 닫힌다")
+	void closeSectionAndLine() {
+		// given
+		NetworkSnapshot snapshot = chainSnapshot();
+		int up = snapshot.indexOf(10L);
+		int down = snapshot.indexOf(11L);
+
+		// when
+		ClosureMask forward = ClosureMask.builder(snapshot).closeSection(10L, 11L).build();
+		ClosureMask backward = ClosureMask.builder(snapshot).closeSection(11L, 10L).build();
+		ClosureMask line = ClosureMask.builder(snapshot).closeLine(2L).build();
+
+		// then
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			boolean between = (snapshot.edgeSource(edge) == up && snapshot.edgeTarget(edge) == down)
+				|| (snapshot.edgeSource(edge) == down && snapshot.edgeTarget(edge) == up);
+			assertThat(forward.isEdgeClosed(edge)).isEqualTo(between);
+			assertThat(backward.isEdgeClosed(edge)).isEqualTo(between);
+			assertThat(line.isEdgeClosed(edge)).isEqualTo(snapshot.lineAt(snapshot.edgeLine(edge)).getId().equals(2L));
+		}
+		assertThat(forward.closedStationCount()).isEqualTo(0);
+		assertThat(line.closedEdgeCount()).isGreaterThan(0);
+	}
+
+	@Test
+	@DisplayName("아무것도 닫지 않으면 NONE 이고, 합친 마스크는 양쪽에서 닫은 간선과 역을 모두 닫는다")
+	void union() {
+		// given
+		NetworkSnapshot snapshot = chainSnapshot();
+		ClosureMask station = ClosureMask.builder(snapshot).closeStation(5L).build();
+		ClosureMask section = ClosureMask.builder(snapshot).closeSection(90L, 91L).build();
+
+		// when
+		ClosureMask empty = ClosureMask.builder(snapshot).closeStation(999L).build();
+		ClosureMask merged = station.union(section);
+
+		// then
+		assertThat(empty).isSameAs(ClosureMask.NONE);
+		assertThat(ClosureMask.NONE.isEdgeClosed(0)).isFalse();
+		assertThat(station.union(ClosureMask.NONE)).isSameAs(station);
+		assertThat(merged.closedStationCount()).isEqualTo(1);
+		assertThat(merged.closedEdgeCount()).isEqualTo(station.closedEdgeCount() + section.closedEdgeCount());
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			assertThat(merged.isEdgeClosed(edge)).isEqualTo(station.isEdgeClosed(edge) || section.isEdgeClosed(edge));
+		}
+	}
+
+	private int countEdges(NetworkSnapshot snapshot, int stationIndex) {
+		int count = 0;
+		for (int edge = 0; edge < snapshot.edgeCount(); edge++) {
+			if (snapshot.edgeSource(edge) == stationIndex || snapshot.edgeTarget(edge) == stationIndex) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 1 ~ 100 번 역을 한 줄로 잇고, 앞 절반은 1 번 노선, 뒤 절반은 2 번 노선으로 나눈다.
+	 */
+	private NetworkSnapshot chainSnapshot() {
+		Station[] stations = new Station[STATION_COUNT];
+		for (int i = 0; i < STATION_COUNT; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+		List<Line> lines = new ArrayList<>();
+		long sectionId = 1L;
+		for (int line = 0; line < 2; line++) {
+			Line entity = new Line((long)line + 1, "Line" + (line + 1), "bg-red-600", new Sections());
+			int begin = line * STATION_COUNT / 2;
+			int end = Math.min(STATION_COUNT - 1, begin + STATION_COUNT / 2);
+			for (int i = begin; i < end; i++) {
+				entity.addSection(new Section(sectionId++, stations[i], stations[i + 1], 1L, 1));
+			}
+			lines.add(entity);
+		}
+		return NetworkSnapshot.of(Collections.emptyList(), lines);
+	}
+}
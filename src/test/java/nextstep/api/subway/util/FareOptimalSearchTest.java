@@ -0,0 +1,129 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongToIntFunction;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class FareOptimalSearchTest {
+
+	private static final LongToIntFunction BASE_FARE = distance -> 1000 + (int)(distance / 5) * 100;
+	private static final ToIntFunction<Long> SURCHARGE_OF_LINE = lineId -> (int)(lineId % 4) * 300;
+
+	@Test
+	@DisplayName("무작위 노선망에서 찾은 경로의 요금이 모든 단순 경로를 나열해 구한 최소 요금과 같고, 경로를 따라 다시 계산한 요금과도 같다")
+	void search_sameFareAsEnumeration() {
+		// given
+		List<Line> lines = createRandomSingleSectionLines(new Random(11L), 10, 26);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineSurchargeTiers tiers = LineSurchargeTiers.of(snapshot, SURCHARGE_OF_LINE);
+		FareOptimalSearch search = new FareOptimalSearch(4);
+
+		// when & then
+		for (int source = 0; source < snapshot.stationCount(); source++) {
+			for (int target = 0; target < snapshot.stationCount(); target++) {
+				if (source == target) {
+					continue;
+				}
+				int cheapestFare = enumerateCheapestFare(snapshot, tiers, source, target);
+				int length = search.search(snapshot, source, target, tiers, BASE_FARE);
+
+				if (cheapestFare == Integer.MAX_VALUE) {
+					assertThat(length).isEqualTo(FareOptimalSearch.NO_PATH);
+					continue;
+				}
+				assertThat(search.fare()).isEqualTo(cheapestFare);
+				assertThat(fareOf(snapshot, tiers, source, target, search.pathEdges(), length)).isEqualTo(cheapestFare);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("가장 짧은 경로가 비싼 노선을 지나면 조금 더 길어도 추가 요금이 없는 경로를 고른다")
+	void search_prefersCheaperLongerRoute() {
+		// given
+		Station source = new Station(1L, "Source");
+		Station express = new Station(2L, "Express");
+		Station local = new Station(3L, "Local");
+		Station target = new Station(4L, "Target");
+		List<Line> lines = new ArrayList<>();
+		lines.add(createLine(3L, new Section(1L, source, express, 1L, 1)));
+		lines.add(createLine(4L, new Section(2L, express, target, 1L, 1)));
+		lines.add(createLine(8L, new Section(3L, source, local, 2L, 5)));
+		lines.add(createLine(12L, new Section(4L, local, target, 2L, 5)));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineSurchargeTiers tiers = LineSurchargeTiers.of(snapshot, SURCHARGE_OF_LINE);
+		FareOptimalSearch search = new FareOptimalSearch(4);
+
+		// when
+		int length = search.search(snapshot, snapshot.indexOf(1L), snapshot.indexOf(4L), tiers, BASE_FARE);
+
+		// then
+		assertThat(length).isEqualTo(2);
+		assertThat(snapshot.toPath(snapshot.indexOf(1L), search.pathEdges(), length).getDistance()).isEqualTo(4L);
+		assertThat(search.fare()).isEqualTo(1000);
+		assertThat(ShortestPathTree.of(snapshot, snapshot.indexOf(1L), PathRequestType.DISTANCE, false).distanceOf(snapshot.indexOf(4L))).isEqualTo(2L);
+	}
+
+	private int enumerateCheapestFare(NetworkSnapshot snapshot, LineSurchargeTiers tiers, int source, int target) {
+		boolean[] visited = new boolean[snapshot.stationCount()];
+		visited[source] = true;
+		return enumerate(snapshot, tiers, source, target, 0L, 0, visited);
+	}
+
+	private int enumerate(NetworkSnapshot snapshot, LineSurchargeTiers tiers, int station, int target, long distance, int tier, boolean[] visited) {
+		if (station == target) {
+			return BASE_FARE.applyAsInt(distance) + tiers.surchargeOf(tier);
+		}
+		int cheapestFare = Integer.MAX_VALUE;
+		for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+			int next = snapshot.edgeTarget(edge);
+			if (!visited[next]) {
+				visited[next] = true;
+				cheapestFare = Math.min(cheapestFare,
+					enumerate(snapshot, tiers, next, target, distance + snapshot.edgeDistance(edge), Math.max(tier, tiers.tierOfEdge(snapshot, edge)), visited));
+				visited[next] = false;
+			}
+		}
+		return cheapestFare;
+	}
+
+	private int fareOf(NetworkSnapshot snapshot, LineSurchargeTiers tiers, int source, int target, int[] edges, int length) {
+		long distance = 0L;
+		int tier = 0;
+		int station = source;
+		for (int position = 0; position < length; position++) {
+			assertThat(snapshot.edgeSource(edges[position])).isEqualTo(station);
+			distance += snapshot.edgeDistance(edges[position]);
+			tier = Math.max(tier, tiers.tierOfEdge(snapshot, edges[position]));
+			station = snapshot.edgeTarget(edges[position]);
+		}
+		assertThat(station).isEqualTo(target);
+		return BASE_FARE.applyAsInt(distance) + tiers.surchargeOf(tier);
+	}
+
+	private Line createLine(Long id, Section section) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		line.addSection(section);
+		return line;
+	}
+}
@@ -0,0 +1,74 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+import nextstep.api.subway.domain.model.vo.PathSummary;
+import nextstep.api.subway.infrastructure.operators.IndexedHeapDijkstraPathFinder;
+import nextstep.common.exception.subway.PathNotValidException;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class HubLabelsTest {
+
+	private final IndexedHeapDijkstraPathFinder indexedHeapDijkstraPathFinder = new IndexedHeapDijkstraPathFinder(new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("허브 라벨 조회는 모든 역 쌍에 대해 다익스트라와 같은 거리/소요 시간 합계를 돌려준다")
+	void query_sameTotalsAsDijkstra() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(7L), 50, 150);
+
+		for (PathRequestType type : PathRequestType.values()) {
+			// when
+			HubLabels hubLabels = HubLabels.build(ContractionHierarchy.build(snapshot, type), snapshot.stationCount());
+
+			// then
+			for (int source = 0; source < snapshot.stationCount(); source++) {
+				for (int target = 0; target < snapshot.stationCount(); target++) {
+					Optional<PathSummary> summary = hubLabels.query(source, target);
+					Optional<Path> expected = findByDijkstra(snapshot, source, target, type);
+					assertThat(summary.isPresent()).isEqualTo(expected.isPresent());
+					if (expected.isPresent()) {
+						assertThat(summary.get().getDistance()).isEqualTo(expected.get().getDistance());
+						assertThat(summary.get().getDuration()).isEqualTo(expected.get().getDuration());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("허브 라벨의 메모리 크기는 라벨 항목 수에 비례해 보고된다")
+	void memoryBytes() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(3L), 20, 40);
+
+		// when
+		HubLabels hubLabels = HubLabels.build(ContractionHierarchy.build(snapshot, PathRequestType.DISTANCE), snapshot.stationCount());
+
+		// then
+		assertThat(hubLabels.entryCount()).isGreaterThanOrEqualTo(snapshot.stationCount() * 2L);
+		assertThat(hubLabels.memoryBytes()).isEqualTo(hubLabels.entryCount() * 28L + (snapshot.stationCount() + 1) * 2L * 4L);
+	}
+
+	private Optional<Path> findByDijkstra(NetworkSnapshot snapshot, int source, int target, PathRequestType type) {
+		try {
+			return Optional.of(indexedHeapDijkstraPathFinder.findShortestPathBySnapshot(snapshot.stationAt(source).getId(), snapshot.stationAt(target).getId(), type, snapshot));
+		} catch (PathNotValidException e) {
+			return Optional.empty();
+		}
+	}
+}
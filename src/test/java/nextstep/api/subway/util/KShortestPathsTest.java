@@ -0,0 +1,122 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class KShortestPathsTest {
+
+	@Test
+	@DisplayName("무작위 노선망에서 찾은 K 개 경로의 비용이 모든 단순 경로를 나열해 고른 가장 싼 K 개와 같고, 경로마다 역이 겹치지 않는다")
+	void search_sameCostsAsEnumeration() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(8L), 12, 30);
+		KShortestPaths kShortestPaths = new KShortestPaths(4);
+		long deadline = System.nanoTime() + 60_000_000_000L;
+
+		// when & then
+		for (PathRequestType type : PathRequestType.values()) {
+			for (int source = 0; source < snapshot.stationCount(); source++) {
+				for (int target = 0; target < snapshot.stationCount(); target++) {
+					if (source == target) {
+						continue;
+					}
+					List<Long> expectedCosts = enumerateSimplePathCosts(snapshot, source, target, type);
+					List<int[]> paths = kShortestPaths.search(snapshot, source, target, type, 4, deadline);
+
+					assertThat(paths.stream().map(edges -> costOf(snapshot, edges, type)).collect(Collectors.toList()))
+						.isEqualTo(expectedCosts.subList(0, Math.min(4, expectedCosts.size())));
+					assertThat(paths.stream().map(Arrays::toString).collect(Collectors.toList())).doesNotHaveDuplicates();
+					for (int[] edges : paths) {
+						assertSimplePath(snapshot, source, target, edges);
+					}
+					assertThat(kShortestPaths.isTruncated()).isFalse();
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("마감 시각이 지났으면 첫 경로만 찾고 잘렸음을 알린다")
+	void search_truncatedByDeadline() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(8L), 12, 30);
+		KShortestPaths kShortestPaths = new KShortestPaths(4);
+		int source = 0;
+		int target = 0;
+		for (int station = 1; station < snapshot.stationCount(); station++) {
+			if (enumerateSimplePathCosts(snapshot, source, station, PathRequestType.DISTANCE).size() > 1) {
+				target = station;
+				break;
+			}
+		}
+
+		// when
+		List<int[]> paths = kShortestPaths.search(snapshot, source, target, PathRequestType.DISTANCE, 3, System.nanoTime() - 1L);
+
+		// then
+		assertThat(paths).hasSize(1);
+		assertThat(kShortestPaths.isTruncated()).isTrue();
+	}
+
+	private void assertSimplePath(NetworkSnapshot snapshot, int source, int target, int[] edges) {
+		Set<Integer> visited = new HashSet<>();
+		visited.add(source);
+		int station = source;
+		for (int edge : edges) {
+			assertThat(snapshot.edgeSource(edge)).isEqualTo(station);
+			station = snapshot.edgeTarget(edge);
+			assertThat(visited.add(station)).isTrue();
+		}
+		assertThat(station).isEqualTo(target);
+	}
+
+	private List<Long> enumerateSimplePathCosts(NetworkSnapshot snapshot, int source, int target, PathRequestType type) {
+		List<Long> costs = new ArrayList<>();
+		boolean[] visited = new boolean[snapshot.stationCount()];
+		visited[source] = true;
+		enumerate(snapshot, source, target, type, 0L, visited, costs);
+		costs.sort(Long::compare);
+		return costs;
+	}
+
+	private void enumerate(NetworkSnapshot snapshot, int station, int target, PathRequestType type, long cost, boolean[] visited, List<Long> costs) {
+		if (station == target) {
+			costs.add(cost);
+			return;
+		}
+		for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+			int next = snapshot.edgeTarget(edge);
+			if (!visited[next]) {
+				visited[next] = true;
+				enumerate(snapshot, next, target, type, cost + snapshot.edgeWeight(edge, type), visited, costs);
+				visited[next] = false;
+			}
+		}
+	}
+
+	private long costOf(NetworkSnapshot snapshot, int[] edges, PathRequestType type) {
+		long cost = 0L;
+		for (int edge : edges) {
+			cost += snapshot.edgeWeight(edge, type);
+		}
+		return cost;
+	}
+}
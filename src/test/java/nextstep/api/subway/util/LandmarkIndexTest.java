@@ -0,0 +1,61 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class LandmarkIndexTest {
+
+	@Test
+	@DisplayName("랜드마크 하한은 모든 역 쌍에 대해 실제 최단 비용을 넘지 않는다")
+	void lowerBound_admissible() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(5L), 40, 120);
+
+		// when
+		LandmarkIndex landmarkIndex = LandmarkIndex.build(snapshot, 4);
+
+		// then
+		assertThat(landmarkIndex.landmarkCount()).isEqualTo(4);
+		for (PathRequestType type : PathRequestType.values()) {
+			for (int source = 0; source < snapshot.stationCount(); source++) {
+				ShortestPathTree tree = ShortestPathTree.of(snapshot, source, type, false);
+				for (int target = 0; target < snapshot.stationCount(); target++) {
+					if (tree.isReachable(target)) {
+						assertThat(landmarkIndex.lowerBound(source, target, type)).isLessThanOrEqualTo(tree.costOf(target));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("랜드마크는 서로 다른 역으로 선택되고, 역 수보다 많이 요청하면 역 수만큼만 선택된다")
+	void build_distinctLandmarks() {
+		// given
+		NetworkSnapshot snapshot = createRandomSnapshot(new Random(11L), 5, 8);
+
+		// when
+		LandmarkIndex landmarkIndex = LandmarkIndex.build(snapshot, 16);
+
+		// then
+		List<Integer> landmarks = new ArrayList<>();
+		for (int k = 0; k < landmarkIndex.landmarkCount(); k++) {
+			landmarks.add(landmarkIndex.landmarkAt(k));
+		}
+		assertThat(landmarks).hasSize(snapshot.stationCount()).doesNotHaveDuplicates();
+	}
+}
@@ -0,0 +1,201 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+import nextstep.api.subway.domain.model.vo.Path;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class LineExpandedSearchTest {
+
+	private static final int TRANSFER_PENALTY_MINUTES = 7;
+
+	@Test
+	@DisplayName("무작위 노선망에서 찾은 경로의 비용(환승 횟수/벌점 포함)이 모든 단순 경로를 나열해 구한 최소 비용과 같고, 구간 수가 환승 횟수와 맞는다")
+	void search_sameCostAsEnumeration() {
+		// given
+		List<Line> lines = createRandomLines(new Random(17L), 10, 9, 4);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineExpandedGraph graph = LineExpandedGraph.of(snapshot);
+		LineExpandedSearch search = new LineExpandedSearch(4);
+
+		// when & then
+		for (PathRequestType type : new PathRequestType[] {PathRequestType.MIN_TRANSFER, PathRequestType.DURATION, PathRequestType.DISTANCE}) {
+			for (int source = 0; source < snapshot.stationCount(); source++) {
+				for (int target = 0; target < snapshot.stationCount(); target++) {
+					if (source == target) {
+						continue;
+					}
+					long cheapestCost = enumerateCheapestCost(snapshot, source, target, type);
+					int length = search.search(snapshot, graph, source, target, type, TRANSFER_PENALTY_MINUTES);
+
+					if (cheapestCost == Long.MAX_VALUE) {
+						assertThat(length).isEqualTo(LineExpandedSearch.NO_PATH);
+						continue;
+					}
+					assertThat(costOf(snapshot, source, target, search.pathEdges(), length, type)).isEqualTo(cheapestCost);
+					Path path = snapshot.toPath(source, search.pathEdges(), length);
+					assertThat(path.transferCount()).isEqualTo(transfersOf(snapshot, search.pathEdges(), length));
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("닫힌 노선과 환승 횟수 상한을 건 탐색의 비용이 닫힌 간선을 빼고 상한 안의 단순 경로만 나열해 구한 최소 비용과 같다")
+	void search_withinTransfersAndClosures_sameCostAsEnumeration() {
+		// given
+		List<Line> lines = createRandomLines(new Random(21L), 10, 9, 4);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineExpandedGraph graph = LineExpandedGraph.of(snapshot);
+		LineExpandedSearch search = new LineExpandedSearch(4);
+		ClosureMask[] masks = {ClosureMask.NONE, ClosureMask.builder(snapshot).closeLine(3L).closeStation(5L).build()};
+
+		// when & then
+		for (ClosureMask closures : masks) {
+			for (int maxTransfers = 0; maxTransfers <= 2; maxTransfers++) {
+				for (PathRequestType type : new PathRequestType[] {PathRequestType.DURATION, PathRequestType.DISTANCE}) {
+					for (int source = 0; source < snapshot.stationCount(); source++) {
+						for (int target = 0; target < snapshot.stationCount(); target++) {
+							if (source == target) {
+								continue;
+							}
+							long cheapestCost = enumerateCheapestCost(snapshot, source, target, type, closures, maxTransfers);
+							int length = search.search(snapshot, graph, source, target, type, TRANSFER_PENALTY_MINUTES, closures, maxTransfers);
+
+							if (cheapestCost == Long.MAX_VALUE) {
+								assertThat(length).isEqualTo(LineExpandedSearch.NO_PATH);
+								continue;
+							}
+							assertThat(costOf(snapshot, source, target, search.pathEdges(), length, type)).isEqualTo(cheapestCost);
+							assertThat(transfersOf(snapshot, search.pathEdges(), length)).isLessThanOrEqualTo(maxTransfers);
+							for (int position = 0; position < length; position++) {
+								assertThat(closures.isEdgeClosed(search.pathEdges()[position])).isFalse();
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("최소 환승 기준은 더 오래 걸려도 갈아타지 않는 경로를 고르고, 소요 시간 기준은 환승 벌점이 충분히 크면 같은 경로를 고른다")
+	void search_prefersFewerTransfers() {
+		// given
+		Station source = new Station(1L, "Source");
+		Station transfer = new Station(2L, "Transfer");
+		Station local = new Station(3L, "Local");
+		Station target = new Station(4L, "Target");
+		List<Line> lines = new ArrayList<>();
+		lines.add(createLine(1L, new Section(1L, source, transfer, 1L, 2)));
+		lines.add(createLine(2L, new Section(2L, transfer, target, 1L, 2)));
+		lines.add(createLine(3L, new Section(3L, source, local, 5L, 5), new Section(4L, local, target, 5L, 5)));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineExpandedGraph graph = LineExpandedGraph.of(snapshot);
+		LineExpandedSearch search = new LineExpandedSearch(4);
+		int sourceIndex = snapshot.indexOf(1L);
+		int targetIndex = snapshot.indexOf(4L);
+
+		// when
+		Path byTransfer = snapshot.toPath(sourceIndex, search.pathEdges(), search.search(snapshot, graph, sourceIndex, targetIndex, PathRequestType.MIN_TRANSFER, 0));
+		Path byDuration = snapshot.toPath(sourceIndex, search.pathEdges(), search.search(snapshot, graph, sourceIndex, targetIndex, PathRequestType.DURATION, 0));
+		Path byPenalizedDuration = snapshot.toPath(sourceIndex, search.pathEdges(), search.search(snapshot, graph, sourceIndex, targetIndex, PathRequestType.DURATION, 10));
+
+		// then
+		assertThat(byTransfer.getStations()).containsExactly(source, local, target);
+		assertThat(byTransfer.transferCount()).isEqualTo(0);
+		assertThat(byTransfer.getLegs().get(0).getLine().getId()).isEqualTo(3L);
+		assertThat(byDuration.getStations()).containsExactly(source, transfer, target);
+		assertThat(byDuration.transferCount()).isEqualTo(1);
+		assertThat(byPenalizedDuration.getStations()).containsExactly(source, local, target);
+	}
+
+	private long enumerateCheapestCost(NetworkSnapshot snapshot, int source, int target, PathRequestType type) {
+		return enumerateCheapestCost(snapshot, source, target, type, ClosureMask.NONE, Integer.MAX_VALUE);
+	}
+
+	private long enumerateCheapestCost(NetworkSnapshot snapshot, int source, int target, PathRequestType type, ClosureMask closures, int maxTransfers) {
+		boolean[] visited = new boolean[snapshot.stationCount()];
+		visited[source] = true;
+		return enumerate(snapshot, source, target, type, closures, maxTransfers, new int[snapshot.stationCount()], 0, visited);
+	}
+
+	private long enumerate(NetworkSnapshot snapshot, int station, int target, PathRequestType type, ClosureMask closures, int maxTransfers, int[] edges, int length,
+		boolean[] visited) {
+		if (station == target) {
+			return transfersOf(snapshot, edges, length) <= maxTransfers ? costOf(snapshot, edges, length, type) : Long.MAX_VALUE;
+		}
+		long cheapestCost = Long.MAX_VALUE;
+		for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+			int next = snapshot.edgeTarget(edge);
+			if (!visited[next] && !closures.isEdgeClosed(edge)) {
+				visited[next] = true;
+				edges[length] = edge;
+				cheapestCost = Math.min(cheapestCost, enumerate(snapshot, next, target, type, closures, maxTransfers, edges, length + 1, visited));
+				visited[next] = false;
+			}
+		}
+		return cheapestCost;
+	}
+
+	private long costOf(NetworkSnapshot snapshot, int source, int target, int[] edges, int length, PathRequestType type) {
+		int station = source;
+		for (int position = 0; position < length; position++) {
+			assertThat(snapshot.edgeSource(edges[position])).isEqualTo(station);
+			station = snapshot.edgeTarget(edges[position]);
+		}
+		assertThat(station).isEqualTo(target);
+		return costOf(snapshot, edges, length, type);
+	}
+
+	private long costOf(NetworkSnapshot snapshot, int[] edges, int length, PathRequestType type) {
+		long cost = 0L;
+		for (int position = 0; position < length; position++) {
+			cost += snapshot.edgeWeight(edges[position], type);
+		}
+		int transfers = transfersOf(snapshot, edges, length);
+		if (PathRequestType.isMinTransfer(type)) {
+			return cost + transfers * LineExpandedSearch.MIN_TRANSFER_WEIGHT;
+		}
+		if (PathRequestType.isDistance(type)) {
+			return cost;
+		}
+		return cost + transfers * NetworkSnapshot.composeWeight(TRANSFER_PENALTY_MINUTES, 0L);
+	}
+
+	private int transfersOf(NetworkSnapshot snapshot, int[] edges, int length) {
+		int transfers = 0;
+		for (int position = 1; position < length; position++) {
+			if (snapshot.edgeLine(edges[position]) != snapshot.edgeLine(edges[position - 1])) {
+				transfers++;
+			}
+		}
+		return transfers;
+	}
+
+	private Line createLine(Long id, Section... sections) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		for (Section section : sections) {
+			line.addSection(section);
+		}
+		return line;
+	}
+}
@@ -0,0 +1,154 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongToIntFunction;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class ParetoLabelSearchTest {
+
+	private static final LongToIntFunction BASE_FARE = distance -> 1000 + (int)(distance / 5) * 100;
+	private static final ToIntFunction<Long> SURCHARGE_OF_LINE = lineId -> (int)(lineId % 4) * 300;
+
+	@Test
+	@DisplayName("무작위 노선망에서 찾은 (거리, 소요 시간, 요금) 집합이 모든 단순 경로를 나열해 고른 파레토 집합과 같고, 경로마다 보고한 값과 일치한다")
+	void search_sameAsEnumeratedParetoSet() {
+		// given
+		List<Line> lines = createRandomSingleSectionLines(new Random(5L), 10, 26);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineSurchargeTiers tiers = LineSurchargeTiers.of(snapshot, SURCHARGE_OF_LINE);
+		ParetoLabelSearch search = new ParetoLabelSearch(4);
+
+		// when & then
+		for (int source = 0; source < snapshot.stationCount(); source++) {
+			for (int target = 0; target < snapshot.stationCount(); target++) {
+				if (source == target) {
+					continue;
+				}
+				List<String> expected = enumerateParetoSet(snapshot, tiers, source, target);
+				int count = search.search(snapshot, source, target, tiers, BASE_FARE, Integer.MAX_VALUE);
+
+				List<String> actual = new ArrayList<>();
+				for (int position = 0; position < count; position++) {
+					actual.add(search.distanceOf(position) + "/" + search.durationOf(position) + "/" + search.fareOf(position, tiers, BASE_FARE));
+					int length = search.tracePath(position);
+					assertThat(criteriaOf(snapshot, tiers, source, target, search.pathEdges(), length)).isEqualTo(actual.get(position));
+				}
+				Collections.sort(actual);
+				assertThat(actual).isEqualTo(expected);
+				assertThat(search.isTruncated()).isFalse();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("역마다 라벨 수 제한에 걸리면 일부 결과만 돌려주고 잘렸음을 알린다")
+	void search_truncatedByLabelCap() {
+		// given
+		Station[] stations = new Station[9];
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+		List<Line> lines = new ArrayList<>();
+		for (int i = 0; i + 2 < stations.length; i += 2) {
+			lines.add(createLine((long)i, new Section((long)i, stations[i], stations[i + 2], 1L, 9)));
+			lines.add(createLine((long)i + 1, new Section((long)i + 1, stations[i], stations[i + 1], 5L, 1)));
+			lines.add(createLine((long)i + 100, new Section((long)i + 100, stations[i + 1], stations[i + 2], 5L, 1)));
+		}
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineSurchargeTiers tiers = LineSurchargeTiers.of(snapshot, lineId -> 0);
+		ParetoLabelSearch search = new ParetoLabelSearch(4);
+		int source = snapshot.indexOf(1L);
+		int target = snapshot.indexOf(9L);
+
+		// when
+		int uncappedCount = search.search(snapshot, source, target, tiers, BASE_FARE, Integer.MAX_VALUE);
+		int cappedCount = search.search(snapshot, source, target, tiers, BASE_FARE, 2);
+
+		// then
+		assertThat(uncappedCount).isEqualTo(5);
+		assertThat(cappedCount).isLessThan(uncappedCount);
+		assertThat(search.isTruncated()).isTrue();
+	}
+
+	private List<String> enumerateParetoSet(NetworkSnapshot snapshot, LineSurchargeTiers tiers, int source, int target) {
+		List<long[]> criteria = new ArrayList<>();
+		boolean[] visited = new boolean[snapshot.stationCount()];
+		visited[source] = true;
+		enumerate(snapshot, tiers, source, target, 0L, 0L, 0, visited, criteria);
+
+		List<String> paretoSet = new ArrayList<>();
+		for (long[] candidate : criteria) {
+			boolean dominated = false;
+			for (long[] other : criteria) {
+				if (other[0] <= candidate[0] && other[1] <= candidate[1] && other[2] <= candidate[2]
+					&& (other[0] < candidate[0] || other[1] < candidate[1] || other[2] < candidate[2])) {
+					dominated = true;
+					break;
+				}
+			}
+			String key = candidate[0] + "/" + candidate[1] + "/" + candidate[2];
+			if (!dominated && !paretoSet.contains(key)) {
+				paretoSet.add(key);
+			}
+		}
+		Collections.sort(paretoSet);
+		return paretoSet;
+	}
+
+	private void enumerate(NetworkSnapshot snapshot, LineSurchargeTiers tiers, int station, int target, long distance, long duration, int tier, boolean[] visited, List<long[]> criteria) {
+		if (station == target) {
+			criteria.add(new long[] {distance, duration, BASE_FARE.applyAsInt(distance) + tiers.surchargeOf(tier)});
+			return;
+		}
+		for (int edge = snapshot.edgeBegin(station); edge < snapshot.edgeEnd(station); edge++) {
+			int next = snapshot.edgeTarget(edge);
+			if (!visited[next]) {
+				visited[next] = true;
+				enumerate(snapshot, tiers, next, target, distance + snapshot.edgeDistance(edge), duration + snapshot.edgeDuration(edge),
+					Math.max(tier, tiers.tierOfEdge(snapshot, edge)), visited, criteria);
+				visited[next] = false;
+			}
+		}
+	}
+
+	private String criteriaOf(NetworkSnapshot snapshot, LineSurchargeTiers tiers, int source, int target, int[] edges, int length) {
+		long distance = 0L;
+		long duration = 0L;
+		int tier = 0;
+		int station = source;
+		for (int position = 0; position < length; position++) {
+			assertThat(snapshot.edgeSource(edges[position])).isEqualTo(station);
+			distance += snapshot.edgeDistance(edges[position]);
+			duration += snapshot.edgeDuration(edges[position]);
+			tier = Math.max(tier, tiers.tierOfEdge(snapshot, edges[position]));
+			station = snapshot.edgeTarget(edges[position]);
+		}
+		assertThat(station).isEqualTo(target);
+		return distance + "/" + duration + "/" + (BASE_FARE.applyAsInt(distance) + tiers.surchargeOf(tier));
+	}
+
+	private Line createLine(Long id, Section section) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		line.addSection(section);
+		return line;
+	}
+}
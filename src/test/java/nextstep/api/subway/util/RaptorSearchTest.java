@@ -0,0 +1,171 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.LineTimetable;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class RaptorSearchTest {
+
+	private static final int MAX_ROUNDS = 4;
+	private static final int MIN_TRANSFER_MINUTES = 2;
+	private static final int UNREACHED = Integer.MAX_VALUE;
+
+	@Test
+	@DisplayName("무작위 시각표에서 찾은 도착 시각이 라운드별로 모든 편을 대입해 구한 가장 이른 도착 시각과 같고, 되짚은 구간이 실제로 탈 수 있는 편으로 이어진다")
+	void search_sameArrivalAsExhaustiveRounds() {
+		// given
+		Random random = new Random(18L);
+		List<Line> lines = withRandomTimetables(random, createRandomLines(random, 10, 8, 4));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		TimetableIndex index = TimetableIndex.of(snapshot);
+		RaptorSearch search = new RaptorSearch();
+		int[] departureMinutes = {ServiceClock.toServiceMinute(LocalTime.of(5, 0)), ServiceClock.toServiceMinute(LocalTime.of(8, 17)),
+			ServiceClock.toServiceMinute(LocalTime.of(23, 40)), ServiceClock.toServiceMinute(LocalTime.of(0, 20))};
+
+		// when & then
+		for (int departureMinute : departureMinutes) {
+			for (int source = 0; source < snapshot.stationCount(); source++) {
+				int[][] arrivals = exhaustiveArrivals(index, snapshot.stationCount(), source, departureMinute);
+				for (int target = 0; target < snapshot.stationCount(); target++) {
+					if (source == target) {
+						continue;
+					}
+					int legCount = search.search(index, snapshot.stationCount(), source, target, departureMinute, MAX_ROUNDS, MIN_TRANSFER_MINUTES);
+
+					if (arrivals[MAX_ROUNDS][target] == UNREACHED) {
+						assertThat(legCount).isEqualTo(RaptorSearch.NO_JOURNEY);
+						continue;
+					}
+					assertThat(search.arrivalMinute()).isEqualTo(arrivals[MAX_ROUNDS][target]);
+					assertThat(legCount).isEqualTo(fewestRoundsOf(arrivals, target));
+					assertLegsRideable(index, search, legCount, source, target, departureMinute);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("자정을 넘긴 막차까지 같은 운행일로 보고, 막차가 떠난 뒤에는 여정이 없다")
+	void search_lastTrainAfterMidnight() {
+		// given
+		Station source = new Station(1L, "Source");
+		Station target = new Station(2L, "Target");
+		Line line = createLine(1L, new Section(1L, source, target, 5L, 10));
+		line.updateTimetable(LineTimetable.of(LocalTime.of(5, 30), LocalTime.of(0, 30), 20));
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), List.of(line));
+		TimetableIndex index = TimetableIndex.of(snapshot);
+		RaptorSearch search = new RaptorSearch();
+		int sourceIndex = snapshot.indexOf(1L);
+		int targetIndex = snapshot.indexOf(2L);
+
+		// when
+		int lateLegs = search.search(index, snapshot.stationCount(), sourceIndex, targetIndex, ServiceClock.toServiceMinute(LocalTime.of(0, 15)), MAX_ROUNDS, 0);
+		LocalTime lateArrival = ServiceClock.toLocalTime(search.arrivalMinute());
+		int earlyLegs = search.search(index, snapshot.stationCount(), sourceIndex, targetIndex, ServiceClock.toServiceMinute(LocalTime.of(3, 0)), MAX_ROUNDS, 0);
+		LocalTime earlyArrival = ServiceClock.toLocalTime(search.arrivalMinute());
+		int missedLegs = search.search(index, snapshot.stationCount(), sourceIndex, targetIndex, ServiceClock.toServiceMinute(LocalTime.of(0, 35)), MAX_ROUNDS, 0);
+
+		// then
+		assertThat(lateLegs).isEqualTo(1);
+		assertThat(lateArrival).isEqualTo(LocalTime.of(0, 40));
+		assertThat(earlyLegs).isEqualTo(1);
+		assertThat(earlyArrival).isEqualTo(LocalTime.of(5, 40));
+		assertThat(missedLegs).isEqualTo(RaptorSearch.NO_JOURNEY);
+	}
+
+	/**
+	 * k 번 탑승해 닿는 가장 이른 시각을, 직전 라운드에 닿은 모든 역에서 모든 편을 타 보는 방식으로 구한다.
+	 */
+	private int[][] exhaustiveArrivals(TimetableIndex index, int stationCount, int source, int departureMinute) {
+		int[][] arrivals = new int[MAX_ROUNDS + 1][stationCount];
+		Arrays.fill(arrivals[0], UNREACHED);
+		arrivals[0][source] = departureMinute;
+		for (int round = 1; round <= MAX_ROUNDS; round++) {
+			arrivals[round] = Arrays.copyOf(arrivals[round - 1], stationCount);
+			int transferMinutes = round > 1 ? MIN_TRANSFER_MINUTES : 0;
+			for (int route = 0; route < index.routeCount(); route++) {
+				for (int boardStop = index.stopBegin(route); boardStop < index.stopEnd(route); boardStop++) {
+					int ready = arrivals[round - 1][index.stationOfStop(boardStop)];
+					if (ready == UNREACHED) {
+						continue;
+					}
+					for (int trip = index.tripBegin(route); trip < index.tripEnd(route); trip++) {
+						if (index.tripDeparture(trip) + index.minuteOfStop(boardStop) < ready + transferMinutes) {
+							continue;
+						}
+						for (int alightStop = boardStop + 1; alightStop < index.stopEnd(route); alightStop++) {
+							int station = index.stationOfStop(alightStop);
+							arrivals[round][station] = Math.min(arrivals[round][station], index.tripDeparture(trip) + index.minuteOfStop(alightStop));
+						}
+					}
+				}
+			}
+		}
+		return arrivals;
+	}
+
+	private int fewestRoundsOf(int[][] arrivals, int target) {
+		int round = 0;
+		while (arrivals[round][target] != arrivals[MAX_ROUNDS][target]) {
+			round++;
+		}
+		return round;
+	}
+
+	private void assertLegsRideable(TimetableIndex index, RaptorSearch search, int legCount, int source, int target, int departureMinute) {
+		int station = source;
+		int readyMinute = departureMinute;
+		for (int leg = 0; leg < legCount; leg++) {
+			int boardStop = search.legBoardStop(leg);
+			int alightStop = search.legAlightStop(leg);
+			int trip = search.legTrip(leg);
+			int route = index.routeOfStop(boardStop);
+			assertThat(index.stationOfStop(boardStop)).isEqualTo(station);
+			assertThat(index.routeOfStop(alightStop)).isEqualTo(route);
+			assertThat(boardStop < alightStop).isTrue();
+			assertThat(index.tripBegin(route) <= trip && trip < index.tripEnd(route)).isTrue();
+			assertThat(readyMinute + (leg > 0 ? MIN_TRANSFER_MINUTES : 0)).isLessThanOrEqualTo(index.tripDeparture(trip) + index.minuteOfStop(boardStop));
+			station = index.stationOfStop(alightStop);
+			readyMinute = index.tripDeparture(trip) + index.minuteOfStop(alightStop);
+		}
+		assertThat(station).isEqualTo(target);
+		assertThat(readyMinute).isEqualTo(search.arrivalMinute());
+	}
+
+	/**
+	 * 첫 노선만 빼고 첫차 05시대부터 자정 넘어 막차까지 무작위 시각표를 붙인다.
+	 */
+	private List<Line> withRandomTimetables(Random random, List<Line> lines) {
+		for (Line line : lines.subList(1, lines.size())) {
+			line.updateTimetable(LineTimetable.of(LocalTime.of(5, random.nextInt(60)), LocalTime.of(0, random.nextInt(60)), 3 + random.nextInt(13)));
+		}
+		return lines;
+	}
+
+	private Line createLine(Long id, Section... sections) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		for (Section section : sections) {
+			line.addSection(section);
+		}
+		return line;
+	}
+}
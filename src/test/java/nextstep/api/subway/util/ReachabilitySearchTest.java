@@ -0,0 +1,169 @@
+package nextstep.api.subway.util;
+
+import static nextstep.fixture.NetworkSnapshotFixtureCreator.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.api.subway.common.type.PathRequestType;
+import nextstep.api.subway.common.type.ReachabilityBudgetType;
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class ReachabilitySearchTest {
+
+	private static final LongToIntFunction BASE_FARE = distance -> 1000 + (int)(distance / 5) * 100;
+	private static final ToIntFunction<Long> SURCHARGE_OF_LINE = lineId -> (int)(lineId % 4) * 300;
+
+	@Test
+	@DisplayName("소요 시간/거리 예산: 최단 경로 트리로 구한 최소 비용이 예산 이내인 역만, 같은 비용으로 찾는다")
+	void search_durationAndDistanceBudget() {
+		// given
+		List<Line> lines = createRandomSingleSectionLines(new Random(3L), 40, 110);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineSurchargeTiers tiers = LineSurchargeTiers.of(snapshot, SURCHARGE_OF_LINE);
+		ReachabilitySearch search = new ReachabilitySearch(4);
+
+		// when & then
+		for (int source = 0; source < snapshot.stationCount(); source += 3) {
+			for (long budget : new long[] {0L, 7L, 25L, 60L}) {
+				ShortestPathTree durationTree = ShortestPathTree.of(snapshot, source, PathRequestType.DURATION, false);
+				Map<Integer, Long> durations = collect(search, search.search(snapshot, source, ReachabilityBudgetType.DURATION, budget, tiers, BASE_FARE), search::durationOf);
+				for (int station = 0; station < snapshot.stationCount(); station++) {
+					boolean withinBudget = durationTree.isReachable(station) && durationTree.durationOf(station) <= budget;
+					assertThat(durations.containsKey(station)).isEqualTo(withinBudget);
+					if (withinBudget) {
+						assertThat(durations.get(station)).isEqualTo(durationTree.durationOf(station));
+					}
+				}
+
+				ShortestPathTree distanceTree = ShortestPathTree.of(snapshot, source, PathRequestType.DISTANCE, false);
+				Map<Integer, Long> distances = collect(search, search.search(snapshot, source, ReachabilityBudgetType.DISTANCE, budget, tiers, BASE_FARE), search::distanceOf);
+				for (int station = 0; station < snapshot.stationCount(); station++) {
+					boolean withinBudget = distanceTree.isReachable(station) && distanceTree.distanceOf(station) <= budget;
+					assertThat(distances.containsKey(station)).isEqualTo(withinBudget);
+					if (withinBudget) {
+						assertThat(distances.get(station)).isEqualTo(distanceTree.distanceOf(station));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("요금 예산: 노선 최고 추가 요금까지 반영한 최소 요금이 예산 이내인 역만, 그 최소 요금으로 찾는다")
+	void search_fareBudget() {
+		// given
+		List<Line> lines = createRandomSingleSectionLines(new Random(17L), 40, 110);
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		LineSurchargeTiers tiers = LineSurchargeTiers.of(snapshot, SURCHARGE_OF_LINE);
+		ReachabilitySearch search = new ReachabilitySearch(4);
+
+		// when & then
+		for (int source = 0; source < snapshot.stationCount(); source += 3) {
+			Map<Long, Integer> cheapestFares = cheapestFaresByBruteForce(snapshot, lines, source);
+			for (long budget : new long[] {999L, 1000L, 1600L, 2400L}) {
+				Map<Integer, Long> fares = collect(search, search.search(snapshot, source, ReachabilityBudgetType.FARE, budget, tiers, BASE_FARE), station -> (long)search.fareOf(station));
+				for (int station = 0; station < snapshot.stationCount(); station++) {
+					Integer cheapestFare = cheapestFares.get(snapshot.stationAt(station).getId());
+					boolean withinBudget = cheapestFare != null && cheapestFare <= budget;
+					assertThat(fares.containsKey(station)).isEqualTo(withinBudget);
+					if (withinBudget) {
+						assertThat(fares.get(station)).isEqualTo(cheapestFare.longValue());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("작은 예산의 탐색은 예산 안쪽 역만 꺼내 보고 끝난다")
+	void search_touchesOnlyFrontier() {
+		// given
+		List<Line> lines = new ArrayList<>();
+		Station[] stations = new Station[1000];
+		for (int i = 0; i < stations.length; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+		for (int i = 0; i + 1 < stations.length; i++) {
+			lines.add(createLine((long)i, new Section((long)i, stations[i], stations[i + 1], 1L, 1)));
+		}
+		NetworkSnapshot snapshot = NetworkSnapshot.of(Collections.emptyList(), lines);
+		ReachabilitySearch search = new ReachabilitySearch(4);
+
+		// when
+		int reachedCount = search.search(snapshot, snapshot.indexOf(1L), ReachabilityBudgetType.DURATION, 5L, LineSurchargeTiers.of(snapshot, SURCHARGE_OF_LINE), BASE_FARE);
+
+		// then
+		assertThat(reachedCount).isEqualTo(6);
+		assertThat(search.settledCount()).isEqualTo(6);
+	}
+
+	/**
+	 * 가장 비싼 추가 요금 단계를 c 로 묶으면, 그 단계 이하 노선만으로 간 최단 거리의 기본 요금 + c 단계 요금이 후보가 되고
+	 * 최소 요금은 모든 c 에 대한 후보 중 가장 작은 값과 같다.
+	 */
+	private Map<Long, Integer> cheapestFaresByBruteForce(NetworkSnapshot snapshot, List<Line> lines, int source) {
+		Long sourceStationId = snapshot.stationAt(source).getId();
+		List<Integer> surcharges = new ArrayList<>();
+		lines.forEach(line -> surcharges.add(SURCHARGE_OF_LINE.applyAsInt(line.getId())));
+		surcharges.add(0);
+
+		Map<Long, Integer> cheapestFares = new HashMap<>();
+		for (int cap : surcharges) {
+			List<Line> allowedLines = new ArrayList<>();
+			for (Line line : lines) {
+				if (SURCHARGE_OF_LINE.applyAsInt(line.getId()) <= cap) {
+					allowedLines.add(line);
+				}
+			}
+			NetworkSnapshot restricted = NetworkSnapshot.of(Collections.emptyList(), allowedLines);
+			int restrictedSource = restricted.indexOf(sourceStationId);
+			if (restrictedSource == NetworkSnapshot.NO_STATION) {
+				cheapestFares.merge(sourceStationId, BASE_FARE.applyAsInt(0L), Math::min);
+				continue;
+			}
+			ShortestPathTree tree = ShortestPathTree.of(restricted, restrictedSource, PathRequestType.DISTANCE, false);
+			for (int station = 0; station < restricted.stationCount(); station++) {
+				if (tree.isReachable(station)) {
+					int fare = BASE_FARE.applyAsInt(tree.distanceOf(station)) + (station == restrictedSource ? 0 : cap);
+					cheapestFares.merge(restricted.stationAt(station).getId(), fare, Math::min);
+				}
+			}
+		}
+		return cheapestFares;
+	}
+
+	private Map<Integer, Long> collect(ReachabilitySearch search, int reachedCount, IntToLongFunction cost) {
+		Map<Integer, Long> costs = new HashMap<>();
+		for (int position = 0; position < reachedCount; position++) {
+			int station = search.reachedStationAt(position);
+			costs.put(station, cost.applyAsLong(station));
+		}
+		return costs;
+	}
+
+	private Line createLine(Long id, Section section) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		line.addSection(section);
+		return line;
+	}
+}
@@ -0,0 +1,101 @@
+package nextstep.api.subway.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class SingleFlightTest {
+
+	private static final int CALLERS = 8;
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 호출은 한 번만 실행되고, 나머지 호출은 같은 결과를 받는다")
+	void execute_coalescesConcurrentCalls() throws Exception {
+		// given
+		AtomicInteger coalesced = new AtomicInteger();
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(coalesced::incrementAndGet);
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+		// when
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("1-2", () -> {
+				executions.incrementAndGet();
+				await(release);
+				return "path";
+			})));
+		}
+		awaitCoalesced(coalesced, CALLERS - 1);
+		release.countDown();
+
+		// then
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("path");
+		}
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("먼저 실행된 호출이 끝나면 같은 키의 다음 호출은 다시 실행된다")
+	void execute_notCachedAfterCompletion() {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>(() -> {
+		});
+
+		// when
+		singleFlight.execute("1-2", executions::incrementAndGet);
+		int second = singleFlight.execute("1-2", executions::incrementAndGet);
+
+		// then
+		assertThat(second).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("실행한 호출이 예외로 끝나면 같은 예외를 던지고, 진행 중인 작업에서 제거된다")
+	void execute_propagatesException() {
+		// given
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(() -> {
+		});
+
+		// when & then
+		assertThatThrownBy(() -> singleFlight.execute("1-2", () -> {
+			throw new IllegalStateException("failed");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitCoalesced(AtomicInteger coalesced, int expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (coalesced.get() < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(coalesced.get()).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,82 @@
+package nextstep.api.subway.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+class WaypointOrderTest {
+
+	@Test
+	@DisplayName("무작위 비용 행렬에서 고른 순서의 비용이 경유역 순열을 모두 대입해 구한 최소 비용과 같고, 출발역과 도착역은 양 끝에 고정된다")
+	void optimize_sameCostAsPermutations() {
+		// given
+		Random random = new Random(22L);
+
+		for (int trial = 0; trial < 300; trial++) {
+			int stopCount = 2 + random.nextInt(6);
+			long[][] costs = new long[stopCount][stopCount];
+			for (int from = 0; from < stopCount; from++) {
+				for (int to = 0; to < stopCount; to++) {
+					costs[from][to] = from == to ? 0L : random.nextInt(4) == 0 ? WaypointOrder.UNREACHABLE : 1L + random.nextInt(30);
+				}
+			}
+
+			// when
+			int[] order = WaypointOrder.optimize(costs);
+
+			// then
+			int[] stops = new int[stopCount];
+			for (int stop = 0; stop < stopCount; stop++) {
+				stops[stop] = stop;
+			}
+			long expected = cheapestByPermutations(costs, stops, 1);
+			if (expected == WaypointOrder.UNREACHABLE) {
+				assertThat(order).isNull();
+				continue;
+			}
+			assertThat(order).hasSize(stopCount);
+			assertThat(order[0]).isZero();
+			assertThat(order[stopCount - 1]).isEqualTo(stopCount - 1);
+			assertThat(order).containsExactlyInAnyOrder(stops);
+			assertThat(costOf(costs, order)).isEqualTo(expected);
+		}
+	}
+
+	private long cheapestByPermutations(long[][] costs, int[] stops, int position) {
+		if (position >= stops.length - 2) {
+			return costOf(costs, stops);
+		}
+		long cheapest = WaypointOrder.UNREACHABLE;
+		for (int swap = position; swap < stops.length - 1; swap++) {
+			swap(stops, position, swap);
+			cheapest = Math.min(cheapest, cheapestByPermutations(costs, stops, position + 1));
+			swap(stops, position, swap);
+		}
+		return cheapest;
+	}
+
+	private long costOf(long[][] costs, int[] order) {
+		long total = 0L;
+		for (int stop = 0; stop + 1 < order.length; stop++) {
+			long cost = costs[order[stop]][order[stop + 1]];
+			if (cost == WaypointOrder.UNREACHABLE) {
+				return WaypointOrder.UNREACHABLE;
+			}
+			total += cost;
+		}
+		return total;
+	}
+
+	private void swap(int[] values, int left, int right) {
+		int value = values[left];
+		values[left] = values[right];
+		values[right] = value;
+	}
+}
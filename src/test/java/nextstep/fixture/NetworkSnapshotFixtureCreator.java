@@ -0,0 +1,117 @@
+package nextstep.fixture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import nextstep.api.subway.domain.model.entity.Line;
+import nextstep.api.subway.domain.model.entity.Section;
+import nextstep.api.subway.domain.model.entity.Sections;
+import nextstep.api.subway.domain.model.entity.Station;
+import nextstep.api.subway.domain.model.vo.NetworkSnapshot;
+
+/**
+ * 경로 탐색 테스트에서 기준 구현과 비교할 무작위 노선망을 만든다.
+ * 역 id 는 1 부터 stationCount 까지이고, 같은 시드면 같은 노선망이 만들어진다.
+ *
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class NetworkSnapshotFixtureCreator {
+
+	public static NetworkSnapshot createRandomSnapshot(Random random, int stationCount, int sectionCount) {
+		return NetworkSnapshot.fromSections(createRandomSections(random, stationCount, sectionCount));
+	}
+
+	/**
+	 * 상행역과 하행역이 서로 다른 구간을 sectionCount 개 만든다. 구간 id 는 0 부터 차례로 붙는다.
+	 */
+	public static List<Section> createRandomSections(Random random, int stationCount, int sectionCount) {
+		Station[] stations = createStations(stationCount);
+		List<Section> sections = new ArrayList<>();
+		for (int i = 0; i < sectionCount; i++) {
+			int up = random.nextInt(stationCount);
+			int down = (up + 1 + random.nextInt(stationCount - 1)) % stationCount;
+			sections.add(new Section((long)i, stations[up], stations[down], 1L + random.nextInt(20), 1 + random.nextInt(20)));
+		}
+		return sections;
+	}
+
+	/**
+	 * {@link #createRandomSections} 의 구간마다 그 구간 하나만 가진 노선을 만든다. 노선 id 는 구간 id 와 같다.
+	 */
+	public static List<Line> createRandomSingleSectionLines(Random random, int stationCount, int sectionCount) {
+		List<Line> lines = new ArrayList<>();
+		for (Section section : createRandomSections(random, stationCount, sectionCount)) {
+			lines.add(createLine(section.getId(), List.of(section)));
+		}
+		return lines;
+	}
+
+	/**
+	 * 전체 역을 섞어 앞에서부터 2 ~ maxStopCount 개 역을 잇는 노선을 lineCount 개 만든다. 노선 id 는 1 부터 붙는다.
+	 */
+	public static List<Line> createRandomLines(Random random, int stationCount, int lineCount, int maxStopCount) {
+		Station[] stations = createStations(stationCount);
+		List<Line> lines = new ArrayList<>();
+		long sectionId = 1L;
+		for (int i = 0; i < lineCount; i++) {
+			List<Station> shuffled = new ArrayList<>(List.of(stations));
+			Collections.shuffle(shuffled, random);
+			int stopCount = 2 + random.nextInt(maxStopCount - 1);
+			List<Section> sections = new ArrayList<>();
+			for (int stop = 0; stop + 1 < stopCount; stop++) {
+				sections.add(new Section(sectionId++, shuffled.get(stop), shuffled.get(stop + 1), 1L + random.nextInt(20), 1 + random.nextInt(20)));
+			}
+			lines.add(createLine((long)i + 1, sections));
+		}
+		return lines;
+	}
+
+	/**
+	 * 20 ~ 30 개 역을 잇는 긴 노선을 lineCount 개 만든다.
+	 * 정차역마다 1/6 확률로 1 ~ transferStationCount 번 환승역 중 하나를 지나고, 나머지는 그 노선에만 있는 역이다.
+	 */
+	public static List<Line> createRandomTransferLines(Random random, int transferStationCount, int lineCount) {
+		Station[] transferStations = new Station[transferStationCount];
+		for (int i = 0; i < transferStationCount; i++) {
+			transferStations[i] = new Station((long)(i + 1), "Transfer" + (i + 1));
+		}
+		long nextStationId = transferStationCount + 1;
+		List<Line> lines = new ArrayList<>();
+		long sectionId = 1L;
+		for (int i = 0; i < lineCount; i++) {
+			int stopCount = 20 + random.nextInt(11);
+			List<Station> stops = new ArrayList<>();
+			for (int stop = 0; stop < stopCount; stop++) {
+				Station transferStation = random.nextInt(6) == 0 ? transferStations[random.nextInt(transferStationCount)] : null;
+				if (transferStation == null || stops.contains(transferStation)) {
+					stops.add(new Station(nextStationId, "Station" + nextStationId++));
+					continue;
+				}
+				stops.add(transferStation);
+			}
+			List<Section> sections = new ArrayList<>();
+			for (int stop = 0; stop + 1 < stopCount; stop++) {
+				sections.add(new Section(sectionId++, stops.get(stop), stops.get(stop + 1), 1L + random.nextInt(20), 1 + random.nextInt(20)));
+			}
+			lines.add(createLine((long)i + 1, sections));
+		}
+		return lines;
+	}
+
+	private static Station[] createStations(int stationCount) {
+		Station[] stations = new Station[stationCount];
+		for (int i = 0; i < stationCount; i++) {
+			stations[i] = new Station((long)(i + 1), "Station" + (i + 1));
+		}
+		return stations;
+	}
+
+	private static Line createLine(Long id, List<Section> sections) {
+		Line line = new Line(id, "Line" + id, "bg-red-600", new Sections());
+		sections.forEach(line::addSection);
+		return line;
+	}
+}
@@ -32,4 +32,8 @@ public class SubwayScenarioFixtureCreator {
 	public static void createSectionWithDuration(long lineId, long upStationId, long downStationId, long distance, int duration) {
 		executeCreateSectionRequest(lineId, createSectionCreateRequestWithUpAndDownAndDistance(upStationId, downStationId, distance, duration));
 	}
+
+	public static void updateTimetable(long lineId, String firstDepartureTime, String lastDepartureTime, int headwayMinutes) {
+		executeUpdateTimetableRequest(lineId, firstDepartureTime, lastDepartureTime, headwayMinutes);
+	}
 }
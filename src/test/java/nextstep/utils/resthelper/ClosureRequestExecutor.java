@@ -0,0 +1,34 @@
+package nextstep.utils.resthelper;
+
+import static io.restassured.RestAssured.*;
+import static org.springframework.http.MediaType.*;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import nextstep.api.subway.interfaces.dto.request.ClosureScenarioRequest;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class ClosureRequestExecutor extends AbstractRequestExecutor {
+
+	private static final String CLOSURE_URL_PATH = "/admin/closures";
+
+	private static RequestSpecification getRequestSpecification() {
+		return given().log().all().contentType(APPLICATION_JSON_VALUE);
+	}
+
+	public static ExtractableResponse<Response> executeSaveClosureRequest(String name, ClosureScenarioRequest scenarioRequest) {
+		return doPut(getRequestSpecification(), CLOSURE_URL_PATH + "/" + name, scenarioRequest);
+	}
+
+	public static ExtractableResponse<Response> executeGetClosuresRequest() {
+		return doGet(getRequestSpecification(), CLOSURE_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeDeleteClosureRequest(String name) {
+		return doDelete(getRequestSpecification(), CLOSURE_URL_PATH + "/" + name);
+	}
+}
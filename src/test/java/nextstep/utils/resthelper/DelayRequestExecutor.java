@@ -0,0 +1,34 @@
+package nextstep.utils.resthelper;
+
+import static io.restassured.RestAssured.*;
+import static org.springframework.http.MediaType.*;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import nextstep.api.subway.interfaces.dto.request.DelayUpdateRequest;
+
+/**
+ * @author : Rene Choi
+ * @since : 2026/10/18
+ */
+public class DelayRequestExecutor extends AbstractRequestExecutor {
+
+	private static final String DELAY_URL_PATH = "/admin/delays";
+
+	private static RequestSpecification getRequestSpecification() {
+		return given().log().all().contentType(APPLICATION_JSON_VALUE);
+	}
+
+	public static ExtractableResponse<Response> executeUpdateDelaysRequest(DelayUpdateRequest updateRequest) {
+		return doPut(getRequestSpecification(), DELAY_URL_PATH, updateRequest);
+	}
+
+	public static ExtractableResponse<Response> executeGetDelaysRequest() {
+		return doGet(getRequestSpecification(), DELAY_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeClearDelaysRequest() {
+		return doDelete(getRequestSpecification(), DELAY_URL_PATH);
+	}
+}
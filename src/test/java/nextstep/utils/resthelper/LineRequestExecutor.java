@@ -3,6 +3,9 @@ package nextstep.utils.resthelper;
 import static io.restassured.RestAssured.*;
 import static org.springframework.http.MediaType.*;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -40,6 +43,14 @@ public class LineRequestExecutor extends AbstractRequestExecutor {
 		return doPut(getRequestSpecification(), URL_PATH + "/" + id, updateRequest);
 	}
 
+	public static ExtractableResponse<Response> executeUpdateTimetableRequest(Long id, String firstDepartureTime, String lastDepartureTime, int headwayMinutes) {
+		Map<String, Object> params = new HashMap<>();
+		params.put("firstDepartureTime", firstDepartureTime);
+		params.put("lastDepartureTime", lastDepartureTime);
+		params.put("headwayMinutes", headwayMinutes);
+		return doPut(getRequestSpecification(), URL_PATH + "/" + id + "/timetable", params);
+	}
+
 	public static ExtractableResponse<Response> executeDeleteLineRequest(Long id) {
 		return doDelete(getRequestSpecification(), URL_PATH + "/" + id);
 	}
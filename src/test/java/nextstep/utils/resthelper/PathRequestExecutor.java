@@ -3,9 +3,14 @@ package nextstep.utils.resthelper;
 import static io.restassured.RestAssured.*;
 import static org.springframework.http.MediaType.*;
 
+import java.util.List;
+import java.util.Map;
+
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import nextstep.api.subway.interfaces.dto.request.PathBatchRequest;
+import nextstep.api.subway.interfaces.dto.request.PathMatrixRequest;
 
 /**
  * @author : Rene Choi
@@ -27,6 +32,46 @@ public class PathRequestExecutor extends AbstractRequestExecutor {
 		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type), LINE_URL_PATH);
 	}
 
+	public static ExtractableResponse<Response> executeFindPathWithClosureRequest(Long source, Long target, String type, String closure) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type).queryParam("closure", closure), LINE_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeFindConstrainedPathRequest(Long source, Long target, String type, Map<String, ?> constraints) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type).queryParams(constraints), LINE_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeFindPathViaRequest(Long source, Long target, String type, List<Long> via, boolean optimizeVia) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type).queryParam("via", via).queryParam("optimizeVia", optimizeVia), LINE_URL_PATH);
+	}
+
+	public static ExtractableResponse<Response> executeFindPathSummaryRequest(Long source, Long target, String type) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type), LINE_URL_PATH + "/summary");
+	}
+
+	public static ExtractableResponse<Response> executeFindAlternativePathsRequest(Long source, Long target, String type, int count) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("type", type).queryParam("count", count), LINE_URL_PATH + "/alternatives");
+	}
+
+	public static ExtractableResponse<Response> executeFindParetoPathsRequest(Long source, Long target) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target), LINE_URL_PATH + "/pareto");
+	}
+
+	public static ExtractableResponse<Response> executeFindReachableStationsRequest(Long source, Long budget, String budgetType) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("budget", budget).queryParam("budgetType", budgetType), LINE_URL_PATH + "/reachable");
+	}
+
+	public static ExtractableResponse<Response> executeFindJourneyRequest(Long source, Long target, String departureTime) {
+		return doGet(getRequestSpecification().queryParam("source", source).queryParam("target", target).queryParam("departureTime", departureTime), LINE_URL_PATH + "/journey");
+	}
+
+	public static ExtractableResponse<Response> executeFindPathsBatchRequest(PathBatchRequest pathBatchRequest) {
+		return doPost(getRequestSpecification(), LINE_URL_PATH + "/batch", pathBatchRequest);
+	}
+
+	public static ExtractableResponse<Response> executeFindPathMatrixRequest(PathMatrixRequest pathMatrixRequest) {
+		return doPost(getRequestSpecification(), LINE_URL_PATH + "/matrix", pathMatrixRequest);
+	}
+
 	public static ExtractableResponse<Response> executeFindPathRequestWithAuthUser(String authorizationToken, Long source, Long target, String type) {
 		return doGet(getRequestSpecification().header("Authorization", authorizationToken).queryParam("source", source).queryParam("target", target).queryParam("type", type), LINE_URL_PATH+"/auth");
 	}